@@ -0,0 +1,73 @@
+package com.renault.garage.benchmark;
+
+import com.renault.garage.infrastructure.security.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût d'authentification d'une requête : Basic (vérification BCrypt du mot
+ * de passe à chaque appel, comme l'ancienne configuration) contre token JWT,
+ * vérifié (HMAC) ou déjà présent dans le cache des tokens vérifiés.
+ * 
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="AuthenticationBenchmark"
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthenticationBenchmark {
+
+    private static final String SECRET = "RenaultGarageSecretKeyForJWTTokenGenerationAndValidation2024";
+
+    private DaoAuthenticationProvider basicProvider;
+    private UsernamePasswordAuthenticationToken basicCredentials;
+
+    private JwtService uncachedJwtService;
+    private JwtService cachedJwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        basicProvider = new DaoAuthenticationProvider();
+        basicProvider.setPasswordEncoder(passwordEncoder);
+        basicProvider.setUserDetailsService(new InMemoryUserDetailsManager(User.withUsername("admin")
+            .password(passwordEncoder.encode("password"))
+            .roles("USER", "ADMIN")
+            .build()));
+        basicCredentials = UsernamePasswordAuthenticationToken.unauthenticated("admin", "password");
+
+        // Cache désactivé : chaque appel décode et vérifie la signature
+        uncachedJwtService = new JwtService(SECRET, Duration.ofHours(24), 0, null, Clock.systemUTC());
+        cachedJwtService = new JwtService(SECRET, Duration.ofHours(24), 10_000, null, Clock.systemUTC());
+        token = cachedJwtService.issue(basicProvider.authenticate(basicCredentials));
+        cachedJwtService.authenticate(token);
+    }
+
+    @Benchmark
+    public Authentication basicAuth() {
+        return basicProvider.authenticate(basicCredentials);
+    }
+
+    @Benchmark
+    public Authentication jwtVerified() {
+        return uncachedJwtService.authenticate(token);
+    }
+
+    @Benchmark
+    public Authentication jwtCached() {
+        return cachedJwtService.authenticate(token);
+    }
+}
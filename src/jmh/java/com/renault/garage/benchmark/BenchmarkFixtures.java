@@ -0,0 +1,115 @@
+package com.renault.garage.benchmark;
+
+import com.renault.garage.domain.model.Accessory;
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.model.Vehicle;
+import com.renault.garage.domain.model.enums.AccessoryType;
+import com.renault.garage.domain.model.enums.FuelType;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jeux de données réalistes partagés par les benchmarks JMH.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+final class BenchmarkFixtures {
+
+    static final int VEHICLES_PER_GARAGE = 25;
+    static final int ACCESSORIES_PER_VEHICLE = 3;
+
+    private static final FuelType[] FUEL_TYPES = FuelType.values();
+    private static final AccessoryType[] ACCESSORY_TYPES = AccessoryType.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    static Map<DayOfWeek, String> openingHours() {
+        Map<DayOfWeek, String> hours = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day != DayOfWeek.SUNDAY) {
+                hours.put(day, "08:00-12:00, 14:00-18:00");
+            }
+        }
+        return hours;
+    }
+
+    static List<Garage> garages(int count) {
+        List<Garage> garages = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            garages.add(Garage.builder()
+                .id((long) i + 1)
+                .name("Garage Renault " + i)
+                .address(i + " avenue de la République, 75011 Paris")
+                .telephone("+33123456789")
+                .email("garage" + i + "@renault.com")
+                .openingHours(openingHours())
+                .vehicleCount(VEHICLES_PER_GARAGE)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        }
+        return garages;
+    }
+
+    static List<Vehicle> vehicles(int count) {
+        Garage garage = garages(1).get(0);
+        List<Vehicle> vehicles = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < count; i++) {
+            Vehicle vehicle = Vehicle.builder()
+                .id((long) i + 1)
+                .brand("Renault")
+                .model(i % 2 == 0 ? "Clio" : "Megane E-Tech")
+                .yearOfManufacture(2015 + i % 10)
+                .fuelType(FUEL_TYPES[i % FUEL_TYPES.length])
+                .vin(String.format("VF1BENCH%09d", i))
+                .color("Gris")
+                .mileage(i * 1000)
+                .garage(garage)
+                .accessories(new ArrayList<>())
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+            for (int a = 0; a < ACCESSORIES_PER_VEHICLE; a++) {
+                vehicle.getAccessories().add(accessory(vehicle, (long) i * ACCESSORIES_PER_VEHICLE + a));
+            }
+            vehicles.add(vehicle);
+        }
+        return vehicles;
+    }
+
+    static List<Accessory> accessories(int count) {
+        List<Accessory> accessories = new ArrayList<>(count);
+        for (Vehicle vehicle : vehicles((count + ACCESSORIES_PER_VEHICLE - 1) / ACCESSORIES_PER_VEHICLE)) {
+            for (Accessory accessory : vehicle.getAccessories()) {
+                if (accessories.size() < count) {
+                    accessories.add(accessory);
+                }
+            }
+        }
+        return accessories;
+    }
+
+    private static Accessory accessory(Vehicle vehicle, long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return Accessory.builder()
+            .id(id)
+            .name("Accessoire " + id)
+            .description("Accessoire d'origine Renault")
+            .price(new BigDecimal("129.90"))
+            .type(ACCESSORY_TYPES[(int) (id % ACCESSORY_TYPES.length)])
+            .vehicle(vehicle)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.renault.garage.benchmark;
+
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.model.valueobject.OpeningWindow;
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+import com.renault.garage.infrastructure.geo.GarageDistance;
+import com.renault.garage.infrastructure.geo.GeoGrid;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recherche des 10 garages les plus proches dans l'index géographique :
+ * 100 000 garages répartis sur la France métropolitaine, sans filtre puis
+ * avec les filtres places libres, carburant et ouverture.
+ * 
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="GarageGeoIndex -prof gc"
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GarageGeoIndexBenchmark {
+
+    private static final int GARAGES = 100_000;
+    private static final int QUERIES = 1024;
+
+    private GeoGrid grid;
+    private double[] latitudes;
+    private double[] longitudes;
+    private int query;
+    private OpeningWindow tuesdayNoon;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Map<DayOfWeek, String> openingHours = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+            openingHours.put(day, "08:00-12:00, 14:00-18:00");
+        }
+        WeeklySchedule weekdays = WeeklySchedule.parse(openingHours);
+        WeeklySchedule allDay = WeeklySchedule.parse(Map.of(DayOfWeek.TUESDAY, "00:00-24:00"));
+
+        grid = new GeoGrid(GARAGES, 0.1);
+        for (long id = 1; id <= GARAGES; id++) {
+            grid.put(id, 42.3 + random.nextDouble() * 8.8, -4.8 + random.nextDouble() * 13,
+                random.nextInt(Garage.MAX_VEHICLES_PER_GARAGE + 1), id % 2 == 0 ? weekdays : allDay);
+            grid.setFuelTypeCount(id, FuelType.values()[random.nextInt(FuelType.values().length)], 1);
+        }
+        latitudes = new double[QUERIES];
+        longitudes = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            latitudes[i] = 43 + random.nextDouble() * 7;
+            longitudes[i] = -1 + random.nextDouble() * 8;
+        }
+        tuesdayNoon = OpeningWindow.of(DayOfWeek.TUESDAY, LocalTime.NOON, LocalTime.NOON.plusMinutes(1));
+    }
+
+    @Benchmark
+    public List<GarageDistance> nearest10() {
+        int i = query++ & (QUERIES - 1);
+        return grid.nearest(latitudes[i], longitudes[i], 10, false, null, null);
+    }
+
+    @Benchmark
+    public List<GarageDistance> nearest10Filtered() {
+        int i = query++ & (QUERIES - 1);
+        return grid.nearest(latitudes[i], longitudes[i], 10, true, FuelType.ELECTRIQUE, tuesdayNoon);
+    }
+}
@@ -0,0 +1,50 @@
+package com.renault.garage.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renault.garage.application.dto.response.GarageResponse;
+import com.renault.garage.application.mapper.GarageMapper;
+import com.renault.garage.application.mapper.GarageMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sérialisation Jackson d'une Page&lt;GarageResponse&gt;, telle que renvoyée
+ * par GET /garages (ObjectMapper construit comme celui de Spring Boot).
+ * 
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="GaragePageSerialization -prof gc"
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GaragePageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<GarageResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        GarageMapper garageMapper = new GarageMapperImpl();
+        page = new PageImpl<>(
+            garageMapper.toResponseList(BenchmarkFixtures.garages(pageSize)),
+            PageRequest.of(0, pageSize),
+            10_000);
+    }
+
+    @Benchmark
+    public byte[] serializeGaragePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,67 @@
+package com.renault.garage.benchmark;
+
+import com.renault.garage.application.dto.request.GarageRequest;
+import com.renault.garage.application.validator.OpeningHoursValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation exécutée à chaque écriture de garage : Bean Validation complète
+ * du GarageRequest (@Valid des contrôleurs) et OpeningHoursValidator.
+ * 
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="OpeningHoursValidation -prof gc"
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OpeningHoursValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private GarageRequest request;
+
+    private OpeningHoursValidator openingHoursValidator;
+    private Map<DayOfWeek, String> openingHours;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        request = GarageRequest.builder()
+            .name("Garage Renault Paris")
+            .address("123 avenue de la République, 75011 Paris")
+            .telephone("+33123456789")
+            .email("paris@renault.com")
+            .openingHours(BenchmarkFixtures.openingHours())
+            .build();
+
+        openingHoursValidator = new OpeningHoursValidator();
+        openingHours = BenchmarkFixtures.openingHours();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<GarageRequest>> validateGarageRequest() {
+        return validator.validate(request);
+    }
+
+    @Benchmark
+    public boolean validateOpeningHours() {
+        return openingHoursValidator.isValid(openingHours, null);
+    }
+}
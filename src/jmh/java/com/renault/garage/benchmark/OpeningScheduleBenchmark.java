@@ -0,0 +1,97 @@
+package com.renault.garage.benchmark;
+
+import com.renault.garage.domain.model.valueobject.OpeningWindow;
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Garages ouverts samedi après 17:00" sur 20 000 garages et 60 horaires
+ * distincts : analyse du texte de chaque garage, test du bitmap compilé de
+ * chaque garage, puis test des seuls horaires distincts (GarageScheduleIndex).
+ * 
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="OpeningSchedule -prof gc"
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpeningScheduleBenchmark {
+
+    private static final int GARAGES = 20_000;
+    private static final int DISTINCT_SCHEDULES = 60;
+
+    private final OpeningWindow saturdayAfterFive =
+        OpeningWindow.of(DayOfWeek.SATURDAY, LocalTime.of(17, 0), null);
+
+    private List<Map<DayOfWeek, String>> openingHours;
+    private WeeklySchedule[] compiled;
+    private WeeklySchedule[] distinct;
+    private int[] garagesPerSchedule;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Map<DayOfWeek, String>> variants = new ArrayList<>();
+        for (int i = 0; i < DISTINCT_SCHEDULES; i++) {
+            Map<DayOfWeek, String> hours = new EnumMap<>(BenchmarkFixtures.openingHours());
+            hours.put(DayOfWeek.SATURDAY, String.format("%02d:00-%02d:%02d", 8 + i % 3, 12 + i % 8, i % 60));
+            variants.add(hours);
+        }
+        openingHours = new ArrayList<>(GARAGES);
+        compiled = new WeeklySchedule[GARAGES];
+        Map<WeeklySchedule, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < GARAGES; i++) {
+            Map<DayOfWeek, String> hours = variants.get(random.nextInt(DISTINCT_SCHEDULES));
+            openingHours.add(hours);
+            compiled[i] = WeeklySchedule.parse(hours);
+            counts.merge(compiled[i], 1, Integer::sum);
+        }
+        distinct = counts.keySet().toArray(WeeklySchedule[]::new);
+        garagesPerSchedule = counts.values().stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Benchmark
+    public int parseEachGarage() {
+        int open = 0;
+        for (Map<DayOfWeek, String> hours : openingHours) {
+            if (WeeklySchedule.parse(hours).isOpenDuring(saturdayAfterFive)) {
+                open++;
+            }
+        }
+        return open;
+    }
+
+    @Benchmark
+    public int testEachCompiledSchedule() {
+        int open = 0;
+        for (WeeklySchedule schedule : compiled) {
+            if (schedule.isOpenDuring(saturdayAfterFive)) {
+                open++;
+            }
+        }
+        return open;
+    }
+
+    @Benchmark
+    public int testDistinctSchedules() {
+        int open = 0;
+        for (int i = 0; i < distinct.length; i++) {
+            if (distinct[i].isOpenDuring(saturdayAfterFive)) {
+                open += garagesPerSchedule[i];
+            }
+        }
+        return open;
+    }
+}
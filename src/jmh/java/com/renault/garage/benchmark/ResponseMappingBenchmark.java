@@ -0,0 +1,66 @@
+package com.renault.garage.benchmark;
+
+import com.renault.garage.application.dto.response.AccessoryResponse;
+import com.renault.garage.application.dto.response.GarageResponse;
+import com.renault.garage.application.dto.response.VehicleResponse;
+import com.renault.garage.application.mapper.AccessoryMapper;
+import com.renault.garage.application.mapper.AccessoryMapperImpl;
+import com.renault.garage.application.mapper.GarageMapper;
+import com.renault.garage.application.mapper.GarageMapperImpl;
+import com.renault.garage.application.mapper.VehicleMapper;
+import com.renault.garage.application.mapper.VehicleMapperImpl;
+import com.renault.garage.domain.model.Accessory;
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.model.Vehicle;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion entité → DTO par les mappers MapStruct, sur des pages de 20 et
+ * 100 éléments (taille par défaut et maximale de la pagination).
+ * 
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ResponseMapping -prof gc"
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final GarageMapper garageMapper = new GarageMapperImpl();
+    private final VehicleMapper vehicleMapper = new VehicleMapperImpl();
+    private final AccessoryMapper accessoryMapper = new AccessoryMapperImpl();
+
+    private List<Garage> garages;
+    private List<Vehicle> vehicles;
+    private List<Accessory> accessories;
+
+    @Setup
+    public void setUp() {
+        garages = BenchmarkFixtures.garages(pageSize);
+        vehicles = BenchmarkFixtures.vehicles(pageSize);
+        accessories = BenchmarkFixtures.accessories(pageSize);
+    }
+
+    @Benchmark
+    public List<GarageResponse> mapGaragePage() {
+        return garageMapper.toResponseList(garages);
+    }
+
+    @Benchmark
+    public List<VehicleResponse> mapVehiclePage() {
+        return vehicleMapper.toResponseList(vehicles);
+    }
+
+    @Benchmark
+    public List<AccessoryResponse> mapAccessoryPage() {
+        return accessoryMapper.toResponseList(accessories);
+    }
+}
@@ -0,0 +1,87 @@
+package com.renault.garage.benchmark;
+
+import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
+import com.renault.garage.infrastructure.kafka.serialization.VehicleCreatedEventDeserializer;
+import com.renault.garage.infrastructure.kafka.serialization.VehicleCreatedEventSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparaison JSON (JsonSerializer/JsonDeserializer de Spring) et format
+ * binaire compact pour VehicleCreatedEvent.
+ * 
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="VehicleCreatedEventSerialization -prof gc"
+ * 
+ * La taille des messages n'est pas mesurée ici : VehicleCreatedEventSerializerTest
+ * vérifie que le format binaire fait moins de la moitié du JSON.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VehicleCreatedEventSerializationBenchmark {
+
+    private static final String TOPIC = "vehicle-created-events";
+
+    private VehicleCreatedEvent event;
+
+    private JsonSerializer<VehicleCreatedEvent> jsonSerializer;
+    private JsonDeserializer<VehicleCreatedEvent> jsonDeserializer;
+    private VehicleCreatedEventSerializer binarySerializer;
+    private VehicleCreatedEventDeserializer binaryDeserializer;
+
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() {
+        event = VehicleCreatedEvent.builder()
+            .vehicleId(1_234_567L)
+            .brand("Renault")
+            .model("Megane E-Tech")
+            .yearOfManufacture(2024)
+            .fuelType(FuelType.ELECTRIQUE)
+            .vin("VF1KAFKA000000001")
+            .garageId(4_321L)
+            .garageName("Garage Renault Paris Bastille")
+            .createdAt(LocalDateTime.now())
+            .eventId(UUID.randomUUID().toString())
+            .build();
+
+        jsonSerializer = new JsonSerializer<>();
+        jsonDeserializer = new JsonDeserializer<>(VehicleCreatedEvent.class, false);
+        binarySerializer = new VehicleCreatedEventSerializer();
+        binaryDeserializer = new VehicleCreatedEventDeserializer();
+
+        json = jsonSerializer.serialize(TOPIC, event);
+        binary = binarySerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return jsonSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] serializeBinary() {
+        return binarySerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public VehicleCreatedEvent deserializeJson() {
+        return jsonDeserializer.deserialize(TOPIC, json);
+    }
+
+    @Benchmark
+    public VehicleCreatedEvent deserializeBinary() {
+        return binaryDeserializer.deserialize(TOPIC, binary);
+    }
+}
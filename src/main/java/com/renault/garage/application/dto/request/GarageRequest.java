@@ -1,8 +1,6 @@
 package com.renault.garage.application.dto.request;
 
 import com.renault.garage.application.validator.ValidOpeningHours;
-import com.renault.garage.domain.model.valueobject.OpeningTime;
-import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,7 +8,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.DayOfWeek;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,5 +41,23 @@ public class GarageRequest {
     private String email;
 
     @NotNull(message = "Les horaires d'ouverture sont obligatoires")
+    @ValidOpeningHours
     private Map<DayOfWeek, String> openingHours;
+
+    /**
+     * Position du garage (facultative) ; sans elle, le garage est placé au
+     * centre approximatif de son code postal
+     */
+    @DecimalMin(value = "-90", message = "La latitude doit être comprise entre -90 et 90")
+    @DecimalMax(value = "90", message = "La latitude doit être comprise entre -90 et 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180", message = "La longitude doit être comprise entre -180 et 180")
+    @DecimalMax(value = "180", message = "La longitude doit être comprise entre -180 et 180")
+    private Double longitude;
+
+    @AssertTrue(message = "La latitude et la longitude doivent être renseignées ensemble")
+    public boolean isLocationComplete() {
+        return (latitude == null) == (longitude == null);
+    }
 }
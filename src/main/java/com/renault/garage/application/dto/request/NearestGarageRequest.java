@@ -0,0 +1,80 @@
+package com.renault.garage.application.dto.request;
+
+import com.renault.garage.domain.model.enums.FuelType;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * DTO des critères de la recherche des garages les plus proches d'un point.
+ * 
+ * Les filtres facultatifs sont combinés par ET.
+ * 
+ * Pattern utilisé: DTO Pattern
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearestGarageRequest {
+
+    @NotNull(message = "La latitude est obligatoire")
+    @DecimalMin(value = "-90", message = "La latitude doit être comprise entre -90 et 90")
+    @DecimalMax(value = "90", message = "La latitude doit être comprise entre -90 et 90")
+    private Double latitude;
+
+    @NotNull(message = "La longitude est obligatoire")
+    @DecimalMin(value = "-180", message = "La longitude doit être comprise entre -180 et 180")
+    @DecimalMax(value = "180", message = "La longitude doit être comprise entre -180 et 180")
+    private Double longitude;
+
+    @Min(value = 1, message = "Le nombre de garages doit être au moins 1")
+    @Max(value = 100, message = "Le nombre de garages ne peut pas dépasser 100")
+    @Builder.Default
+    private int limit = 10;
+
+    /**
+     * true : garages ayant au moins une place libre seulement
+     */
+    private boolean availableOnly;
+
+    /**
+     * Garages accueillant au moins un véhicule de ce carburant
+     */
+    private FuelType fuelType;
+
+    /**
+     * true : garages ouverts au moment de la recherche seulement
+     */
+    private boolean openNow;
+
+    /**
+     * Jour où le garage doit ouvrir, entre openFrom et openTo (ignoré si openNow)
+     */
+    private DayOfWeek openDay;
+
+    /**
+     * Début de la plage du jour openDay (défaut : 00:00)
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.TIME)
+    private LocalTime openFrom;
+
+    /**
+     * Fin de la plage du jour openDay, exclue (défaut : fin de journée)
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.TIME)
+    private LocalTime openTo;
+}
@@ -0,0 +1,31 @@
+package com.renault.garage.application.dto.request;
+
+import com.renault.garage.domain.model.Garage;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de requête pour l'ajout d'un lot de véhicules dans un garage.
+ * 
+ * Pattern utilisé: DTO Pattern
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VehicleBatchRequest {
+
+    @NotEmpty(message = "Le lot doit contenir au moins un véhicule")
+    @Size(max = Garage.MAX_VEHICLES_PER_GARAGE, message = "Le lot ne peut pas dépasser 50 véhicules")
+    private List<@Valid VehicleRequest> vehicles;
+}
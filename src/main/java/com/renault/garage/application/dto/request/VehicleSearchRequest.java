@@ -0,0 +1,70 @@
+package com.renault.garage.application.dto.request;
+
+import com.renault.garage.domain.model.enums.FuelType;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO des critères de la recherche multicritère de véhicules.
+ * 
+ * Tous les critères sont facultatifs et combinés par ET ; un critère
+ * absent ne filtre pas. Marque, modèle et couleur sont comparés sans
+ * tenir compte de la casse.
+ * 
+ * Pattern utilisé: DTO Pattern
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VehicleSearchRequest {
+
+    private String brand;
+
+    private String model;
+
+    private FuelType fuelType;
+
+    /**
+     * true : véhicules électriques ou hybrides seulement
+     */
+    private Boolean ecoFriendly;
+
+    private Long garageId;
+
+    private String color;
+
+    @Min(value = 1900, message = "L'année de fabrication doit être supérieure ou égale à 1900")
+    @Max(value = 2100, message = "L'année de fabrication doit être inférieure ou égale à 2100")
+    private Integer yearOfManufacture;
+
+    @Min(value = 1900, message = "L'année minimale doit être supérieure ou égale à 1900")
+    private Integer minYear;
+
+    @Max(value = 2100, message = "L'année maximale doit être inférieure ou égale à 2100")
+    private Integer maxYear;
+
+    @Min(value = 0, message = "Le kilométrage minimal ne peut pas être négatif")
+    private Integer minMileage;
+
+    @Min(value = 0, message = "Le kilométrage maximal ne peut pas être négatif")
+    private Integer maxMileage;
+
+    @AssertTrue(message = "L'année minimale doit être inférieure ou égale à l'année maximale")
+    public boolean isYearRangeValid() {
+        return minYear == null || maxYear == null || minYear <= maxYear;
+    }
+
+    @AssertTrue(message = "Le kilométrage minimal doit être inférieur ou égal au kilométrage maximal")
+    public boolean isMileageRangeValid() {
+        return minMileage == null || maxMileage == null || minMileage <= maxMileage;
+    }
+}
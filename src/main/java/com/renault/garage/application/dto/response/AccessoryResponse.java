@@ -32,4 +32,5 @@ public class AccessoryResponse {
     private String vehicleDisplayName;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -0,0 +1,43 @@
+package com.renault.garage.application.dto.response;
+
+import com.renault.garage.domain.repository.keyset.KeysetPage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de réponse pour une page lue par curseur.
+ * 
+ * Pas de total ni de numéro de page : le client suit nextCursor jusqu'à
+ * ce qu'il soit absent.
+ * 
+ * Pattern utilisé: DTO Pattern
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+
+    /**
+     * @param page la page lue par clé, déjà convertie en DTO
+     * @return la réponse, avec le curseur encodé de la page suivante
+     */
+    public static <T> CursorPage<T> of(KeysetPage<T> page) {
+        return CursorPage.<T>builder()
+            .content(page.content())
+            .size(page.content().size())
+            .nextCursor(page.next() != null ? page.next().encode() : null)
+            .build();
+    }
+}
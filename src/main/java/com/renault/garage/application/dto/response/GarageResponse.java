@@ -28,6 +28,12 @@ public class GarageResponse {
     private Long id;
     private String name;
     private String address;
+    private String city;
+    private String postalCode;
+    private Double latitude;
+    private Double longitude;
+    // true si la position est le centre approximatif du code postal
+    private Boolean locationApproximate;
     private String telephone;
     private String email;
     private Map<DayOfWeek, String> openingHours;
@@ -36,7 +42,10 @@ public class GarageResponse {
     private Boolean isFull;
     // Nouveau champ pour la liste des véhicules (sera null par défaut pour les autres endpoints)
     private List<VehicleResponse> vehicles;
+    // Distance au point recherché, renseignée par la recherche des garages les plus proches seulement
+    private Double distanceKm;
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
@@ -0,0 +1,73 @@
+package com.renault.garage.application.dto.response;
+
+import com.renault.garage.domain.model.enums.CountStrategy;
+import com.renault.garage.infrastructure.count.CountedSlice;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * DTO de réponse pour une page numérotée.
+ * 
+ * Reprend les champs de la sérialisation d'une Page Spring Data (content,
+ * number, size, totalElements, totalPages, first, last...) et indique la
+ * stratégie de comptage appliquée. totalElements et totalPages sont
+ * estimés en APPROXIMATE, éventuellement en retard en CACHED, et absents
+ * en NONE ; hasNext est toujours exact.
+ * 
+ * Pattern utilisé: DTO Pattern
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PagedResponse<T> {
+
+    private List<T> content;
+    private int number;
+    private int size;
+    private int numberOfElements;
+    private Long totalElements;
+    private Integer totalPages;
+    private boolean first;
+    private boolean last;
+    private boolean hasNext;
+    private CountStrategy countStrategy;
+
+    /**
+     * @param page la page, déjà convertie en DTO
+     * @return la réponse
+     */
+    public static <T> PagedResponse<T> of(CountedSlice<T> page) {
+        Slice<T> slice = page.slice();
+        PagedResponseBuilder<T> builder = PagedResponse.<T>builder()
+            .content(slice.getContent())
+            .number(slice.getNumber())
+            .size(slice.getSize())
+            .numberOfElements(slice.getNumberOfElements())
+            .first(slice.isFirst())
+            .last(slice.isLast())
+            .hasNext(slice.hasNext())
+            .countStrategy(page.strategy());
+        if (slice instanceof Page<T> counted) {
+            builder.totalElements(counted.getTotalElements()).totalPages(counted.getTotalPages());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param page une page au total exact
+     * @return la réponse
+     */
+    public static <T> PagedResponse<T> of(Page<T> page) {
+        return of(new CountedSlice<>(page, CountStrategy.EXACT));
+    }
+}
@@ -0,0 +1,28 @@
+package com.renault.garage.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de réponse contenant un token JWT.
+ * 
+ * Pattern utilisé: DTO Pattern
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenResponse {
+
+    private String accessToken;
+    private String tokenType;
+    /**
+     * Durée de validité du token, en secondes
+     */
+    private long expiresIn;
+}
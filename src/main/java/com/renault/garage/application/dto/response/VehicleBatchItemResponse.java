@@ -0,0 +1,35 @@
+package com.renault.garage.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de réponse pour un élément d'un lot de véhicules.
+ * 
+ * Pattern utilisé: DTO Pattern
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VehicleBatchItemResponse {
+
+    /**
+     * Statut de traitement d'un élément du lot
+     */
+    public enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    private int index;
+    private String vin;
+    private Status status;
+    private VehicleResponse vehicle;
+    private String error;
+}
@@ -0,0 +1,29 @@
+package com.renault.garage.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de réponse pour l'ajout d'un lot de véhicules.
+ * 
+ * Pattern utilisé: DTO Pattern
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VehicleBatchResponse {
+
+    private Long garageId;
+    private int requestedCount;
+    private int createdCount;
+    private int rejectedCount;
+    private List<VehicleBatchItemResponse> results;
+}
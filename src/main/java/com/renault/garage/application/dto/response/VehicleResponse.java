@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -33,8 +34,10 @@ public class VehicleResponse {
     private Long garageId;
     private String garageName;
     private Integer accessoryCount;
+    private BigDecimal accessoriesTotal;
     private Boolean isEcoFriendly;
     private String displayName;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
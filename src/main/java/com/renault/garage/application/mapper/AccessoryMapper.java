@@ -51,6 +51,7 @@ public interface AccessoryMapper {
     @Mapping(target = "vehicle", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Accessory toEntity(AccessoryRequest request);
 
     /**
@@ -63,5 +64,6 @@ public interface AccessoryMapper {
     @Mapping(target = "vehicle", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromRequest(AccessoryRequest request, @MappingTarget Accessory accessory);
 }
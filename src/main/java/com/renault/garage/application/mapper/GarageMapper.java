@@ -3,9 +3,12 @@ package com.renault.garage.application.mapper;
 import com.renault.garage.application.dto.request.GarageRequest;
 import com.renault.garage.application.dto.response.GarageResponse;
 import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.repository.projection.GarageSummary;
 import org.mapstruct.*;
 
+import java.time.DayOfWeek;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Mapper MapStruct pour l'entité Garage.
@@ -31,11 +34,25 @@ public interface GarageMapper {
      * @param garage l'entité à convertir
      * @return le DTO de réponse
      */
-    @Mapping(target = "vehicleCount", expression = "java(garage.getVehicleCount())")
+    @Mapping(target = "vehicleCount", source = "vehicleCount")
+    @Mapping(target = "vehicles", ignore = true)
     @Mapping(target = "availableCapacity", expression = "java(com.renault.garage.domain.model.Garage.MAX_VEHICLES_PER_GARAGE - garage.getVehicleCount())")
     @Mapping(target = "isFull", expression = "java(!garage.canAcceptVehicle())")
     GarageResponse toResponse(Garage garage);
 
+    /**
+     * Convertit une projection de garage et ses horaires en GarageResponse.
+     * 
+     * @param summary la projection à convertir
+     * @param openingHours les horaires d'ouverture du garage
+     * @return le DTO de réponse
+     */
+    @Mapping(target = "openingHours", source = "openingHours")
+    @Mapping(target = "vehicles", ignore = true)
+    @Mapping(target = "availableCapacity", expression = "java(com.renault.garage.domain.model.Garage.MAX_VEHICLES_PER_GARAGE - summary.vehicleCount())")
+    @Mapping(target = "isFull", expression = "java(summary.vehicleCount() >= com.renault.garage.domain.model.Garage.MAX_VEHICLES_PER_GARAGE)")
+    GarageResponse toResponse(GarageSummary summary, Map<DayOfWeek, String> openingHours);
+
     /**
      * Convertit une liste d'entités Garage en liste de GarageResponse.
      * 
@@ -51,9 +68,17 @@ public interface GarageMapper {
      * @return l'entité
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "city", ignore = true)
+    @Mapping(target = "postalCode", ignore = true)
+    @Mapping(target = "latitude", ignore = true)
+    @Mapping(target = "longitude", ignore = true)
+    @Mapping(target = "locationApproximate", ignore = true)
+    @Mapping(target = "openingSchedule", ignore = true)
     @Mapping(target = "vehicles", ignore = true)
+    @Mapping(target = "vehicleCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Garage toEntity(GarageRequest request);
 
     /**
@@ -63,8 +88,16 @@ public interface GarageMapper {
      * @param garage l'entité à mettre à jour
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "city", ignore = true)
+    @Mapping(target = "postalCode", ignore = true)
+    @Mapping(target = "latitude", ignore = true)
+    @Mapping(target = "longitude", ignore = true)
+    @Mapping(target = "locationApproximate", ignore = true)
+    @Mapping(target = "openingSchedule", ignore = true)
     @Mapping(target = "vehicles", ignore = true)
+    @Mapping(target = "vehicleCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromRequest(GarageRequest request, @MappingTarget Garage garage);
 }
@@ -31,7 +31,6 @@ public interface VehicleMapper {
      */
     @Mapping(target = "garageId", source = "garage.id")
     @Mapping(target = "garageName", source = "garage.name")
-    @Mapping(target = "accessoryCount", expression = "java(vehicle.getAccessoryCount())")
     @Mapping(target = "isEcoFriendly", expression = "java(vehicle.isEcoFriendly())")
     @Mapping(target = "displayName", expression = "java(vehicle.getDisplayName())")
     VehicleResponse toResponse(Vehicle vehicle);
@@ -53,8 +52,11 @@ public interface VehicleMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "garage", ignore = true)
     @Mapping(target = "accessories", ignore = true)
+    @Mapping(target = "accessoryCount", ignore = true)
+    @Mapping(target = "accessoriesTotal", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Vehicle toEntity(VehicleRequest request);
 
     /**
@@ -66,7 +68,10 @@ public interface VehicleMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "garage", ignore = true)
     @Mapping(target = "accessories", ignore = true)
+    @Mapping(target = "accessoryCount", ignore = true)
+    @Mapping(target = "accessoriesTotal", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromRequest(VehicleRequest request, @MappingTarget Vehicle vehicle);
 }
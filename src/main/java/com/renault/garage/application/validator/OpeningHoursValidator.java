@@ -1,51 +1,54 @@
 package com.renault.garage.application.validator;
 
-import com.renault.garage.domain.model.valueobject.OpeningTime;
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 import java.time.DayOfWeek;
-import java.util.List;
 import java.util.Map;
 
 /**
  * Validateur personnalisé pour les horaires d'ouverture.
  * 
- * Vérifie que toutes les plages horaires sont valides (startTime < endTime).
+ * Vérifie que les horaires de chaque jour sont "Fermé" ou des plages
+ * "HH:mm-HH:mm" lisibles (voir {@link WeeklySchedule#isWellFormed(String)}) :
+ * le texte enregistré est celui qui est compilé en horaires hebdomadaires,
+ * aucune plage n'est ignorée silencieusement. Les horaires absents sont
+ * laissés à @NotNull.
  * 
  * @author Renault Team
  * @version 1.0.0
  */
-public class OpeningHoursValidator implements ConstraintValidator<ValidOpeningHours, Map<DayOfWeek, List<OpeningTime>>> {
+public class OpeningHoursValidator implements ConstraintValidator<ValidOpeningHours, Map<DayOfWeek, String>> {
 
     @Override
-    public boolean isValid(Map<DayOfWeek, List<OpeningTime>> openingHours, ConstraintValidatorContext context) {
-        if (openingHours == null || openingHours.isEmpty()) {
+    public boolean isValid(Map<DayOfWeek, String> openingHours, ConstraintValidatorContext context) {
+        if (openingHours == null) {
+            return true;
+        }
+        if (openingHours.isEmpty()) {
             return false;
         }
 
-        for (Map.Entry<DayOfWeek, List<OpeningTime>> entry : openingHours.entrySet()) {
-            List<OpeningTime> times = entry.getValue();
-            
-            if (times == null || times.isEmpty()) {
-                context.disableDefaultConstraintViolation();
-                context.buildConstraintViolationWithTemplate(
-                    "Les horaires pour " + entry.getKey() + " ne peuvent pas être vides"
-                ).addConstraintViolation();
+        for (Map.Entry<DayOfWeek, String> entry : openingHours.entrySet()) {
+            String hours = entry.getValue();
+
+            if (hours == null || hours.isBlank()) {
+                reject(context, "Les horaires pour " + entry.getKey() + " ne peuvent pas être vides");
                 return false;
             }
 
-            for (OpeningTime time : times) {
-                if (!time.isValid()) {
-                    context.disableDefaultConstraintViolation();
-                    context.buildConstraintViolationWithTemplate(
-                        "Horaires invalides pour " + entry.getKey() + ": " + time
-                    ).addConstraintViolation();
-                    return false;
-                }
+            if (!WeeklySchedule.isWellFormed(hours)) {
+                reject(context, "Horaires invalides pour " + entry.getKey() + ": " + hours);
+                return false;
             }
         }
 
         return true;
     }
+
+    private static void reject(ConstraintValidatorContext context, String message) {
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(message).addConstraintViolation();
+    }
 }
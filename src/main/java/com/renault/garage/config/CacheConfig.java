@@ -0,0 +1,44 @@
+package com.renault.garage.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Configuration du cache local des réponses garage / véhicule.
+ * 
+ * Caches Caffeine (éviction W-TinyLFU) bornés en taille et en durée de vie.
+ * Les statistiques sont publiées par Actuator (cache.gets, cache.puts,
+ * cache.evictions, cache.size).
+ * 
+ * Les évictions demandées dans une transaction ne sont appliquées qu'après
+ * son commit : une lecture concurrente ne peut pas remettre en cache
+ * l'ancienne valeur pendant que la modification est encore en cours.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.garages.spec:maximumSize=2000,expireAfterWrite=10m}") String garagesSpec,
+            @Value("${cache.vehicles.spec:maximumSize=10000,expireAfterWrite=10m}") String vehiclesSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Liste fermée : pas de création de cache à la volée
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(ResponseCaches.GARAGES, Caffeine.from(garagesSpec).recordStats().build());
+        cacheManager.registerCustomCache(ResponseCaches.VEHICLES, Caffeine.from(vehiclesSpec).recordStats().build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
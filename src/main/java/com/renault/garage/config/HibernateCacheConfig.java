@@ -0,0 +1,103 @@
+package com.renault.garage.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.renault.garage.domain.model.Garage;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Configuration du cache de second niveau Hibernate.
+ *
+ * Les régions sont des caches JCache locaux (fournisseur Caffeine), créés
+ * ici plutôt que par fichier de configuration afin d'être bornés par les
+ * propriétés hibernate-cache.* :
+ * <ul>
+ *   <li>garages : entités {@link Garage}</li>
+ *   <li>garages.openingHours : horaires d'ouverture (collection EAGER)</li>
+ *   <li>garage-queries : résultats des requêtes cachées (findByEmail...)</li>
+ *   <li>default-query-results-region : autres requêtes cachées</li>
+ *   <li>default-update-timestamps-region : horodatage des tables modifiées,
+ *       sans expiration (invalide le cache de requêtes)</li>
+ * </ul>
+ * Une région absente fait échouer le démarrage : une entité annotée
+ * {@code @Cache} sans région déclarée ici ne passe pas inaperçue.
+ *
+ * Les statistiques Hibernate (hibernate-cache.statistics.enabled) sont
+ * désactivées par défaut : elles ajoutent un coût à chaque session.
+ * Activées, Actuator les publie par région
+ * (hibernate.second.level.cache.requests, .puts...).
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "hibernate-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheConfig {
+
+    public static final String GARAGE_REGION = "garages";
+    public static final String OPENING_HOURS_REGION = "garages.openingHours";
+    public static final String GARAGE_QUERY_REGION = "garage-queries";
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+    private static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${hibernate-cache.garages.maximum-size:20000}") long garagesMaximumSize,
+            @Value("${hibernate-cache.garages.expire-after-write:30m}") Duration garagesTtl,
+            @Value("${hibernate-cache.queries.maximum-size:10000}") long queriesMaximumSize,
+            @Value("${hibernate-cache.queries.expire-after-write:10m}") Duration queriesTtl) {
+        // URI propre à chaque contexte : deux contextes (tests) ne partagent pas leurs régions
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("hibernate-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(GARAGE_REGION, region(garagesMaximumSize, garagesTtl));
+        cacheManager.createCache(OPENING_HOURS_REGION, region(garagesMaximumSize, garagesTtl));
+        cacheManager.createCache(GARAGE_QUERY_REGION, region(queriesMaximumSize, queriesTtl));
+        cacheManager.createCache(DEFAULT_QUERY_REGION, region(queriesMaximumSize, queriesTtl));
+        // Les horodatages doivent survivre aux résultats qu'ils invalident
+        cacheManager.createCache(TIMESTAMPS_REGION, region(Long.MAX_VALUE, null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CacheManager hibernateCacheManager,
+            @Value("${hibernate-cache.statistics.enabled:false}") boolean statisticsEnabled) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            if (statisticsEnabled) {
+                properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            }
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate stocke déjà des entrées désassemblées : pas de copie par valeur
+        configuration.setStoreByValue(false);
+        if (maximumSize != Long.MAX_VALUE) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (expireAfterWrite != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+        return configuration;
+    }
+}
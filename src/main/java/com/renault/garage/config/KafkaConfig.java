@@ -1,8 +1,13 @@
 package com.renault.garage.config;
 
+import com.renault.garage.infrastructure.cache.CacheNode;
+import com.renault.garage.infrastructure.kafka.event.CacheInvalidationEvent;
 import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
+import com.renault.garage.infrastructure.kafka.serialization.VehicleCreatedEventDeserializer;
+import com.renault.garage.infrastructure.kafka.serialization.VehicleCreatedEventSerializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,11 +16,14 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.support.serializer.DelegatingByTopicSerializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * Configuration Kafka pour le microservice.
@@ -35,20 +43,71 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${kafka.producer.max-block-ms:10000}")
+    private long producerMaxBlockMs;
+
+    @Value("${kafka.producer.linger-ms:5}")
+    private int lingerMs;
+
+    @Value("${kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${kafka.topic.vehicle-created}")
+    private String vehicleCreatedTopic;
+
+    @Value("${kafka.serialization.vehicle-created:json}")
+    private String vehicleCreatedFormat;
+
+    @Value("${kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${kafka.consumer.concurrency:3}")
+    private int concurrency;
+
+    @Value("${kafka.producer.cache-invalidation.max-block-ms:500}")
+    private long cacheInvalidationMaxBlockMs;
+
     /**
      * Configuration du Producer Kafka.
+     * 
+     * Le format du topic vehicle-created (json ou binary) est choisi par
+     * kafka.serialization.vehicle-created ; les autres topics restent en JSON.
      */
     @Bean
     public ProducerFactory<String, VehicleCreatedEvent> producerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfig(), new StringSerializer(), valueSerializer());
+    }
+
+    private Map<String, Object> producerConfig() {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         config.put(ProducerConfig.ACKS_CONFIG, "all");
         config.put(ProducerConfig.RETRIES_CONFIG, 3);
         config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
-        
-        return new DefaultKafkaProducerFactory<>(config);
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, producerMaxBlockMs);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        return config;
+    }
+
+    /**
+     * Serializer des valeurs, sélectionné par topic.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Serializer<VehicleCreatedEvent> valueSerializer() {
+        Serializer<?> vehicleCreatedSerializer = switch (vehicleCreatedFormat) {
+            case "binary" -> new VehicleCreatedEventSerializer();
+            case "json" -> new JsonSerializer<>();
+            default -> throw new IllegalStateException(
+                "Unknown kafka.serialization.vehicle-created format: " + vehicleCreatedFormat);
+        };
+        Map<Pattern, Serializer<?>> serializers = Map.of(
+            Pattern.compile(Pattern.quote(vehicleCreatedTopic)), vehicleCreatedSerializer);
+        return (Serializer) new DelegatingByTopicSerializer(serializers, new JsonSerializer<>());
     }
 
     @Bean
@@ -61,27 +120,83 @@ public class KafkaConfig {
      */
     @Bean
     public ConsumerFactory<String, VehicleCreatedEvent> consumerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, VehicleCreatedEvent.class.getName());
+        Map<String, Object> config = consumerConfig(groupId, "earliest");
         
+        // Lit le format binaire et, pendant la migration, les anciens messages JSON
         return new DefaultKafkaConsumerFactory<>(
             config,
             new StringDeserializer(),
-            new JsonDeserializer<>(VehicleCreatedEvent.class, false)
+            new VehicleCreatedEventDeserializer()
         );
     }
 
+    /**
+     * Listener en mode lot : un appel par poll (au plus max-poll-records
+     * messages), offsets commités une fois par lot.
+     * La concurrence (nombre de threads) doit correspondre au nombre de
+     * partitions du topic : les threads en surplus restent inactifs.
+     */
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, VehicleCreatedEvent> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, VehicleCreatedEvent> factory =
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        return factory;
+    }
+
+    private Map<String, Object> consumerConfig(String consumerGroupId, String autoOffsetReset) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, consumerGroupId);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return config;
+    }
+
+    /**
+     * Producer des invalidations de cache (JSON).
+     * max.block.ms est court : l'envoi a lieu sur le thread de la requête,
+     * après le commit, et ne doit pas la bloquer si le broker est absent.
+     */
+    @Bean
+    public ProducerFactory<String, CacheInvalidationEvent> cacheInvalidationProducerFactory() {
+        Map<String, Object> config = producerConfig();
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, cacheInvalidationMaxBlockMs);
+        return new DefaultKafkaProducerFactory<>(config, new StringSerializer(), new JsonSerializer<>());
+    }
+
+    @Bean
+    public KafkaTemplate<String, CacheInvalidationEvent> cacheInvalidationKafkaTemplate() {
+        return new KafkaTemplate<>(cacheInvalidationProducerFactory());
+    }
+
+    /**
+     * Consumer des invalidations de cache : un groupe par nœud pour que
+     * chaque réplica reçoive toutes les invalidations. Un nœud qui démarre
+     * a un cache vide, il lit donc à partir de la fin du topic.
+     */
+    @Bean
+    public ConsumerFactory<String, CacheInvalidationEvent> cacheInvalidationConsumerFactory(CacheNode cacheNode) {
+        Map<String, Object> config = consumerConfig(groupId + "-cache-" + cacheNode.getNodeId(), "latest");
+        return new DefaultKafkaConsumerFactory<>(
+            config,
+            new StringDeserializer(),
+            new JsonDeserializer<>(CacheInvalidationEvent.class, false)
+        );
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, CacheInvalidationEvent> cacheInvalidationListenerContainerFactory(
+            ConsumerFactory<String, CacheInvalidationEvent> cacheInvalidationConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, CacheInvalidationEvent> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(cacheInvalidationConsumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
         return factory;
     }
 }
@@ -0,0 +1,18 @@
+package com.renault.garage.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Active les tâches planifiées (relais de l'outbox).
+ * 
+ * Isolée dans sa propre classe, comme JpaConfig, pour ne pas être chargée
+ * par les tests @WebMvcTest.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,25 +1,56 @@
 package com.renault.garage.config;
 
+import com.renault.garage.infrastructure.security.JwtAuthenticationFilter;
+import com.renault.garage.infrastructure.security.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.Customizer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Configuration Spring Security : authentification sans état par JWT.
+ * 
+ * Le mot de passe (BCrypt, volontairement coûteux) n'est vérifié qu'à
+ * l'émission du token sur POST /auth/login. Les autres requêtes portent
+ * "Authorization: Bearer &lt;token&gt;", vérifié par JwtAuthenticationFilter ;
+ * aucune session HTTP n'est créée.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtService jwtService) throws Exception {
         http
-            .csrf(AbstractHttpConfigurer::disable) // Désactiver CSRF pour faciliter les tests API
+            .csrf(AbstractHttpConfigurer::disable) // API sans état : pas de cookie de session à protéger
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .httpBasic(AbstractHttpConfigurer::disable)
+            .formLogin(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
                 // Autoriser Swagger UI et la documentation API sans authentification
                 .requestMatchers(
@@ -29,20 +60,47 @@ public class SecurityConfig {
                     "/api/api-docs/**",
                     "/api/swagger-ui/**"
                 ).permitAll()
+                .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
                 // Tout le reste nécessite une authentification
                 .anyRequest().authenticated()
             )
-            .httpBasic(Customizer.withDefaults()) // Activer Basic Auth (login/password popup)
-            .formLogin(Customizer.withDefaults()); // Activer le formulaire de login par défaut
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint((request, response, ex) -> {
+                    response.setHeader(HttpHeaders.WWW_AUTHENTICATE, JwtService.TOKEN_TYPE);
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                }))
+            .addFilterBefore(new JwtAuthenticationFilter(jwtService), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
     @Bean
-    public UserDetailsService userDetailsService() {
-        UserDetails user = User.withDefaultPasswordEncoder()
-            .username("admin")
-            .password("password")
+    public JwtService jwtService(@Value("${jwt.secret}") String secret,
+                                 @Value("${jwt.expiration}") long expirationMs,
+                                 @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        return new JwtService(secret, Duration.ofMillis(expirationMs), cacheMaximumSize,
+            meterRegistry.getIfAvailable(), Clock.systemUTC());
+    }
+
+    @Bean
+    public AuthenticationManager authenticationManager(UserDetailsService userDetailsService,
+                                                       PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        return new ProviderManager(provider);
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    }
+
+    @Bean
+    public UserDetailsService userDetailsService(PasswordEncoder passwordEncoder) {
+        UserDetails user = User.withUsername("admin")
+            .password(passwordEncoder.encode("password"))
             .roles("USER", "ADMIN")
             .build();
 
@@ -0,0 +1,18 @@
+package com.renault.garage.domain.exception;
+
+/**
+ * Exception levée lorsqu'un VIN est déjà attribué à un autre véhicule.
+ * 
+ * Contrainte métier: Le VIN identifie un véhicule de manière unique.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public class DuplicateVinException extends BusinessException {
+
+    public static final String MESSAGE = "Un véhicule avec ce VIN existe déjà";
+
+    public DuplicateVinException(String vin) {
+        super(String.format("%s : %s", MESSAGE, vin));
+    }
+}
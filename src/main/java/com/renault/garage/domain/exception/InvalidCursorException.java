@@ -0,0 +1,15 @@
+package com.renault.garage.domain.exception;
+
+/**
+ * Exception levée lorsqu'un curseur de pagination est illisible ou ne
+ * correspond pas au tri demandé.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public class InvalidCursorException extends BusinessException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.renault.garage.domain.exception;
+
+/**
+ * Exception levée lorsqu'une écriture conditionnelle (If-Match) porte sur
+ * une révision qui n'est plus la révision courante de la ressource.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public class StaleRevisionException extends BusinessException {
+
+    public StaleRevisionException(String resourceType, Long resourceId) {
+        super(message(resourceType, resourceId));
+    }
+
+    public StaleRevisionException(String resourceType, Long resourceId, Throwable cause) {
+        super(message(resourceType, resourceId), cause);
+    }
+
+    private static String message(String resourceType, Long resourceId) {
+        return String.format("%s avec l'ID %d a été modifié depuis sa dernière lecture", resourceType, resourceId);
+    }
+}
@@ -1,11 +1,15 @@
 package com.renault.garage.domain.model;
 
 import com.renault.garage.domain.model.enums.AccessoryType;
+import com.renault.garage.infrastructure.persistence.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -37,7 +41,11 @@ import java.time.LocalDateTime;
 public class Accessory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "accessories_seq")
+    @GenericGenerator(name = "accessories_seq", type = PooledSequenceGenerator.class, parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "accessories_seq"),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50")
+    })
     private Long id;
 
     /**
@@ -95,6 +103,12 @@ public class Accessory {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Version de l'enregistrement (verrouillage optimiste, ETag HTTP)
+     */
+    @Version
+    private Long version;
+
     /**
      * Méthode de callback JPA appelée avant la persistance
      */
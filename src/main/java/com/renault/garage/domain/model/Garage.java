@@ -1,12 +1,24 @@
 package com.renault.garage.domain.model;
 
 import com.renault.garage.domain.exception.VehicleQuotaExceededException;
+import com.renault.garage.domain.model.valueobject.GeoPoint;
 import com.renault.garage.domain.model.valueobject.OpeningTime;
+import com.renault.garage.domain.model.valueobject.PostalAddress;
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+import com.renault.garage.domain.model.valueobject.WeeklyScheduleConverter;
+import com.renault.garage.infrastructure.persistence.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.type.descriptor.java.Immutability;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
@@ -21,6 +33,9 @@ import java.util.Map;
  * Un garage possède des informations de contact, des horaires d'ouverture
  * et peut stocker jusqu'à 50 véhicules (contrainte métier).
  * 
+ * Le garage et ses horaires sont conservés dans le cache de second niveau
+ * Hibernate (voir HibernateCacheConfig).
+ * 
  * Pattern utilisé: Entity (DDD), Aggregate Root
  * Principe SOLID: Single Responsibility Principle
  * 
@@ -28,8 +43,10 @@ import java.util.Map;
  * @version 1.0.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "garages")
 @Table(name = "garages", indexes = {
-    @Index(name = "idx_garage_name", columnList = "name"),
+    @Index(name = "idx_garage_name_id", columnList = "name, id"),
     @Index(name = "idx_garage_email", columnList = "email")
 })
 @Getter
@@ -47,7 +64,11 @@ public class Garage {
     public static final int MAX_VEHICLES_PER_GARAGE = 50;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "garages_seq")
+    @GenericGenerator(name = "garages_seq", type = PooledSequenceGenerator.class, parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "garages_seq"),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50")
+    })
     private Long id;
 
     /**
@@ -66,6 +87,40 @@ public class Garage {
     @Column(nullable = false, length = 255)
     private String address;
 
+    /**
+     * Ville, extraite de l'adresse à l'écriture (null si l'adresse ne se
+     * termine pas par "code postal + ville")
+     */
+    @Column(length = PostalAddress.CITY_MAX_LENGTH)
+    private String city;
+
+    /**
+     * Code postal, extrait de l'adresse à l'écriture
+     */
+    @Column(name = "postal_code", length = 5)
+    private String postalCode;
+
+    /**
+     * Latitude, fournie par le client ou à défaut déduite du code postal
+     * (null si aucune position n'est connue)
+     */
+    @Column(name = "latitude")
+    private Double latitude;
+
+    /**
+     * Longitude, fournie par le client ou à défaut déduite du code postal
+     */
+    @Column(name = "longitude")
+    private Double longitude;
+
+    /**
+     * true si la position est celle, approximative, du code postal (voir
+     * PostalCodeLocations) et non celle fournie pour le garage
+     */
+    @Column(name = "location_approximate", nullable = false)
+    @Builder.Default
+    private boolean locationApproximate = true;
+
     /**
      * Numéro de téléphone (obligatoire)
      */
@@ -87,6 +142,7 @@ public class Garage {
      * Stockés sous forme de texte simple (ex: "08:00-12:00,14:00-18:00")
      */
     @ElementCollection(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "garages.openingHours")
     @CollectionTable(
         name = "garage_opening_hours",
         joinColumns = @JoinColumn(name = "garage_id")
@@ -97,6 +153,25 @@ public class Garage {
     @Builder.Default
     private Map<DayOfWeek, String> openingHours = new HashMap<>();
 
+    /**
+     * Horaires d'ouverture compilés (bitmap de la semaine à la minute),
+     * recalculés à partir de openingHours à chaque écriture
+     */
+    @Convert(converter = WeeklyScheduleConverter.class)
+    @Mutability(Immutability.class)
+    @Column(name = "opening_schedule")
+    private WeeklySchedule openingSchedule;
+
+    /**
+     * Nombre de véhicules stockés dans ce garage.
+     * Maintenu en base par une mise à jour conditionnelle atomique
+     * (voir GarageSlotRepository#reserveVehicleSlot) : la colonne n'est jamais
+     * écrite par le cycle de vie JPA afin de ne pas écraser le compteur.
+     */
+    @Column(name = "vehicle_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int vehicleCount = 0;
+
     /**
      * Liste des véhicules stockés dans ce garage
      */
@@ -118,6 +193,12 @@ public class Garage {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Version de l'enregistrement (verrouillage optimiste, ETag HTTP)
+     */
+    @Version
+    private Long version;
+
     /**
      * Ajoute un véhicule au garage en vérifiant le quota.
      * 
@@ -125,11 +206,12 @@ public class Garage {
      * @throws VehicleQuotaExceededException si le quota est dépassé
      */
     public void addVehicle(Vehicle vehicle) {
-        if (vehicles.size() >= MAX_VEHICLES_PER_GARAGE) {
+        if (vehicleCount >= MAX_VEHICLES_PER_GARAGE) {
             throw new VehicleQuotaExceededException(this.id);
         }
         vehicles.add(vehicle);
         vehicle.setGarage(this);
+        vehicleCount++;
     }
 
     /**
@@ -138,7 +220,9 @@ public class Garage {
      * @param vehicle le véhicule à retirer
      */
     public void removeVehicle(Vehicle vehicle) {
-        vehicles.remove(vehicle);
+        if (vehicles.remove(vehicle) && vehicleCount > 0) {
+            vehicleCount--;
+        }
         vehicle.setGarage(null);
     }
 
@@ -148,16 +232,17 @@ public class Garage {
      * @return true si le quota n'est pas atteint
      */
     public boolean canAcceptVehicle() {
-        return vehicles.size() < MAX_VEHICLES_PER_GARAGE;
+        return vehicleCount < MAX_VEHICLES_PER_GARAGE;
     }
 
     /**
-     * Retourne le nombre de véhicules actuellement stockés.
+     * Retourne le nombre de véhicules actuellement stockés,
+     * sans initialiser la collection des véhicules.
      * 
      * @return le nombre de véhicules
      */
     public int getVehicleCount() {
-        return vehicles.size();
+        return vehicleCount;
     }
 
     /**
@@ -165,7 +250,8 @@ public class Garage {
      */
     @PrePersist
     protected void onCreate() {
-        // Validation basique des horaires
+        applyPostalAddress();
+        applyOpeningSchedule();
     }
 
     /**
@@ -173,8 +259,48 @@ public class Garage {
      */
     @PreUpdate
     protected void onUpdate() {
-        if (vehicles.size() > MAX_VEHICLES_PER_GARAGE) {
+        if (vehicleCount > MAX_VEHICLES_PER_GARAGE) {
             throw new VehicleQuotaExceededException(this.id);
         }
+        applyPostalAddress();
+        applyOpeningSchedule();
+    }
+
+    /**
+     * Position du garage, si elle est connue.
+     * 
+     * @return la position, null si elle est inconnue
+     */
+    public GeoPoint getLocation() {
+        return latitude != null && longitude != null ? new GeoPoint(latitude, longitude) : null;
+    }
+
+    /**
+     * Place le garage à une position.
+     * 
+     * @param location la position, null si elle est inconnue
+     * @param approximate true si la position est celle du code postal
+     */
+    public void locateAt(GeoPoint location, boolean approximate) {
+        this.latitude = location != null ? location.latitude() : null;
+        this.longitude = location != null ? location.longitude() : null;
+        this.locationApproximate = approximate;
+    }
+
+    /**
+     * Renseigne la ville et le code postal à partir de l'adresse libre.
+     */
+    private void applyPostalAddress() {
+        PostalAddress postalAddress = PostalAddress.parse(address).orElse(null);
+        this.city = postalAddress != null ? postalAddress.city() : null;
+        this.postalCode = postalAddress != null ? postalAddress.postalCode() : null;
+    }
+
+    /**
+     * Compile les horaires textuels ; un texte inchangé donne des horaires
+     * égaux, sans mise à jour de la colonne.
+     */
+    private void applyOpeningSchedule() {
+        this.openingSchedule = WeeklySchedule.parse(openingHours);
     }
 }
@@ -1,12 +1,17 @@
 package com.renault.garage.domain.model;
 
 import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.infrastructure.persistence.PooledSequenceGenerator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,10 +30,8 @@ import java.util.List;
  */
 @Entity
 @Table(name = "vehicles", indexes = {
-    @Index(name = "idx_vehicle_brand", columnList = "brand"),
-    @Index(name = "idx_vehicle_model", columnList = "model"),
-    @Index(name = "idx_vehicle_fuel_type", columnList = "fuel_type"),
-    @Index(name = "idx_vehicle_garage", columnList = "garage_id")
+    @Index(name = "idx_vehicle_fuel_type_id", columnList = "fuel_type, id"),
+    @Index(name = "idx_vehicle_garage_brand_id", columnList = "garage_id, brand, id")
 })
 @Getter
 @Setter
@@ -40,7 +43,11 @@ import java.util.List;
 public class Vehicle {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "vehicles_seq")
+    @GenericGenerator(name = "vehicles_seq", type = PooledSequenceGenerator.class, parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "vehicles_seq"),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50")
+    })
     private Long id;
 
     /**
@@ -112,6 +119,23 @@ public class Vehicle {
     @Builder.Default
     private List<Accessory> accessories = new ArrayList<>();
 
+    /**
+     * Nombre d'accessoires du véhicule.
+     * Maintenu en base par une mise à jour atomique
+     * (voir VehicleRepository#adjustAccessoryTotals) : la colonne n'est
+     * jamais écrite par le cycle de vie JPA afin de ne pas écraser le compteur.
+     */
+    @Column(name = "accessory_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int accessoryCount = 0;
+
+    /**
+     * Prix total des accessoires du véhicule, maintenu comme accessoryCount.
+     */
+    @Column(name = "accessories_total", nullable = false, updatable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal accessoriesTotal = BigDecimal.ZERO;
+
     /**
      * Date de création de l'enregistrement
      */
@@ -126,6 +150,12 @@ public class Vehicle {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Version de l'enregistrement (verrouillage optimiste, ETag HTTP)
+     */
+    @Version
+    private Long version;
+
     /**
      * Ajoute un accessoire au véhicule.
      * 
@@ -134,6 +164,8 @@ public class Vehicle {
     public void addAccessory(Accessory accessory) {
         accessories.add(accessory);
         accessory.setVehicle(this);
+        accessoryCount++;
+        accessoriesTotal = accessoriesTotal.add(priceOf(accessory));
     }
 
     /**
@@ -142,17 +174,15 @@ public class Vehicle {
      * @param accessory l'accessoire à retirer
      */
     public void removeAccessory(Accessory accessory) {
-        accessories.remove(accessory);
+        if (accessories.remove(accessory) && accessoryCount > 0) {
+            accessoryCount--;
+            accessoriesTotal = accessoriesTotal.subtract(priceOf(accessory));
+        }
         accessory.setVehicle(null);
     }
 
-    /**
-     * Retourne le nombre d'accessoires du véhicule.
-     * 
-     * @return le nombre d'accessoires
-     */
-    public int getAccessoryCount() {
-        return accessories.size();
+    private static BigDecimal priceOf(Accessory accessory) {
+        return accessory.getPrice() == null ? BigDecimal.ZERO : accessory.getPrice();
     }
 
     /**
@@ -0,0 +1,28 @@
+package com.renault.garage.domain.model.enums;
+
+/**
+ * Énumération des modes de recherche des garages par ville.
+ *
+ * Un terme numérique est recherché dans le code postal, tout autre terme
+ * dans la ville (insensible à la casse).
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public enum CitySearchMode {
+    /**
+     * Ville ou code postal égal au terme (index idx_garage_city / idx_garage_postal_code)
+     */
+    EXACT,
+
+    /**
+     * Ville ou code postal commençant par le terme ("75" : tout Paris)
+     */
+    PREFIX,
+
+    /**
+     * Sous-chaîne de l'adresse libre (ancien comportement, index trigrammes) :
+     * pour les garages dont l'adresse n'a pas pu être analysée
+     */
+    ADDRESS
+}
@@ -0,0 +1,35 @@
+package com.renault.garage.domain.model.enums;
+
+/**
+ * Énumération des stratégies de calcul du total d'une liste paginée.
+ *
+ * Le total (totalElements, totalPages) coûte une requête COUNT en plus de
+ * la page, parfois plus chère qu'elle (jointure + DISTINCT). Chaque liste
+ * paginée accepte le paramètre count ; la stratégie appliquée est renvoyée
+ * dans la réponse (countStrategy).
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public enum CountStrategy {
+    /**
+     * COUNT exécuté à chaque page (comportement historique)
+     */
+    EXACT,
+
+    /**
+     * COUNT mémorisé par liste et paramètres pendant page-count.cache.ttl-seconds
+     */
+    CACHED,
+
+    /**
+     * Estimation du planificateur PostgreSQL (EXPLAIN, statistiques ANALYZE),
+     * sans parcourir les lignes
+     */
+    APPROXIMATE,
+
+    /**
+     * Aucun total : seul hasNext est renseigné (page lue avec une ligne de plus)
+     */
+    NONE
+}
@@ -6,6 +6,9 @@ package com.renault.garage.domain.model.enums;
  * Cette enum fait partie du modèle de domaine et représente
  * les différents types de carburant disponibles dans le réseau Renault.
  * 
+ * L'ordinal est utilisé par le format binaire des événements Kafka :
+ * ne pas réordonner les valeurs, ajouter les nouvelles en fin de liste.
+ * 
  * @author Renault Team
  * @version 1.0.0
  */
@@ -0,0 +1,59 @@
+package com.renault.garage.domain.model.valueobject;
+
+/**
+ * Value Object représentant une position géographique (WGS 84, degrés
+ * décimaux).
+ * 
+ * Pattern utilisé: Value Object (DDD)
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    /**
+     * Rayon moyen de la Terre, en kilomètres
+     */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    public GeoPoint {
+        if (!isValid(latitude, longitude)) {
+            throw new IllegalArgumentException(
+                "Coordonnées invalides : latitude " + latitude + ", longitude " + longitude);
+        }
+    }
+
+    /**
+     * Vérifie qu'une latitude est comprise entre -90 et 90 et une longitude
+     * entre -180 et 180.
+     * 
+     * @param latitude la latitude
+     * @param longitude la longitude
+     * @return true si les coordonnées sont valides
+     */
+    public static boolean isValid(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+
+    /**
+     * @param other l'autre position
+     * @return la distance orthodromique jusqu'à l'autre position, en kilomètres
+     */
+    public double distanceKm(GeoPoint other) {
+        return distanceKm(latitude, longitude, other.latitude, other.longitude);
+    }
+
+    /**
+     * Distance orthodromique entre deux positions (formule de haversine).
+     * 
+     * @return la distance en kilomètres
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double sinHalfLatitude = Math.sin(Math.toRadians(latitude2 - latitude1) / 2);
+        double sinHalfLongitude = Math.sin(Math.toRadians(longitude2 - longitude1) / 2);
+        double a = sinHalfLatitude * sinHalfLatitude
+            + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * sinHalfLongitude * sinHalfLongitude;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
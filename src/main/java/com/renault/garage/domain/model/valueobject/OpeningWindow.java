@@ -0,0 +1,52 @@
+package com.renault.garage.domain.model.valueobject;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Value Object représentant une plage [début, fin[ de la semaine, en
+ * minutes depuis le lundi 00:00, pour les recherches de garages ouverts
+ * ({@link WeeklySchedule#isOpenDuring(OpeningWindow)}).
+ * 
+ * Pattern utilisé: Value Object (DDD)
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record OpeningWindow(int fromMinute, int toMinute) {
+
+    public OpeningWindow {
+        if (fromMinute < 0 || toMinute > WeeklySchedule.MINUTES_PER_WEEK || fromMinute >= toMinute) {
+            throw new IllegalArgumentException("Plage horaire invalide : " + fromMinute + "-" + toMinute);
+        }
+    }
+
+    /**
+     * @param dateTime une date et une heure locales
+     * @return la minute de la semaine correspondante
+     */
+    public static OpeningWindow at(LocalDateTime dateTime) {
+        int minute = WeeklySchedule.minuteOfWeek(dateTime);
+        return new OpeningWindow(minute, minute + 1);
+    }
+
+    /**
+     * Plage d'une journée : "samedi après 17:00" est of(SATURDAY, 17:00, null).
+     * 
+     * @param day le jour de la semaine
+     * @param from l'heure de début (null : 00:00)
+     * @param to l'heure de fin, exclue (null : fin de journée)
+     * @return la plage
+     * @throws IllegalArgumentException si la fin ne suit pas le début
+     */
+    public static OpeningWindow of(DayOfWeek day, LocalTime from, LocalTime to) {
+        int dayStart = (day.getValue() - 1) * WeeklySchedule.MINUTES_PER_DAY;
+        int fromMinute = from != null ? from.getHour() * 60 + from.getMinute() : 0;
+        int toMinute = to != null ? to.getHour() * 60 + to.getMinute() : WeeklySchedule.MINUTES_PER_DAY;
+        if (toMinute <= fromMinute) {
+            throw new IllegalArgumentException("L'heure de fin doit être postérieure à l'heure de début");
+        }
+        return new OpeningWindow(dayStart + fromMinute, dayStart + toMinute);
+    }
+}
@@ -0,0 +1,52 @@
+package com.renault.garage.domain.model.valueobject;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Value Object représentant la partie structurée d'une adresse postale
+ * française : code postal et ville.
+ *
+ * Extraite de l'adresse libre du garage à l'écriture ("12 rue de Paris,
+ * 69001 Lyon" => 69001 / Lyon) : la ville est la fin de l'adresse qui suit
+ * le dernier code postal à 5 chiffres. Une mention CEDEX finale est ignorée.
+ *
+ * Pattern utilisé: Value Object (DDD)
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record PostalAddress(String postalCode, String city) {
+
+    /**
+     * Longueur maximale de la ville (colonne garages.city)
+     */
+    public static final int CITY_MAX_LENGTH = 100;
+
+    private static final Pattern POSTAL_CODE_AND_CITY =
+        Pattern.compile("^(?:.*[\\s,])?(\\d{5})\\s+([^\\d,][^,]*?)(?:\\s+cedex(?:\\s+\\d{1,2})?)?\\s*$",
+            Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Extrait le code postal et la ville d'une adresse libre.
+     *
+     * @param address l'adresse complète
+     * @return le code postal et la ville, vide si l'adresse ne se termine
+     *         pas par "code postal + ville"
+     */
+    public static Optional<PostalAddress> parse(String address) {
+        if (address == null || address.isBlank()) {
+            return Optional.empty();
+        }
+        Matcher matcher = POSTAL_CODE_AND_CITY.matcher(address.trim());
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        String city = matcher.group(2).trim().replaceAll("\\s+", " ");
+        if (city.length() > CITY_MAX_LENGTH) {
+            return Optional.empty();
+        }
+        return Optional.of(new PostalAddress(matcher.group(1), city));
+    }
+}
@@ -0,0 +1,277 @@
+package com.renault.garage.domain.model.valueobject;
+
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Value Object représentant les horaires d'ouverture hebdomadaires d'un
+ * garage, compilés une fois pour répondre à "ouvert à tel moment ?".
+ * 
+ * Les horaires sont un bitmap d'une semaine à la minute : le bit n vaut 1
+ * si le garage est ouvert la minute n depuis le lundi 00:00 (0 à 10 079),
+ * soit 158 longs (1 264 octets en base, colonne opening_schedule). Savoir
+ * si le garage est ouvert à une minute est un test de bit, sur une plage
+ * ("samedi après 17:00") un ET par mot de 64 minutes.
+ * 
+ * Une plage dont la fin précède le début ("22:00-02:00") déborde sur le
+ * jour suivant ; "24:00" désigne la fin de journée.
+ * 
+ * Pattern utilisé: Value Object (DDD)
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public final class WeeklySchedule {
+
+    /**
+     * Nombre de minutes dans une semaine
+     */
+    public static final int MINUTES_PER_WEEK = 7 * 24 * 60;
+
+    /**
+     * Nombre de minutes dans une journée
+     */
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int WORDS = (MINUTES_PER_WEEK + Long.SIZE - 1) / Long.SIZE;
+
+    /**
+     * Taille de la forme binaire ({@link #toBytes()}), en octets
+     */
+    public static final int BYTES = WORDS * Long.BYTES;
+
+    private static final Pattern TIME_RANGE =
+        Pattern.compile("(\\d{1,2}):(\\d{2})\\s*-\\s*(\\d{1,2}):(\\d{2})");
+
+    private static final Pattern RANGE_SEPARATOR = Pattern.compile("[,;]");
+
+    private static final Set<String> CLOSED_DAY = Set.of("fermé", "ferme", "closed");
+
+    /**
+     * Horaires sans aucune plage d'ouverture
+     */
+    public static final WeeklySchedule CLOSED = new WeeklySchedule(new long[WORDS]);
+
+    // Bit n du mot n / 64 : ouvert la minute n de la semaine
+    private final long[] words;
+
+    private WeeklySchedule(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Compile les horaires textuels d'un garage ("08:00-12:00, 14:00-18:00").
+     * 
+     * Les plages illisibles sont ignorées : un jour sans plage lisible
+     * ("Fermé") est un jour de fermeture.
+     * 
+     * @param openingHours horaires par jour de la semaine
+     * @return les horaires compilés
+     */
+    public static WeeklySchedule parse(Map<DayOfWeek, String> openingHours) {
+        if (openingHours == null || openingHours.isEmpty()) {
+            return CLOSED;
+        }
+        long[] words = new long[WORDS];
+        boolean open = false;
+        for (Map.Entry<DayOfWeek, String> entry : openingHours.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null) {
+                continue;
+            }
+            int dayStart = (entry.getKey().getValue() - 1) * MINUTES_PER_DAY;
+            Matcher matcher = TIME_RANGE.matcher(entry.getValue());
+            while (matcher.find()) {
+                int start = minuteOfDay(matcher.group(1), matcher.group(2));
+                int end = minuteOfDay(matcher.group(3), matcher.group(4));
+                if (start < 0 || end < 0 || start == MINUTES_PER_DAY || start == end) {
+                    continue;
+                }
+                open = true;
+                if (start < end) {
+                    set(words, dayStart + start, dayStart + end);
+                } else {
+                    // Passe minuit : fin de journée puis début du lendemain (dimanche => lundi)
+                    set(words, dayStart + start, dayStart + MINUTES_PER_DAY);
+                    int nextDayStart = (dayStart + MINUTES_PER_DAY) % MINUTES_PER_WEEK;
+                    set(words, nextDayStart, nextDayStart + end);
+                }
+            }
+        }
+        return open ? new WeeklySchedule(words) : CLOSED;
+    }
+
+    /**
+     * Vérifie le format des horaires d'une journée : une ou plusieurs plages
+     * "HH:mm-HH:mm" séparées par des virgules ou des points-virgules, ou
+     * "Fermé". Les plages qui passent minuit sont admises.
+     * 
+     * @param hours les horaires de la journée
+     * @return true si toutes les plages sont lisibles
+     */
+    public static boolean isWellFormed(String hours) {
+        if (hours == null || hours.isBlank()) {
+            return false;
+        }
+        if (CLOSED_DAY.contains(hours.strip().toLowerCase(Locale.ROOT))) {
+            return true;
+        }
+        for (String range : RANGE_SEPARATOR.split(hours, -1)) {
+            Matcher matcher = TIME_RANGE.matcher(range.strip());
+            if (!matcher.matches()) {
+                return false;
+            }
+            int start = minuteOfDay(matcher.group(1), matcher.group(2));
+            int end = minuteOfDay(matcher.group(3), matcher.group(4));
+            if (start < 0 || end < 0 || start == MINUTES_PER_DAY || start == end) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Relit des horaires compilés ({@link #toBytes()}).
+     * 
+     * @param bytes la forme binaire
+     * @return les horaires
+     * @throws IllegalArgumentException si la taille ne correspond pas
+     */
+    public static WeeklySchedule fromBytes(byte[] bytes) {
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException(
+                "Horaires compilés invalides : " + bytes.length + " octets au lieu de " + BYTES);
+        }
+        long[] words = new long[WORDS];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(words);
+        return new WeeklySchedule(words);
+    }
+
+    /**
+     * @return la forme binaire des horaires, {@link #BYTES} octets
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES);
+        buffer.asLongBuffer().put(words);
+        return buffer.array();
+    }
+
+    /**
+     * @param dateTime la date et l'heure locales du garage
+     * @return true si le garage est ouvert à ce moment
+     */
+    public boolean isOpenAt(LocalDateTime dateTime) {
+        return isOpenAt(minuteOfWeek(dateTime));
+    }
+
+    /**
+     * @param minuteOfWeek la minute de la semaine (0 = lundi 00:00)
+     * @return true si le garage est ouvert à cette minute
+     */
+    public boolean isOpenAt(int minuteOfWeek) {
+        if (minuteOfWeek < 0 || minuteOfWeek >= MINUTES_PER_WEEK) {
+            return false;
+        }
+        return (words[minuteOfWeek >>> 6] & (1L << minuteOfWeek)) != 0;
+    }
+
+    /**
+     * @param window une plage de la semaine
+     * @return true si le garage est ouvert au moins une minute de la plage
+     */
+    public boolean isOpenDuring(OpeningWindow window) {
+        int first = window.fromMinute() >>> 6;
+        int last = (window.toMinute() - 1) >>> 6;
+        long firstMask = -1L << window.fromMinute();
+        long lastMask = -1L >>> -window.toMinute();
+        if (first == last) {
+            return (words[first] & firstMask & lastMask) != 0;
+        }
+        if ((words[first] & firstMask) != 0 || (words[last] & lastMask) != 0) {
+            return true;
+        }
+        for (int i = first + 1; i < last; i++) {
+            if (words[i] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true si le garage n'ouvre à aucun moment de la semaine
+     */
+    public boolean isClosed() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param dateTime une date et une heure
+     * @return la minute de la semaine correspondante (0 = lundi 00:00)
+     */
+    public static int minuteOfWeek(LocalDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY
+            + dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    private static int minuteOfDay(String hours, String minutes) {
+        int hour = Integer.parseInt(hours);
+        int minute = Integer.parseInt(minutes);
+        if (minute > 59 || hour > 24 || (hour == 24 && minute > 0)) {
+            return -1;
+        }
+        return hour * 60 + minute;
+    }
+
+    /**
+     * Met à 1 les bits [from, to[ (même découpage en masques que BitSet#set).
+     */
+    private static void set(long[] words, int from, int to) {
+        int first = from >>> 6;
+        int last = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (first == last) {
+            words[first] |= firstMask & lastMask;
+            return;
+        }
+        words[first] |= firstMask;
+        for (int i = first + 1; i < last; i++) {
+            words[i] = -1L;
+        }
+        words[last] |= lastMask;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof WeeklySchedule schedule && Arrays.equals(words, schedule.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("WeeklySchedule[");
+        BitSet bits = BitSet.valueOf(words);
+        for (int start = bits.nextSetBit(0); start >= 0; start = bits.nextSetBit(bits.nextClearBit(start))) {
+            builder.append(builder.length() > "WeeklySchedule[".length() ? ", " : "")
+                .append(start).append('-').append(bits.nextClearBit(start));
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.renault.garage.domain.model.valueobject;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Conversion des horaires compilés vers leur forme binaire (colonne BYTEA),
+ * définie par {@link WeeklySchedule#toBytes()}.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Converter
+public class WeeklyScheduleConverter implements AttributeConverter<WeeklySchedule, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(WeeklySchedule schedule) {
+        return schedule != null ? schedule.toBytes() : null;
+    }
+
+    @Override
+    public WeeklySchedule convertToEntityAttribute(byte[] bytes) {
+        return bytes != null ? WeeklySchedule.fromBytes(bytes) : null;
+    }
+}
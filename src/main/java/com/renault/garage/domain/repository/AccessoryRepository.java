@@ -2,16 +2,19 @@ package com.renault.garage.domain.repository;
 
 import com.renault.garage.domain.model.Accessory;
 import com.renault.garage.domain.model.enums.AccessoryType;
+import com.renault.garage.domain.repository.projection.EntityRevision;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository pour l'entité Accessory.
@@ -116,4 +119,25 @@ public interface AccessoryRepository extends JpaRepository<Accessory, Long>, Jpa
      */
     @Query("SELECT DISTINCT a.vehicle.garage.id FROM Accessory a WHERE a.type = :type")
     List<Long> findGarageIdsWithAccessoryType(@Param("type") AccessoryType type);
+
+    /**
+     * Lit la révision d'un accessoire.
+     * 
+     * @param id l'ID de l'accessoire
+     * @return la révision si l'accessoire existe
+     */
+    @Query("SELECT new com.renault.garage.domain.repository.projection.EntityRevision(a.version, 0) " +
+           "FROM Accessory a WHERE a.id = :id")
+    Optional<EntityRevision> findRevisionById(@Param("id") Long id);
+
+    /**
+     * Incrémente la version des accessoires d'un véhicule, dont la
+     * représentation embarque le libellé du véhicule.
+     * 
+     * @param vehicleId l'ID du véhicule
+     * @return le nombre d'accessoires mis à jour
+     */
+    @Modifying
+    @Query("UPDATE Accessory a SET a.version = a.version + 1 WHERE a.vehicle.id = :vehicleId")
+    int incrementVersionByVehicleId(@Param("vehicleId") Long vehicleId);
 }
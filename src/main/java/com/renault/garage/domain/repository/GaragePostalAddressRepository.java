@@ -0,0 +1,64 @@
+package com.renault.garage.domain.repository;
+
+import com.renault.garage.domain.model.valueobject.GeoPoint;
+import com.renault.garage.domain.model.valueobject.PostalAddress;
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+import com.renault.garage.domain.repository.projection.GarageAddress;
+import com.renault.garage.domain.repository.projection.GaragePostalCode;
+
+import java.util.Map;
+
+/**
+ * Fragment de repository pour le renseignement a posteriori de la ville, du
+ * code postal, des coordonnées et des horaires compilés des garages.
+ * 
+ * Comme pour GarageSlotRepository, les mises à jour passent en SQL sur la
+ * connexion de la transaction courante : un UPDATE JPQL purgerait toute la
+ * région de cache des garages à chaque lot.
+ * 
+ * Pattern utilisé: Repository Pattern (fragment personnalisé)
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public interface GaragePostalAddressRepository {
+
+    /**
+     * Renseigne la ville et le code postal de garages, en un lot JDBC.
+     * 
+     * Un garage n'est mis à jour que si son adresse est toujours celle qui a
+     * été analysée et que sa ville n'a pas été renseignée entre-temps (par
+     * une modification concurrente). Sa version est incrémentée : la
+     * représentation du garage change, son ETag aussi.
+     * 
+     * @param postalAddresses la ville et le code postal extraits, par garage
+     *                        et adresse analysée
+     * @return le nombre de garages mis à jour
+     */
+    int updatePostalAddresses(Map<GarageAddress, PostalAddress> postalAddresses);
+
+    /**
+     * Renseigne les coordonnées de garages, en un lot JDBC.
+     * 
+     * Un garage n'est mis à jour que si son code postal est toujours celui
+     * qui a été localisé et que ses coordonnées ne sont pas renseignées. Sa
+     * version est incrémentée.
+     * 
+     * @param locations les coordonnées, par garage et code postal localisé
+     * @return le nombre de garages mis à jour
+     */
+    int updateLocations(Map<GaragePostalCode, GeoPoint> locations);
+
+    /**
+     * Renseigne les horaires compilés de garages, en un lot JDBC.
+     * 
+     * Un garage n'est mis à jour que si ses horaires compilés ne sont pas
+     * renseignés : une modification concurrente les a calculés à partir
+     * des horaires à jour. Sa version n'est pas incrémentée, les horaires
+     * compilés ne faisant pas partie de sa représentation.
+     * 
+     * @param schedules les horaires compilés, par ID de garage
+     * @return le nombre de garages mis à jour
+     */
+    int updateOpeningSchedules(Map<Long, WeeklySchedule> schedules);
+}
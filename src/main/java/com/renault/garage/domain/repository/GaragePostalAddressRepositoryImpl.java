@@ -0,0 +1,105 @@
+package com.renault.garage.domain.repository;
+
+import com.renault.garage.domain.model.valueobject.GeoPoint;
+import com.renault.garage.domain.model.valueobject.PostalAddress;
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+import com.renault.garage.domain.repository.projection.GarageAddress;
+import com.renault.garage.domain.repository.projection.GaragePostalCode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Implémentation JDBC du fragment {@link GaragePostalAddressRepository}.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+class GaragePostalAddressRepositoryImpl implements GaragePostalAddressRepository {
+
+    private static final String UPDATE_POSTAL_ADDRESS = """
+        UPDATE garages SET city = ?, postal_code = ?, version = version + 1
+        WHERE id = ? AND address = ? AND city IS NULL AND postal_code IS NULL
+        """;
+
+    private static final String UPDATE_LOCATION = """
+        UPDATE garages SET latitude = ?, longitude = ?, location_approximate = TRUE, version = version + 1
+        WHERE id = ? AND postal_code = ? AND latitude IS NULL
+        """;
+
+    private static final String UPDATE_OPENING_SCHEDULE = """
+        UPDATE garages SET opening_schedule = ?
+        WHERE id = ? AND opening_schedule IS NULL
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updatePostalAddresses(Map<GarageAddress, PostalAddress> postalAddresses) {
+        if (postalAddresses.isEmpty()) {
+            return 0;
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_POSTAL_ADDRESS)) {
+                for (Map.Entry<GarageAddress, PostalAddress> entry : postalAddresses.entrySet()) {
+                    statement.setString(1, entry.getValue().city());
+                    statement.setString(2, entry.getValue().postalCode());
+                    statement.setLong(3, entry.getKey().garageId());
+                    statement.setString(4, entry.getKey().address());
+                    statement.addBatch();
+                }
+                return executeBatch(statement);
+            }
+        });
+    }
+
+    @Override
+    public int updateLocations(Map<GaragePostalCode, GeoPoint> locations) {
+        if (locations.isEmpty()) {
+            return 0;
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_LOCATION)) {
+                for (Map.Entry<GaragePostalCode, GeoPoint> entry : locations.entrySet()) {
+                    statement.setDouble(1, entry.getValue().latitude());
+                    statement.setDouble(2, entry.getValue().longitude());
+                    statement.setLong(3, entry.getKey().garageId());
+                    statement.setString(4, entry.getKey().postalCode());
+                    statement.addBatch();
+                }
+                return executeBatch(statement);
+            }
+        });
+    }
+
+    @Override
+    public int updateOpeningSchedules(Map<Long, WeeklySchedule> schedules) {
+        if (schedules.isEmpty()) {
+            return 0;
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_OPENING_SCHEDULE)) {
+                for (Map.Entry<Long, WeeklySchedule> entry : schedules.entrySet()) {
+                    statement.setBytes(1, entry.getValue().toBytes());
+                    statement.setLong(2, entry.getKey());
+                    statement.addBatch();
+                }
+                return executeBatch(statement);
+            }
+        });
+    }
+
+    private static int executeBatch(PreparedStatement statement) throws SQLException {
+        int updated = 0;
+        for (int count : statement.executeBatch()) {
+            updated += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return updated;
+    }
+}
@@ -1,15 +1,32 @@
 package com.renault.garage.domain.repository;
 
 import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.model.enums.AccessoryType;
+import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.repository.projection.EntityRevision;
+import com.renault.garage.domain.repository.projection.GarageAddress;
+import com.renault.garage.domain.repository.projection.GarageLocation;
+import com.renault.garage.domain.repository.projection.GarageOccupancy;
+import com.renault.garage.domain.repository.projection.GarageOpeningHours;
+import com.renault.garage.domain.repository.projection.GarageOpeningSchedule;
+import com.renault.garage.domain.repository.projection.GaragePostalCode;
+import com.renault.garage.domain.repository.specification.GarageSpecifications;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository pour l'entité Garage.
@@ -24,40 +41,34 @@ import java.util.Optional;
  * @version 1.0.0
  */
 @Repository
-public interface GarageRepository extends JpaRepository<Garage, Long>, JpaSpecificationExecutor<Garage> {
+public interface GarageRepository extends JpaRepository<Garage, Long>, JpaSpecificationExecutor<Garage>,
+        GarageSummaryRepository, GarageSlotRepository, GaragePostalAddressRepository, RowEstimateRepository {
 
     /**
      * Recherche un garage par son email.
      * 
+     * Résultat conservé dans le cache de requêtes : l'ID trouvé est ensuite
+     * résolu depuis la région des garages.
+     * 
      * @param email l'email du garage
      * @return Optional contenant le garage si trouvé
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "garage-queries")
+    })
     Optional<Garage> findByEmail(String email);
 
-    /**
-     * Recherche des garages par nom (recherche partielle, insensible à la casse).
-     * 
-     * @param name le nom du garage
-     * @param pageable les informations de pagination
-     * @return page de garages correspondants
-     */
-    Page<Garage> findByNameContainingIgnoreCase(String name, Pageable pageable);
-
-    /**
-     * Recherche des garages par ville dans l'adresse.
-     * 
-     * @param city la ville
-     * @param pageable les informations de pagination
-     * @return page de garages correspondants
-     */
-    Page<Garage> findByAddressContainingIgnoreCase(String city, Pageable pageable);
-
     /**
      * Vérifie si un garage existe avec l'email donné.
      * 
      * @param email l'email à vérifier
      * @return true si un garage existe avec cet email
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "garage-queries")
+    })
     boolean existsByEmail(String email);
 
     /**
@@ -65,7 +76,7 @@ public interface GarageRepository extends JpaRepository<Garage, Long>, JpaSpecif
      * 
      * @return le nombre de garages non vides
      */
-    @Query("SELECT COUNT(DISTINCT g) FROM Garage g WHERE SIZE(g.vehicles) > 0")
+    @Query("SELECT COUNT(g) FROM Garage g WHERE g.vehicleCount > 0")
     long countGaragesWithVehicles();
 
     /**
@@ -75,9 +86,126 @@ public interface GarageRepository extends JpaRepository<Garage, Long>, JpaSpecif
      * @param pageable les informations de pagination
      * @return page de garages ayant de la capacité
      */
-    @Query("SELECT g FROM Garage g WHERE SIZE(g.vehicles) < :maxVehicles")
+    @Query("SELECT g FROM Garage g WHERE g.vehicleCount < :maxVehicles")
     Page<Garage> findGaragesWithAvailableCapacity(@Param("maxVehicles") int maxVehicles, Pageable pageable);
 
+    /**
+     * Parcourt en flux l'occupation de tous les garages, par blocs de 10 000 lignes.
+     * 
+     * Doit être consommé dans une transaction puis fermé.
+     * 
+     * @return le flux des occupations, par ID croissant
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT new com.renault.garage.domain.repository.projection.GarageOccupancy(g.id, g.vehicleCount) " +
+           "FROM Garage g ORDER BY g.id")
+    Stream<GarageOccupancy> streamOccupancies();
+
+    /**
+     * Lit l'occupation des garages donnés (un garage supprimé est absent du résultat).
+     * 
+     * @param ids les IDs des garages
+     * @return les occupations
+     */
+    @Query("SELECT new com.renault.garage.domain.repository.projection.GarageOccupancy(g.id, g.vehicleCount) " +
+           "FROM Garage g WHERE g.id IN :ids")
+    List<GarageOccupancy> findOccupancies(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Parcourt en flux la position et les horaires compilés des garages
+     * localisés, par blocs de 10 000 lignes.
+     * 
+     * Doit être consommé dans une transaction puis fermé.
+     * 
+     * @return le flux des positions, par ID croissant
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT new com.renault.garage.domain.repository.projection.GarageLocation(" +
+           "g.id, g.latitude, g.longitude, g.vehicleCount, g.openingSchedule) " +
+           "FROM Garage g WHERE g.latitude IS NOT NULL AND g.longitude IS NOT NULL ORDER BY g.id")
+    Stream<GarageLocation> streamLocations();
+
+    /**
+     * Lit la position et les horaires compilés des garages donnés (un
+     * garage supprimé ou sans position est absent du résultat).
+     * 
+     * @param ids les IDs des garages
+     * @return les positions
+     */
+    @Query("SELECT new com.renault.garage.domain.repository.projection.GarageLocation(" +
+           "g.id, g.latitude, g.longitude, g.vehicleCount, g.openingSchedule) " +
+           "FROM Garage g WHERE g.id IN :ids AND g.latitude IS NOT NULL AND g.longitude IS NOT NULL")
+    List<GarageLocation> findLocations(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Parcourt en flux les horaires compilés de tous les garages, par blocs
+     * de 10 000 lignes.
+     * 
+     * Doit être consommé dans une transaction puis fermé.
+     * 
+     * @return le flux des horaires compilés, par ID croissant
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT new com.renault.garage.domain.repository.projection.GarageOpeningSchedule(g.id, g.openingSchedule) " +
+           "FROM Garage g ORDER BY g.id")
+    Stream<GarageOpeningSchedule> streamOpeningSchedules();
+
+    /**
+     * @return le plus grand ID de garage, 0 si la table est vide
+     */
+    @Query("SELECT COALESCE(MAX(g.id), 0) FROM Garage g")
+    long findMaxId();
+
+    /**
+     * Liste les garages d'une plage d'IDs dont la ville et le code postal ne
+     * sont pas renseignés.
+     * 
+     * @param fromId le premier ID de la plage (inclus)
+     * @param toId le dernier ID de la plage (inclus)
+     * @return les adresses, par ID croissant
+     */
+    @Query("SELECT new com.renault.garage.domain.repository.projection.GarageAddress(g.id, g.address) " +
+           "FROM Garage g WHERE g.id BETWEEN :fromId AND :toId AND g.city IS NULL AND g.postalCode IS NULL " +
+           "ORDER BY g.id")
+    List<GarageAddress> findAddressesWithoutPostalAddress(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Liste les garages d'une plage d'IDs dont le code postal est renseigné
+     * mais pas les coordonnées.
+     * 
+     * @param fromId le premier ID de la plage (inclus)
+     * @param toId le dernier ID de la plage (inclus)
+     * @return les codes postaux, par ID croissant
+     */
+    @Query("SELECT new com.renault.garage.domain.repository.projection.GaragePostalCode(g.id, g.postalCode) " +
+           "FROM Garage g WHERE g.id BETWEEN :fromId AND :toId AND g.postalCode IS NOT NULL AND g.latitude IS NULL " +
+           "ORDER BY g.id")
+    List<GaragePostalCode> findPostalCodesWithoutLocation(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Liste les horaires textuels des garages d'une plage d'IDs dont les
+     * horaires compilés ne sont pas renseignés. Un garage sans horaires a
+     * une seule ligne, sans jour.
+     * 
+     * @param fromId le premier ID de la plage (inclus)
+     * @param toId le dernier ID de la plage (inclus)
+     * @return les horaires, regroupés par ID de garage croissant
+     */
+    @Query("SELECT new com.renault.garage.domain.repository.projection.GarageOpeningHours(g.id, KEY(h), VALUE(h)) " +
+           "FROM Garage g LEFT JOIN g.openingHours h " +
+           "WHERE g.id BETWEEN :fromId AND :toId AND g.openingSchedule IS NULL ORDER BY g.id")
+    List<GarageOpeningHours> findOpeningHoursWithoutSchedule(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Lit la révision d'un garage (version et nombre de véhicules).
+     * 
+     * @param id l'ID du garage
+     * @return la révision si le garage existe
+     */
+    @Query("SELECT new com.renault.garage.domain.repository.projection.EntityRevision(g.version, g.vehicleCount) " +
+           "FROM Garage g WHERE g.id = :id")
+    Optional<EntityRevision> findRevisionById(@Param("id") Long id);
+
     /**
      * Recherche les garages pleins (quota atteint).
      * 
@@ -85,6 +213,101 @@ public interface GarageRepository extends JpaRepository<Garage, Long>, JpaSpecif
      * @param pageable les informations de pagination
      * @return page de garages pleins
      */
-    @Query("SELECT g FROM Garage g WHERE SIZE(g.vehicles) >= :maxVehicles")
+    @Query("SELECT g FROM Garage g WHERE g.vehicleCount >= :maxVehicles")
     Page<Garage> findFullGarages(@Param("maxVehicles") int maxVehicles, Pageable pageable);
+
+    /**
+     * Page des IDs de garages ayant au moins un véhicule équipé d'un accessoire
+     * du type donné. EXISTS évite le DISTINCT sur une jointure multipliant les lignes.
+     * 
+     * @param accessoryType le type d'accessoire
+     * @param pageable les informations de pagination
+     * @return page d'IDs de garages, sans total
+     */
+    @Query("SELECT g.id FROM Garage g WHERE EXISTS (" +
+           "SELECT 1 FROM Vehicle v JOIN v.accessories a " +
+           "WHERE v.garage = g AND a.type = :accessoryType)")
+    Slice<Long> findIdsWithVehicleAccessoryType(@Param("accessoryType") AccessoryType accessoryType, Pageable pageable);
+
+    /**
+     * Compte les garages ayant au moins un véhicule équipé d'un accessoire
+     * du type donné.
+     * 
+     * @param accessoryType le type d'accessoire
+     * @return le nombre de garages
+     */
+    @Query("SELECT COUNT(g) FROM Garage g WHERE EXISTS (" +
+           "SELECT 1 FROM Vehicle v JOIN v.accessories a " +
+           "WHERE v.garage = g AND a.type = :accessoryType)")
+    long countWithVehicleAccessoryType(@Param("accessoryType") AccessoryType accessoryType);
+
+    /**
+     * Charge des garages et leurs horaires en une seule requête.
+     * 
+     * @param ids les IDs des garages
+     * @return les garages trouvés (ordre non garanti)
+     */
+    @Query("SELECT g FROM Garage g LEFT JOIN FETCH g.openingHours WHERE g.id IN :ids")
+    List<Garage> findAllWithOpeningHoursByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Estimations du planificateur (stratégie de comptage APPROXIMATE) : chaque
+    // requête reprend en SQL le filtre de la liste correspondante.
+
+    /**
+     * @return le nombre estimé de garages
+     */
+    default long estimateGarages() {
+        return estimateRows("SELECT 1 FROM garages");
+    }
+
+    /**
+     * @param column la colonne recherchée (name ou address)
+     * @param term le terme recherché (GarageSpecifications.hasName / hasCity)
+     * @return le nombre estimé de garages contenant le terme
+     */
+    default long estimateContaining(String column, String term) {
+        if (term == null || term.isBlank()) {
+            return estimateGarages();
+        }
+        String sql = switch (column) {
+            case "name" -> "SELECT 1 FROM garages WHERE lower(name) LIKE ?";
+            case "address" -> "SELECT 1 FROM garages WHERE lower(address) LIKE ?";
+            default -> throw new IllegalArgumentException("Colonne non recherchable : " + column);
+        };
+        return estimateRows(sql, "%" + GarageSpecifications.escapeLike(term.trim().toLowerCase()) + "%");
+    }
+
+    /**
+     * @param term la ville ou le code postal (GarageSpecifications.isLocatedIn)
+     * @param prefix true pour une recherche par préfixe
+     * @return le nombre estimé de garages situés dans la ville ou le code postal
+     */
+    default long estimateLocatedIn(String term, boolean prefix) {
+        if (term == null || term.isBlank()) {
+            return estimateGarages();
+        }
+        String normalized = term.trim().toLowerCase();
+        String column = normalized.chars().allMatch(Character::isDigit) ? "postal_code" : "lower(city)";
+        return prefix
+            ? estimateRows("SELECT 1 FROM garages WHERE " + column + " LIKE ?",
+                GarageSpecifications.escapeLike(normalized) + "%")
+            : estimateRows("SELECT 1 FROM garages WHERE " + column + " = ?", normalized);
+    }
+
+    /**
+     * @param fuelType le type de carburant (GarageSpecifications.hasVehicleWithFuelType)
+     * @return le nombre estimé de garages ayant un véhicule de ce carburant
+     */
+    default long estimateWithVehicleFuelType(FuelType fuelType) {
+        return estimateRows("SELECT DISTINCT garage_id FROM vehicles WHERE fuel_type = ?", fuelType.name());
+    }
+
+    /**
+     * @param accessoryType le type d'accessoire
+     * @return le nombre estimé de garages ayant un véhicule équipé de ce type d'accessoire
+     */
+    default long estimateWithVehicleAccessoryType(AccessoryType accessoryType) {
+        return estimateRows("SELECT DISTINCT v.garage_id FROM vehicles v "
+            + "JOIN accessories a ON a.vehicle_id = v.id WHERE a.type = ?", accessoryType.name());
+    }
 }
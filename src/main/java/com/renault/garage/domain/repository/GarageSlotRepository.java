@@ -0,0 +1,53 @@
+package com.renault.garage.domain.repository;
+
+/**
+ * Fragment de repository pour le compteur de véhicules des garages.
+ * 
+ * Les mises à jour sont exécutées en SQL sur la connexion de la transaction
+ * courante et non en UPDATE JPQL : Hibernate purge toute la région de cache
+ * d'une entité visée par un UPDATE en masse, ce qui viderait le cache de
+ * second niveau des garages à chaque véhicule ajouté. L'entrée du garage
+ * modifié est verrouillée dans ce cache jusqu'à la fin de la transaction,
+ * puis évincée par ResponseCaches#evictGarage après le commit.
+ * 
+ * Pattern utilisé: Repository Pattern (fragment personnalisé)
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public interface GarageSlotRepository {
+
+    /**
+     * Réserve une place pour un nouveau véhicule dans un garage.
+     * 
+     * Le compteur n'est incrémenté que si le quota n'est pas atteint : la
+     * vérification et la réservation se font en une seule requête atomique,
+     * sans charger la collection des véhicules.
+     * 
+     * @param garageId l'ID du garage
+     * @param maxVehicles le nombre maximum de véhicules par garage
+     * @return 1 si la place a été réservée, 0 si le garage est plein ou inexistant
+     */
+    int reserveVehicleSlot(Long garageId, int maxVehicles);
+
+    /**
+     * Réserve plusieurs places d'un coup pour un lot de véhicules.
+     * 
+     * La réservation est globale : soit toutes les places sont réservées,
+     * soit aucune si le lot ferait dépasser le quota.
+     * 
+     * @param garageId l'ID du garage
+     * @param count le nombre de places à réserver
+     * @param maxVehicles le nombre maximum de véhicules par garage
+     * @return 1 si les places ont été réservées, 0 sinon
+     */
+    int reserveVehicleSlots(Long garageId, int count, int maxVehicles);
+
+    /**
+     * Libère une place dans un garage suite au retrait d'un véhicule.
+     * 
+     * @param garageId l'ID du garage
+     * @return le nombre de lignes mises à jour
+     */
+    int releaseVehicleSlot(Long garageId);
+}
@@ -0,0 +1,81 @@
+package com.renault.garage.domain.repository;
+
+import com.renault.garage.domain.model.Garage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.sql.PreparedStatement;
+
+/**
+ * Implémentation JDBC du fragment {@link GarageSlotRepository}.
+ * 
+ * Les requêtes passent par la connexion de la session Hibernate : elles
+ * participent à la transaction en cours sans déclencher l'invalidation
+ * globale du cache de second niveau propre aux UPDATE en masse.
+ * 
+ * Comme pour une mise à jour d'entité, l'entrée du garage est verrouillée
+ * (soft lock READ_WRITE) dans le cache de second niveau avant l'UPDATE et
+ * libérée à la fin de la transaction : un lecteur qui charge le garage
+ * entre-temps ne peut pas y remettre l'ancien compteur.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+class GarageSlotRepositoryImpl implements GarageSlotRepository {
+
+    private static final String RESERVE_SLOTS =
+        "UPDATE garages SET vehicle_count = vehicle_count + ? WHERE id = ? AND vehicle_count + ? <= ?";
+    private static final String RELEASE_SLOT =
+        "UPDATE garages SET vehicle_count = vehicle_count - 1 WHERE id = ? AND vehicle_count > 0";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int reserveVehicleSlot(Long garageId, int maxVehicles) {
+        return reserveVehicleSlots(garageId, 1, maxVehicles);
+    }
+
+    @Override
+    public int reserveVehicleSlots(Long garageId, int count, int maxVehicles) {
+        return executeUpdate(garageId, RESERVE_SLOTS, count, garageId, count, maxVehicles);
+    }
+
+    @Override
+    public int releaseVehicleSlot(Long garageId) {
+        return executeUpdate(garageId, RELEASE_SLOT, garageId);
+    }
+
+    private int executeUpdate(Long garageId, String sql, Object... parameters) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        lockCachedGarage(session, garageId);
+        return session.doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Verrouille l'entrée du garage dans le cache de second niveau jusqu'à la
+     * fin de la transaction (validée ou annulée).
+     */
+    private static void lockCachedGarage(SessionImplementor session, Long garageId) {
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Garage.class);
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+        Object key = cacheAccess.generateCacheKey(garageId, persister, session.getFactory(), session.getTenantIdentifier());
+        SoftLock lock = cacheAccess.lockItem(session, key, null);
+        session.getActionQueue().registerProcess(
+            (success, completedSession) -> cacheAccess.unlockItem(completedSession, key, lock));
+    }
+}
@@ -0,0 +1,81 @@
+package com.renault.garage.domain.repository;
+
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.repository.keyset.KeysetPage;
+import com.renault.garage.domain.repository.keyset.KeysetPageRequest;
+import com.renault.garage.domain.repository.projection.GarageSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fragment de repository pour les listes de garages en projection.
+ * 
+ * Une page de garages coûte au plus trois requêtes : la page projetée,
+ * le count (omis si la page est la dernière) et les horaires des garages
+ * de la page. En pagination par curseur, le count disparaît.
+ * 
+ * Pattern utilisé: Repository Pattern (fragment personnalisé)
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public interface GarageSummaryRepository {
+
+    /**
+     * Attributs triables en pagination par curseur, adossés à un index
+     * (attribut, id) : clé primaire, idx_garage_name_id.
+     */
+    Set<String> SCROLL_SORTS = Set.of("id", "name");
+
+    /**
+     * Recherche une page de garages projetés.
+     * 
+     * @param spec la spécification de filtrage (peut être null)
+     * @param pageable les informations de pagination et de tri
+     * @return page de projections
+     */
+    Page<GarageSummary> findSummaries(Specification<Garage> spec, Pageable pageable);
+
+    /**
+     * Recherche une page de garages projetés sans count : une ligne de plus
+     * que la taille de page est lue pour renseigner hasNext.
+     * 
+     * @param spec la spécification de filtrage (peut être null)
+     * @param pageable les informations de pagination et de tri
+     * @return page de projections, sans total
+     */
+    Slice<GarageSummary> findSummarySlice(Specification<Garage> spec, Pageable pageable);
+
+    /**
+     * Compte les garages d'une spécification (DISTINCT sur l'ID si la
+     * spécification joint une collection).
+     * 
+     * @param spec la spécification de filtrage (peut être null)
+     * @return le nombre de garages
+     */
+    long countSummaries(Specification<Garage> spec);
+
+    /**
+     * Lit une page de garages projetés par clé (sans OFFSET ni count).
+     * 
+     * @param spec la spécification de filtrage (peut être null)
+     * @param request la demande de page, sur un attribut de {@link #SCROLL_SORTS}
+     * @return la page et la position suivante
+     */
+    KeysetPage<GarageSummary> scrollSummaries(Specification<Garage> spec, KeysetPageRequest request);
+
+    /**
+     * Charge les horaires d'ouverture de plusieurs garages en une requête.
+     * 
+     * @param garageIds les IDs des garages
+     * @return horaires par ID de garage (absent si le garage n'a aucun horaire)
+     */
+    Map<Long, Map<DayOfWeek, String>> findOpeningHoursByGarageIds(Collection<Long> garageIds);
+}
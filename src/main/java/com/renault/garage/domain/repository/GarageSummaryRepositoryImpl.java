@@ -0,0 +1,171 @@
+package com.renault.garage.domain.repository;
+
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.repository.keyset.KeysetPage;
+import com.renault.garage.domain.repository.keyset.KeysetPageRequest;
+import com.renault.garage.domain.repository.keyset.KeysetQueries;
+import com.renault.garage.domain.repository.projection.GarageSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.DayOfWeek;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implémentation Criteria du fragment {@link GarageSummaryRepository}.
+ * 
+ * Les spécifications existantes ({@code GarageSpecifications}) sont
+ * réutilisées telles quelles comme filtre de la projection.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+class GarageSummaryRepositoryImpl implements GarageSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<GarageSummary> findSummaries(Specification<Garage> spec, Pageable pageable) {
+        TypedQuery<GarageSummary> query = summaryQuery(spec, pageable);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> countSummaries(spec));
+    }
+
+    @Override
+    public Slice<GarageSummary> findSummarySlice(Specification<Garage> spec, Pageable pageable) {
+        TypedQuery<GarageSummary> query = summaryQuery(spec, pageable);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+        List<GarageSummary> rows = query
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize() + 1)
+            .getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public long countSummaries(Specification<Garage> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Garage> root = query.from(Garage.class);
+
+        applySpecification(spec, root, query, criteriaBuilder);
+        // Une spécification qui joint les véhicules demande DISTINCT : compter les garages, pas les lignes jointes
+        if (query.isDistinct()) {
+            query.distinct(false);
+            query.select(criteriaBuilder.countDistinct(root));
+        } else {
+            query.select(criteriaBuilder.count(root));
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public KeysetPage<GarageSummary> scrollSummaries(Specification<Garage> spec, KeysetPageRequest request) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<GarageSummary> query = criteriaBuilder.createQuery(GarageSummary.class);
+        Root<Garage> root = query.from(Garage.class);
+
+        selectSummary(query, root, criteriaBuilder);
+        applySpecification(spec, root, query, criteriaBuilder);
+        Predicate after = KeysetQueries.after(criteriaBuilder, root, request);
+        if (after != null) {
+            query.where(query.getRestriction() == null ? after : criteriaBuilder.and(query.getRestriction(), after));
+        }
+        query.orderBy(KeysetQueries.orderBy(criteriaBuilder, root, request));
+
+        List<GarageSummary> rows = entityManager.createQuery(query)
+            .setMaxResults(request.size() + 1)
+            .getResultList();
+        return KeysetQueries.page(rows, request,
+            summary -> "name".equals(request.property()) ? summary.name() : summary.id(), GarageSummary::id);
+    }
+
+    @Override
+    public Map<Long, Map<DayOfWeek, String>> findOpeningHoursByGarageIds(Collection<Long> garageIds) {
+        if (garageIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object[]> rows = entityManager.createQuery(
+                "SELECT g.id, KEY(h), VALUE(h) FROM Garage g JOIN g.openingHours h WHERE g.id IN :ids",
+                Object[].class)
+            .setParameter("ids", garageIds)
+            .getResultList();
+
+        Map<Long, Map<DayOfWeek, String>> openingHours = new HashMap<>();
+        for (Object[] row : rows) {
+            openingHours.computeIfAbsent((Long) row[0], id -> new EnumMap<>(DayOfWeek.class))
+                .put((DayOfWeek) row[1], (String) row[2]);
+        }
+        return openingHours;
+    }
+
+    private static void selectSummary(CriteriaQuery<GarageSummary> query, Root<Garage> root,
+                                      CriteriaBuilder criteriaBuilder) {
+        query.select(criteriaBuilder.construct(GarageSummary.class,
+            root.get("id"),
+            root.get("name"),
+            root.get("address"),
+            root.get("city"),
+            root.get("postalCode"),
+            root.get("latitude"),
+            root.get("longitude"),
+            root.get("locationApproximate"),
+            root.get("telephone"),
+            root.get("email"),
+            root.get("vehicleCount"),
+            root.get("createdAt"),
+            root.get("updatedAt"),
+            root.get("version")));
+    }
+
+    private TypedQuery<GarageSummary> summaryQuery(Specification<Garage> spec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<GarageSummary> query = criteriaBuilder.createQuery(GarageSummary.class);
+        Root<Garage> root = query.from(Garage.class);
+
+        selectSummary(query, root, criteriaBuilder);
+        applySpecification(spec, root, query, criteriaBuilder);
+        // Sans tri explicite, l'ordre éventuel de la spécification (classement par similarité) est conservé
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private static void applySpecification(Specification<Garage> spec, Root<Garage> root,
+                                           CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.renault.garage.domain.repository;
+
+/**
+ * Fragment de repository pour estimer le nombre de lignes d'une requête à
+ * partir des statistiques du planificateur PostgreSQL.
+ * 
+ * Utilisé par la stratégie de comptage APPROXIMATE : la requête n'est pas
+ * exécutée, seul son plan est calculé (quelques dixièmes de milliseconde
+ * quelle que soit la taille de la table). La précision dépend de la
+ * fraîcheur des statistiques (autovacuum / ANALYZE).
+ * 
+ * Pattern utilisé: Repository Pattern (fragment personnalisé)
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public interface RowEstimateRepository {
+
+    /**
+     * Estime le nombre de lignes renvoyées par une requête SQL.
+     * 
+     * @param sql la requête (SQL natif, paramètres positionnels ?)
+     * @param parameters les valeurs des paramètres
+     * @return le nombre de lignes estimé par le planificateur
+     */
+    long estimateRows(String sql, Object... parameters);
+}
@@ -0,0 +1,46 @@
+package com.renault.garage.domain.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Implémentation JDBC du fragment {@link RowEstimateRepository} :
+ * {@code EXPLAIN (FORMAT JSON)} de la requête, dont on lit le champ
+ * "Plan Rows" du nœud racine.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+class RowEstimateRepositoryImpl implements RowEstimateRepository {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long estimateRows(String sql, Object... parameters) {
+        String plan = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+        try {
+            return JSON.readTree(plan).path(0).path("Plan").path("Plan Rows").asLong();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Plan PostgreSQL illisible", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.renault.garage.domain.repository;
+
+import com.renault.garage.domain.model.Vehicle;
+import com.renault.garage.domain.repository.keyset.KeysetPage;
+import com.renault.garage.domain.repository.keyset.KeysetPageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+
+/**
+ * Fragment de repository pour les listes de véhicules paginées par clé.
+ * 
+ * Chaque liste n'accepte que les tris adossés à un index composite se
+ * terminant par l'ID, afin que la page N coûte autant que la première.
+ * 
+ * Pattern utilisé: Repository Pattern (fragment personnalisé)
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public interface VehicleKeysetRepository {
+
+    /**
+     * Tris des véhicules d'un garage : idx_vehicle_garage_brand_id
+     * (garage_id, brand, id), et (garage_id, id) par son préfixe.
+     */
+    Set<String> GARAGE_SCROLL_SORTS = Set.of("id", "brand");
+
+    /**
+     * Tris des véhicules par carburant : idx_vehicle_fuel_type_id
+     * (fuel_type, id) ; véhicules écologiques : clé primaire, filtrée.
+     */
+    Set<String> FUEL_TYPE_SCROLL_SORTS = Set.of("id");
+
+    /**
+     * Lit une page de véhicules par clé (sans OFFSET ni count).
+     * 
+     * @param spec la spécification de filtrage
+     * @param request la demande de page
+     * @return la page et la position suivante
+     */
+    KeysetPage<Vehicle> scroll(Specification<Vehicle> spec, KeysetPageRequest request);
+}
@@ -0,0 +1,56 @@
+package com.renault.garage.domain.repository;
+
+import com.renault.garage.domain.model.Vehicle;
+import com.renault.garage.domain.repository.keyset.KeysetPage;
+import com.renault.garage.domain.repository.keyset.KeysetPageRequest;
+import com.renault.garage.domain.repository.keyset.KeysetQueries;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Implémentation Criteria du fragment {@link VehicleKeysetRepository}.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+class VehicleKeysetRepositoryImpl implements VehicleKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public KeysetPage<Vehicle> scroll(Specification<Vehicle> spec, KeysetPageRequest request) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Vehicle> query = criteriaBuilder.createQuery(Vehicle.class);
+        Root<Vehicle> root = query.from(Vehicle.class);
+
+        Predicate filter = spec.toPredicate(root, query, criteriaBuilder);
+        Predicate after = KeysetQueries.after(criteriaBuilder, root, request);
+        if (filter != null && after != null) {
+            query.where(filter, after);
+        } else if (filter != null || after != null) {
+            query.where(filter != null ? filter : after);
+        }
+        query.orderBy(KeysetQueries.orderBy(criteriaBuilder, root, request));
+
+        List<Vehicle> rows = entityManager.createQuery(query)
+            .setMaxResults(request.size() + 1)
+            .getResultList();
+        return KeysetQueries.page(rows, request, vehicle -> sortValue(vehicle, request.property()), Vehicle::getId);
+    }
+
+    private static Object sortValue(Vehicle vehicle, String property) {
+        return switch (property) {
+            case "brand" -> vehicle.getBrand();
+            case "id" -> vehicle.getId();
+            default -> throw new IllegalStateException("Tri non supporté en pagination par curseur : " + property);
+        };
+    }
+}
@@ -1,17 +1,28 @@
 package com.renault.garage.domain.repository;
 
 import com.renault.garage.domain.model.Vehicle;
+import com.renault.garage.domain.model.enums.AccessoryType;
 import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.repository.projection.EntityRevision;
+import com.renault.garage.domain.repository.projection.GarageFuelTypeCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository pour l'entité Vehicle.
@@ -26,16 +37,17 @@ import java.util.Optional;
  * @version 1.0.0
  */
 @Repository
-public interface VehicleRepository extends JpaRepository<Vehicle, Long>, JpaSpecificationExecutor<Vehicle> {
+public interface VehicleRepository extends JpaRepository<Vehicle, Long>, JpaSpecificationExecutor<Vehicle>,
+        VehicleKeysetRepository, VehicleSearchRepository, RowEstimateRepository {
 
     /**
      * Recherche tous les véhicules d'un garage spécifique.
      * 
      * @param garageId l'ID du garage
      * @param pageable les informations de pagination
-     * @return page de véhicules du garage
+     * @return page de véhicules du garage, sans total
      */
-    Page<Vehicle> findByGarageId(Long garageId, Pageable pageable);
+    Slice<Vehicle> findByGarageId(Long garageId, Pageable pageable);
 
     /**
      * Recherche des véhicules par marque.
@@ -60,9 +72,17 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long>, JpaSpec
      * 
      * @param fuelType le type de carburant
      * @param pageable les informations de pagination
-     * @return page de véhicules du type de carburant
+     * @return page de véhicules du type de carburant, sans total
      */
-    Page<Vehicle> findByFuelType(FuelType fuelType, Pageable pageable);
+    Slice<Vehicle> findByFuelType(FuelType fuelType, Pageable pageable);
+
+    /**
+     * Compte les véhicules d'un type de carburant.
+     * 
+     * @param fuelType le type de carburant
+     * @return le nombre de véhicules
+     */
+    long countByFuelType(FuelType fuelType);
 
     /**
      * Recherche des véhicules par marque et modèle.
@@ -98,6 +118,157 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long>, JpaSpec
      */
     boolean existsByVin(String vin);
 
+    /**
+     * Retourne, parmi les VIN donnés, ceux déjà utilisés (une seule requête IN).
+     * 
+     * @param vins les VIN à vérifier
+     * @return les VIN existants
+     */
+    @Query("SELECT v.vin FROM Vehicle v WHERE v.vin IN :vins")
+    List<String> findExistingVins(@Param("vins") Collection<String> vins);
+
+    /**
+     * Parcourt tous les VIN en flux, par blocs de 10 000 lignes.
+     * 
+     * Doit être consommé dans une transaction puis fermé.
+     * 
+     * @return le flux des VIN renseignés
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT v.vin FROM Vehicle v WHERE v.vin IS NOT NULL")
+    Stream<String> streamAllVins();
+
+    /**
+     * Parcourt en flux le nombre de véhicules par garage et carburant.
+     * 
+     * Doit être consommé dans une transaction puis fermé.
+     * 
+     * @return le flux des comptes, une ligne par garage et carburant présent
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "10000"))
+    @Query("SELECT new com.renault.garage.domain.repository.projection.GarageFuelTypeCount(" +
+           "v.garage.id, v.fuelType, COUNT(v)) FROM Vehicle v GROUP BY v.garage.id, v.fuelType")
+    Stream<GarageFuelTypeCount> streamFuelTypeCounts();
+
+    /**
+     * Compte les véhicules des garages donnés par carburant.
+     * 
+     * @param garageIds les IDs des garages
+     * @return les comptes, une ligne par garage et carburant présent
+     */
+    @Query("SELECT new com.renault.garage.domain.repository.projection.GarageFuelTypeCount(" +
+           "v.garage.id, v.fuelType, COUNT(v)) FROM Vehicle v WHERE v.garage.id IN :garageIds " +
+           "GROUP BY v.garage.id, v.fuelType")
+    List<GarageFuelTypeCount> findFuelTypeCounts(@Param("garageIds") Collection<Long> garageIds);
+
+    /**
+     * Lit la révision d'un véhicule (version et nombre d'accessoires).
+     * 
+     * @param id l'ID du véhicule
+     * @return la révision si le véhicule existe
+     */
+    @Query("SELECT new com.renault.garage.domain.repository.projection.EntityRevision(v.version, v.accessoryCount) " +
+           "FROM Vehicle v WHERE v.id = :id")
+    Optional<EntityRevision> findRevisionById(@Param("id") Long id);
+
+    /**
+     * Incrémente la version des véhicules d'un garage, dont la représentation
+     * embarque le nom du garage.
+     * 
+     * @param garageId l'ID du garage
+     * @return le nombre de véhicules mis à jour
+     */
+    @Modifying
+    @Query("UPDATE Vehicle v SET v.version = v.version + 1 WHERE v.garage.id = :garageId")
+    int incrementVersionByGarageId(@Param("garageId") Long garageId);
+
+    /**
+     * Reporte l'ajout, la modification ou le retrait d'un accessoire sur les
+     * totaux du véhicule, de manière atomique. La version du véhicule est
+     * incrémentée : sa représentation embarque ces totaux.
+     * 
+     * @param vehicleId l'ID du véhicule
+     * @param count variation du nombre d'accessoires
+     * @param total variation du prix total
+     * @return le nombre de lignes mises à jour (0 si le véhicule n'existe pas)
+     */
+    @Modifying
+    @Query("UPDATE Vehicle v SET v.accessoryCount = v.accessoryCount + :count, " +
+           "v.accessoriesTotal = v.accessoriesTotal + :total, v.version = v.version + 1 " +
+           "WHERE v.id = :vehicleId")
+    int adjustAccessoryTotals(@Param("vehicleId") Long vehicleId,
+                              @Param("count") int count,
+                              @Param("total") BigDecimal total);
+
+    /**
+     * Lit le prix total des accessoires d'un véhicule.
+     * 
+     * @param vehicleId l'ID du véhicule
+     * @return le prix total si le véhicule existe
+     */
+    @Query("SELECT v.accessoriesTotal FROM Vehicle v WHERE v.id = :vehicleId")
+    Optional<BigDecimal> findAccessoriesTotalById(@Param("vehicleId") Long vehicleId);
+
+    /**
+     * @return le plus grand ID de véhicule, 0 si la table est vide
+     */
+    @Query("SELECT COALESCE(MAX(v.id), 0) FROM Vehicle v")
+    long findMaxId();
+
+    /**
+     * Recherche, sans verrou, les véhicules d'une plage d'IDs dont les
+     * totaux d'accessoires diffèrent de ceux recalculés.
+     * 
+     * @param fromId borne inférieure (incluse)
+     * @param toId borne supérieure (incluse)
+     * @return les IDs des véhicules en écart
+     */
+    @Query(value = """
+        SELECT v.id FROM vehicles v
+        LEFT JOIN (SELECT a.vehicle_id, COUNT(*) AS cnt, SUM(a.price) AS total
+                   FROM accessories a
+                   WHERE a.vehicle_id BETWEEN :fromId AND :toId
+                   GROUP BY a.vehicle_id) t ON t.vehicle_id = v.id
+        WHERE v.id BETWEEN :fromId AND :toId
+          AND (v.accessory_count <> COALESCE(t.cnt, 0) OR v.accessories_total <> COALESCE(t.total, 0))
+        """, nativeQuery = true)
+    List<Long> findAccessoryTotalDrift(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Verrouille des véhicules, afin qu'aucun ajout ou retrait d'accessoire
+     * ne soit en cours pendant leur recalcul.
+     * 
+     * @param ids les IDs des véhicules
+     * @return les IDs verrouillés
+     */
+    @Query(value = "SELECT v.id FROM vehicles v WHERE v.id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<Long> lockByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Recalcule les totaux d'accessoires des véhicules donnés, à appeler
+     * après {@link #lockByIds} dans la même transaction.
+     * 
+     * La table modifiée est déclarée à Hibernate : sans elle, une mise à
+     * jour native purge tout le cache de second niveau.
+     * 
+     * @param ids les IDs des véhicules
+     * @return le nombre de véhicules corrigés
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE vehicles v
+        SET accessory_count = t.cnt, accessories_total = t.total, version = v.version + 1
+        FROM (SELECT v2.id, COUNT(a.id) AS cnt, COALESCE(SUM(a.price), 0) AS total
+              FROM vehicles v2
+              LEFT JOIN accessories a ON a.vehicle_id = v2.id
+              WHERE v2.id IN (:ids)
+              GROUP BY v2.id) t
+        WHERE v.id = t.id
+          AND (v.accessory_count <> t.cnt OR v.accessories_total <> t.total)
+        """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "vehicles"))
+    int repairAccessoryTotals(@Param("ids") Collection<Long> ids);
+
     /**
      * Recherche tous les véhicules d'un modèle donné dans plusieurs garages.
      * 
@@ -126,8 +297,57 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long>, JpaSpec
      * Recherche les véhicules écologiques (électriques ou hybrides).
      * 
      * @param pageable les informations de pagination
-     * @return page de véhicules écologiques
+     * @return page de véhicules écologiques, sans total
      */
     @Query("SELECT v FROM Vehicle v WHERE v.fuelType IN ('ELECTRIQUE', 'HYBRIDE')")
-    Page<Vehicle> findEcoFriendlyVehicles(Pageable pageable);
+    Slice<Vehicle> findEcoFriendlyVehicles(Pageable pageable);
+
+    /**
+     * Compte les véhicules écologiques (électriques ou hybrides).
+     * 
+     * @return le nombre de véhicules écologiques
+     */
+    @Query("SELECT COUNT(v) FROM Vehicle v WHERE v.fuelType IN ('ELECTRIQUE', 'HYBRIDE')")
+    long countEcoFriendlyVehicles();
+
+    /**
+     * Véhicules des garages donnés ayant au moins un accessoire du type
+     * demandé, avec tous leurs accessoires, en une seule requête.
+     * 
+     * @param garageIds les IDs des garages
+     * @param accessoryType le type d'accessoire
+     * @return les véhicules correspondants, triés par ID
+     */
+    @Query("SELECT v FROM Vehicle v JOIN FETCH v.accessories " +
+           "WHERE v.garage.id IN :garageIds AND EXISTS (" +
+           "SELECT 1 FROM Accessory a WHERE a.vehicle = v AND a.type = :accessoryType) " +
+           "ORDER BY v.id")
+    List<Vehicle> findByGarageIdInWithAccessoryType(@Param("garageIds") Collection<Long> garageIds,
+                                                    @Param("accessoryType") AccessoryType accessoryType);
+
+    // Estimations du planificateur (stratégie de comptage APPROXIMATE) : chaque
+    // requête reprend en SQL le filtre de la liste correspondante.
+
+    /**
+     * @param garageId l'ID du garage
+     * @return le nombre estimé de véhicules du garage
+     */
+    default long estimateByGarageId(Long garageId) {
+        return estimateRows("SELECT 1 FROM vehicles WHERE garage_id = ?", garageId);
+    }
+
+    /**
+     * @param fuelType le type de carburant
+     * @return le nombre estimé de véhicules du type de carburant
+     */
+    default long estimateByFuelType(FuelType fuelType) {
+        return estimateRows("SELECT 1 FROM vehicles WHERE fuel_type = ?", fuelType.name());
+    }
+
+    /**
+     * @return le nombre estimé de véhicules écologiques
+     */
+    default long estimateEcoFriendlyVehicles() {
+        return estimateRows("SELECT 1 FROM vehicles WHERE fuel_type IN ('ELECTRIQUE', 'HYBRIDE')");
+    }
 }
@@ -0,0 +1,31 @@
+package com.renault.garage.domain.repository;
+
+import com.renault.garage.domain.model.Vehicle;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Fragment de repository pour la recherche multicritère de véhicules.
+ * 
+ * Les critères sont composés à partir de {@code VehicleSpecifications} ;
+ * les combinaisons courantes sont servies par les index de la migration
+ * V10 (expressions lower(brand), lower(model)).
+ * 
+ * Pattern utilisé: Repository Pattern (fragment personnalisé)
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public interface VehicleSearchRepository {
+
+    /**
+     * Recherche une page de véhicules sans count : une ligne de plus que la
+     * taille de page est lue pour renseigner hasNext.
+     * 
+     * @param spec la spécification de filtrage
+     * @param pageable les informations de pagination et de tri
+     * @return page de véhicules, sans total
+     */
+    Slice<Vehicle> findSlice(Specification<Vehicle> spec, Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package com.renault.garage.domain.repository.keyset;
+
+import com.renault.garage.domain.exception.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position dans une liste paginée par clé : la valeur de la colonne de tri
+ * et l'ID de la dernière ligne renvoyée, avec le tri qui les a produits.
+ * 
+ * Transmis au client sous forme opaque (Base64 URL) : il le renvoie tel
+ * quel pour obtenir la page suivante. La valeur est conservée en texte et
+ * reconvertie au type de l'attribut trié au moment de la requête.
+ * 
+ * @param property l'attribut trié
+ * @param direction le sens du tri
+ * @param value la valeur de l'attribut trié sur la dernière ligne
+ * @param id l'ID de la dernière ligne
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record KeysetCursor(String property, Sort.Direction direction, String value, long id) {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * @return le curseur encodé, à transmettre au client
+     */
+    public String encode() {
+        String raw = property + SEPARATOR + direction + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Décode un curseur reçu du client.
+     * 
+     * @param encoded le curseur encodé
+     * @return le curseur
+     * @throws InvalidCursorException si le curseur est illisible
+     */
+    public static KeysetCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            // La valeur vient en dernier : elle peut elle-même contenir le séparateur
+            String[] parts = raw.split(String.valueOf(SEPARATOR), 4);
+            if (parts.length != 4) {
+                throw new InvalidCursorException("Curseur de pagination invalide");
+            }
+            return new KeysetCursor(parts[0], Sort.Direction.valueOf(parts[1]), parts[3], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Curseur de pagination invalide");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.renault.garage.domain.repository.keyset;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Page lue par clé : son contenu et la position de la page suivante.
+ * 
+ * @param content les éléments de la page
+ * @param next la position de la page suivante, null si la page est la dernière
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record KeysetPage<T>(List<T> content, KeysetCursor next) {
+
+    /**
+     * Convertit le contenu de la page en conservant sa position suivante.
+     * 
+     * @param mapper la conversion
+     * @return la page convertie
+     */
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(content.stream().<R>map(mapper).toList(), next);
+    }
+}
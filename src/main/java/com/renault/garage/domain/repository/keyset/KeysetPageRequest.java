@@ -0,0 +1,92 @@
+package com.renault.garage.domain.repository.keyset;
+
+import com.renault.garage.domain.exception.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Demande de page par clé (keyset / seek) : tri sur un attribut puis sur
+ * l'ID, position de départ et taille de page.
+ * 
+ * Contrairement à une page OFFSET, la page suivante est lue par
+ * {@code WHERE (attribut, id) > (?, ?)} sur un index composite
+ * (attribut, id) : son coût ne dépend pas de sa profondeur, et aucun
+ * count n'est exécuté.
+ * 
+ * @param property l'attribut trié (non nul en base)
+ * @param direction le sens du tri, appliqué aussi à l'ID
+ * @param after la position de départ, null pour la première page
+ * @param size la taille de page
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record KeysetPageRequest(String property, Sort.Direction direction, KeysetCursor after, int size) {
+
+    /**
+     * Taille de page maximale (identique à spring.data.web.pageable.max-page-size)
+     */
+    public static final int MAX_SIZE = 100;
+
+    private static final String ID = "id";
+
+    /**
+     * Construit une demande à partir des paramètres HTTP.
+     * 
+     * Sans tri explicite, le tri du curseur est repris, ou à défaut le tri
+     * par défaut de la liste. Un tri explicite doit être celui du curseur.
+     * 
+     * @param cursor le curseur reçu, vide pour la première page
+     * @param sort le tri demandé (un attribut, éventuellement suivi de l'ID)
+     * @param size la taille de page demandée
+     * @param defaultProperty l'attribut trié par défaut
+     * @param sortable les attributs triables, adossés à un index (attribut, id)
+     * @return la demande
+     * @throws InvalidCursorException si le curseur est illisible, ne correspond
+     *                                pas au tri ou si le tri n'est pas supporté
+     */
+    public static KeysetPageRequest of(String cursor, Sort sort, int size,
+                                       String defaultProperty, Set<String> sortable) {
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+
+        List<Sort.Order> orders = sort.stream().toList();
+        if (orders.size() == 2 && ID.equals(orders.get(1).getProperty())
+                && orders.get(0).getDirection() == orders.get(1).getDirection()) {
+            orders = orders.subList(0, 1);
+        }
+        if (orders.size() > 1) {
+            throw new InvalidCursorException("La pagination par curseur ne trie que sur un attribut (puis l'ID)");
+        }
+
+        String property;
+        Sort.Direction direction;
+        if (!orders.isEmpty()) {
+            property = orders.get(0).getProperty();
+            direction = orders.get(0).getDirection();
+        } else if (after != null) {
+            property = after.property();
+            direction = after.direction();
+        } else {
+            property = defaultProperty;
+            direction = Sort.Direction.ASC;
+        }
+
+        if (!sortable.contains(property)) {
+            throw new InvalidCursorException(
+                "Tri non supporté en pagination par curseur : " + property + " (autorisés : " + sortable + ")");
+        }
+        if (after != null && (!after.property().equals(property) || after.direction() != direction)) {
+            throw new InvalidCursorException("Le curseur ne correspond pas au tri demandé");
+        }
+        return new KeysetPageRequest(property, direction, after, Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+
+    /**
+     * @return true si le tri porte directement sur l'ID
+     */
+    public boolean sortsById() {
+        return ID.equals(property);
+    }
+}
@@ -0,0 +1,122 @@
+package com.renault.garage.domain.repository.keyset;
+
+import com.renault.garage.domain.exception.InvalidCursorException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Construction Criteria des requêtes paginées par clé.
+ * 
+ * La position est une comparaison de lignes {@code (attribut, id) > (?, ?)}
+ * (ou {@code <} en tri descendant) : PostgreSQL la traduit en une seule
+ * borne de parcours de l'index composite (attribut, id), là où la forme
+ * développée {@code a > ? OR (a = ? AND id > ?)} filtre après coup.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public final class KeysetQueries {
+
+    private static final String ID = "id";
+
+    private KeysetQueries() {
+    }
+
+    /**
+     * Prédicat de position : lignes strictement après le curseur.
+     * 
+     * @param criteriaBuilder le constructeur Criteria (Hibernate)
+     * @param root la racine de la requête
+     * @param request la demande de page
+     * @return le prédicat, null pour la première page
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Predicate after(CriteriaBuilder criteriaBuilder, Root<?> root, KeysetPageRequest request) {
+        KeysetCursor after = request.after();
+        if (after == null) {
+            return null;
+        }
+        Path<Long> id = root.get(ID);
+        boolean ascending = request.direction().isAscending();
+        if (request.sortsById()) {
+            return ascending ? criteriaBuilder.greaterThan(id, after.id()) : criteriaBuilder.lessThan(id, after.id());
+        }
+
+        Path<?> sorted = root.get(request.property());
+        NodeBuilder nodeBuilder = (NodeBuilder) criteriaBuilder;
+        Expression key = nodeBuilder.tuple(Object[].class, (SqmExpression<?>) sorted, (SqmExpression<?>) id);
+        Expression position = nodeBuilder.tuple(Object[].class,
+            (SqmExpression<?>) nodeBuilder.value(parse(after.value(), sorted.getJavaType())),
+            (SqmExpression<?>) nodeBuilder.value(after.id()));
+        return ascending ? criteriaBuilder.greaterThan(key, position) : criteriaBuilder.lessThan(key, position);
+    }
+
+    /**
+     * Tri de la requête : l'attribut puis l'ID, dans le même sens.
+     * 
+     * @param criteriaBuilder le constructeur Criteria
+     * @param root la racine de la requête
+     * @param request la demande de page
+     * @return les critères de tri
+     */
+    public static List<Order> orderBy(CriteriaBuilder criteriaBuilder, Root<?> root, KeysetPageRequest request) {
+        Function<Expression<?>, Order> order = request.direction().isAscending()
+            ? criteriaBuilder::asc
+            : criteriaBuilder::desc;
+        if (request.sortsById()) {
+            return List.of(order.apply(root.get(ID)));
+        }
+        return List.of(order.apply(root.get(request.property())), order.apply(root.get(ID)));
+    }
+
+    /**
+     * Construit la page à partir des lignes lues, la requête ayant été
+     * limitée à {@code size + 1} lignes : la ligne en trop signale une page
+     * suivante, sans count.
+     * 
+     * @param rows les lignes lues (au plus size + 1)
+     * @param request la demande de page
+     * @param sortValue la valeur de l'attribut trié d'une ligne
+     * @param id l'ID d'une ligne
+     * @return la page et la position suivante
+     */
+    public static <T> KeysetPage<T> page(List<T> rows, KeysetPageRequest request,
+                                         Function<T, Object> sortValue, ToLongFunction<T> id) {
+        if (rows.size() <= request.size()) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> content = List.copyOf(rows.subList(0, request.size()));
+        T last = content.get(content.size() - 1);
+        KeysetCursor next = new KeysetCursor(request.property(), request.direction(),
+            String.valueOf(sortValue.apply(last)), id.applyAsLong(last));
+        return new KeysetPage<>(content, next);
+    }
+
+    private static Object parse(String value, Class<?> type) {
+        try {
+            if (type == String.class) {
+                return value;
+            } else if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(value);
+            } else if (type == Long.class || type == long.class) {
+                return Long.valueOf(value);
+            } else if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            }
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Curseur de pagination invalide");
+        }
+        throw new IllegalStateException("Type non supporté en pagination par curseur : " + type);
+    }
+}
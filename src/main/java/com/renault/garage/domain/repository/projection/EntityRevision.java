@@ -0,0 +1,20 @@
+package com.renault.garage.domain.repository.projection;
+
+/**
+ * Révision d'une ressource : sa version et le nombre de ses enfants
+ * (véhicules d'un garage, accessoires d'un véhicule).
+ * 
+ * Le nombre d'enfants fait partie de la représentation sans modifier la
+ * version de l'entité : les deux forment la base des ETags HTTP. Lue par
+ * une requête scalaire, sans charger l'entité ni ses collections.
+ * 
+ * Pattern utilisé: DTO Projection
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record EntityRevision(
+    long version,
+    int childCount
+) {
+}
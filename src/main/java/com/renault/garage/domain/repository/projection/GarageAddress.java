@@ -0,0 +1,18 @@
+package com.renault.garage.domain.repository.projection;
+
+/**
+ * Adresse libre d'un garage : son ID et son adresse.
+ * 
+ * Sert au renseignement a posteriori de la ville et du code postal des
+ * garages créés avant leur extraction à l'écriture.
+ * 
+ * Pattern utilisé: DTO Projection
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record GarageAddress(
+    long garageId,
+    String address
+) {
+}
@@ -0,0 +1,20 @@
+package com.renault.garage.domain.repository.projection;
+
+import com.renault.garage.domain.model.enums.FuelType;
+
+/**
+ * Nombre de véhicules d'un carburant dans un garage.
+ * 
+ * Sert à reconstruire l'index géographique en mémoire (filtre par carburant).
+ * 
+ * Pattern utilisé: DTO Projection
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record GarageFuelTypeCount(
+    long garageId,
+    FuelType fuelType,
+    long vehicleCount
+) {
+}
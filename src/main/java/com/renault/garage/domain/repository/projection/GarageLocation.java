@@ -0,0 +1,23 @@
+package com.renault.garage.domain.repository.projection;
+
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+
+/**
+ * Position d'un garage : son ID, ses coordonnées, son nombre de véhicules
+ * et ses horaires compilés (null tant qu'ils ne sont pas calculés).
+ * 
+ * Sert à reconstruire l'index géographique en mémoire en une seule requête.
+ * 
+ * Pattern utilisé: DTO Projection
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record GarageLocation(
+    long garageId,
+    double latitude,
+    double longitude,
+    int vehicleCount,
+    WeeklySchedule openingSchedule
+) {
+}
@@ -0,0 +1,18 @@
+package com.renault.garage.domain.repository.projection;
+
+/**
+ * Occupation d'un garage : son ID et son nombre de véhicules.
+ * 
+ * Sert à reconstruire l'index en mémoire des places libres en une seule
+ * requête sur le compteur stocké vehicle_count.
+ * 
+ * Pattern utilisé: DTO Projection
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record GarageOccupancy(
+    long garageId,
+    int vehicleCount
+) {
+}
@@ -0,0 +1,21 @@
+package com.renault.garage.domain.repository.projection;
+
+import java.time.DayOfWeek;
+
+/**
+ * Horaires d'un garage pour un jour de la semaine (jour et horaires null
+ * pour un garage sans horaires).
+ * 
+ * Sert à compiler les horaires des garages existants (GarageScheduleBackfill).
+ * 
+ * Pattern utilisé: DTO Projection
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record GarageOpeningHours(
+    long garageId,
+    DayOfWeek dayOfWeek,
+    String hours
+) {
+}
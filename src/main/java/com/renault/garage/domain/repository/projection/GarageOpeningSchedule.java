@@ -0,0 +1,19 @@
+package com.renault.garage.domain.repository.projection;
+
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+
+/**
+ * Horaires compilés d'un garage (null tant qu'ils ne sont pas calculés).
+ * 
+ * Sert à reconstruire l'index des horaires en mémoire en une seule requête.
+ * 
+ * Pattern utilisé: DTO Projection
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record GarageOpeningSchedule(
+    long garageId,
+    WeeklySchedule openingSchedule
+) {
+}
@@ -0,0 +1,18 @@
+package com.renault.garage.domain.repository.projection;
+
+/**
+ * Code postal d'un garage : son ID et son code postal.
+ * 
+ * Sert au renseignement a posteriori des coordonnées des garages créés
+ * avant leur calcul à l'écriture.
+ * 
+ * Pattern utilisé: DTO Projection
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record GaragePostalCode(
+    long garageId,
+    String postalCode
+) {
+}
@@ -0,0 +1,33 @@
+package com.renault.garage.domain.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection en lecture seule d'un garage pour les listes paginées.
+ * 
+ * Construite directement par la requête (expression constructeur) : aucune
+ * entité n'est chargée, ni la collection des véhicules ni les horaires.
+ * Le nombre de véhicules provient du compteur stocké vehicle_count.
+ * 
+ * Pattern utilisé: DTO Projection
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record GarageSummary(
+    Long id,
+    String name,
+    String address,
+    String city,
+    String postalCode,
+    Double latitude,
+    Double longitude,
+    boolean locationApproximate,
+    String telephone,
+    String email,
+    int vehicleCount,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Long version
+) {
+}
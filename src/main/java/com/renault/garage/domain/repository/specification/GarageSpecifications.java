@@ -4,10 +4,15 @@ import com.renault.garage.domain.model.Garage;
 import com.renault.garage.domain.model.Vehicle;
 import com.renault.garage.domain.model.enums.AccessoryType;
 import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.infrastructure.persistence.TrigramFunctionContributor;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+
 /**
  * Spécifications JPA pour les requêtes dynamiques sur les garages.
  * 
@@ -22,42 +27,108 @@ import org.springframework.data.jpa.domain.Specification;
  */
 public class GarageSpecifications {
 
+    private static final char LIKE_ESCAPE = '\\';
+
     /**
      * Spécification pour rechercher les garages par nom.
      * 
+     * Servie par les index trigrammes sur lower(name) ; les résultats sont
+     * classés par similarité avec le terme recherché.
+     * 
      * @param name le nom du garage (recherche partielle, insensible à la casse)
      * @return la spécification
      */
     public static Specification<Garage> hasName(String name) {
+        return containsRanked("name", name);
+    }
+
+    /**
+     * Spécification pour rechercher les garages par ville dans l'adresse libre.
+     * 
+     * Servie par les index trigrammes sur lower(address) ; les résultats
+     * sont classés par similarité. Moins précise que {@link #isLocatedIn}
+     * ("Paris" trouve aussi "rue de Paris, Lyon") mais couvre les adresses
+     * dont la ville n'a pas pu être extraite.
+     * 
+     * @param city la ville (recherche dans l'adresse)
+     * @return la spécification
+     */
+    public static Specification<Garage> hasCity(String city) {
+        return containsRanked("address", city);
+    }
+
+    /**
+     * Spécification pour rechercher les garages par ville ou code postal
+     * structurés (colonnes city / postal_code renseignées à l'écriture).
+     * 
+     * Un terme numérique est comparé au code postal, tout autre terme à la
+     * ville, sans tenir compte de la casse. Servie par les index B-tree
+     * idx_garage_city et idx_garage_postal_code, en égalité comme en préfixe.
+     * 
+     * @param term la ville ou le code postal (ou leur début)
+     * @param prefix true pour une recherche par préfixe, false pour l'égalité
+     * @return la spécification
+     */
+    public static Specification<Garage> isLocatedIn(String term, boolean prefix) {
         return (root, query, criteriaBuilder) -> {
-            if (name == null || name.isBlank()) {
+            if (term == null || term.isBlank()) {
                 return criteriaBuilder.conjunction();
             }
-            return criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("name")),
-                "%" + name.toLowerCase() + "%"
-            );
+            String normalized = term.trim().toLowerCase();
+            Expression<String> value = normalized.chars().allMatch(Character::isDigit)
+                ? root.get("postalCode")
+                : criteriaBuilder.lower(root.get("city"));
+            return prefix
+                ? criteriaBuilder.like(value, escapeLike(normalized) + "%", LIKE_ESCAPE)
+                : criteriaBuilder.equal(value, normalized);
         };
     }
 
     /**
-     * Spécification pour rechercher les garages par ville.
+     * Recherche partielle insensible à la casse, classée par similarité.
      * 
-     * @param city la ville (recherche dans l'adresse)
-     * @return la spécification
+     * Le prédicat lower(attribut) LIKE '%terme%' correspond à l'expression des
+     * index trigrammes GIN (filtre et comptage). Le classement par distance
+     * pg_trgm (1 - word_similarity) est servi par parcours KNN de l'index
+     * GiST : pas de critère secondaire (un tri sur l'ID désactiverait le KNN
+     * et trierait toutes les correspondances). Il ne s'applique qu'aux
+     * requêtes sans tri explicite et est ignoré par les requêtes de comptage.
      */
-    public static Specification<Garage> hasCity(String city) {
+    private static Specification<Garage> containsRanked(String attribute, String term) {
         return (root, query, criteriaBuilder) -> {
-            if (city == null || city.isBlank()) {
+            if (term == null || term.isBlank()) {
                 return criteriaBuilder.conjunction();
             }
-            return criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("address")),
-                "%" + city.toLowerCase() + "%"
-            );
+            String normalized = term.trim().toLowerCase();
+            Expression<String> value = criteriaBuilder.lower(root.get(attribute));
+            if (query.getOrderList().isEmpty() && !Long.class.equals(query.getResultType())) {
+                // value() et non literal() : le terme est lié en paramètre, pas concaténé au SQL
+                Expression<String> searched = ((HibernateCriteriaBuilder) criteriaBuilder).value(normalized);
+                query.orderBy(criteriaBuilder.asc(criteriaBuilder.function(
+                    TrigramFunctionContributor.WORD_DISTANCE, Double.class, value, searched)));
+            }
+            return criteriaBuilder.like(value, "%" + escapeLike(normalized) + "%", LIKE_ESCAPE);
         };
     }
 
+    /**
+     * Échappe les caractères spéciaux de LIKE : %, _ et le caractère
+     * d'échappement {@code \}, qui est aussi celui de PostgreSQL par défaut.
+     * 
+     * @param term le terme recherché
+     * @return le terme, à encadrer de % selon la recherche
+     */
+    public static String escapeLike(String term) {
+        StringBuilder escaped = new StringBuilder(term.length());
+        for (char c : term.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
     /**
      * Spécification pour rechercher les garages ayant des véhicules d'un type de carburant donné.
      * 
@@ -106,11 +177,21 @@ public class GarageSpecifications {
     public static Specification<Garage> hasAvailableCapacity() {
         return (root, query, criteriaBuilder) -> 
             criteriaBuilder.lessThan(
-                criteriaBuilder.size(root.get("vehicles")),
+                root.<Integer>get("vehicleCount"),
                 Garage.MAX_VEHICLES_PER_GARAGE
             );
     }
 
+    /**
+     * Spécification pour restreindre la recherche à une liste d'IDs.
+     * 
+     * @param ids les IDs des garages
+     * @return la spécification
+     */
+    public static Specification<Garage> hasIdIn(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(ids);
+    }
+
     /**
      * Spécification pour rechercher les garages pleins.
      * 
@@ -119,7 +200,7 @@ public class GarageSpecifications {
     public static Specification<Garage> isFull() {
         return (root, query, criteriaBuilder) -> 
             criteriaBuilder.greaterThanOrEqualTo(
-                criteriaBuilder.size(root.get("vehicles")),
+                root.<Integer>get("vehicleCount"),
                 Garage.MAX_VEHICLES_PER_GARAGE
             );
     }
@@ -132,7 +213,7 @@ public class GarageSpecifications {
     public static Specification<Garage> hasVehicles() {
         return (root, query, criteriaBuilder) -> 
             criteriaBuilder.greaterThan(
-                criteriaBuilder.size(root.get("vehicles")),
+                root.<Integer>get("vehicleCount"),
                 0
             );
     }
@@ -145,7 +226,7 @@ public class GarageSpecifications {
     public static Specification<Garage> isEmpty() {
         return (root, query, criteriaBuilder) -> 
             criteriaBuilder.equal(
-                criteriaBuilder.size(root.get("vehicles")),
+                root.<Integer>get("vehicleCount"),
                 0
             );
     }
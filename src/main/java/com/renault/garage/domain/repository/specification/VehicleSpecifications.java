@@ -2,6 +2,9 @@ package com.renault.garage.domain.repository.specification;
 
 import com.renault.garage.domain.model.Vehicle;
 import com.renault.garage.domain.model.enums.FuelType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
 /**
@@ -81,6 +84,30 @@ public class VehicleSpecifications {
         };
     }
 
+    /**
+     * Spécification pour rechercher les véhicules par plage d'années de fabrication.
+     * 
+     * @param minYear l'année minimale (incluse), null si non bornée
+     * @param maxYear l'année maximale (incluse), null si non bornée
+     * @return la spécification
+     */
+    public static Specification<Vehicle> hasYearOfManufactureBetween(Integer minYear, Integer maxYear) {
+        return (root, query, criteriaBuilder) -> between(criteriaBuilder, root.get("yearOfManufacture"),
+            minYear, maxYear);
+    }
+
+    /**
+     * Spécification pour rechercher les véhicules par plage de kilométrage.
+     * 
+     * @param minMileage le kilométrage minimal (inclus), null si non borné
+     * @param maxMileage le kilométrage maximal (inclus), null si non borné
+     * @return la spécification
+     */
+    public static Specification<Vehicle> hasMileageBetween(Integer minMileage, Integer maxMileage) {
+        return (root, query, criteriaBuilder) -> between(criteriaBuilder, root.get("mileage"),
+            minMileage, maxMileage);
+    }
+
     /**
      * Spécification pour rechercher les véhicules par garage.
      * 
@@ -123,4 +150,18 @@ public class VehicleSpecifications {
             );
         };
     }
+
+    private static Predicate between(CriteriaBuilder criteriaBuilder, Expression<Integer> attribute,
+                                     Integer min, Integer max) {
+        if (min != null && max != null) {
+            return criteriaBuilder.between(attribute, min, max);
+        }
+        if (min != null) {
+            return criteriaBuilder.greaterThanOrEqualTo(attribute, min);
+        }
+        if (max != null) {
+            return criteriaBuilder.lessThanOrEqualTo(attribute, max);
+        }
+        return criteriaBuilder.conjunction();
+    }
 }
@@ -3,6 +3,7 @@ package com.renault.garage.domain.service;
 import com.renault.garage.application.dto.request.AccessoryRequest;
 import com.renault.garage.application.dto.response.AccessoryResponse;
 import com.renault.garage.domain.model.enums.AccessoryType;
+import com.renault.garage.domain.repository.projection.EntityRevision;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -37,6 +38,14 @@ public interface AccessoryService {
      */
     AccessoryResponse getAccessoryById(Long id);
 
+    /**
+     * Lit la révision courante d'un accessoire, sans le charger.
+     * 
+     * @param id l'ID de l'accessoire
+     * @return la révision
+     */
+    EntityRevision getAccessoryRevision(Long id);
+
     /**
      * Récupère tous les accessoires d'un véhicule.
      * 
@@ -50,16 +59,18 @@ public interface AccessoryService {
      * 
      * @param id l'ID de l'accessoire
      * @param request les nouvelles données
+     * @param expectedRevision la révision attendue (If-Match), null si inconditionnelle
      * @return l'accessoire mis à jour
      */
-    AccessoryResponse updateAccessory(Long id, AccessoryRequest request);
+    AccessoryResponse updateAccessory(Long id, AccessoryRequest request, EntityRevision expectedRevision);
 
     /**
      * Supprime un accessoire.
      * 
      * @param id l'ID de l'accessoire à supprimer
+     * @param expectedRevision la révision attendue (If-Match), null si inconditionnelle
      */
-    void deleteAccessory(Long id);
+    void deleteAccessory(Long id, EntityRevision expectedRevision);
 
     /**
      * Recherche des accessoires par type.
@@ -1,11 +1,21 @@
 package com.renault.garage.domain.service;
 
 import com.renault.garage.application.dto.request.GarageRequest;
+import com.renault.garage.application.dto.request.NearestGarageRequest;
+import com.renault.garage.application.dto.response.CursorPage;
 import com.renault.garage.application.dto.response.GarageResponse;
+import com.renault.garage.application.dto.response.PagedResponse;
 import com.renault.garage.domain.model.enums.AccessoryType;
+import com.renault.garage.domain.model.enums.CitySearchMode;
+import com.renault.garage.domain.model.enums.CountStrategy;
 import com.renault.garage.domain.model.enums.FuelType;
-import org.springframework.data.domain.Page;
+import com.renault.garage.domain.repository.projection.EntityRevision;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
 
 /**
  * Interface du service de gestion des garages.
@@ -34,71 +44,120 @@ public interface GarageService {
      */
     GarageResponse getGarageById(Long id);
 
+    /**
+     * Lit la révision courante d'un garage, sans le charger.
+     * 
+     * @param id l'ID du garage
+     * @return la révision (version et nombre de véhicules)
+     */
+    EntityRevision getGarageRevision(Long id);
+
     /**
      * Récupère tous les garages (paginé).
      * 
      * @param pageable les informations de pagination
+     * @param countStrategy le calcul du total (EXACT, CACHED, APPROXIMATE, NONE)
      * @return la page de garages
      */
-    Page<GarageResponse> getAllGarages(Pageable pageable);
+    PagedResponse<GarageResponse> getAllGarages(Pageable pageable, CountStrategy countStrategy);
+
+    /**
+     * Récupère les garages page par page à l'aide d'un curseur, sans OFFSET
+     * ni count : le coût d'une page ne dépend pas de sa profondeur.
+     * 
+     * @param cursor le curseur de la page précédente, vide pour la première
+     * @param sort le tri (name ou id, puis id)
+     * @param size la taille de page
+     * @return la page et le curseur de la suivante
+     */
+    CursorPage<GarageResponse> scrollAllGarages(String cursor, Sort sort, int size);
 
     /**
      * Met à jour un garage existant.
      * 
      * @param id l'ID du garage
      * @param request les nouvelles données
+     * @param expectedRevision la révision attendue (If-Match), null si inconditionnelle
      * @return le garage mis à jour
      */
-    GarageResponse updateGarage(Long id, GarageRequest request);
+    GarageResponse updateGarage(Long id, GarageRequest request, EntityRevision expectedRevision);
 
     /**
      * Supprime un garage.
      * 
      * @param id l'ID du garage à supprimer
+     * @param expectedRevision la révision attendue (If-Match), null si inconditionnelle
      */
-    void deleteGarage(Long id);
+    void deleteGarage(Long id, EntityRevision expectedRevision);
 
     /**
      * Recherche des garages par nom.
      * 
      * @param name le nom du garage
      * @param pageable les informations de pagination
+     * @param countStrategy le calcul du total (EXACT, CACHED, APPROXIMATE, NONE)
      * @return la page de garages correspondants
      */
-    Page<GarageResponse> searchGaragesByName(String name, Pageable pageable);
+    PagedResponse<GarageResponse> searchGaragesByName(String name, Pageable pageable, CountStrategy countStrategy);
 
     /**
-     * Recherche des garages par ville.
+     * Recherche des garages par ville ou code postal.
      * 
-     * @param city la ville
+     * @param city la ville ou le code postal
+     * @param mode égalité, préfixe, ou sous-chaîne de l'adresse libre
      * @param pageable les informations de pagination
+     * @param countStrategy le calcul du total (EXACT, CACHED, APPROXIMATE, NONE)
      * @return la page de garages correspondants
      */
-    Page<GarageResponse> searchGaragesByCity(String city, Pageable pageable);
+    PagedResponse<GarageResponse> searchGaragesByCity(String city, CitySearchMode mode, Pageable pageable, CountStrategy countStrategy);
 
     /**
      * Recherche des garages ayant des véhicules d'un type de carburant donné.
      * 
      * @param fuelType le type de carburant
      * @param pageable les informations de pagination
+     * @param countStrategy le calcul du total (EXACT, CACHED, APPROXIMATE, NONE)
      * @return la page de garages correspondants
      */
-    Page<GarageResponse> searchGaragesByFuelType(FuelType fuelType, Pageable pageable);
+    PagedResponse<GarageResponse> searchGaragesByFuelType(FuelType fuelType, Pageable pageable, CountStrategy countStrategy);
 
     /**
      * Recherche des garages ayant au moins un véhicule avec un accessoire d'un type donné.
      * 
      * @param accessoryType le type d'accessoire
      * @param pageable les informations de pagination
+     * @param countStrategy le calcul du total (EXACT, CACHED, APPROXIMATE, NONE)
      * @return la page de garages correspondants
      */
-    Page<GarageResponse> searchGaragesByAccessoryType(AccessoryType accessoryType, Pageable pageable);
+    PagedResponse<GarageResponse> searchGaragesByAccessoryType(AccessoryType accessoryType, Pageable pageable, CountStrategy countStrategy);
 
     /**
      * Récupère les garages ayant de la capacité disponible.
      * 
      * @param pageable les informations de pagination
+     * @param countStrategy le calcul du total, appliqué si la liste est lue en base
+     *                      (tri explicite ou index de capacité en construction)
      * @return la page de garages avec capacité
      */
-    Page<GarageResponse> getGaragesWithAvailableCapacity(Pageable pageable);
+    PagedResponse<GarageResponse> getGaragesWithAvailableCapacity(Pageable pageable, CountStrategy countStrategy);
+
+    /**
+     * Recherche les garages les plus proches d'un point, avec leur distance.
+     * 
+     * @param request le point, le nombre de garages et les filtres
+     * @return les garages, du plus proche au plus éloigné
+     */
+    List<GarageResponse> findNearestGarages(NearestGarageRequest request);
+
+    /**
+     * Récupère les garages ouverts au moins une minute d'une plage : le jour
+     * day entre from et to, ou maintenant si aucun jour n'est donné.
+     * 
+     * @param day le jour de la semaine (null : maintenant)
+     * @param from le début de la plage (null : 00:00)
+     * @param to la fin de la plage, exclue (null : fin de journée)
+     * @param pageable les informations de pagination (tri ignoré : ID croissant)
+     * @return la page de garages ouverts
+     */
+    PagedResponse<GarageResponse> findOpenGarages(DayOfWeek day, LocalTime from, LocalTime to, Pageable pageable);
 }
@@ -1,10 +1,17 @@
 package com.renault.garage.domain.service;
 
+import com.renault.garage.application.dto.request.VehicleBatchRequest;
 import com.renault.garage.application.dto.request.VehicleRequest;
+import com.renault.garage.application.dto.request.VehicleSearchRequest;
+import com.renault.garage.application.dto.response.CursorPage;
+import com.renault.garage.application.dto.response.PagedResponse;
+import com.renault.garage.application.dto.response.VehicleBatchResponse;
 import com.renault.garage.application.dto.response.VehicleResponse;
+import com.renault.garage.domain.model.enums.CountStrategy;
 import com.renault.garage.domain.model.enums.FuelType;
-import org.springframework.data.domain.Page;
+import com.renault.garage.domain.repository.projection.EntityRevision;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -28,6 +35,15 @@ public interface VehicleService {
      */
     VehicleResponse addVehicleToGarage(Long garageId, VehicleRequest request);
 
+    /**
+     * Ajoute un lot de véhicules à un garage en une seule réservation de quota.
+     * 
+     * @param garageId l'ID du garage
+     * @param request le lot de véhicules
+     * @return le résultat par véhicule
+     */
+    VehicleBatchResponse addVehiclesToGarage(Long garageId, VehicleBatchRequest request);
+
     /**
      * Récupère un véhicule par son ID.
      * 
@@ -36,30 +52,52 @@ public interface VehicleService {
      */
     VehicleResponse getVehicleById(Long id);
 
+    /**
+     * Lit la révision courante d'un véhicule, sans le charger.
+     * 
+     * @param id l'ID du véhicule
+     * @return la révision (version et nombre d'accessoires)
+     */
+    EntityRevision getVehicleRevision(Long id);
+
     /**
      * Récupère tous les véhicules d'un garage.
      * 
      * @param garageId l'ID du garage
      * @param pageable les informations de pagination
+     * @param countStrategy le calcul du total (EXACT, CACHED, APPROXIMATE, NONE)
      * @return la page de véhicules
      */
-    Page<VehicleResponse> getVehiclesByGarage(Long garageId, Pageable pageable);
+    PagedResponse<VehicleResponse> getVehiclesByGarage(Long garageId, Pageable pageable, CountStrategy countStrategy);
+
+    /**
+     * Récupère les véhicules d'un garage page par page à l'aide d'un curseur.
+     * 
+     * @param garageId l'ID du garage
+     * @param cursor le curseur de la page précédente, vide pour la première
+     * @param sort le tri (brand ou id, puis id)
+     * @param size la taille de page
+     * @return la page et le curseur de la suivante
+     */
+    CursorPage<VehicleResponse> scrollVehiclesByGarage(Long garageId, String cursor, Sort sort, int size);
 
     /**
      * Met à jour un véhicule existant.
      * 
      * @param id l'ID du véhicule
      * @param request les nouvelles données
+     * @param expectedRevision la révision attendue (If-Match), null si inconditionnelle
      * @return le véhicule mis à jour
      */
-    VehicleResponse updateVehicle(Long id, VehicleRequest request);
+    VehicleResponse updateVehicle(Long id, VehicleRequest request, EntityRevision expectedRevision);
 
     /**
      * Supprime un véhicule.
      * 
      * @param id l'ID du véhicule à supprimer
+     * @param expectedRevision la révision attendue (If-Match), null si inconditionnelle
      */
-    void deleteVehicle(Long id);
+    void deleteVehicle(Long id, EntityRevision expectedRevision);
 
     /**
      * Recherche tous les véhicules d'un modèle donné.
@@ -69,20 +107,54 @@ public interface VehicleService {
      */
     List<VehicleResponse> findVehiclesByModel(String model);
 
+    /**
+     * Recherche des véhicules selon une combinaison de critères.
+     * 
+     * @param criteria les critères (tous facultatifs, combinés par ET)
+     * @param pageable les informations de pagination
+     * @param countStrategy le calcul du total (EXACT, CACHED, NONE ; APPROXIMATE est calculé comme EXACT)
+     * @return la page de véhicules
+     */
+    PagedResponse<VehicleResponse> searchVehicles(VehicleSearchRequest criteria, Pageable pageable,
+                                                  CountStrategy countStrategy);
+
     /**
      * Recherche des véhicules par type de carburant.
      * 
      * @param fuelType le type de carburant
      * @param pageable les informations de pagination
+     * @param countStrategy le calcul du total (EXACT, CACHED, APPROXIMATE, NONE)
      * @return la page de véhicules
      */
-    Page<VehicleResponse> findVehiclesByFuelType(FuelType fuelType, Pageable pageable);
+    PagedResponse<VehicleResponse> findVehiclesByFuelType(FuelType fuelType, Pageable pageable, CountStrategy countStrategy);
+
+    /**
+     * Recherche des véhicules par type de carburant, page par page à l'aide d'un curseur.
+     * 
+     * @param fuelType le type de carburant
+     * @param cursor le curseur de la page précédente, vide pour la première
+     * @param sort le tri (id)
+     * @param size la taille de page
+     * @return la page et le curseur de la suivante
+     */
+    CursorPage<VehicleResponse> scrollVehiclesByFuelType(FuelType fuelType, String cursor, Sort sort, int size);
 
     /**
      * Récupère les véhicules écologiques.
      * 
      * @param pageable les informations de pagination
+     * @param countStrategy le calcul du total (EXACT, CACHED, APPROXIMATE, NONE)
      * @return la page de véhicules écologiques
      */
-    Page<VehicleResponse> getEcoFriendlyVehicles(Pageable pageable);
+    PagedResponse<VehicleResponse> getEcoFriendlyVehicles(Pageable pageable, CountStrategy countStrategy);
+
+    /**
+     * Récupère les véhicules écologiques page par page à l'aide d'un curseur.
+     * 
+     * @param cursor le curseur de la page précédente, vide pour la première
+     * @param sort le tri (id)
+     * @param size la taille de page
+     * @return la page et le curseur de la suivante
+     */
+    CursorPage<VehicleResponse> scrollEcoFriendlyVehicles(String cursor, Sort sort, int size);
 }
@@ -10,7 +10,9 @@ import com.renault.garage.domain.model.Vehicle;
 import com.renault.garage.domain.model.enums.AccessoryType;
 import com.renault.garage.domain.repository.AccessoryRepository;
 import com.renault.garage.domain.repository.VehicleRepository;
+import com.renault.garage.domain.repository.projection.EntityRevision;
 import com.renault.garage.domain.service.AccessoryService;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Implémentation du service de gestion des accessoires.
@@ -36,9 +39,12 @@ import java.util.List;
 @Transactional
 public class AccessoryServiceImpl implements AccessoryService {
 
+    private static final String ACCESSORY = "Accessoire";
+
     private final AccessoryRepository accessoryRepository;
     private final VehicleRepository vehicleRepository;
     private final AccessoryMapper accessoryMapper;
+    private final ResponseCaches responseCaches;
 
     @Override
     public AccessoryResponse addAccessoryToVehicle(Long vehicleId, AccessoryRequest request) {
@@ -51,6 +57,9 @@ public class AccessoryServiceImpl implements AccessoryService {
         vehicle.addAccessory(accessory);
         
         Accessory savedAccessory = accessoryRepository.save(accessory);
+        vehicleRepository.adjustAccessoryTotals(vehicleId, 1, savedAccessory.getPrice());
+        // Le nombre d'accessoires et leur total font partie de la réponse véhicule
+        responseCaches.evictVehicle(vehicleId);
         
         log.info("Accessory added successfully with ID: {}", savedAccessory.getId());
         return accessoryMapper.toResponse(savedAccessory);
@@ -67,6 +76,13 @@ public class AccessoryServiceImpl implements AccessoryService {
         return accessoryMapper.toResponse(accessory);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public EntityRevision getAccessoryRevision(Long id) {
+        return accessoryRepository.findRevisionById(id)
+            .orElseThrow(() -> new AccessoryNotFoundException(id));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<AccessoryResponse> getAccessoriesByVehicle(Long vehicleId) {
@@ -81,29 +97,44 @@ public class AccessoryServiceImpl implements AccessoryService {
     }
 
     @Override
-    public AccessoryResponse updateAccessory(Long id, AccessoryRequest request) {
+    public AccessoryResponse updateAccessory(Long id, AccessoryRequest request, EntityRevision expectedRevision) {
         log.info("Updating accessory with ID: {}", id);
         
         Accessory accessory = accessoryRepository.findById(id)
             .orElseThrow(() -> new AccessoryNotFoundException(id));
+        RevisionChecks.check(ACCESSORY, id, expectedRevision, revisionOf(accessory));
         
+        BigDecimal previousPrice = accessory.getPrice();
         accessoryMapper.updateEntityFromRequest(request, accessory);
         Accessory updatedAccessory = accessoryRepository.save(accessory);
+        RevisionChecks.flush(accessoryRepository, ACCESSORY, id, expectedRevision);
+        
+        BigDecimal priceDelta = updatedAccessory.getPrice().subtract(previousPrice);
+        if (priceDelta.signum() != 0) {
+            Long vehicleId = updatedAccessory.getVehicle().getId();
+            vehicleRepository.adjustAccessoryTotals(vehicleId, 0, priceDelta);
+            responseCaches.evictVehicle(vehicleId);
+        }
         
         log.info("Accessory updated successfully: {}", id);
         return accessoryMapper.toResponse(updatedAccessory);
     }
 
     @Override
-    public void deleteAccessory(Long id) {
+    public void deleteAccessory(Long id, EntityRevision expectedRevision) {
         log.info("Deleting accessory with ID: {}", id);
         
         Accessory accessory = accessoryRepository.findById(id)
             .orElseThrow(() -> new AccessoryNotFoundException(id));
+        RevisionChecks.check(ACCESSORY, id, expectedRevision, revisionOf(accessory));
         
-        accessory.getVehicle().removeAccessory(accessory);
+        Vehicle vehicle = accessory.getVehicle();
+        vehicle.removeAccessory(accessory);
         
         accessoryRepository.delete(accessory);
+        RevisionChecks.flush(accessoryRepository, ACCESSORY, id, expectedRevision);
+        vehicleRepository.adjustAccessoryTotals(vehicle.getId(), -1, accessory.getPrice().negate());
+        responseCaches.evictVehicle(vehicle.getId());
         log.info("Accessory deleted successfully: {}", id);
     }
 
@@ -119,12 +150,13 @@ public class AccessoryServiceImpl implements AccessoryService {
     @Override
     @Transactional(readOnly = true)
     public BigDecimal calculateTotalPriceByVehicle(Long vehicleId) {
-        log.debug("Calculating total accessory price for vehicle ID: {}", vehicleId);
+        log.debug("Reading total accessory price for vehicle ID: {}", vehicleId);
         
-        if (!vehicleRepository.existsById(vehicleId)) {
-            throw new VehicleNotFoundException(vehicleId);
-        }
-        
-        return accessoryRepository.calculateTotalPriceByVehicle(vehicleId);
+        return vehicleRepository.findAccessoriesTotalById(vehicleId)
+            .orElseThrow(() -> new VehicleNotFoundException(vehicleId));
+    }
+
+    private static EntityRevision revisionOf(Accessory accessory) {
+        return new EntityRevision(Objects.requireNonNullElse(accessory.getVersion(), 0L), 0);
     }
 }
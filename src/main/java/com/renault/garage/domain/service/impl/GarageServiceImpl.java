@@ -1,26 +1,57 @@
 package com.renault.garage.domain.service.impl;
 
 import com.renault.garage.application.dto.request.GarageRequest;
+import com.renault.garage.application.dto.request.NearestGarageRequest;
+import com.renault.garage.application.dto.response.CursorPage;
 import com.renault.garage.application.dto.response.GarageResponse;
+import com.renault.garage.application.dto.response.PagedResponse;
 import com.renault.garage.application.dto.response.VehicleResponse;
 import com.renault.garage.application.mapper.GarageMapper;
 import com.renault.garage.application.mapper.VehicleMapper;
 import com.renault.garage.domain.exception.GarageNotFoundException;
 import com.renault.garage.domain.model.Garage;
 import com.renault.garage.domain.model.enums.AccessoryType;
+import com.renault.garage.domain.model.enums.CitySearchMode;
+import com.renault.garage.domain.model.enums.CountStrategy;
 import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.model.valueobject.GeoPoint;
+import com.renault.garage.domain.model.valueobject.OpeningWindow;
+import com.renault.garage.domain.model.valueobject.PostalAddress;
 import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.GarageSummaryRepository;
+import com.renault.garage.domain.repository.VehicleRepository;
+import com.renault.garage.domain.repository.keyset.KeysetPage;
+import com.renault.garage.domain.repository.keyset.KeysetPageRequest;
+import com.renault.garage.domain.repository.projection.EntityRevision;
+import com.renault.garage.domain.repository.projection.GarageSummary;
 import com.renault.garage.domain.repository.specification.GarageSpecifications;
 import com.renault.garage.domain.service.GarageService;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import com.renault.garage.infrastructure.capacity.GarageCapacityIndex;
+import com.renault.garage.infrastructure.count.CountedSlice;
+import com.renault.garage.infrastructure.count.PageCounter;
+import com.renault.garage.infrastructure.geo.GarageDistance;
+import com.renault.garage.infrastructure.geo.GarageGeoIndex;
+import com.renault.garage.infrastructure.geo.PostalCodeLocations;
+import com.renault.garage.infrastructure.schedule.GarageScheduleIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -38,9 +69,18 @@ import java.util.stream.Collectors;
 @Transactional
 public class GarageServiceImpl implements GarageService {
 
+    private static final String GARAGE = "Garage";
+
     private final GarageRepository garageRepository;
+    private final VehicleRepository vehicleRepository;
     private final GarageMapper garageMapper;
     private final VehicleMapper vehicleMapper; // Injection du VehicleMapper
+    private final ResponseCaches responseCaches;
+    private final GarageCapacityIndex garageCapacityIndex;
+    private final GarageGeoIndex garageGeoIndex;
+    private final GarageScheduleIndex garageScheduleIndex;
+    private final PageCounter pageCounter;
+
     @Override
     public GarageResponse createGarage(GarageRequest request) {
         log.info("Creating new garage: {}", request.getName());
@@ -51,7 +91,11 @@ public class GarageServiceImpl implements GarageService {
         }
         
         Garage garage = garageMapper.toEntity(request);
+        locate(garage, request, true);
         Garage savedGarage = garageRepository.save(garage);
+        garageCapacityIndex.garageAdded(savedGarage.getId(), savedGarage.getVehicleCount());
+        garageGeoIndex.garageSaved(savedGarage);
+        garageScheduleIndex.garageSaved(savedGarage);
         
         log.info("Garage created successfully with ID: {}", savedGarage.getId());
         return garageMapper.toResponse(savedGarage);
@@ -59,6 +103,7 @@ public class GarageServiceImpl implements GarageService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = ResponseCaches.GARAGES, key = "#id", sync = true)
     public GarageResponse getGarageById(Long id) {
         log.debug("Fetching garage with ID: {}", id);
         
@@ -70,19 +115,41 @@ public class GarageServiceImpl implements GarageService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<GarageResponse> getAllGarages(Pageable pageable) {
-        log.debug("Fetching all garages with pagination: {}", pageable);
+    public EntityRevision getGarageRevision(Long id) {
+        return garageRepository.findRevisionById(id)
+            .orElseThrow(() -> new GarageNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<GarageResponse> getAllGarages(Pageable pageable, CountStrategy countStrategy) {
+        log.debug("Fetching all garages with pagination: {} (count: {})", pageable, countStrategy);
         
-        Page<Garage> garages = garageRepository.findAll(pageable);
-        return garages.map(garageMapper::toResponse);
+        return findGarageSummaries(null, pageable, countStrategy, "garages",
+                garageRepository::estimateGarages);
     }
 
     @Override
-    public GarageResponse updateGarage(Long id, GarageRequest request) {
+    @Transactional(readOnly = true)
+    public CursorPage<GarageResponse> scrollAllGarages(String cursor, Sort sort, int size) {
+        log.debug("Scrolling garages from cursor: {}", cursor);
+        
+        KeysetPageRequest request = KeysetPageRequest.of(cursor, sort, size, "name", GarageSummaryRepository.SCROLL_SORTS);
+        KeysetPage<GarageSummary> summaries = garageRepository.scrollSummaries(null, request);
+        Map<Long, Map<DayOfWeek, String>> openingHours = garageRepository.findOpeningHoursByGarageIds(
+                summaries.content().stream().map(GarageSummary::id).toList());
+        
+        return CursorPage.of(summaries.map(summary ->
+                garageMapper.toResponse(summary, openingHours.getOrDefault(summary.id(), Map.of()))));
+    }
+
+    @Override
+    public GarageResponse updateGarage(Long id, GarageRequest request, EntityRevision expectedRevision) {
         log.info("Updating garage with ID: {}", id);
         
         Garage garage = garageRepository.findById(id)
             .orElseThrow(() -> new GarageNotFoundException(id));
+        RevisionChecks.check(GARAGE, id, expectedRevision, revisionOf(garage));
         
         // Vérifier si le nouvel email existe déjà (sauf pour ce garage)
         if (!garage.getEmail().equals(request.getEmail()) && 
@@ -90,95 +157,281 @@ public class GarageServiceImpl implements GarageService {
             throw new IllegalArgumentException("Un garage avec cet email existe déjà");
         }
         
+        boolean renamed = request.getName() != null && !request.getName().equals(garage.getName());
+        boolean moved = request.getAddress() != null && !request.getAddress().equals(garage.getAddress());
         garageMapper.updateEntityFromRequest(request, garage);
+        locate(garage, request, moved);
         Garage updatedGarage = garageRepository.save(garage);
+        RevisionChecks.flush(garageRepository, GARAGE, id, expectedRevision);
+        garageGeoIndex.garageSaved(updatedGarage);
+        garageScheduleIndex.garageSaved(updatedGarage);
+        
+        responseCaches.evictGarage(id);
+        if (renamed) {
+            // Les réponses véhicules embarquent le nom du garage
+            vehicleRepository.incrementVersionByGarageId(id);
+            responseCaches.evictAllVehicles();
+        }
         
         log.info("Garage updated successfully: {}", id);
         return garageMapper.toResponse(updatedGarage);
     }
 
+    /**
+     * Place le garage aux coordonnées de la requête ou, à défaut, au centre
+     * approximatif de son code postal. Sans coordonnées ni changement
+     * d'adresse, une position déjà connue est conservée.
+     */
+    private static void locate(Garage garage, GarageRequest request, boolean addressChanged) {
+        if (request.getLatitude() != null && request.getLongitude() != null) {
+            garage.locateAt(new GeoPoint(request.getLatitude(), request.getLongitude()), false);
+        } else if (addressChanged || garage.getLocation() == null) {
+            garage.locateAt(PostalAddress.parse(garage.getAddress())
+                .flatMap(postalAddress -> PostalCodeLocations.locate(postalAddress.postalCode()))
+                .orElse(null), true);
+        }
+    }
+
     @Override
-    public void deleteGarage(Long id) {
+    public void deleteGarage(Long id, EntityRevision expectedRevision) {
         log.info("Deleting garage with ID: {}", id);
         
-        if (!garageRepository.existsById(id)) {
-            throw new GarageNotFoundException(id);
+        if (expectedRevision == null) {
+            if (!garageRepository.existsById(id)) {
+                throw new GarageNotFoundException(id);
+            }
+            garageRepository.deleteById(id);
+        } else {
+            Garage garage = garageRepository.findById(id)
+                .orElseThrow(() -> new GarageNotFoundException(id));
+            RevisionChecks.check(GARAGE, id, expectedRevision, revisionOf(garage));
+            garageRepository.delete(garage);
+            RevisionChecks.flush(garageRepository, GARAGE, id, expectedRevision);
         }
+        garageCapacityIndex.garageRemoved(id);
+        garageGeoIndex.garageRemoved(id);
+        garageScheduleIndex.garageRemoved(id);
         
-        garageRepository.deleteById(id);
+        // Les véhicules du garage sont supprimés en cascade
+        responseCaches.evictGarage(id);
+        responseCaches.evictAllVehicles();
         log.info("Garage deleted successfully: {}", id);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<GarageResponse> searchGaragesByName(String name, Pageable pageable) {
+    public PagedResponse<GarageResponse> searchGaragesByName(String name, Pageable pageable,
+                                                             CountStrategy countStrategy) {
         log.debug("Searching garages by name: {}", name);
         
-        Specification<Garage> spec = GarageSpecifications.hasName(name);
-        Page<Garage> garages = garageRepository.findAll(spec, pageable);
-        
-        return garages.map(garageMapper::toResponse);
+        return findGarageSummaries(GarageSpecifications.hasName(name), pageable, countStrategy,
+                "garages:name:" + name, () -> garageRepository.estimateContaining("name", name));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<GarageResponse> searchGaragesByCity(String city, Pageable pageable) {
-        log.debug("Searching garages by city: {}", city);
-        
-        Specification<Garage> spec = GarageSpecifications.hasCity(city);
-        Page<Garage> garages = garageRepository.findAll(spec, pageable);
+    public PagedResponse<GarageResponse> searchGaragesByCity(String city, CitySearchMode mode, Pageable pageable,
+                                                             CountStrategy countStrategy) {
+        log.debug("Searching garages by city: {} ({})", city, mode);
         
-        return garages.map(garageMapper::toResponse);
+        Specification<Garage> spec = switch (mode) {
+            case EXACT -> GarageSpecifications.isLocatedIn(city, false);
+            case PREFIX -> GarageSpecifications.isLocatedIn(city, true);
+            case ADDRESS -> GarageSpecifications.hasCity(city);
+        };
+        LongSupplier estimate = switch (mode) {
+            case EXACT -> () -> garageRepository.estimateLocatedIn(city, false);
+            case PREFIX -> () -> garageRepository.estimateLocatedIn(city, true);
+            case ADDRESS -> () -> garageRepository.estimateContaining("address", city);
+        };
+        return findGarageSummaries(spec, pageable, countStrategy, "garages:city:" + mode + ":" + city, estimate);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<GarageResponse> searchGaragesByFuelType(FuelType fuelType, Pageable pageable) {
-        log.debug("Searching garages by fuel type: {}", fuelType);
-        
-        Specification<Garage> spec = GarageSpecifications.hasVehicleWithFuelType(fuelType);
-        Page<Garage> garages = garageRepository.findAll(spec, pageable);
+    public PagedResponse<GarageResponse> searchGaragesByFuelType(FuelType fuelType, Pageable pageable,
+                                                                 CountStrategy countStrategy) {
+        log.debug("Searching garages by fuel type: {} (count: {})", fuelType, countStrategy);
         
-        return garages.map(garageMapper::toResponse);
+        return findGarageSummaries(GarageSpecifications.hasVehicleWithFuelType(fuelType), pageable, countStrategy,
+                "garages:fuel-type:" + fuelType, () -> garageRepository.estimateWithVehicleFuelType(fuelType));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<GarageResponse> searchGaragesByAccessoryType(AccessoryType accessoryType, Pageable pageable) {
-        log.debug("Searching garages by accessory type: {}", accessoryType);
+    public PagedResponse<GarageResponse> searchGaragesByAccessoryType(AccessoryType accessoryType, Pageable pageable,
+                                                                      CountStrategy countStrategy) {
+        log.debug("Searching garages by accessory type: {} (count: {})", accessoryType, countStrategy);
 
-        // 1. Récupérer les garages qui correspondent au critère (via la spécification existante)
-        Specification<Garage> spec = GarageSpecifications.hasVehicleWithAccessoryType(accessoryType);
-        Page<Garage> garages = garageRepository.findAll(spec, pageable);
-
-        // 2. Mapper en réponse et peupler les véhicules filtrés
-        return garages.map(garage -> {
-            GarageResponse response = garageMapper.toResponse(garage);
+        // Nombre de requêtes constant quelle que soit la taille de page :
+        // page d'IDs (+ count selon la stratégie), garages avec horaires, véhicules avec accessoires.
+        CountedSlice<Long> garageIds = pageCounter.complete(
+                garageRepository.findIdsWithVehicleAccessoryType(accessoryType, pageable), countStrategy,
+                "garages:accessory-type:" + accessoryType,
+                () -> garageRepository.countWithVehicleAccessoryType(accessoryType),
+                () -> garageRepository.estimateWithVehicleAccessoryType(accessoryType));
+        List<Long> ids = garageIds.slice().getContent();
+        if (ids.isEmpty()) {
+            return PagedResponse.of(garageIds.<GarageResponse>map(id -> null));
+        }
 
-            // Filtrer la liste des véhicules du garage pour ne garder que ceux ayant l'accessoire
-            List<VehicleResponse> matchingVehicles = garage.getVehicles().stream()
-                    .filter(vehicle -> vehicle.getAccessories().stream()
-                            .anyMatch(accessory -> accessory.getType() == accessoryType))
-                    .map(vehicleMapper::toResponse)
-                    .collect(Collectors.toList());
+        Map<Long, Garage> garagesById = garageRepository.findAllWithOpeningHoursByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Garage::getId, Function.identity()));
 
-            // Ajouter la liste filtrée à la réponse
-            response.setVehicles(matchingVehicles);
+        // Les garages sont déjà dans le contexte de persistance : v.getGarage() ne déclenche aucun chargement
+        Map<Long, List<VehicleResponse>> vehiclesByGarage = vehicleRepository
+                .findByGarageIdInWithAccessoryType(ids, accessoryType)
+                .stream()
+                .collect(Collectors.groupingBy(vehicle -> vehicle.getGarage().getId(),
+                        Collectors.mapping(vehicleMapper::toResponse, Collectors.toList())));
 
+        return PagedResponse.of(garageIds.map(id -> {
+            GarageResponse response = garageMapper.toResponse(garagesById.get(id));
+            response.setVehicles(vehiclesByGarage.getOrDefault(id, List.of()));
             return response;
-        });
+        }));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<GarageResponse> getGaragesWithAvailableCapacity(Pageable pageable) {
+    public PagedResponse<GarageResponse> getGaragesWithAvailableCapacity(Pageable pageable,
+                                                                         CountStrategy countStrategy) {
         log.debug("Fetching garages with available capacity");
         
-        Page<Garage> garages = garageRepository.findGaragesWithAvailableCapacity(
-            Garage.MAX_VEHICLES_PER_GARAGE, 
-            pageable
-        );
+        // L'index ne sait ordonner que par places libres : tri explicite => base (sans estimation : EXACT)
+        if (pageable.getSort().isSorted() || !garageCapacityIndex.isReady()) {
+            return findGarageSummaries(GarageSpecifications.hasAvailableCapacity(), pageable, countStrategy,
+                    "garages:available-capacity", null);
+        }
+        
+        long total = garageCapacityIndex.countWithFreeSlots(1);
+        List<Long> ids = pageable.isPaged()
+            ? garageCapacityIndex.findWithFreeSlots(1, pageable.getOffset(), pageable.getPageSize())
+            : garageCapacityIndex.findWithFreeSlots(1, 0, Math.toIntExact(total));
+        if (ids.isEmpty()) {
+            return PagedResponse.of(new PageImpl<>(List.<GarageResponse>of(), pageable, total));
+        }
+        
+        // Une requête pour les garages de la page, une pour leurs horaires, aucun count
+        Map<Long, GarageSummary> summariesById = findSummariesById(ids);
+        Map<Long, Map<DayOfWeek, String>> openingHours = garageRepository.findOpeningHoursByGarageIds(ids);
         
-        return garages.map(garageMapper::toResponse);
+        List<GarageResponse> content = ids.stream()
+            .map(summariesById::get)
+            .filter(Objects::nonNull)
+            .map(summary -> garageMapper.toResponse(summary, openingHours.getOrDefault(summary.id(), Map.of())))
+            .toList();
+        // Total lu dans l'index, sans requête : exact quelle que soit la stratégie demandée
+        return PagedResponse.of(new PageImpl<>(content, pageable, total));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GarageResponse> findNearestGarages(NearestGarageRequest request) {
+        log.debug("Searching garages nearest to {}, {}", request.getLatitude(), request.getLongitude());
+        
+        List<GarageDistance> nearest = garageGeoIndex.findNearest(request.getLatitude(), request.getLongitude(),
+                request.getLimit(), request.isAvailableOnly(), request.getFuelType(),
+                request.isOpenNow() ? garageScheduleIndex.now()
+                    : openingWindow(request.getOpenDay(), request.getOpenFrom(), request.getOpenTo()));
+        if (nearest.isEmpty()) {
+            return List.of();
+        }
+        
+        // Une requête pour les garages trouvés, une pour leurs horaires
+        List<Long> ids = nearest.stream().map(GarageDistance::garageId).toList();
+        Map<Long, GarageSummary> summariesById = findSummariesById(ids);
+        Map<Long, Map<DayOfWeek, String>> openingHours = garageRepository.findOpeningHoursByGarageIds(ids);
+        
+        return nearest.stream()
+            .filter(distance -> summariesById.containsKey(distance.garageId()))
+            .map(distance -> {
+                GarageSummary summary = summariesById.get(distance.garageId());
+                GarageResponse response = garageMapper.toResponse(summary,
+                        openingHours.getOrDefault(summary.id(), Map.of()));
+                // Distance arrondie au mètre
+                response.setDistanceKm(Math.round(distance.distanceKm() * 1000) / 1000.0);
+                return response;
+            })
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<GarageResponse> findOpenGarages(DayOfWeek day, LocalTime from, LocalTime to,
+                                                         Pageable pageable) {
+        OpeningWindow window = openingWindow(day, from, to);
+        if (window == null) {
+            window = garageScheduleIndex.now();
+        }
+        log.debug("Fetching garages open during {}", window);
+        
+        long total = garageScheduleIndex.countOpenDuring(window);
+        List<Long> ids = pageable.isPaged()
+            ? garageScheduleIndex.findOpenDuring(window, pageable.getOffset(), pageable.getPageSize())
+            : garageScheduleIndex.findOpenDuring(window, 0, Math.toIntExact(total));
+        if (ids.isEmpty()) {
+            return PagedResponse.of(new PageImpl<>(List.<GarageResponse>of(), pageable, total));
+        }
+        
+        // Une requête pour les garages de la page, une pour leurs horaires, aucun count
+        Map<Long, GarageSummary> summariesById = findSummariesById(ids);
+        Map<Long, Map<DayOfWeek, String>> openingHours = garageRepository.findOpeningHoursByGarageIds(ids);
+        
+        List<GarageResponse> content = ids.stream()
+            .map(summariesById::get)
+            .filter(Objects::nonNull)
+            .map(summary -> garageMapper.toResponse(summary, openingHours.getOrDefault(summary.id(), Map.of())))
+            .toList();
+        // Total lu dans l'index, sans requête
+        return PagedResponse.of(new PageImpl<>(content, pageable, total));
+    }
+
+    /**
+     * Plage d'une journée, ou null si aucun jour ni horaire n'est demandé.
+     * 
+     * @throws IllegalArgumentException si une heure est donnée sans jour ou si la fin ne suit pas le début
+     */
+    private static OpeningWindow openingWindow(DayOfWeek day, LocalTime from, LocalTime to) {
+        if (day == null) {
+            if (from != null || to != null) {
+                throw new IllegalArgumentException("Le jour est obligatoire avec une plage horaire");
+            }
+            return null;
+        }
+        return OpeningWindow.of(day, from, to);
+    }
+
+    private Map<Long, GarageSummary> findSummariesById(List<Long> ids) {
+        return garageRepository
+            .findSummaries(GarageSpecifications.hasIdIn(ids), Pageable.unpaged())
+            .stream()
+            .collect(Collectors.toMap(GarageSummary::id, Function.identity()));
+    }
+
+    private static EntityRevision revisionOf(Garage garage) {
+        return new EntityRevision(Objects.requireNonNullElse(garage.getVersion(), 0L), garage.getVehicleCount());
+    }
+
+    /**
+     * Liste paginée en projection : la page, son count et les horaires des
+     * garages de la page, sans charger aucune entité Garage.
+     * 
+     * @param spec la spécification de filtrage (null pour tous les garages)
+     * @param pageable les informations de pagination
+     * @return page de réponses
+     */
+    private PagedResponse<GarageResponse> findGarageSummaries(Specification<Garage> spec, Pageable pageable,
+                                                              CountStrategy countStrategy, String countKey,
+                                                              LongSupplier estimate) {
+        CountedSlice<GarageSummary> summaries = pageCounter.complete(
+                garageRepository.findSummarySlice(spec, pageable), countStrategy, countKey,
+                () -> garageRepository.countSummaries(spec), estimate);
+        Map<Long, Map<DayOfWeek, String>> openingHours = garageRepository.findOpeningHoursByGarageIds(
+                summaries.slice().map(GarageSummary::id).getContent());
+
+        return PagedResponse.of(summaries.map(summary ->
+                garageMapper.toResponse(summary, openingHours.getOrDefault(summary.id(), Map.of()))));
     }
 }
@@ -0,0 +1,56 @@
+package com.renault.garage.domain.service.impl;
+
+import com.renault.garage.domain.exception.StaleRevisionException;
+import com.renault.garage.domain.repository.projection.EntityRevision;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Contrôles des écritures conditionnelles (If-Match) des services.
+ * 
+ * La révision attendue est comparée à celle de l'entité chargée, puis
+ * l'écriture est envoyée immédiatement : l'UPDATE/DELETE porte sur la
+ * version lue (@Version), une écriture concurrente intervenue entre-temps
+ * est donc détectée au flush et non écrasée.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+final class RevisionChecks {
+
+    private RevisionChecks() {
+    }
+
+    /**
+     * @param resourceType le type de ressource (ex: "Garage")
+     * @param id l'ID de la ressource
+     * @param expected la révision attendue (null : écriture inconditionnelle)
+     * @param current la révision de l'entité chargée
+     * @throws StaleRevisionException si les révisions diffèrent
+     */
+    static void check(String resourceType, Long id, EntityRevision expected, EntityRevision current) {
+        if (expected != null && !expected.equals(current)) {
+            throw new StaleRevisionException(resourceType, id);
+        }
+    }
+
+    /**
+     * Envoie les écritures en attente, afin que la réponse porte la nouvelle
+     * version et qu'un conflit de version soit levé ici plutôt qu'au commit.
+     * 
+     * @param repository le repository de l'entité modifiée
+     * @param resourceType le type de ressource
+     * @param id l'ID de la ressource
+     * @param expected la révision attendue (null : écriture inconditionnelle)
+     */
+    static void flush(JpaRepository<?, ?> repository, String resourceType, Long id, EntityRevision expected) {
+        try {
+            repository.flush();
+        } catch (OptimisticLockingFailureException ex) {
+            if (expected == null) {
+                throw ex;
+            }
+            throw new StaleRevisionException(resourceType, id, ex);
+        }
+    }
+}
@@ -1,28 +1,56 @@
 package com.renault.garage.domain.service.impl;
 
+import com.renault.garage.application.dto.request.VehicleBatchRequest;
 import com.renault.garage.application.dto.request.VehicleRequest;
+import com.renault.garage.application.dto.request.VehicleSearchRequest;
+import com.renault.garage.application.dto.response.CursorPage;
+import com.renault.garage.application.dto.response.PagedResponse;
+import com.renault.garage.application.dto.response.VehicleBatchItemResponse;
+import com.renault.garage.application.dto.response.VehicleBatchResponse;
 import com.renault.garage.application.dto.response.VehicleResponse;
 import com.renault.garage.application.mapper.VehicleMapper;
+import com.renault.garage.domain.exception.DuplicateVinException;
 import com.renault.garage.domain.exception.GarageNotFoundException;
 import com.renault.garage.domain.exception.VehicleNotFoundException;
+import com.renault.garage.domain.exception.VehicleQuotaExceededException;
 import com.renault.garage.domain.model.Garage;
 import com.renault.garage.domain.model.Vehicle;
+import com.renault.garage.domain.model.enums.CountStrategy;
 import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.repository.AccessoryRepository;
 import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.VehicleKeysetRepository;
 import com.renault.garage.domain.repository.VehicleRepository;
+import com.renault.garage.domain.repository.keyset.KeysetPageRequest;
+import com.renault.garage.domain.repository.specification.VehicleSpecifications;
+import com.renault.garage.domain.repository.projection.EntityRevision;
 import com.renault.garage.domain.service.VehicleService;
+import com.renault.garage.infrastructure.bloom.VinFilter;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import com.renault.garage.infrastructure.capacity.GarageCapacityIndex;
+import com.renault.garage.infrastructure.geo.GarageGeoIndex;
+import com.renault.garage.infrastructure.count.CountedSlice;
+import com.renault.garage.infrastructure.count.PageCounter;
 import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
-import com.renault.garage.infrastructure.kafka.producer.VehicleEventProducer;
+import com.renault.garage.infrastructure.outbox.VehicleEventOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Implémentation du service de gestion des véhicules.
@@ -39,39 +67,127 @@ import java.util.UUID;
 @Transactional
 public class VehicleServiceImpl implements VehicleService {
 
+    private static final String VEHICLE = "Véhicule";
+
     private final VehicleRepository vehicleRepository;
+    private final AccessoryRepository accessoryRepository;
     private final GarageRepository garageRepository;
     private final VehicleMapper vehicleMapper;
-    private final VehicleEventProducer vehicleEventProducer;
+    private final VehicleEventOutbox vehicleEventOutbox;
+    private final ResponseCaches responseCaches;
+    private final VinFilter vinFilter;
+    private final GarageCapacityIndex garageCapacityIndex;
+    private final GarageGeoIndex garageGeoIndex;
+    private final PageCounter pageCounter;
 
     @Override
     public VehicleResponse addVehicleToGarage(Long garageId, VehicleRequest request) {
         log.info("Adding vehicle to garage ID: {}", garageId);
         
-        Garage garage = garageRepository.findById(garageId)
-            .orElseThrow(() -> new GarageNotFoundException(garageId));
-        
         // Vérifier si le VIN existe déjà
-        if (request.getVin() != null && vehicleRepository.existsByVin(request.getVin())) {
-            throw new IllegalArgumentException("Un véhicule avec ce VIN existe déjà");
+        if (request.getVin() != null && vinExists(request.getVin())) {
+            throw new DuplicateVinException(request.getVin());
         }
         
-        Vehicle vehicle = vehicleMapper.toEntity(request);
+        // Réserver une place dans le garage (vérifie le quota de manière atomique)
+        reserveVehicleSlot(garageId);
         
-        // Ajouter le véhicule au garage (vérifie automatiquement le quota)
-        garage.addVehicle(vehicle);
+        Vehicle vehicle = vehicleMapper.toEntity(request);
+        vehicle.setGarage(garageRepository.getReferenceById(garageId));
         
         Vehicle savedVehicle = vehicleRepository.save(vehicle);
+        vinFilter.put(savedVehicle.getVin());
         
-        // Publier l'événement Kafka
-        publishVehicleCreatedEvent(savedVehicle);
+        // Enregistrer l'événement dans l'outbox (publié sur Kafka après le commit)
+        vehicleEventOutbox.vehicleCreated(toVehicleCreatedEvent(savedVehicle));
+        responseCaches.evictGarage(garageId);
+        garageCapacityIndex.vehiclesChanged(garageId, 1);
+        garageGeoIndex.vehiclesChanged(garageId, savedVehicle.getFuelType(), 1);
         
         log.info("Vehicle added successfully with ID: {}", savedVehicle.getId());
         return vehicleMapper.toResponse(savedVehicle);
     }
 
+    @Override
+    public VehicleBatchResponse addVehiclesToGarage(Long garageId, VehicleBatchRequest request) {
+        List<VehicleRequest> requests = request.getVehicles();
+        log.info("Adding batch of {} vehicles to garage ID: {}", requests.size(), garageId);
+        
+        // Vérifier en une seule requête tous les VIN du lot : le filtre ignore les VIN
+        // insérés par les autres nœuds, qui feraient échouer tout le lot sur la contrainte unique
+        Set<String> vins = requests.stream()
+            .map(VehicleRequest::getVin)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Set<String> existingVins = vins.isEmpty()
+            ? Set.of()
+            : new HashSet<>(vehicleRepository.findExistingVins(vins));
+        
+        VehicleBatchItemResponse[] results = new VehicleBatchItemResponse[requests.size()];
+        List<Vehicle> vehicles = new ArrayList<>();
+        List<Integer> vehicleIndexes = new ArrayList<>();
+        Set<String> batchVins = new HashSet<>();
+        
+        for (int i = 0; i < requests.size(); i++) {
+            String vin = requests.get(i).getVin();
+            if (vin != null && existingVins.contains(vin)) {
+                results[i] = rejectedItem(i, vin, "Un véhicule avec ce VIN existe déjà");
+            } else if (vin != null && !batchVins.add(vin)) {
+                results[i] = rejectedItem(i, vin, "Ce VIN apparaît plusieurs fois dans le lot");
+            } else {
+                vehicles.add(vehicleMapper.toEntity(requests.get(i)));
+                vehicleIndexes.add(i);
+            }
+        }
+        
+        if (vehicles.isEmpty()) {
+            if (!garageRepository.existsById(garageId)) {
+                throw new GarageNotFoundException(garageId);
+            }
+        } else {
+            // Réserver toutes les places du lot d'un coup
+            reserveVehicleSlots(garageId, vehicles.size());
+            
+            Garage garage = garageRepository.getReferenceById(garageId);
+            vehicles.forEach(vehicle -> vehicle.setGarage(garage));
+            List<Vehicle> savedVehicles = vehicleRepository.saveAll(vehicles);
+            savedVehicles.forEach(savedVehicle -> vinFilter.put(savedVehicle.getVin()));
+            
+            for (int i = 0; i < savedVehicles.size(); i++) {
+                Vehicle savedVehicle = savedVehicles.get(i);
+                int index = vehicleIndexes.get(i);
+                results[index] = VehicleBatchItemResponse.builder()
+                    .index(index)
+                    .vin(savedVehicle.getVin())
+                    .status(VehicleBatchItemResponse.Status.CREATED)
+                    .vehicle(vehicleMapper.toResponse(savedVehicle))
+                    .build();
+            }
+            
+            // Enregistrer les événements dans l'outbox en un seul lot
+            vehicleEventOutbox.vehiclesCreated(
+                savedVehicles.stream().map(this::toVehicleCreatedEvent).toList());
+            responseCaches.evictGarage(garageId);
+            garageCapacityIndex.vehiclesChanged(garageId, savedVehicles.size());
+            savedVehicles.stream()
+                .collect(Collectors.groupingBy(Vehicle::getFuelType, Collectors.summingInt(savedVehicle -> 1)))
+                .forEach((fuelType, count) -> garageGeoIndex.vehiclesChanged(garageId, fuelType, count));
+        }
+        
+        log.info("Batch added to garage ID {}: {} created, {} rejected",
+            garageId, vehicles.size(), requests.size() - vehicles.size());
+        return VehicleBatchResponse.builder()
+            .garageId(garageId)
+            .requestedCount(requests.size())
+            .createdCount(vehicles.size())
+            .rejectedCount(requests.size() - vehicles.size())
+            .results(Arrays.asList(results))
+            .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = ResponseCaches.VEHICLES, key = "#id", sync = true)
     public VehicleResponse getVehicleById(Long id) {
         log.debug("Fetching vehicle with ID: {}", id);
         
@@ -83,49 +199,98 @@ public class VehicleServiceImpl implements VehicleService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<VehicleResponse> getVehiclesByGarage(Long garageId, Pageable pageable) {
-        log.debug("Fetching vehicles for garage ID: {}", garageId);
+    public EntityRevision getVehicleRevision(Long id) {
+        return vehicleRepository.findRevisionById(id)
+            .orElseThrow(() -> new VehicleNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<VehicleResponse> getVehiclesByGarage(Long garageId, Pageable pageable,
+                                                              CountStrategy countStrategy) {
+        log.debug("Fetching vehicles for garage ID: {} (count: {})", garageId, countStrategy);
         
         if (!garageRepository.existsById(garageId)) {
             throw new GarageNotFoundException(garageId);
         }
         
-        Page<Vehicle> vehicles = vehicleRepository.findByGarageId(garageId, pageable);
-        return vehicles.map(vehicleMapper::toResponse);
+        CountedSlice<Vehicle> vehicles = pageCounter.complete(
+            vehicleRepository.findByGarageId(garageId, pageable), countStrategy, "vehicles:garage:" + garageId,
+            () -> vehicleRepository.countByGarageId(garageId), () -> vehicleRepository.estimateByGarageId(garageId));
+        return PagedResponse.of(vehicles.map(vehicleMapper::toResponse));
     }
 
     @Override
-    public VehicleResponse updateVehicle(Long id, VehicleRequest request) {
+    @Transactional(readOnly = true)
+    public CursorPage<VehicleResponse> scrollVehiclesByGarage(Long garageId, String cursor, Sort sort, int size) {
+        log.debug("Scrolling vehicles for garage ID: {} from cursor: {}", garageId, cursor);
+        
+        if (!garageRepository.existsById(garageId)) {
+            throw new GarageNotFoundException(garageId);
+        }
+        
+        KeysetPageRequest request = KeysetPageRequest.of(cursor, sort, size, "brand",
+            VehicleKeysetRepository.GARAGE_SCROLL_SORTS);
+        return scroll(VehicleSpecifications.belongsToGarage(garageId), request);
+    }
+
+    @Override
+    public VehicleResponse updateVehicle(Long id, VehicleRequest request, EntityRevision expectedRevision) {
         log.info("Updating vehicle with ID: {}", id);
         
         Vehicle vehicle = vehicleRepository.findById(id)
             .orElseThrow(() -> new VehicleNotFoundException(id));
+        RevisionChecks.check(VEHICLE, id, expectedRevision, revisionOf(vehicle));
         
         // Vérifier si le nouveau VIN existe déjà (sauf pour ce véhicule)
+        String previousVin = vehicle.getVin();
         if (request.getVin() != null && 
-            !request.getVin().equals(vehicle.getVin()) && 
-            vehicleRepository.existsByVin(request.getVin())) {
-            throw new IllegalArgumentException("Un véhicule avec ce VIN existe déjà");
+            !request.getVin().equals(previousVin) && 
+            vinExists(request.getVin())) {
+            throw new DuplicateVinException(request.getVin());
         }
         
+        String previousDisplayName = vehicle.getDisplayName();
+        FuelType previousFuelType = vehicle.getFuelType();
         vehicleMapper.updateEntityFromRequest(request, vehicle);
         Vehicle updatedVehicle = vehicleRepository.save(vehicle);
+        RevisionChecks.flush(vehicleRepository, VEHICLE, id, expectedRevision);
+        if (!previousDisplayName.equals(updatedVehicle.getDisplayName())) {
+            // Les réponses accessoires embarquent le nom d'affichage du véhicule
+            accessoryRepository.incrementVersionByVehicleId(id);
+        }
+        if (!Objects.equals(previousVin, updatedVehicle.getVin())) {
+            vinFilter.put(updatedVehicle.getVin());
+        }
+        if (previousFuelType != updatedVehicle.getFuelType()) {
+            Long garageId = updatedVehicle.getGarage().getId();
+            garageGeoIndex.vehiclesChanged(garageId, previousFuelType, -1);
+            garageGeoIndex.vehiclesChanged(garageId, updatedVehicle.getFuelType(), 1);
+        }
+        responseCaches.evictVehicle(id);
         
         log.info("Vehicle updated successfully: {}", id);
         return vehicleMapper.toResponse(updatedVehicle);
     }
 
     @Override
-    public void deleteVehicle(Long id) {
+    public void deleteVehicle(Long id, EntityRevision expectedRevision) {
         log.info("Deleting vehicle with ID: {}", id);
         
         Vehicle vehicle = vehicleRepository.findById(id)
             .orElseThrow(() -> new VehicleNotFoundException(id));
+        RevisionChecks.check(VEHICLE, id, expectedRevision, revisionOf(vehicle));
         
-        // Retirer le véhicule du garage
-        vehicle.getGarage().removeVehicle(vehicle);
-        
+        Long garageId = vehicle.getGarage().getId();
         vehicleRepository.delete(vehicle);
+        RevisionChecks.flush(vehicleRepository, VEHICLE, id, expectedRevision);
+        
+        // Libérer la place occupée dans le garage
+        garageRepository.releaseVehicleSlot(garageId);
+        responseCaches.evictVehicle(id);
+        responseCaches.evictGarage(garageId);
+        garageCapacityIndex.vehiclesChanged(garageId, -1);
+        garageGeoIndex.vehiclesChanged(garageId, vehicle.getFuelType(), -1);
         log.info("Vehicle deleted successfully: {}", id);
     }
 
@@ -140,29 +305,147 @@ public class VehicleServiceImpl implements VehicleService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<VehicleResponse> findVehiclesByFuelType(FuelType fuelType, Pageable pageable) {
-        log.debug("Searching vehicles by fuel type: {}", fuelType);
+    public PagedResponse<VehicleResponse> searchVehicles(VehicleSearchRequest criteria, Pageable pageable,
+                                                         CountStrategy countStrategy) {
+        log.debug("Searching vehicles by criteria: {} (count: {})", criteria, countStrategy);
+        
+        Specification<Vehicle> spec = searchSpecification(criteria);
+        // Pas d'estimation pour une combinaison libre de critères : APPROXIMATE compte comme EXACT
+        CountedSlice<Vehicle> vehicles = pageCounter.complete(
+            vehicleRepository.findSlice(spec, pageable), countStrategy, "vehicles:search:" + criteria,
+            () -> vehicleRepository.count(spec), null);
+        return PagedResponse.of(vehicles.map(vehicleMapper::toResponse));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<VehicleResponse> findVehiclesByFuelType(FuelType fuelType, Pageable pageable,
+                                                                 CountStrategy countStrategy) {
+        log.debug("Searching vehicles by fuel type: {} (count: {})", fuelType, countStrategy);
         
-        Page<Vehicle> vehicles = vehicleRepository.findByFuelType(fuelType, pageable);
-        return vehicles.map(vehicleMapper::toResponse);
+        CountedSlice<Vehicle> vehicles = pageCounter.complete(
+            vehicleRepository.findByFuelType(fuelType, pageable), countStrategy, "vehicles:fuel-type:" + fuelType,
+            () -> vehicleRepository.countByFuelType(fuelType), () -> vehicleRepository.estimateByFuelType(fuelType));
+        return PagedResponse.of(vehicles.map(vehicleMapper::toResponse));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<VehicleResponse> getEcoFriendlyVehicles(Pageable pageable) {
-        log.debug("Fetching eco-friendly vehicles");
+    public CursorPage<VehicleResponse> scrollVehiclesByFuelType(FuelType fuelType, String cursor, Sort sort, int size) {
+        log.debug("Scrolling vehicles by fuel type: {} from cursor: {}", fuelType, cursor);
         
-        Page<Vehicle> vehicles = vehicleRepository.findEcoFriendlyVehicles(pageable);
-        return vehicles.map(vehicleMapper::toResponse);
+        KeysetPageRequest request = KeysetPageRequest.of(cursor, sort, size, "id",
+            VehicleKeysetRepository.FUEL_TYPE_SCROLL_SORTS);
+        return scroll(VehicleSpecifications.hasFuelType(fuelType), request);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<VehicleResponse> getEcoFriendlyVehicles(Pageable pageable, CountStrategy countStrategy) {
+        log.debug("Fetching eco-friendly vehicles (count: {})", countStrategy);
+        
+        CountedSlice<Vehicle> vehicles = pageCounter.complete(
+            vehicleRepository.findEcoFriendlyVehicles(pageable), countStrategy, "vehicles:eco-friendly",
+            vehicleRepository::countEcoFriendlyVehicles, vehicleRepository::estimateEcoFriendlyVehicles);
+        return PagedResponse.of(vehicles.map(vehicleMapper::toResponse));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<VehicleResponse> scrollEcoFriendlyVehicles(String cursor, Sort sort, int size) {
+        log.debug("Scrolling eco-friendly vehicles from cursor: {}", cursor);
+        
+        KeysetPageRequest request = KeysetPageRequest.of(cursor, sort, size, "id",
+            VehicleKeysetRepository.FUEL_TYPE_SCROLL_SORTS);
+        return scroll(VehicleSpecifications.isEcoFriendly(), request);
+    }
+
+    /**
+     * Compose les critères de recherche ; un critère absent ne filtre pas.
+     */
+    private static Specification<Vehicle> searchSpecification(VehicleSearchRequest criteria) {
+        Specification<Vehicle> spec = Specification.where(VehicleSpecifications.hasBrand(criteria.getBrand()))
+            .and(VehicleSpecifications.hasModel(criteria.getModel()))
+            .and(VehicleSpecifications.hasFuelType(criteria.getFuelType()))
+            .and(VehicleSpecifications.hasYearOfManufacture(criteria.getYearOfManufacture()))
+            .and(VehicleSpecifications.hasYearOfManufactureBetween(criteria.getMinYear(), criteria.getMaxYear()))
+            .and(VehicleSpecifications.hasMileageBetween(criteria.getMinMileage(), criteria.getMaxMileage()))
+            .and(VehicleSpecifications.belongsToGarage(criteria.getGarageId()))
+            .and(VehicleSpecifications.hasColor(criteria.getColor()));
+        return Boolean.TRUE.equals(criteria.getEcoFriendly()) ? spec.and(VehicleSpecifications.isEcoFriendly()) : spec;
+    }
+
+    private CursorPage<VehicleResponse> scroll(Specification<Vehicle> spec, KeysetPageRequest request) {
+        return CursorPage.of(vehicleRepository.scroll(spec, request).map(vehicleMapper::toResponse));
+    }
+
+    /**
+     * Réserve une place dans le garage en une seule requête.
+     * 
+     * @param garageId l'ID du garage
+     * @throws GarageNotFoundException si le garage n'existe pas
+     * @throws VehicleQuotaExceededException si le quota est atteint
+     */
+    private void reserveVehicleSlot(Long garageId) {
+        if (garageRepository.reserveVehicleSlot(garageId, Garage.MAX_VEHICLES_PER_GARAGE) == 0) {
+            if (!garageRepository.existsById(garageId)) {
+                throw new GarageNotFoundException(garageId);
+            }
+            throw new VehicleQuotaExceededException(garageId);
+        }
     }
 
     /**
-     * Publie un événement Kafka lors de la création d'un véhicule.
+     * Réserve plusieurs places dans le garage en une seule requête.
+     * 
+     * @param garageId l'ID du garage
+     * @param count le nombre de places à réserver
+     * @throws GarageNotFoundException si le garage n'existe pas
+     * @throws VehicleQuotaExceededException si le lot ferait dépasser le quota
+     */
+    private void reserveVehicleSlots(Long garageId, int count) {
+        if (garageRepository.reserveVehicleSlots(garageId, count, Garage.MAX_VEHICLES_PER_GARAGE) == 0) {
+            if (!garageRepository.existsById(garageId)) {
+                throw new GarageNotFoundException(garageId);
+            }
+            throw new VehicleQuotaExceededException(garageId);
+        }
+    }
+
+    /**
+     * Vérifie l'existence d'un VIN, en base seulement si le filtre ne peut l'écarter.
+     */
+    private boolean vinExists(String vin) {
+        if (!vinFilter.mightContain(vin)) {
+            return false;
+        }
+        boolean exists = vehicleRepository.existsByVin(vin);
+        if (!exists) {
+            vinFilter.recordFalsePositives(1);
+        }
+        return exists;
+    }
+
+    /**
+     * Construit le résultat d'un élément rejeté du lot.
+     */
+    private VehicleBatchItemResponse rejectedItem(int index, String vin, String error) {
+        return VehicleBatchItemResponse.builder()
+            .index(index)
+            .vin(vin)
+            .status(VehicleBatchItemResponse.Status.REJECTED)
+            .error(error)
+            .build();
+    }
+
+    /**
+     * Construit l'événement de création d'un véhicule.
      * 
      * @param vehicle le véhicule créé
+     * @return l'événement
      */
-    private void publishVehicleCreatedEvent(Vehicle vehicle) {
-        VehicleCreatedEvent event = VehicleCreatedEvent.builder()
+    private VehicleCreatedEvent toVehicleCreatedEvent(Vehicle vehicle) {
+        return VehicleCreatedEvent.builder()
             .vehicleId(vehicle.getId())
             .brand(vehicle.getBrand())
             .model(vehicle.getModel())
@@ -174,7 +457,9 @@ public class VehicleServiceImpl implements VehicleService {
             .createdAt(LocalDateTime.now())
             .eventId(UUID.randomUUID().toString())
             .build();
-        
-        vehicleEventProducer.publishVehicleCreatedEvent(event);
+    }
+
+    private static EntityRevision revisionOf(Vehicle vehicle) {
+        return new EntityRevision(Objects.requireNonNullElse(vehicle.getVersion(), 0L), vehicle.getAccessoryCount());
     }
 }
@@ -0,0 +1,125 @@
+package com.renault.garage.infrastructure.backfill;
+
+import com.renault.garage.domain.model.valueobject.PostalAddress;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.projection.GarageAddress;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renseigne la ville et le code postal des garages qui n'en ont pas.
+ * 
+ * Les garages écrits par l'application les reçoivent à l'écriture
+ * (Garage#applyPostalAddress) ; restent ceux créés avant la migration V8
+ * et ceux insérés en SQL (chargeur massif). La table est parcourue par
+ * plages d'IDs, une transaction courte par plage : lecture des adresses
+ * sans ville, analyse, mise à jour en un lot JDBC. Les garages du lot sont
+ * ensuite évincés des caches de réponses et de second niveau.
+ * 
+ * Les plages déjà parcourues ne sont pas relues aux exécutions suivantes,
+ * seuls les nouveaux IDs le sont : une adresse qui ne se termine pas par
+ * "code postal + ville" n'est pas réanalysée à chaque passage. Un
+ * redémarrage reprend depuis le début.
+ * 
+ * Métriques : garage.address.backfill.parsed (garages renseignés),
+ * garage.address.backfill.unparsed (adresses non analysables).
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "garage-address.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class GarageAddressBackfill {
+
+    private final GarageRepository garageRepository;
+    private final ResponseCaches responseCaches;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter parsedCounter;
+    private final Counter unparsedCounter;
+
+    private volatile long lastScannedId;
+
+    public GarageAddressBackfill(GarageRepository garageRepository,
+                                 ResponseCaches responseCaches,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${garage-address.backfill.batch-size:5000}") int batchSize) {
+        this.garageRepository = garageRepository;
+        this.responseCaches = responseCaches;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+
+        this.parsedCounter = Counter.builder("garage.address.backfill.parsed")
+            .description("Garages whose city and postal code were filled in from their address")
+            .register(meterRegistry);
+        this.unparsedCounter = Counter.builder("garage.address.backfill.unparsed")
+            .description("Garage addresses that do not end with a postal code and a city")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Parcourt les garages non encore visités et renseigne leur ville.
+     *
+     * @return le nombre de garages mis à jour
+     */
+    @Scheduled(initialDelayString = "${garage-address.backfill.initial-delay-ms:30000}",
+               fixedDelayString = "${garage-address.backfill.interval-ms:3600000}")
+    public int backfill() {
+        long start = System.nanoTime();
+        long fromId = lastScannedId + 1;
+        long maxId = garageRepository.findMaxId();
+        int updated = 0;
+        for (long rangeStart = fromId; rangeStart <= maxId; rangeStart += batchSize) {
+            long rangeEnd = Math.min(maxId, rangeStart + batchSize - 1);
+            updated += backfillRange(rangeStart, rangeEnd);
+            lastScannedId = rangeEnd;
+        }
+        if (updated > 0) {
+            log.info("Postal address filled in on {} garages (IDs {}-{}) in {} ms",
+                updated, fromId, maxId, (System.nanoTime() - start) / 1_000_000);
+        }
+        return updated;
+    }
+
+    /**
+     * @return le dernier ID parcouru : les garages d'ID inférieur ou égal
+     *         ont une ville, sauf si leur adresse n'est pas analysable
+     */
+    public long getLastScannedId() {
+        return lastScannedId;
+    }
+
+    private int backfillRange(long fromId, long toId) {
+        Map<GarageAddress, PostalAddress> parsed = new LinkedHashMap<>();
+        Integer updated = transactionTemplate.execute(status -> {
+            List<GarageAddress> addresses = garageRepository.findAddressesWithoutPostalAddress(fromId, toId);
+            for (GarageAddress address : addresses) {
+                PostalAddress.parse(address.address()).ifPresent(postalAddress -> parsed.put(address, postalAddress));
+            }
+            unparsedCounter.increment(addresses.size() - parsed.size());
+            return parsed.isEmpty() ? 0 : garageRepository.updatePostalAddresses(parsed);
+        });
+        int count = updated != null ? updated : 0;
+        parsedCounter.increment(count);
+        if (count > 0) {
+            // Ville, code postal et version ont changé en SQL, après le commit du lot
+            responseCaches.evictGarages(parsed.keySet().stream().map(GarageAddress::garageId).toList());
+        }
+        log.debug("Garages {}-{}: {} postal addresses filled in", fromId, toId, count);
+        return count;
+    }
+}
@@ -0,0 +1,126 @@
+package com.renault.garage.infrastructure.backfill;
+
+import com.renault.garage.domain.model.valueobject.GeoPoint;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.projection.GaragePostalCode;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import com.renault.garage.infrastructure.geo.GarageGeoIndex;
+import com.renault.garage.infrastructure.geo.PostalCodeLocations;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Renseigne les coordonnées approximatives des garages qui ont un code
+ * postal mais pas de position.
+ * 
+ * Les garages écrits par l'application sont localisés à l'écriture
+ * (GarageServiceImpl) ; restent ceux créés avant la migration V11 et ceux
+ * insérés en SQL. Leur position est celle de leur code postal
+ * (PostalCodeLocations), marquée approximative. La table est parcourue par
+ * plages d'IDs, une transaction courte par plage, puis les garages du lot
+ * sont évincés des caches de réponses et de second niveau.
+ * 
+ * Le code postal des garages existants est lui-même renseigné par
+ * GarageAddressBackfill : le parcours ne dépasse pas le dernier ID qu'il a
+ * visité, pour ne pas laisser derrière lui des garages localisables.
+ * 
+ * Métrique : garage.location.backfill.located (garages localisés).
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "garage-location.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class GarageLocationBackfill {
+
+    private final GarageRepository garageRepository;
+    private final ResponseCaches responseCaches;
+    private final GarageGeoIndex garageGeoIndex;
+    private final ObjectProvider<GarageAddressBackfill> addressBackfill;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter locatedCounter;
+
+    private volatile long lastScannedId;
+
+    public GarageLocationBackfill(GarageRepository garageRepository,
+                                  ResponseCaches responseCaches,
+                                  GarageGeoIndex garageGeoIndex,
+                                  ObjectProvider<GarageAddressBackfill> addressBackfill,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${garage-location.backfill.batch-size:5000}") int batchSize) {
+        this.garageRepository = garageRepository;
+        this.responseCaches = responseCaches;
+        this.garageGeoIndex = garageGeoIndex;
+        this.addressBackfill = addressBackfill;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+
+        this.locatedCounter = Counter.builder("garage.location.backfill.located")
+            .description("Garages whose coordinates were filled in from their postal code")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Parcourt les garages non encore visités et renseigne leurs coordonnées.
+     *
+     * @return le nombre de garages localisés
+     */
+    @Scheduled(initialDelayString = "${garage-location.backfill.initial-delay-ms:60000}",
+               fixedDelayString = "${garage-location.backfill.interval-ms:3600000}")
+    public int backfill() {
+        long start = System.nanoTime();
+        long fromId = lastScannedId + 1;
+        GarageAddressBackfill addresses = addressBackfill.getIfAvailable();
+        long maxId = addresses != null
+            ? Math.min(addresses.getLastScannedId(), garageRepository.findMaxId())
+            : garageRepository.findMaxId();
+        int located = 0;
+        for (long rangeStart = fromId; rangeStart <= maxId; rangeStart += batchSize) {
+            long rangeEnd = Math.min(maxId, rangeStart + batchSize - 1);
+            located += backfillRange(rangeStart, rangeEnd);
+            lastScannedId = rangeEnd;
+        }
+        if (located > 0) {
+            if (garageGeoIndex.isReady()) {
+                // Garages localisés en SQL : l'index est rechargé sans attendre son rafraîchissement
+                garageGeoIndex.rebuild();
+            }
+            log.info("Coordinates filled in on {} garages (IDs {}-{}) in {} ms",
+                located, fromId, maxId, (System.nanoTime() - start) / 1_000_000);
+        }
+        return located;
+    }
+
+    private int backfillRange(long fromId, long toId) {
+        Map<GaragePostalCode, GeoPoint> locations = new LinkedHashMap<>();
+        Integer located = transactionTemplate.execute(status -> {
+            for (GaragePostalCode postalCode : garageRepository.findPostalCodesWithoutLocation(fromId, toId)) {
+                PostalCodeLocations.locate(postalCode.postalCode())
+                    .ifPresent(location -> locations.put(postalCode, location));
+            }
+            return locations.isEmpty() ? 0 : garageRepository.updateLocations(locations);
+        });
+        int count = located != null ? located : 0;
+        locatedCounter.increment(count);
+        if (count > 0) {
+            // Coordonnées et version ont changé en SQL, après le commit du lot
+            responseCaches.evictGarages(locations.keySet().stream().map(GaragePostalCode::garageId).toList());
+        }
+        log.debug("Garages {}-{}: {} coordinates filled in", fromId, toId, count);
+        return count;
+    }
+}
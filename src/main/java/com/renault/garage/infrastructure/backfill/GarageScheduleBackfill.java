@@ -0,0 +1,145 @@
+package com.renault.garage.infrastructure.backfill;
+
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.projection.GarageOpeningHours;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import com.renault.garage.infrastructure.geo.GarageGeoIndex;
+import com.renault.garage.infrastructure.schedule.GarageScheduleIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compile les horaires des garages dont la colonne opening_schedule n'est
+ * pas renseignée.
+ * 
+ * Les garages écrits par l'application les reçoivent au flush
+ * (Garage#applyOpeningSchedule) ; restent ceux créés avant la migration
+ * V12 et ceux insérés en SQL. La table est parcourue par plages d'IDs, une
+ * transaction courte par plage : lecture des horaires textuels, compilation,
+ * mise à jour en un lot JDBC.
+ * 
+ * La mise à jour ne passe pas par Hibernate et n'incrémente pas la version
+ * (les horaires compilés ne font pas partie de la représentation du
+ * garage) : les garages du lot sont évincés du cache de second niveau après
+ * le commit, sans quoi une entité chargée avant garderait des horaires
+ * compilés vides jusqu'à son expiration.
+ * 
+ * Métrique : garage.schedule.backfill.compiled (horaires compilés).
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "garage-schedule.backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class GarageScheduleBackfill {
+
+    private final GarageRepository garageRepository;
+    private final ResponseCaches responseCaches;
+    private final GarageGeoIndex garageGeoIndex;
+    private final GarageScheduleIndex garageScheduleIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter compiledCounter;
+
+    private volatile long lastScannedId;
+
+    public GarageScheduleBackfill(GarageRepository garageRepository,
+                                  ResponseCaches responseCaches,
+                                  GarageGeoIndex garageGeoIndex,
+                                  GarageScheduleIndex garageScheduleIndex,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${garage-schedule.backfill.batch-size:5000}") int batchSize) {
+        this.garageRepository = garageRepository;
+        this.responseCaches = responseCaches;
+        this.garageGeoIndex = garageGeoIndex;
+        this.garageScheduleIndex = garageScheduleIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+
+        this.compiledCounter = Counter.builder("garage.schedule.backfill.compiled")
+            .description("Garages whose weekly opening schedule was compiled from their opening hours")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Parcourt les garages non encore visités et compile leurs horaires.
+     *
+     * @return le nombre de garages mis à jour
+     */
+    @Scheduled(initialDelayString = "${garage-schedule.backfill.initial-delay-ms:30000}",
+               fixedDelayString = "${garage-schedule.backfill.interval-ms:3600000}")
+    public int backfill() {
+        long start = System.nanoTime();
+        long fromId = lastScannedId + 1;
+        long maxId = garageRepository.findMaxId();
+        int compiled = 0;
+        for (long rangeStart = fromId; rangeStart <= maxId; rangeStart += batchSize) {
+            long rangeEnd = Math.min(maxId, rangeStart + batchSize - 1);
+            compiled += backfillRange(rangeStart, rangeEnd);
+            lastScannedId = rangeEnd;
+        }
+        if (compiled > 0) {
+            // Horaires compilés en SQL : les index sont rechargés sans attendre leur rafraîchissement
+            if (garageGeoIndex.isReady()) {
+                garageGeoIndex.rebuild();
+            }
+            if (garageScheduleIndex.isReady()) {
+                garageScheduleIndex.rebuild();
+            }
+            log.info("Opening schedules compiled for {} garages (IDs {}-{}) in {} ms",
+                compiled, fromId, maxId, (System.nanoTime() - start) / 1_000_000);
+        }
+        return compiled;
+    }
+
+    private int backfillRange(long fromId, long toId) {
+        Map<Long, WeeklySchedule> schedules = new LinkedHashMap<>();
+        Integer compiled = transactionTemplate.execute(status -> {
+            schedules.putAll(compile(garageRepository.findOpeningHoursWithoutSchedule(fromId, toId)));
+            return garageRepository.updateOpeningSchedules(schedules);
+        });
+        int count = compiled != null ? compiled : 0;
+        compiledCounter.increment(count);
+        if (count > 0) {
+            responseCaches.evictGarages(schedules.keySet());
+        }
+        log.debug("Garages {}-{}: {} schedules compiled", fromId, toId, count);
+        return count;
+    }
+
+    /**
+     * Compile les horaires lus regroupés par garage (un garage sans horaires
+     * est fermé).
+     */
+    private static Map<Long, WeeklySchedule> compile(List<GarageOpeningHours> rows) {
+        Map<Long, WeeklySchedule> schedules = new LinkedHashMap<>();
+        Map<DayOfWeek, String> days = new EnumMap<>(DayOfWeek.class);
+        for (int i = 0; i < rows.size(); i++) {
+            GarageOpeningHours row = rows.get(i);
+            if (row.dayOfWeek() != null) {
+                days.put(row.dayOfWeek(), row.hours());
+            }
+            if (i == rows.size() - 1 || rows.get(i + 1).garageId() != row.garageId()) {
+                schedules.put(row.garageId(), WeeklySchedule.parse(days));
+                days.clear();
+            }
+        }
+        return schedules;
+    }
+}
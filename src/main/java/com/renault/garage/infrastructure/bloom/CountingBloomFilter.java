@@ -0,0 +1,186 @@
+package com.renault.garage.infrastructure.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtre de Bloom à compteurs, sûr en accès concurrent.
+ * 
+ * Chaque position est un compteur de 4 bits (16 par mot de 64 bits), ce qui
+ * permet de retirer un élément. Un compteur saturé (15) n'est plus jamais
+ * décrémenté : il ne peut produire qu'un faux positif, jamais un faux négatif.
+ * 
+ * Positions calculées par double hachage (Kirsch-Mitzenmacher) à partir
+ * d'un hachage FNV-1a 64 bits.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final long COUNTER_MAX = 0xFL;
+
+    private final AtomicLongArray words;
+    private final long counterCount;
+    private final int hashFunctions;
+    private final AtomicLong nonZeroCounters = new AtomicLong();
+
+    /**
+     * Crée un filtre dimensionné pour un nombre d'éléments et un taux de
+     * faux positifs cibles.
+     * 
+     * @param expectedElements nombre d'éléments attendus
+     * @param falsePositiveRate taux de faux positifs visé à pleine capacité
+     */
+    public CountingBloomFilter(long expectedElements, double falsePositiveRate) {
+        if (expectedElements <= 0) {
+            throw new IllegalArgumentException("expectedElements must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in ]0, 1[");
+        }
+        long counters = (long) Math.ceil(-expectedElements * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = Math.toIntExact((counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+        this.words = new AtomicLongArray(wordCount);
+        this.counterCount = (long) wordCount * COUNTERS_PER_WORD;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) counterCount / expectedElements * Math.log(2)));
+    }
+
+    /**
+     * Ajoute un élément.
+     * 
+     * @param value l'élément
+     */
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashFunctions; i++) {
+            increment(index(hash1, hash2, i));
+        }
+    }
+
+    /**
+     * Retire un élément précédemment ajouté.
+     * 
+     * @param value l'élément
+     */
+    public void remove(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashFunctions; i++) {
+            decrement(index(hash1, hash2, i));
+        }
+    }
+
+    /**
+     * @param value l'élément
+     * @return false si l'élément est absent à coup sûr, true s'il est peut-être présent
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashFunctions; i++) {
+            if (counter(index(hash1, hash2, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Taux de faux positifs attendu dans l'état courant du filtre.
+     * 
+     * @return probabilité qu'un élément absent soit déclaré présent
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) nonZeroCounters.get() / counterCount, hashFunctions);
+    }
+
+    /**
+     * @return mémoire occupée par les compteurs, en octets
+     */
+    public long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    public long counterCount() {
+        return counterCount;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private long index(long hash1, long hash2, int i) {
+        return Math.floorMod(hash1 + i * hash2, counterCount);
+    }
+
+    private int counter(long index) {
+        int shift = shift(index);
+        return (int) ((words.get(word(index)) >>> shift) & COUNTER_MASK);
+    }
+
+    private void increment(long index) {
+        int word = word(index);
+        int shift = shift(index);
+        long current;
+        long counter;
+        do {
+            current = words.get(word);
+            counter = (current >>> shift) & COUNTER_MASK;
+            if (counter == COUNTER_MAX) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current + (1L << shift)));
+        if (counter == 0) {
+            nonZeroCounters.incrementAndGet();
+        }
+    }
+
+    private void decrement(long index) {
+        int word = word(index);
+        int shift = shift(index);
+        long current;
+        long counter;
+        do {
+            current = words.get(word);
+            counter = (current >>> shift) & COUNTER_MASK;
+            if (counter == 0 || counter == COUNTER_MAX) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current - (1L << shift)));
+        if (counter == 1) {
+            nonZeroCounters.decrementAndGet();
+        }
+    }
+
+    private static int word(long index) {
+        return (int) (index / COUNTERS_PER_WORD);
+    }
+
+    private static int shift(long index) {
+        return (int) (index % COUNTERS_PER_WORD) * 4;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Finaliseur de SplitMix64 : répartit les bits du hachage FNV.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
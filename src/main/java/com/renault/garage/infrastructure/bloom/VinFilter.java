@@ -0,0 +1,202 @@
+package com.renault.garage.infrastructure.bloom;
+
+import com.renault.garage.domain.repository.VehicleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Pré-contrôle en mémoire de l'unicité des VIN, pour l'ajout unitaire.
+ * 
+ * Filtre de Bloom à compteurs sur tous les VIN, chargé au démarrage par un
+ * parcours en flux de la table vehicles, rechargé périodiquement
+ * (vin-filter.reload-interval-ms) et enrichi à chaque insertion faite par
+ * ce nœud. Un VIN déclaré absent n'est pas vérifié en base ; un VIN
+ * « peut-être présent » l'est. Tant que le filtre n'est pas chargé, tous les
+ * VIN sont vérifiés en base.
+ * 
+ * Les VIN supprimés ne sont pas retirés : ce nœud ne voit pas les
+ * insertions des autres réplicas ni du chargeur massif, et décrémenter les
+ * compteurs d'un VIN qu'il n'a pas enregistré rendrait absents d'autres
+ * VIN. Ils restent des faux positifs (vérifiés en base) jusqu'au
+ * rechargement suivant, qui efface aussi les ajouts annulés par un rollback.
+ * 
+ * Les VIN insérés hors de ce nœud depuis le dernier chargement échappent
+ * au filtre : la contrainte unique vehicles_vin_key reste le garde-fou
+ * final (réponse 409, comme le pré-contrôle). L'ajout par lot, qui doit
+ * rejeter chaque VIN existant individuellement, vérifie donc toujours ses
+ * VIN en base, en une requête.
+ * 
+ * Métriques : vin.filter.checks (result=absent|maybe), vin.filter.false.positives,
+ * vin.filter.fpp.expected, vin.filter.memory, vin.filter.capacity.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class VinFilter {
+
+    private final VehicleRepository vehicleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final double growthFactor;
+    private final long minCapacity;
+
+    private final Counter absentCounter;
+    private final Counter maybeCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile CountingBloomFilter filter;
+    private volatile CountingBloomFilter reloading;
+    private volatile long capacity;
+    private volatile boolean ready;
+
+    public VinFilter(VehicleRepository vehicleRepository,
+                     TransactionTemplate transactionTemplate,
+                     MeterRegistry meterRegistry,
+                     @Value("${vin-filter.enabled:true}") boolean enabled,
+                     @Value("${vin-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                     @Value("${vin-filter.growth-factor:2.0}") double growthFactor,
+                     @Value("${vin-filter.min-capacity:100000}") long minCapacity) {
+        this.vehicleRepository = vehicleRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.growthFactor = growthFactor;
+        this.minCapacity = minCapacity;
+
+        this.absentCounter = Counter.builder("vin.filter.checks")
+            .tag("result", "absent")
+            .description("VIN checks answered by the filter alone")
+            .register(meterRegistry);
+        this.maybeCounter = Counter.builder("vin.filter.checks")
+            .tag("result", "maybe")
+            .description("VIN checks that fell through to the database")
+            .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("vin.filter.false.positives")
+            .description("VINs reported as maybe present but absent from the database")
+            .register(meterRegistry);
+        Gauge.builder("vin.filter.fpp.expected", this, VinFilter::expectedFalsePositiveRate)
+            .description("Expected false positive rate of the VIN filter")
+            .register(meterRegistry);
+        Gauge.builder("vin.filter.memory", this, vinFilter -> vinFilter.filter == null ? 0 : vinFilter.filter.memoryBytes())
+            .description("Memory used by the VIN filter counters")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("vin.filter.capacity", this, vinFilter -> vinFilter.capacity)
+            .description("Number of VINs the filter was sized for")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Charge le filtre une fois l'application démarrée.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            log.info("VIN filter disabled, uniqueness is checked in the database");
+            return;
+        }
+        reload();
+    }
+
+    /**
+     * Reconstruit le filtre depuis la table vehicles.
+     * 
+     * Le filtre en cours reste consulté pendant le parcours ; les insertions
+     * concurrentes sont enregistrées dans les deux, le nouveau filtre
+     * remplace l'ancien une fois complet. Le filtre est redimensionné sur le
+     * nombre de véhicules courant.
+     */
+    @Scheduled(initialDelayString = "${vin-filter.reload-interval-ms:3600000}",
+               fixedDelayString = "${vin-filter.reload-interval-ms:3600000}")
+    public synchronized void reload() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        long vehicleCount = vehicleRepository.count();
+        long expectedVins = Math.max(minCapacity, (long) (vehicleCount * growthFactor));
+        CountingBloomFilter loading = new CountingBloomFilter(expectedVins, falsePositiveRate);
+        this.reloading = loading;
+
+        long loaded;
+        try {
+            loaded = transactionTemplate.execute(status -> {
+                try (Stream<String> vins = vehicleRepository.streamAllVins()) {
+                    return vins.peek(loading::put).count();
+                }
+            });
+            this.capacity = expectedVins;
+            this.filter = loading;
+            this.ready = true;
+        } finally {
+            this.reloading = null;
+        }
+
+        log.info("VIN filter loaded: {} VINs in {} ms ({} counters, {} hash functions, {} KB)",
+            loaded, (System.nanoTime() - start) / 1_000_000, loading.counterCount(),
+            loading.hashFunctions(), loading.memoryBytes() / 1024);
+    }
+
+    /**
+     * @param vin le VIN à tester
+     * @return false si le VIN n'existe pas à coup sûr, true s'il faut vérifier en base
+     */
+    public boolean mightContain(String vin) {
+        if (!ready) {
+            return true;
+        }
+        boolean maybe = filter.mightContain(vin);
+        (maybe ? maybeCounter : absentCounter).increment();
+        return maybe;
+    }
+
+    /**
+     * Signale des VIN déclarés « peut-être présents » mais absents en base.
+     * 
+     * @param count nombre de faux positifs constatés
+     */
+    public void recordFalsePositives(int count) {
+        if (ready && count > 0) {
+            falsePositiveCounter.increment(count);
+        }
+    }
+
+    /**
+     * Enregistre un VIN inséré, avant le commit (un rollback laisse un faux
+     * positif jusqu'au rechargement).
+     * 
+     * @param vin le VIN (ignoré si null)
+     */
+    public void put(String vin) {
+        if (vin == null) {
+            return;
+        }
+        // Le filtre en construction d'abord : une fois publié, il remplace le courant
+        CountingBloomFilter next = reloading;
+        if (next != null) {
+            next.put(vin);
+        }
+        CountingBloomFilter current = filter;
+        if (current != null && current != next) {
+            current.put(vin);
+        }
+    }
+
+    private double expectedFalsePositiveRate() {
+        CountingBloomFilter current = filter;
+        return current == null ? 0 : current.expectedFalsePositiveRate();
+    }
+}
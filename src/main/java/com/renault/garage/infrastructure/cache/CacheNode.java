@@ -0,0 +1,77 @@
+package com.renault.garage.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
+/**
+ * Identité de ce nœud (réplica) pour la diffusion des invalidations de cache.
+ * 
+ * Deux identifiants :
+ * - l'ID de nœud nomme le groupe de consommateurs propre au nœud (chaque
+ *   nœud reçoit toutes les invalidations) ;
+ * - l'ID d'instance, l'ID de nœud suivi d'un suffixe tiré au démarrage,
+ *   marque les événements publiés par ce processus pour qu'il les ignore.
+ *   Deux processus ne confondent jamais leurs événements, même s'ils
+ *   partagent un hôte ou un node-id.
+ * 
+ * Avec cache.invalidation.node-id configuré, le groupe est stable d'un
+ * redémarrage à l'autre : c'est le réglage attendu pour un StatefulSet
+ * (node-id=${HOSTNAME}, nom de pod stable). Chaque node-id doit être
+ * propre à un seul processus : deux processus d'un même groupe se
+ * partageraient les partitions et manqueraient chacun une partie des
+ * invalidations.
+ * 
+ * Sans node-id, l'ID de nœud est le nom d'hôte suivi du suffixe de
+ * l'instance : deux JVM d'un même hôte ont chacune leur groupe. Chaque
+ * démarrage crée alors un nouveau groupe et laisse le précédent orphelin
+ * sur le broker (Deployment : nom de pod nouveau à chaque déploiement de
+ * toute façon). Un groupe orphelin ne consomme rien ; ses offsets sont
+ * supprimés par le broker après offsets.retention.minutes (7 jours par
+ * défaut).
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Component
+public class CacheNode {
+
+    private final String nodeId;
+    private final String instanceId;
+
+    public CacheNode(@Value("${cache.invalidation.node-id:}") String configuredId) {
+        String suffix = UUID.randomUUID().toString();
+        this.nodeId = configuredId.isBlank() ? hostName() + "-" + suffix : configuredId;
+        this.instanceId = configuredId.isBlank() ? nodeId : configuredId + "-" + suffix;
+    }
+
+    /**
+     * @return l'ID du nœud, qui nomme son groupe de consommateurs
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @return l'ID de ce processus, porté par les événements qu'il publie
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    private static String hostName() {
+        String hostName = System.getenv("HOSTNAME");
+        if (hostName != null && !hostName.isBlank()) {
+            return hostName;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(
+                "Cannot resolve host name, set cache.invalidation.node-id", e);
+        }
+    }
+}
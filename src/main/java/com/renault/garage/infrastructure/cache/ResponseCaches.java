@@ -0,0 +1,203 @@
+package com.renault.garage.infrastructure.cache;
+
+import com.renault.garage.config.HibernateCacheConfig;
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.infrastructure.kafka.event.CacheInvalidationEvent;
+import com.renault.garage.infrastructure.kafka.event.CacheInvalidationEvent.EntityType;
+import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Point d'entrée unique pour invalider les réponses mises en cache.
+ * 
+ * Les lectures sont mises en cache par @Cacheable sur les services ; les
+ * écritures passent par ce composant, car certaines clés (le garage d'un
+ * véhicule supprimé, le véhicule d'un accessoire) ne sont connues qu'une
+ * fois l'entité chargée. Appelées dans une transaction, les évictions sont
+ * différées après le commit (voir CacheConfig).
+ * 
+ * Chaque éviction est aussi publiée comme {@link CacheInvalidationEvent}
+ * pour être diffusée aux autres nœuds ; les invalidations reçues d'un autre
+ * nœud sont appliquées par les méthodes *Locally, qui ne rediffusent pas.
+ * 
+ * Un garage invalidé est aussi évincé du cache de second niveau Hibernate
+ * (entité et horaires) : son compteur de véhicules est modifié hors du
+ * cycle de vie JPA, et un autre nœud peut l'avoir modifié. Une invalidation
+ * reçue d'un autre nœud vide en plus le cache de requêtes des garages.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponseCaches {
+
+    public static final String GARAGES = "garages";
+    public static final String VEHICLES = "vehicles";
+
+    private static final String OPENING_HOURS_ROLE = Garage.class.getName() + ".openingHours";
+
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    /**
+     * Invalide la réponse d'un garage (horaires, compteur de véhicules...).
+     *
+     * @param garageId l'ID du garage
+     */
+    public void evictGarage(Long garageId) {
+        evict(EntityType.GARAGE, garageId);
+    }
+
+    /**
+     * Invalide un lot de garages modifiés en SQL (réponses et cache de
+     * second niveau), sur tous les nœuds. À appeler après le commit du lot.
+     *
+     * @param garageIds les IDs des garages
+     */
+    public void evictGarages(Collection<Long> garageIds) {
+        if (garageIds.isEmpty()) {
+            return;
+        }
+        evictLocally(EntityType.GARAGE, garageIds);
+        garageIds.forEach(id -> publish(EntityType.GARAGE, id));
+    }
+
+    /**
+     * Invalide la réponse d'un véhicule.
+     *
+     * @param vehicleId l'ID du véhicule
+     */
+    public void evictVehicle(Long vehicleId) {
+        evict(EntityType.VEHICLE, vehicleId);
+    }
+
+    /**
+     * Vide le cache des véhicules, dont les réponses embarquent le nom du
+     * garage (renommage ou suppression d'un garage).
+     */
+    public void evictAllVehicles() {
+        clearLocally(EntityType.VEHICLE);
+        publish(EntityType.VEHICLE, null);
+    }
+
+    /**
+     * Évince des entrées du cache local uniquement.
+     *
+     * @param entityType le type d'entité
+     * @param ids les IDs à évincer
+     */
+    public void evictLocally(EntityType entityType, Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(cacheName(entityType));
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+        if (entityType == EntityType.GARAGE) {
+            evictGarageEntities(ids, true);
+        }
+    }
+
+    /**
+     * Vide le cache local d'un type d'entité uniquement.
+     *
+     * @param entityType le type d'entité
+     */
+    public void clearLocally(EntityType entityType) {
+        Cache cache = cacheManager.getCache(cacheName(entityType));
+        if (cache != null) {
+            cache.clear();
+        }
+        if (entityType == EntityType.GARAGE) {
+            secondLevelCache().ifPresent(l2 -> {
+                l2.evictEntityData(Garage.class);
+                l2.evictCollectionData(OPENING_HOURS_ROLE);
+                l2.evictQueryRegion(HibernateCacheConfig.GARAGE_QUERY_REGION);
+            });
+        }
+    }
+
+    private void evict(EntityType entityType, Long id) {
+        if (id == null) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(cacheName(entityType));
+        if (cache != null) {
+            cache.evict(id);
+            log.debug("Cache eviction requested for {} {}", entityType, id);
+        }
+        if (entityType == EntityType.GARAGE) {
+            afterCommit(() -> evictGarageEntities(List.of(id), false));
+        }
+        publish(entityType, id);
+    }
+
+    /**
+     * Évince des garages du cache de second niveau.
+     *
+     * @param ids les IDs des garages
+     * @param queries true pour vider aussi le cache de requêtes des garages
+     */
+    private void evictGarageEntities(Collection<Long> ids, boolean queries) {
+        secondLevelCache().ifPresent(l2 -> {
+            for (Long id : ids) {
+                l2.evictEntityData(Garage.class, id);
+                l2.evictCollectionData(OPENING_HOURS_ROLE, id);
+            }
+            if (queries) {
+                l2.evictQueryRegion(HibernateCacheConfig.GARAGE_QUERY_REGION);
+            }
+        });
+    }
+
+    private Optional<org.hibernate.Cache> secondLevelCache() {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        return Optional.ofNullable(factory)
+            .map(emf -> emf.unwrap(SessionFactory.class).getCache());
+    }
+
+    /**
+     * Exécute une action après le commit de la transaction courante, ou
+     * immédiatement hors transaction.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void publish(EntityType entityType, Long id) {
+        eventPublisher.publishEvent(CacheInvalidationEvent.builder()
+            .entityType(entityType)
+            .entityId(id)
+            .build());
+    }
+
+    private static String cacheName(EntityType entityType) {
+        return switch (entityType) {
+            case GARAGE -> GARAGES;
+            case VEHICLE -> VEHICLES;
+        };
+    }
+}
@@ -0,0 +1,359 @@
+package com.renault.garage.infrastructure.capacity;
+
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.projection.GarageOccupancy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Index en mémoire des places libres par garage.
+ * 
+ * Les garages sont rangés par seaux selon leur nombre de places libres
+ * (0 à {@link Garage#MAX_VEHICLES_PER_GARAGE}) : compter ou paginer les
+ * garages ayant au moins N places libres ne parcourt que les seaux
+ * concernés, sans requête SQL. Dans un seau, les garages sont retournés
+ * par ID croissant : la position d'un garage dans l'index est réutilisée
+ * après une suppression, elle ne peut pas servir d'ordre de pagination.
+ * 
+ * L'index est reconstruit au démarrage puis périodiquement à partir du
+ * compteur vehicle_count (une seule requête), et tenu à jour entre-temps
+ * après chaque commit qui ajoute ou retire des véhicules ou des garages.
+ * Les garages modifiés pendant une reconstruction sont relus après la
+ * bascule : leur commit a pu précéder ou suivre le parcours.
+ * Les écritures faites hors de ce nœud (autre réplica, chargeur massif) ne
+ * sont prises en compte qu'à la reconstruction suivante : l'index oriente
+ * la recherche, le quota reste vérifié en base à la réservation.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class GarageCapacityIndex {
+
+    private final GarageRepository garageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private volatile Occupancy occupancy;
+    private volatile Set<Long> touchedDuringRebuild;
+
+    public GarageCapacityIndex(GarageRepository garageRepository,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${capacity-index.enabled:true}") boolean enabled) {
+        this.garageRepository = garageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+
+        Gauge.builder("garage.capacity.index.garages", this, index -> index.isReady() ? index.countWithFreeSlots(0) : 0)
+            .description("Garages in the capacity index")
+            .register(meterRegistry);
+        Gauge.builder("garage.capacity.index.available", this, index -> index.isReady() ? index.countWithFreeSlots(1) : 0)
+            .description("Garages with at least one free slot according to the capacity index")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reconstruit l'index à partir de la base, au démarrage puis périodiquement.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${capacity-index.refresh-interval-ms:300000}",
+               fixedDelayString = "${capacity-index.refresh-interval-ms:300000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        synchronized (this) {
+            touchedDuringRebuild = new HashSet<>();
+        }
+        Occupancy rebuilt;
+        try {
+            rebuilt = transactionTemplate.execute(status -> {
+                Occupancy loading = new Occupancy((int) garageRepository.count());
+                try (Stream<GarageOccupancy> occupancies = garageRepository.streamOccupancies()) {
+                    occupancies.forEach(row -> loading.put(row.garageId(), row.vehicleCount()));
+                }
+                return loading;
+            });
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                touchedDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            this.occupancy = rebuilt;
+        }
+        // Un delta reporté pendant le parcours manque ou compte double selon que son
+        // commit le précède ou non : les garages touchés sont relus jusqu'à stabilité
+        Set<Long> touched;
+        while (!(touched = drainTouched()).isEmpty()) {
+            reload(touched);
+        }
+        log.info("Garage capacity index rebuilt: {} garages in {} ms",
+            rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * @return true une fois l'index chargé
+     */
+    public boolean isReady() {
+        return occupancy != null;
+    }
+
+    /**
+     * Compte les garages ayant au moins minFreeSlots places libres.
+     * 
+     * @param minFreeSlots nombre minimum de places libres
+     * @return le nombre de garages
+     */
+    public synchronized long countWithFreeSlots(int minFreeSlots) {
+        return occupancy.count(minFreeSlots);
+    }
+
+    /**
+     * Pagine les garages ayant au moins minFreeSlots places libres, du plus
+     * libre au moins libre puis par ID croissant.
+     * 
+     * @param minFreeSlots nombre minimum de places libres
+     * @param offset nombre de garages à sauter
+     * @param limit nombre maximum de garages retournés
+     * @return les IDs des garages
+     */
+    public synchronized List<Long> findWithFreeSlots(int minFreeSlots, long offset, int limit) {
+        return occupancy.find(minFreeSlots, offset, limit);
+    }
+
+    /**
+     * Enregistre un nouveau garage, après le commit de la transaction courante.
+     * 
+     * @param garageId l'ID du garage
+     * @param vehicleCount son nombre de véhicules
+     */
+    public void garageAdded(Long garageId, int vehicleCount) {
+        afterCommit(garageId, index -> index.put(garageId, vehicleCount));
+    }
+
+    /**
+     * Retire un garage supprimé, après le commit de la transaction courante.
+     * 
+     * @param garageId l'ID du garage
+     */
+    public void garageRemoved(Long garageId) {
+        afterCommit(garageId, index -> index.remove(garageId));
+    }
+
+    /**
+     * Reporte l'ajout (delta positif) ou le retrait (delta négatif) de
+     * véhicules, après le commit de la transaction courante.
+     * 
+     * @param garageId l'ID du garage
+     * @param delta variation du nombre de véhicules
+     */
+    public void vehiclesChanged(Long garageId, int delta) {
+        afterCommit(garageId, index -> index.adjust(garageId, delta));
+    }
+
+    private void afterCommit(Long garageId, Consumer<Occupancy> update) {
+        if (!isReady() && touchedDuringRebuild == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(garageId, update);
+                }
+            });
+        } else {
+            apply(garageId, update);
+        }
+    }
+
+    private synchronized void apply(Long garageId, Consumer<Occupancy> update) {
+        if (occupancy != null) {
+            update.accept(occupancy);
+        }
+        if (touchedDuringRebuild != null) {
+            touchedDuringRebuild.add(garageId);
+        }
+    }
+
+    /**
+     * Retourne les garages touchés depuis l'appel précédent ; s'il n'y en a
+     * aucun, la reconstruction est terminée et le suivi s'arrête.
+     */
+    private synchronized Set<Long> drainTouched() {
+        Set<Long> touched = touchedDuringRebuild;
+        touchedDuringRebuild = touched.isEmpty() ? null : new HashSet<>();
+        return touched;
+    }
+
+    /**
+     * Remplace l'occupation des garages donnés par celle lue en base.
+     */
+    private void reload(Set<Long> garageIds) {
+        List<GarageOccupancy> rows = garageRepository.findOccupancies(garageIds);
+        synchronized (this) {
+            Set<Long> removed = new HashSet<>(garageIds);
+            for (GarageOccupancy row : rows) {
+                occupancy.put(row.garageId(), row.vehicleCount());
+                removed.remove(row.garageId());
+            }
+            removed.forEach(occupancy::remove);
+        }
+    }
+
+    /**
+     * Occupation des garages rangée par seaux de places libres. Non thread-safe.
+     * 
+     * Chaque garage occupe une position (int) ; un seau est un BitSet de
+     * positions, ce qui évite tout objet par garage.
+     */
+    static final class Occupancy {
+
+        private static final int MISSING = -1;
+
+        private final LongIntHashMap positionsById;
+        private final BitSet[] buckets = new BitSet[Garage.MAX_VEHICLES_PER_GARAGE + 1];
+        private final int[] bucketSizes = new int[Garage.MAX_VEHICLES_PER_GARAGE + 1];
+        private long[] garageIds;
+        private int[] vehicleCounts;
+        private int[] freePositions = new int[16];
+        private int freePositionCount;
+        private int nextPosition;
+
+        Occupancy(int expectedGarages) {
+            int capacity = Math.max(16, expectedGarages);
+            this.positionsById = new LongIntHashMap(capacity);
+            this.garageIds = new long[capacity];
+            this.vehicleCounts = new int[capacity];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new BitSet();
+            }
+        }
+
+        int size() {
+            return positionsById.size();
+        }
+
+        void put(long garageId, int vehicleCount) {
+            int position = positionsById.get(garageId, MISSING);
+            if (position == MISSING) {
+                position = allocatePosition();
+                positionsById.put(garageId, position);
+                garageIds[position] = garageId;
+            } else {
+                unlink(position);
+            }
+            vehicleCounts[position] = vehicleCount;
+            link(position);
+        }
+
+        void adjust(long garageId, int delta) {
+            int position = positionsById.get(garageId, MISSING);
+            if (position == MISSING) {
+                return;
+            }
+            unlink(position);
+            vehicleCounts[position] = Math.max(0, vehicleCounts[position] + delta);
+            link(position);
+        }
+
+        void remove(long garageId) {
+            int position = positionsById.remove(garageId, MISSING);
+            if (position == MISSING) {
+                return;
+            }
+            unlink(position);
+            if (freePositionCount == freePositions.length) {
+                freePositions = Arrays.copyOf(freePositions, freePositionCount * 2);
+            }
+            freePositions[freePositionCount++] = position;
+        }
+
+        long count(int minFreeSlots) {
+            long count = 0;
+            for (int free = Math.max(0, minFreeSlots); free < buckets.length; free++) {
+                count += bucketSizes[free];
+            }
+            return count;
+        }
+
+        /**
+         * Les seaux entièrement sautés ne sont pas lus ; les IDs des seaux
+         * retournés sont triés avant d'appliquer offset et limit.
+         */
+        List<Long> find(int minFreeSlots, long offset, int limit) {
+            List<Long> result = new ArrayList<>(Math.min(limit, 1024));
+            long toSkip = offset;
+            for (int free = buckets.length - 1; free >= Math.max(0, minFreeSlots) && result.size() < limit; free--) {
+                int bucketSize = bucketSizes[free];
+                if (toSkip >= bucketSize) {
+                    toSkip -= bucketSize;
+                    continue;
+                }
+                long[] ids = new long[bucketSize];
+                int count = 0;
+                BitSet bucket = buckets[free];
+                for (int position = bucket.nextSetBit(0); position >= 0; position = bucket.nextSetBit(position + 1)) {
+                    ids[count++] = garageIds[position];
+                }
+                Arrays.sort(ids);
+                for (int i = (int) toSkip; i < bucketSize && result.size() < limit; i++) {
+                    result.add(ids[i]);
+                }
+                toSkip = 0;
+            }
+            return result;
+        }
+
+        private int allocatePosition() {
+            if (freePositionCount > 0) {
+                return freePositions[--freePositionCount];
+            }
+            if (nextPosition == garageIds.length) {
+                garageIds = Arrays.copyOf(garageIds, nextPosition * 2);
+                vehicleCounts = Arrays.copyOf(vehicleCounts, nextPosition * 2);
+            }
+            return nextPosition++;
+        }
+
+        private void link(int position) {
+            int free = freeSlots(vehicleCounts[position]);
+            buckets[free].set(position);
+            bucketSizes[free]++;
+        }
+
+        private void unlink(int position) {
+            int free = freeSlots(vehicleCounts[position]);
+            buckets[free].clear(position);
+            bucketSizes[free]--;
+        }
+
+        private static int freeSlots(int vehicleCount) {
+            return Math.max(0, Garage.MAX_VEHICLES_PER_GARAGE - vehicleCount);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.renault.garage.infrastructure.count;
+
+import com.renault.garage.domain.model.enums.CountStrategy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.function.Function;
+
+/**
+ * Page lue avec la stratégie de comptage effectivement appliquée.
+ * 
+ * @param slice la page : une {@link Page} si un total est connu, une simple
+ *              {@link Slice} (hasNext seulement) sinon
+ * @param strategy la stratégie appliquée (EXACT si le total était connu sans
+ *                 requête, ou si aucune estimation n'est disponible)
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record CountedSlice<T>(Slice<T> slice, CountStrategy strategy) {
+
+    /**
+     * @param mapper conversion d'un élément
+     * @return la page convertie, total et stratégie inchangés
+     */
+    public <R> CountedSlice<R> map(Function<? super T, ? extends R> mapper) {
+        return new CountedSlice<>(slice.map(mapper), strategy);
+    }
+}
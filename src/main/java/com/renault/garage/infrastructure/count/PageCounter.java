@@ -0,0 +1,92 @@
+package com.renault.garage.infrastructure.count;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.renault.garage.domain.model.enums.CountStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Complète une page lue sans total ({@link Slice}, size + 1 lignes) selon
+ * la stratégie de comptage demandée.
+ * 
+ * Comme PageableExecutionUtils, le total est déduit sans requête quand la
+ * page est la dernière. Sinon :
+ * <ul>
+ *   <li>EXACT : COUNT à chaque page ;</li>
+ *   <li>CACHED : COUNT mémorisé par clé (liste + paramètres, hors numéro
+ *       de page) pendant page-count.cache.ttl-seconds ;</li>
+ *   <li>APPROXIMATE : estimation du planificateur ; EXACT si la liste ne
+ *       fournit pas d'estimation ;</li>
+ *   <li>NONE : la page est renvoyée telle quelle.</li>
+ * </ul>
+ * 
+ * Le cache n'est pas invalidé par les écritures : un total CACHED peut
+ * retarder d'au plus la durée de vie configurée. Un total mémorisé ou
+ * estimé n'est jamais inférieur aux lignes déjà parcourues.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Component
+public class PageCounter {
+
+    private final Cache<String, Long> counts;
+
+    public PageCounter(MeterRegistry meterRegistry,
+                       @Value("${page-count.cache.ttl-seconds:30}") long ttlSeconds,
+                       @Value("${page-count.cache.maximum-size:10000}") long maximumSize) {
+        this.counts = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "page.counts");
+    }
+
+    /**
+     * Complète la page selon la stratégie.
+     * 
+     * @param slice la page lue
+     * @param strategy la stratégie demandée
+     * @param key la liste et ses paramètres (clé du cache CACHED)
+     * @param count le COUNT exact
+     * @param estimate l'estimation du planificateur (null si non disponible)
+     * @return la page, avec total si la stratégie en fournit un
+     */
+    public <T> CountedSlice<T> complete(Slice<T> slice, CountStrategy strategy, String key,
+                                        LongSupplier count, LongSupplier estimate) {
+        if (strategy == CountStrategy.NONE) {
+            return new CountedSlice<>(slice, CountStrategy.NONE);
+        }
+
+        long seen = slice.getPageable().isPaged()
+            ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+            : slice.getNumberOfElements();
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            return counted(slice, seen, CountStrategy.EXACT);
+        }
+
+        // Un total mémorisé ou estimé est relevé au nombre de lignes déjà vues : hasNext reste exact
+        long atLeast = slice.hasNext() ? seen + 1 : seen;
+        return switch (strategy) {
+            case CACHED -> counted(slice, Math.max(counts.get(key, k -> count.getAsLong()), atLeast),
+                CountStrategy.CACHED);
+            case APPROXIMATE -> estimate == null
+                ? counted(slice, count.getAsLong(), CountStrategy.EXACT)
+                : counted(slice, Math.max(estimate.getAsLong(), atLeast), CountStrategy.APPROXIMATE);
+            default -> counted(slice, count.getAsLong(), CountStrategy.EXACT);
+        };
+    }
+
+    private static <T> CountedSlice<T> counted(Slice<T> slice, long total, CountStrategy strategy) {
+        return new CountedSlice<>(new PageImpl<>(slice.getContent(), slice.getPageable(), total), strategy);
+    }
+}
@@ -0,0 +1,14 @@
+package com.renault.garage.infrastructure.geo;
+
+/**
+ * Garage trouvé par la recherche des plus proches : son ID et sa distance
+ * au point recherché.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public record GarageDistance(
+    long garageId,
+    double distanceKm
+) {
+}
@@ -0,0 +1,286 @@
+package com.renault.garage.infrastructure.geo;
+
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.model.valueobject.GeoPoint;
+import com.renault.garage.domain.model.valueobject.OpeningWindow;
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.VehicleRepository;
+import com.renault.garage.domain.repository.projection.GarageFuelTypeCount;
+import com.renault.garage.domain.repository.projection.GarageLocation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Index géographique en mémoire des garages, pour la recherche des garages
+ * les plus proches d'un point.
+ * 
+ * Les garages localisés (latitude et longitude renseignées) sont rangés
+ * dans une grille régulière ({@link GeoGrid}) avec ce qu'il faut pour
+ * filtrer sans requête SQL : nombre de véhicules (places libres), nombre
+ * de véhicules par carburant et horaires compilés (colonne
+ * opening_schedule, fermé tant qu'ils ne sont pas calculés).
+ * 
+ * Comme GarageCapacityIndex, l'index est reconstruit au démarrage puis
+ * périodiquement, et tenu à jour entre-temps après chaque commit qui écrit
+ * un garage ou ajoute, modifie ou retire des véhicules ; les garages
+ * modifiés pendant une reconstruction sont relus après la bascule. Les
+ * écritures faites hors de ce nœud ne sont prises en compte qu'à la
+ * reconstruction suivante. Désactivé (geo-index.enabled=false), il n'est
+ * chargé qu'à la première recherche.
+ * 
+ * Les recherches ne modifient pas la grille et s'exécutent en parallèle
+ * sous le verrou de lecture ; les mises à jour et la bascule prennent le
+ * verrou d'écriture.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class GarageGeoIndex {
+
+    private final GarageRepository garageRepository;
+    private final VehicleRepository vehicleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final double cellDegrees;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile GeoGrid grid;
+    private volatile Set<Long> touchedDuringLoad;
+
+    public GarageGeoIndex(GarageRepository garageRepository,
+                          VehicleRepository vehicleRepository,
+                          TransactionTemplate transactionTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${geo-index.enabled:true}") boolean enabled,
+                          @Value("${geo-index.cell-degrees:0.1}") double cellDegrees) {
+        this.garageRepository = garageRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.cellDegrees = cellDegrees;
+
+        Gauge.builder("garage.geo.index.garages", this, index -> index.isReady() ? index.grid.size() : 0)
+            .description("Located garages in the geo index")
+            .register(meterRegistry);
+        Gauge.builder("garage.geo.index.schedules", this, index -> index.isReady() ? index.grid.distinctSchedules() : 0)
+            .description("Distinct weekly schedules shared by the garages of the geo index")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reconstruit l'index à partir de la base, au démarrage puis périodiquement.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${geo-index.refresh-interval-ms:900000}",
+               fixedDelayString = "${geo-index.refresh-interval-ms:900000}")
+    public void rebuild() {
+        if (enabled) {
+            load();
+        }
+    }
+
+    /**
+     * @return true une fois l'index chargé
+     */
+    public boolean isReady() {
+        return grid != null;
+    }
+
+    /**
+     * Recherche les garages les plus proches d'un point.
+     * 
+     * @param latitude la latitude du point
+     * @param longitude la longitude du point
+     * @param limit nombre maximum de garages retournés
+     * @param availableOnly true pour ignorer les garages pleins
+     * @param fuelType carburant dont le garage doit accueillir au moins un véhicule (null : pas de filtre)
+     * @param openDuring plage de la semaine pendant laquelle le garage doit ouvrir (null : pas de filtre)
+     * @return les garages et leur distance, du plus proche au plus éloigné
+     */
+    public List<GarageDistance> findNearest(double latitude, double longitude, int limit,
+                                            boolean availableOnly, FuelType fuelType, OpeningWindow openDuring) {
+        if (!isReady()) {
+            loadIfMissing();
+        }
+        lock.readLock().lock();
+        try {
+            return grid.nearest(latitude, longitude, limit, availableOnly, fuelType, openDuring);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Enregistre un garage créé ou modifié (position, horaires, nombre de
+     * véhicules), après le commit de la transaction courante. Un garage
+     * sans position est retiré de l'index.
+     * 
+     * Le garage est lu au commit : ses horaires compilés, calculés au flush
+     * (Garage#applyOpeningSchedule), sont alors à jour.
+     * 
+     * @param garage le garage enregistré
+     */
+    public void garageSaved(Garage garage) {
+        afterCommit(garage.getId(), index -> {
+            GeoPoint location = garage.getLocation();
+            if (location == null) {
+                index.remove(garage.getId());
+            } else {
+                index.put(garage.getId(), location.latitude(), location.longitude(), garage.getVehicleCount(),
+                    Objects.requireNonNullElseGet(garage.getOpeningSchedule(),
+                        () -> WeeklySchedule.parse(garage.getOpeningHours())));
+            }
+        });
+    }
+
+    /**
+     * Retire un garage supprimé, après le commit de la transaction courante.
+     * 
+     * @param garageId l'ID du garage
+     */
+    public void garageRemoved(Long garageId) {
+        afterCommit(garageId, index -> index.remove(garageId));
+    }
+
+    /**
+     * Reporte l'ajout (delta positif) ou le retrait (delta négatif) de
+     * véhicules d'un carburant, après le commit de la transaction courante.
+     * 
+     * @param garageId l'ID du garage
+     * @param fuelType le carburant des véhicules
+     * @param delta variation du nombre de véhicules
+     */
+    public void vehiclesChanged(Long garageId, FuelType fuelType, int delta) {
+        afterCommit(garageId, index -> index.adjustVehicles(garageId, fuelType, delta));
+    }
+
+    private synchronized void loadIfMissing() {
+        if (!isReady()) {
+            load();
+        }
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        withWriteLock(() -> touchedDuringLoad = new HashSet<>());
+        GeoGrid rebuilt;
+        try {
+            rebuilt = transactionTemplate.execute(status -> {
+                GeoGrid loading = new GeoGrid((int) garageRepository.count(), cellDegrees);
+                try (Stream<GarageLocation> locations = garageRepository.streamLocations()) {
+                    locations.forEach(row -> put(loading, row));
+                }
+                try (Stream<GarageFuelTypeCount> counts = vehicleRepository.streamFuelTypeCounts()) {
+                    counts.forEach(row -> loading.setFuelTypeCount(row.garageId(), row.fuelType(),
+                        Math.toIntExact(row.vehicleCount())));
+                }
+                return loading;
+            });
+        } catch (RuntimeException e) {
+            withWriteLock(() -> touchedDuringLoad = null);
+            throw e;
+        }
+        withWriteLock(() -> this.grid = rebuilt);
+        // Un delta reporté pendant le parcours manque ou compte double selon que son
+        // commit le précède ou non : les garages touchés sont relus jusqu'à stabilité
+        Set<Long> touched;
+        while (!(touched = drainTouched()).isEmpty()) {
+            reload(touched);
+        }
+        log.info("Garage geo index rebuilt: {} garages, {} distinct schedules in {} ms",
+            rebuilt.size(), rebuilt.distinctSchedules(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void afterCommit(Long garageId, Consumer<GeoGrid> update) {
+        if (!isReady() && touchedDuringLoad == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(garageId, update);
+                }
+            });
+        } else {
+            apply(garageId, update);
+        }
+    }
+
+    private void apply(Long garageId, Consumer<GeoGrid> update) {
+        withWriteLock(() -> {
+            if (grid != null) {
+                update.accept(grid);
+            }
+            if (touchedDuringLoad != null) {
+                touchedDuringLoad.add(garageId);
+            }
+        });
+    }
+
+    /**
+     * Retourne les garages touchés depuis l'appel précédent ; s'il n'y en a
+     * aucun, le chargement est terminé et le suivi s'arrête.
+     */
+    private Set<Long> drainTouched() {
+        lock.writeLock().lock();
+        try {
+            Set<Long> touched = touchedDuringLoad;
+            touchedDuringLoad = touched.isEmpty() ? null : new HashSet<>();
+            return touched;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remplace les garages donnés par leur état en base.
+     */
+    private void reload(Set<Long> garageIds) {
+        List<GarageLocation> locations = garageRepository.findLocations(garageIds);
+        List<GarageFuelTypeCount> counts = vehicleRepository.findFuelTypeCounts(garageIds);
+        withWriteLock(() -> {
+            garageIds.forEach(grid::remove);
+            locations.forEach(row -> put(grid, row));
+            counts.forEach(row -> grid.setFuelTypeCount(row.garageId(), row.fuelType(),
+                Math.toIntExact(row.vehicleCount())));
+        });
+    }
+
+    private static void put(GeoGrid grid, GarageLocation row) {
+        grid.put(row.garageId(), row.latitude(), row.longitude(),
+            row.vehicleCount(), Objects.requireNonNullElse(row.openingSchedule(), WeeklySchedule.CLOSED));
+    }
+
+    private void withWriteLock(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
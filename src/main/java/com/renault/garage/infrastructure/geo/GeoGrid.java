@@ -0,0 +1,448 @@
+package com.renault.garage.infrastructure.geo;
+
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.model.valueobject.GeoPoint;
+import com.renault.garage.domain.model.valueobject.OpeningWindow;
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+import com.renault.garage.infrastructure.capacity.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grille régulière de garages positionnés, pour la recherche des k plus
+ * proches voisins. Non thread-safe.
+ * 
+ * Chaque garage occupe une position (int) dans des tableaux parallèles
+ * (coordonnées, nombre de véhicules, véhicules par carburant, horaires) ;
+ * une cellule de la grille (cellDegrees x cellDegrees) liste les positions
+ * qu'elle contient. La recherche parcourt les cellules par anneaux
+ * concentriques autour du point et s'arrête dès que le k-ième meilleur
+ * candidat est plus proche que tout point hors des anneaux parcourus. Si
+ * les anneaux deviennent plus grands que la grille occupée (filtres très
+ * sélectifs), les cellules restantes sont parcourues directement.
+ * 
+ * Les horaires identiques sont partagés (une instance par horaire distinct).
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public final class GeoGrid {
+
+    private static final int MISSING = -1;
+    private static final int FUEL_TYPES = FuelType.values().length;
+    private static final double KM_PER_RADIAN = GeoPoint.EARTH_RADIUS_KM;
+
+    private final double cellDegrees;
+    private final LongIntHashMap positionsById;
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final Map<WeeklySchedule, WeeklySchedule> schedules = new HashMap<>();
+
+    private long[] garageIds;
+    private double[] latitudes;
+    private double[] longitudes;
+    private int[] vehicleCounts;
+    private int[] fuelTypeCounts;
+    private WeeklySchedule[] weeklySchedules;
+    private int[] freePositions = new int[16];
+    private int freePositionCount;
+    private int nextPosition;
+
+    /**
+     * @param expectedGarages nombre de garages attendus (dimensionnement initial)
+     * @param cellDegrees côté d'une cellule, en degrés
+     */
+    public GeoGrid(int expectedGarages, double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 90) {
+            throw new IllegalArgumentException("cellDegrees must be in ]0, 90]");
+        }
+        int capacity = Math.max(16, expectedGarages);
+        this.cellDegrees = cellDegrees;
+        this.positionsById = new LongIntHashMap(capacity);
+        this.garageIds = new long[capacity];
+        this.latitudes = new double[capacity];
+        this.longitudes = new double[capacity];
+        this.vehicleCounts = new int[capacity];
+        this.fuelTypeCounts = new int[capacity * FUEL_TYPES];
+        this.weeklySchedules = new WeeklySchedule[capacity];
+    }
+
+    /**
+     * @return le nombre de garages indexés
+     */
+    public int size() {
+        return positionsById.size();
+    }
+
+    /**
+     * @return le nombre d'horaires distincts
+     */
+    public int distinctSchedules() {
+        return schedules.size();
+    }
+
+    /**
+     * Ajoute ou déplace un garage. Les véhicules par carburant d'un garage
+     * déjà indexé sont conservés.
+     * 
+     * @param garageId l'ID du garage
+     * @param latitude sa latitude
+     * @param longitude sa longitude
+     * @param vehicleCount son nombre de véhicules
+     * @param schedule ses horaires
+     */
+    public void put(long garageId, double latitude, double longitude, int vehicleCount, WeeklySchedule schedule) {
+        int position = positionsById.get(garageId, MISSING);
+        if (position == MISSING) {
+            position = allocatePosition();
+            positionsById.put(garageId, position);
+            garageIds[position] = garageId;
+            Arrays.fill(fuelTypeCounts, position * FUEL_TYPES, (position + 1) * FUEL_TYPES, 0);
+        } else {
+            unlink(position);
+        }
+        latitudes[position] = latitude;
+        longitudes[position] = longitude;
+        vehicleCounts[position] = vehicleCount;
+        weeklySchedules[position] = schedules.computeIfAbsent(schedule, key -> key);
+        cells.computeIfAbsent(key(index(latitude), index(longitude)), key -> new Cell()).add(position);
+    }
+
+    /**
+     * Fixe le nombre de véhicules d'un carburant dans un garage indexé.
+     * 
+     * @param garageId l'ID du garage
+     * @param fuelType le carburant
+     * @param count le nombre de véhicules
+     */
+    public void setFuelTypeCount(long garageId, FuelType fuelType, int count) {
+        int position = positionsById.get(garageId, MISSING);
+        if (position != MISSING) {
+            fuelTypeCounts[position * FUEL_TYPES + fuelType.ordinal()] = count;
+        }
+    }
+
+    /**
+     * Reporte l'ajout (delta positif) ou le retrait (delta négatif) de
+     * véhicules d'un carburant.
+     * 
+     * @param garageId l'ID du garage
+     * @param fuelType le carburant (null : seul le nombre total change)
+     * @param delta variation du nombre de véhicules
+     */
+    public void adjustVehicles(long garageId, FuelType fuelType, int delta) {
+        int position = positionsById.get(garageId, MISSING);
+        if (position == MISSING) {
+            return;
+        }
+        vehicleCounts[position] = Math.max(0, vehicleCounts[position] + delta);
+        if (fuelType != null) {
+            int index = position * FUEL_TYPES + fuelType.ordinal();
+            fuelTypeCounts[index] = Math.max(0, fuelTypeCounts[index] + delta);
+        }
+    }
+
+    /**
+     * Retire un garage.
+     * 
+     * @param garageId l'ID du garage
+     */
+    public void remove(long garageId) {
+        int position = positionsById.remove(garageId, MISSING);
+        if (position == MISSING) {
+            return;
+        }
+        unlink(position);
+        weeklySchedules[position] = null;
+        if (freePositionCount == freePositions.length) {
+            freePositions = Arrays.copyOf(freePositions, freePositionCount * 2);
+        }
+        freePositions[freePositionCount++] = position;
+    }
+
+    /**
+     * Recherche les garages les plus proches d'un point.
+     * 
+     * @param latitude la latitude du point
+     * @param longitude la longitude du point
+     * @param limit nombre maximum de garages retournés
+     * @param availableOnly true pour ignorer les garages pleins
+     * @param fuelType carburant dont le garage doit accueillir au moins un véhicule (null : pas de filtre)
+     * @param openDuring plage de la semaine pendant laquelle le garage doit ouvrir (null : pas de filtre)
+     * @return les garages et leur distance, du plus proche au plus éloigné
+     */
+    public List<GarageDistance> nearest(double latitude, double longitude, int limit,
+                                        boolean availableOnly, FuelType fuelType, OpeningWindow openDuring) {
+        if (limit <= 0 || cells.isEmpty()) {
+            return List.of();
+        }
+        Search search = new Search(latitude, longitude, limit, availableOnly, fuelType, openDuring);
+        int row = index(latitude);
+        int column = index(longitude);
+        int visitedCells = 0;
+        for (int ring = 0; ; ring++) {
+            long ringCells = ring == 0 ? 1 : 8L * ring;
+            long squareCells = (2L * ring + 1) * (2L * ring + 1);
+            if (ring > 0 && squareCells > 4L * cells.size()) {
+                // Anneaux plus grands que la grille occupée : parcours direct des cellules restantes
+                scanOutside(search, row, column, ring - 1);
+                break;
+            }
+            for (long i = 0; i < ringCells; i++) {
+                Cell cell = cells.get(key(row + ringRow(ring, i), column + ringColumn(ring, i)));
+                if (cell != null) {
+                    search.scan(cell);
+                    visitedCells++;
+                }
+            }
+            if (visitedCells == cells.size()
+                || search.isFull() && search.worstDistance() <= outsideDistance(latitude, longitude, row, column, ring)) {
+                break;
+            }
+        }
+        return search.result();
+    }
+
+    /**
+     * Parcourt les cellules à plus de visitedRing anneaux de la cellule (row, column).
+     */
+    private void scanOutside(Search search, int row, int column, int visitedRing) {
+        for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+            long key = entry.getKey();
+            int cellRow = (int) (key >> 32);
+            int cellColumn = (int) key;
+            if (Math.max(Math.abs(cellRow - row), Math.abs(cellColumn - column)) > visitedRing) {
+                search.scan(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Distance minimale entre le point et tout point situé hors du carré
+     * des anneaux 0 à ring (borne inférieure exacte sur la sphère).
+     */
+    private double outsideDistance(double latitude, double longitude, int row, int column, int ring) {
+        double north = (row + ring + 1) * cellDegrees - latitude;
+        double south = latitude - (row - ring) * cellDegrees;
+        double east = (column + ring + 1) * cellDegrees - longitude;
+        double west = longitude - (column - ring) * cellDegrees;
+        double latitudeKm = Math.toRadians(Math.min(north, south)) * KM_PER_RADIAN;
+        // Distance d'un point au méridien décalé de d degrés : asin(cos(latitude) * sin(d))
+        double longitudeGap = Math.toRadians(Math.min(90, Math.min(east, west)));
+        double longitudeKm = Math.asin(Math.cos(Math.toRadians(latitude)) * Math.sin(longitudeGap)) * KM_PER_RADIAN;
+        return Math.min(latitudeKm, longitudeKm);
+    }
+
+    // Cellules de l'anneau ring, parcourues côté par côté (8 * ring cellules)
+    private static int ringRow(int ring, long i) {
+        if (ring == 0) {
+            return 0;
+        }
+        int side = 2 * ring;
+        int offset = (int) (i % side);
+        return switch ((int) (i / side)) {
+            case 0 -> -ring;
+            case 1 -> -ring + offset;
+            case 2 -> ring;
+            default -> ring - offset;
+        };
+    }
+
+    private static int ringColumn(int ring, long i) {
+        if (ring == 0) {
+            return 0;
+        }
+        int side = 2 * ring;
+        int offset = (int) (i % side);
+        return switch ((int) (i / side)) {
+            case 0 -> -ring + offset;
+            case 1 -> ring;
+            case 2 -> ring - offset;
+            default -> -ring;
+        };
+    }
+
+    private int index(double degrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long key(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    private void unlink(int position) {
+        long key = key(index(latitudes[position]), index(longitudes[position]));
+        Cell cell = cells.get(key);
+        cell.remove(position);
+        if (cell.size == 0) {
+            cells.remove(key);
+        }
+    }
+
+    private int allocatePosition() {
+        if (freePositionCount > 0) {
+            return freePositions[--freePositionCount];
+        }
+        if (nextPosition == garageIds.length) {
+            int capacity = nextPosition * 2;
+            garageIds = Arrays.copyOf(garageIds, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            vehicleCounts = Arrays.copyOf(vehicleCounts, capacity);
+            fuelTypeCounts = Arrays.copyOf(fuelTypeCounts, capacity * FUEL_TYPES);
+            weeklySchedules = Arrays.copyOf(weeklySchedules, capacity);
+        }
+        return nextPosition++;
+    }
+
+    /**
+     * Positions contenues dans une cellule (ordre quelconque).
+     */
+    private static final class Cell {
+
+        private int[] positions = new int[4];
+        private int size;
+
+        void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        void remove(int position) {
+            for (int i = 0; i < size; i++) {
+                if (positions[i] == position) {
+                    positions[i] = positions[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Une recherche en cours : les limit meilleurs candidats, en tas max
+     * sur (distance, ID).
+     */
+    private final class Search {
+
+        private final double latitude;
+        private final double longitude;
+        private final int limit;
+        private final boolean availableOnly;
+        private final int fuelTypeIndex;
+        private final OpeningWindow openDuring;
+        private final int[] heap;
+        private final double[] distances;
+        private int size;
+
+        Search(double latitude, double longitude, int limit, boolean availableOnly, FuelType fuelType,
+               OpeningWindow openDuring) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.limit = limit;
+            this.availableOnly = availableOnly;
+            this.fuelTypeIndex = fuelType != null ? fuelType.ordinal() : MISSING;
+            this.openDuring = openDuring;
+            this.heap = new int[limit];
+            this.distances = new double[limit];
+        }
+
+        void scan(Cell cell) {
+            for (int i = 0; i < cell.size; i++) {
+                int position = cell.positions[i];
+                if (!accepts(position)) {
+                    continue;
+                }
+                double distance = GeoPoint.distanceKm(latitude, longitude, latitudes[position], longitudes[position]);
+                if (size < limit) {
+                    heap[size] = position;
+                    distances[size] = distance;
+                    siftUp(size++);
+                } else if (isBefore(distance, position, distances[0], heap[0])) {
+                    heap[0] = position;
+                    distances[0] = distance;
+                    siftDown(0);
+                }
+            }
+        }
+
+        boolean isFull() {
+            return size == limit;
+        }
+
+        double worstDistance() {
+            return distances[0];
+        }
+
+        List<GarageDistance> result() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> isBefore(distances[a], heap[a], distances[b], heap[b]) ? -1
+                : isBefore(distances[b], heap[b], distances[a], heap[a]) ? 1 : 0);
+            List<GarageDistance> result = new ArrayList<>(size);
+            for (int i : order) {
+                result.add(new GarageDistance(garageIds[heap[i]], distances[i]));
+            }
+            return result;
+        }
+
+        private boolean accepts(int position) {
+            if (availableOnly && vehicleCounts[position] >= Garage.MAX_VEHICLES_PER_GARAGE) {
+                return false;
+            }
+            if (fuelTypeIndex != MISSING && fuelTypeCounts[position * FUEL_TYPES + fuelTypeIndex] == 0) {
+                return false;
+            }
+            return openDuring == null || weeklySchedules[position].isOpenDuring(openDuring);
+        }
+
+        // Ordre (distance, ID) : résultat stable à égalité de distance
+        private boolean isBefore(double distance, int position, double otherDistance, int otherPosition) {
+            return distance < otherDistance
+                || distance == otherDistance && garageIds[position] < garageIds[otherPosition];
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!isBefore(distances[parent], heap[parent], distances[index], heap[index])) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int largest = index;
+                for (int child = 2 * index + 1; child <= 2 * index + 2 && child < size; child++) {
+                    if (isBefore(distances[largest], heap[largest], distances[child], heap[child])) {
+                        largest = child;
+                    }
+                }
+                if (largest == index) {
+                    return;
+                }
+                swap(index, largest);
+                index = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int position = heap[a];
+            heap[a] = heap[b];
+            heap[b] = position;
+            double distance = distances[a];
+            distances[a] = distances[b];
+            distances[b] = distance;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.renault.garage.infrastructure.geo;
+
+import com.renault.garage.domain.model.valueobject.GeoPoint;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Position approximative d'un code postal français, sans géocodeur externe.
+ * 
+ * La table (classpath:geo/postal-code-locations.csv) associe un préfixe de
+ * code postal à une position : 5 chiffres pour les arrondissements de Paris,
+ * Lyon et Marseille, 3 pour la Corse et l'outre-mer, 2 pour les autres
+ * départements (préfecture). Le préfixe le plus long l'emporte. La
+ * précision va donc de l'arrondissement au département : tous les garages
+ * d'un département hors de ces trois villes sont placés à sa préfecture.
+ * Ce n'est qu'un repli pour les garages dont les coordonnées n'ont pas été
+ * fournies (Garage#isLocationApproximate).
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public final class PostalCodeLocations {
+
+    private static final String RESOURCE = "/geo/postal-code-locations.csv";
+    private static final int[] PREFIX_LENGTHS = {5, 3, 2};
+
+    private PostalCodeLocations() {
+    }
+
+    /**
+     * Position d'un code postal.
+     * 
+     * @param postalCode le code postal à 5 chiffres
+     * @return la position, vide si le code postal est absent ou inconnu
+     */
+    public static Optional<GeoPoint> locate(String postalCode) {
+        if (postalCode == null || postalCode.length() != 5) {
+            return Optional.empty();
+        }
+        for (int length : PREFIX_LENGTHS) {
+            GeoPoint location = Table.LOCATIONS.get(postalCode.substring(0, length));
+            if (location != null) {
+                return Optional.of(location);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Table chargée au premier appel (idiome du holder).
+     */
+    private static final class Table {
+
+        static final Map<String, GeoPoint> LOCATIONS = load();
+
+        private static Map<String, GeoPoint> load() {
+            try (InputStream input = PostalCodeLocations.class.getResourceAsStream(RESOURCE)) {
+                if (input == null) {
+                    throw new IllegalStateException("Missing resource " + RESOURCE);
+                }
+                BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+                Map<String, GeoPoint> locations = new HashMap<>();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank() || line.startsWith("#")) {
+                        continue;
+                    }
+                    String[] columns = line.split(";");
+                    locations.put(columns[0],
+                        new GeoPoint(Double.parseDouble(columns[1]), Double.parseDouble(columns[2])));
+                }
+                return Map.copyOf(locations);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
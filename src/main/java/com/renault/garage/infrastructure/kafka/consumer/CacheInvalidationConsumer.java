@@ -0,0 +1,91 @@
+package com.renault.garage.infrastructure.kafka.consumer;
+
+import com.renault.garage.infrastructure.cache.CacheNode;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import com.renault.garage.infrastructure.kafka.event.CacheInvalidationEvent;
+import com.renault.garage.infrastructure.kafka.event.CacheInvalidationEvent.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applique au cache local les invalidations émises par les autres nœuds.
+ * 
+ * Chaque nœud consomme le topic avec son propre groupe (voir KafkaConfig).
+ * Les invalidations d'un poll sont regroupées : une clé n'est évincée
+ * qu'une fois par lot, et au-delà de cache.invalidation.clear-threshold
+ * clés pour un même type (import massif) le cache est vidé d'un coup.
+ * 
+ * Pattern utilisé: Observer Pattern, Event-Driven Architecture
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationConsumer {
+
+    private final ResponseCaches responseCaches;
+    private final CacheNode cacheNode;
+    private final int clearThreshold;
+
+    public CacheInvalidationConsumer(ResponseCaches responseCaches,
+                                     CacheNode cacheNode,
+                                     @Value("${cache.invalidation.clear-threshold:500}") int clearThreshold) {
+        this.responseCaches = responseCaches;
+        this.cacheNode = cacheNode;
+        this.clearThreshold = clearThreshold;
+    }
+
+    /**
+     * Consomme un lot d'invalidations.
+     * 
+     * @param events les invalidations du poll
+     */
+    @KafkaListener(
+        topics = "${kafka.topic.cache-invalidation}",
+        containerFactory = "cacheInvalidationListenerContainerFactory"
+    )
+    public void consumeCacheInvalidations(List<CacheInvalidationEvent> events) {
+        Map<EntityType, Set<Long>> keys = new EnumMap<>(EntityType.class);
+        Set<EntityType> cleared = EnumSet.noneOf(EntityType.class);
+
+        for (CacheInvalidationEvent event : events) {
+            if (event == null || event.getEntityType() == null || cacheNode.getInstanceId().equals(event.getSourceNode())) {
+                continue;
+            }
+            if (event.getEntityId() == null) {
+                cleared.add(event.getEntityType());
+            } else {
+                keys.computeIfAbsent(event.getEntityType(), type -> new HashSet<>()).add(event.getEntityId());
+            }
+        }
+
+        keys.forEach((entityType, ids) -> {
+            if (ids.size() > clearThreshold) {
+                cleared.add(entityType);
+            }
+        });
+
+        for (EntityType entityType : EntityType.values()) {
+            if (cleared.contains(entityType)) {
+                responseCaches.clearLocally(entityType);
+            } else if (keys.containsKey(entityType)) {
+                responseCaches.evictLocally(entityType, keys.get(entityType));
+            }
+        }
+
+        log.debug("Applied {} cache invalidations ({} keys, cleared: {})",
+            events.size(), keys.values().stream().mapToInt(Set::size).sum(), cleared);
+    }
+}
@@ -1,18 +1,30 @@
 package com.renault.garage.infrastructure.kafka.consumer;
 
 import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Consumer Kafka pour consommer les événements de création de véhicules.
- * 
+ *
+ * Les messages sont reçus par lots (un lot = un poll) et acquittés une seule
+ * fois par lot. Taille et durée de traitement des lots sont exposées en
+ * métriques (kafka.consumer.vehicle-created.batch.size / .duration).
+ *
  * Pattern utilisé: Observer Pattern, Event-Driven Architecture
- * 
+ *
  * @author Renault Team
  * @version 1.0.0
  */
@@ -20,46 +32,69 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class VehicleEventConsumer {
 
+    private final DistributionSummary batchSize;
+    private final Timer batchDuration;
+
+    public VehicleEventConsumer(MeterRegistry meterRegistry) {
+        this.batchSize = DistributionSummary.builder("kafka.consumer.vehicle-created.batch.size")
+            .description("Records per vehicle created batch")
+            .register(meterRegistry);
+        this.batchDuration = Timer.builder("kafka.consumer.vehicle-created.batch.duration")
+            .description("Processing time of a vehicle created batch")
+            .register(meterRegistry);
+    }
+
     /**
-     * Consomme les événements de création de véhicules.
-     * 
-     * @param event l'événement reçu
-     * @param partition la partition Kafka
-     * @param offset l'offset du message
+     * Consomme un lot d'événements de création de véhicules.
+     *
+     * @param records les messages du poll
      */
     @KafkaListener(
         topics = "${kafka.topic.vehicle-created}",
         groupId = "${spring.kafka.consumer.group-id}",
         containerFactory = "kafkaListenerContainerFactory"
     )
-    public void consumeVehicleCreatedEvent(
-            @Payload VehicleCreatedEvent event,
-            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
-            @Header(KafkaHeaders.OFFSET) long offset) {
-        
-        log.info("Received vehicle created event from partition {} with offset {}", partition, offset);
-        log.info("Vehicle details - ID: {}, Brand: {}, Model: {}, Garage: {}",
-            event.getVehicleId(),
-            event.getBrand(),
-            event.getModel(),
-            event.getGarageName());
-        
-        // Ici, vous pouvez ajouter la logique métier pour traiter l'événement
-        // Par exemple: envoyer une notification, mettre à jour un cache, etc.
-        processVehicleCreatedEvent(event);
+    public void consumeVehicleCreatedEvents(List<ConsumerRecord<String, VehicleCreatedEvent>> records) {
+        batchSize.record(records.size());
+        batchDuration.record(() -> {
+            List<VehicleCreatedEvent> events = new ArrayList<>(records.size());
+            for (ConsumerRecord<String, VehicleCreatedEvent> consumerRecord : records) {
+                if (consumerRecord.value() != null) {
+                    events.add(consumerRecord.value());
+                }
+            }
+            processVehicleCreatedEvents(events);
+        });
+
+        if (log.isDebugEnabled() && !records.isEmpty()) {
+            ConsumerRecord<String, VehicleCreatedEvent> first = records.get(0);
+            log.debug("Received batch of {} vehicle created events (first: partition {}, offset {})",
+                records.size(), first.partition(), first.offset());
+        }
     }
 
     /**
-     * Traite l'événement de création de véhicule.
-     * 
-     * @param event l'événement à traiter
+     * Traite un lot d'événements de création de véhicules.
+     *
+     * Les doublons (livraison au moins une fois depuis l'outbox) sont écartés
+     * sur eventId, puis les événements sont regroupés par garage.
+     *
+     * @param events les événements à traiter
      */
-    private void processVehicleCreatedEvent(VehicleCreatedEvent event) {
-        log.info("Processing vehicle created event for vehicle ID: {}", event.getVehicleId());
-        
+    void processVehicleCreatedEvents(List<VehicleCreatedEvent> events) {
+        Set<String> eventIds = new HashSet<>();
+        List<VehicleCreatedEvent> distinctEvents = events.stream()
+            .filter(event -> event.getEventId() == null || eventIds.add(event.getEventId()))
+            .toList();
+
+        Map<Long, Long> vehiclesByGarage = distinctEvents.stream()
+            .filter(event -> event.getGarageId() != null)
+            .collect(Collectors.groupingBy(VehicleCreatedEvent::getGarageId, Collectors.counting()));
+
         // Logique métier personnalisée
-        // Exemple: envoi d'email, mise à jour de statistiques, etc.
-        
-        log.info("Vehicle created event processed successfully for vehicle ID: {}", event.getVehicleId());
+        // Exemple: envoi d'emails groupés, mise à jour de statistiques par garage, etc.
+
+        log.info("Processed {} vehicle created events for {} garages ({} duplicates skipped)",
+            distinctEvents.size(), vehiclesByGarage.size(), events.size() - distinctEvents.size());
     }
 }
@@ -0,0 +1,46 @@
+package com.renault.garage.infrastructure.kafka.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Événement d'invalidation de cache diffusé à tous les nœuds.
+ * 
+ * Publié après le commit de la transaction qui a modifié l'entité ; chaque
+ * nœud retire alors l'entrée de son cache local. Une éviction ne fait que
+ * forcer une relecture : une invalidation reçue en retard ou dans le
+ * désordre est sans risque, l'événement ne porte donc pas de version.
+ * 
+ * Pattern utilisé: Event-Driven Architecture, Observer Pattern
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheInvalidationEvent {
+
+    /**
+     * Types d'entités mises en cache.
+     */
+    public enum EntityType {
+        GARAGE,
+        VEHICLE
+    }
+
+    private EntityType entityType;
+
+    /**
+     * ID de l'entité, null pour invalider toutes les entrées du type.
+     */
+    private Long entityId;
+
+    /**
+     * Nœud émetteur, qui a déjà invalidé son propre cache.
+     */
+    private String sourceNode;
+}
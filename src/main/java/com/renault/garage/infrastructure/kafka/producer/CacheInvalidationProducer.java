@@ -0,0 +1,59 @@
+package com.renault.garage.infrastructure.kafka.producer;
+
+import com.renault.garage.infrastructure.cache.CacheNode;
+import com.renault.garage.infrastructure.kafka.event.CacheInvalidationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Diffuse les invalidations de cache locales aux autres nœuds.
+ * 
+ * Les événements émis par ResponseCaches sont publiés sur Kafka après le
+ * commit (immédiatement hors transaction). Un échec d'envoi est seulement
+ * journalisé : les autres nœuds retrouvent la valeur à jour à l'expiration
+ * du TTL de leur cache.
+ * 
+ * Pattern utilisé: Observer Pattern, Event-Driven Architecture
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationProducer {
+
+    private final KafkaTemplate<String, CacheInvalidationEvent> cacheInvalidationKafkaTemplate;
+    private final CacheNode cacheNode;
+
+    @Value("${kafka.topic.cache-invalidation}")
+    private String cacheInvalidationTopic;
+
+    /**
+     * Publie une invalidation une fois la transaction validée.
+     * 
+     * @param event l'invalidation à diffuser
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCacheInvalidation(CacheInvalidationEvent event) {
+        event.setSourceNode(cacheNode.getInstanceId());
+        String key = event.getEntityType() + (event.getEntityId() == null ? "" : ":" + event.getEntityId());
+
+        try {
+            cacheInvalidationKafkaTemplate.send(cacheInvalidationTopic, key, event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.warn("Failed to publish cache invalidation {}: {}", key, ex.getMessage());
+                    }
+                });
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish cache invalidation {}: {}", key, e.getMessage());
+        }
+    }
+}
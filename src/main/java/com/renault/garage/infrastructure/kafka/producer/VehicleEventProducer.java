@@ -4,11 +4,17 @@ import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Producer Kafka pour publier les événements de création de véhicules.
@@ -29,26 +35,41 @@ public class VehicleEventProducer {
     private String vehicleCreatedTopic;
 
     /**
-     * Publie un événement de création de véhicule.
+     * Publie un lot d'événements de création de véhicules et attend les
+     * acquittements du broker.
      * 
-     * @param event l'événement à publier
+     * Les envois ne sont pas attendus un par un : ils sont regroupés par le
+     * producer puis transmis ensemble au broker lors du flush.
+     * 
+     * @param events les événements à publier
+     * @param timeout délai maximal d'attente des acquittements
+     * @throws KafkaException si un envoi échoue ou n'est pas acquitté à temps
      */
-    public void publishVehicleCreatedEvent(VehicleCreatedEvent event) {
-        log.info("Publishing vehicle created event for vehicle ID: {}", event.getVehicleId());
-        
-        CompletableFuture<SendResult<String, VehicleCreatedEvent>> future = 
-            kafkaTemplate.send(vehicleCreatedTopic, event.getVehicleId().toString(), event);
+    public void publishVehicleCreatedEvents(List<VehicleCreatedEvent> events, Duration timeout) {
+        if (events.isEmpty()) {
+            return;
+        }
+        log.info("Publishing {} vehicle created events", events.size());
         
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("Vehicle created event published successfully. Topic: {}, Partition: {}, Offset: {}",
-                    result.getRecordMetadata().topic(),
-                    result.getRecordMetadata().partition(),
-                    result.getRecordMetadata().offset());
-            } else {
-                log.error("Failed to publish vehicle created event for vehicle ID: {}", 
-                    event.getVehicleId(), ex);
+        List<CompletableFuture<?>> futures = new ArrayList<>(events.size());
+        for (VehicleCreatedEvent event : events) {
+            CompletableFuture<?> future = kafkaTemplate.send(vehicleCreatedTopic, event.getVehicleId().toString(), event);
+            futures.add(future);
+            // Broker injoignable : inutile d'attendre max.block.ms pour chaque envoi restant
+            if (future.isCompletedExceptionally()) {
+                break;
             }
-        });
+        }
+        kafkaTemplate.flush();
+        
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while publishing vehicle created events", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KafkaException("Failed to publish " + events.size() + " vehicle created events", e);
+        }
     }
 }
@@ -0,0 +1,263 @@
+package com.renault.garage.infrastructure.kafka.serialization;
+
+import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Format binaire compact de {@link VehicleCreatedEvent}.
+ *
+ * Structure (version 1) :
+ * <pre>
+ * magic (1 octet, 0xC5) | version (1 octet)
+ * bitmap de présence (varint)
+ * champs présents, dans l'ordre des bits :
+ *   vehicleId          varint zigzag
+ *   brand, model       longueur varint + UTF-8
+ *   yearOfManufacture  varint zigzag
+ *   fuelType           ordinal (varint)
+ *   vin                longueur varint + UTF-8
+ *   garageId           varint zigzag
+ *   garageName         longueur varint + UTF-8
+ *   createdAt          millisecondes epoch UTC, varint zigzag
+ *   eventId            16 octets si UUID (bit EVENT_ID_UUID), sinon chaîne
+ * </pre>
+ * Le magic ne peut pas être confondu avec le '{' d'un message JSON.
+ * createdAt est tronqué à la milliseconde. L'ordinal de FuelType fait partie
+ * du format : les nouvelles valeurs doivent être ajoutées en fin d'enum.
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+final class VehicleCreatedEventBinaryFormat {
+
+    static final byte MAGIC = (byte) 0xC5;
+    static final byte VERSION_1 = 1;
+
+    private static final int VEHICLE_ID = 1;
+    private static final int BRAND = 1 << 1;
+    private static final int MODEL = 1 << 2;
+    private static final int YEAR = 1 << 3;
+    private static final int FUEL_TYPE = 1 << 4;
+    private static final int VIN = 1 << 5;
+    private static final int GARAGE_ID = 1 << 6;
+    private static final int GARAGE_NAME = 1 << 7;
+    private static final int CREATED_AT = 1 << 8;
+    private static final int EVENT_ID = 1 << 9;
+    private static final int EVENT_ID_UUID = 1 << 10;
+
+    private static final FuelType[] FUEL_TYPES = FuelType.values();
+
+    private VehicleCreatedEventBinaryFormat() {
+    }
+
+    static byte[] write(VehicleCreatedEvent event) {
+        UUID eventUuid = parseUuid(event.getEventId());
+        int bitmap = 0;
+        bitmap |= event.getVehicleId() != null ? VEHICLE_ID : 0;
+        bitmap |= event.getBrand() != null ? BRAND : 0;
+        bitmap |= event.getModel() != null ? MODEL : 0;
+        bitmap |= event.getYearOfManufacture() != null ? YEAR : 0;
+        bitmap |= event.getFuelType() != null ? FUEL_TYPE : 0;
+        bitmap |= event.getVin() != null ? VIN : 0;
+        bitmap |= event.getGarageId() != null ? GARAGE_ID : 0;
+        bitmap |= event.getGarageName() != null ? GARAGE_NAME : 0;
+        bitmap |= event.getCreatedAt() != null ? CREATED_AT : 0;
+        bitmap |= event.getEventId() != null ? EVENT_ID : 0;
+        bitmap |= eventUuid != null ? EVENT_ID_UUID : 0;
+
+        Output out = new Output(64);
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION_1);
+        out.writeVarLong(bitmap);
+        if (event.getVehicleId() != null) {
+            out.writeZigZag(event.getVehicleId());
+        }
+        out.writeString(event.getBrand());
+        out.writeString(event.getModel());
+        if (event.getYearOfManufacture() != null) {
+            out.writeZigZag(event.getYearOfManufacture());
+        }
+        if (event.getFuelType() != null) {
+            out.writeVarLong(event.getFuelType().ordinal());
+        }
+        out.writeString(event.getVin());
+        if (event.getGarageId() != null) {
+            out.writeZigZag(event.getGarageId());
+        }
+        out.writeString(event.getGarageName());
+        if (event.getCreatedAt() != null) {
+            out.writeZigZag(event.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+        if (eventUuid != null) {
+            out.writeLong(eventUuid.getMostSignificantBits());
+            out.writeLong(eventUuid.getLeastSignificantBits());
+        } else {
+            out.writeString(event.getEventId());
+        }
+        return out.toByteArray();
+    }
+
+    static VehicleCreatedEvent read(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        try {
+            if (in.get() != MAGIC) {
+                throw new SerializationException("Not a binary vehicle created event");
+            }
+            byte version = in.get();
+            if (version != VERSION_1) {
+                throw new SerializationException("Unsupported vehicle created event version " + version);
+            }
+            int bitmap = (int) readVarLong(in);
+
+            VehicleCreatedEvent event = new VehicleCreatedEvent();
+            if ((bitmap & VEHICLE_ID) != 0) {
+                event.setVehicleId(readZigZag(in));
+            }
+            if ((bitmap & BRAND) != 0) {
+                event.setBrand(readString(in));
+            }
+            if ((bitmap & MODEL) != 0) {
+                event.setModel(readString(in));
+            }
+            if ((bitmap & YEAR) != 0) {
+                event.setYearOfManufacture((int) readZigZag(in));
+            }
+            if ((bitmap & FUEL_TYPE) != 0) {
+                int ordinal = (int) readVarLong(in);
+                if (ordinal >= FUEL_TYPES.length) {
+                    throw new SerializationException("Unknown fuel type ordinal " + ordinal);
+                }
+                event.setFuelType(FUEL_TYPES[ordinal]);
+            }
+            if ((bitmap & VIN) != 0) {
+                event.setVin(readString(in));
+            }
+            if ((bitmap & GARAGE_ID) != 0) {
+                event.setGarageId(readZigZag(in));
+            }
+            if ((bitmap & GARAGE_NAME) != 0) {
+                event.setGarageName(readString(in));
+            }
+            if ((bitmap & CREATED_AT) != 0) {
+                event.setCreatedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(readZigZag(in)), ZoneOffset.UTC));
+            }
+            if ((bitmap & EVENT_ID_UUID) != 0) {
+                event.setEventId(new UUID(in.getLong(), in.getLong()).toString());
+            } else if ((bitmap & EVENT_ID) != 0) {
+                event.setEventId(readString(in));
+            }
+            return event;
+        } catch (BufferUnderflowException e) {
+            throw new SerializationException("Truncated binary vehicle created event", e);
+        }
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            // Seule la forme canonique (minuscules) est restituée à l'identique
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Varint too long");
+    }
+
+    private static long readZigZag(ByteBuffer in) {
+        long raw = readVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) readVarLong(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new SerializationException("String length " + length + " exceeds message size");
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    /**
+     * Tampon d'écriture extensible.
+     */
+    private static final class Output {
+
+        private byte[] buffer;
+        private int size;
+
+        Output(int capacity) {
+            buffer = new byte[capacity];
+        }
+
+        void writeByte(int b) {
+            ensure(1);
+            buffer[size++] = (byte) b;
+        }
+
+        void writeLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+}
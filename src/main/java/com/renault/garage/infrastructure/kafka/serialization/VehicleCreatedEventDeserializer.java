@@ -0,0 +1,41 @@
+package com.renault.garage.infrastructure.kafka.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+
+/**
+ * Deserializer Kafka pour {@link VehicleCreatedEvent}.
+ * 
+ * Lit le format binaire compact et, pendant la migration, les messages JSON
+ * produits par l'ancien JsonSerializer (premier octet '{').
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public class VehicleCreatedEventDeserializer implements Deserializer<VehicleCreatedEvent> {
+
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    @Override
+    public VehicleCreatedEvent deserialize(String topic, byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        if (data[0] == VehicleCreatedEventBinaryFormat.MAGIC) {
+            return VehicleCreatedEventBinaryFormat.read(data);
+        }
+        if (data[0] == '{') {
+            try {
+                return objectMapper.readValue(data, VehicleCreatedEvent.class);
+            } catch (IOException e) {
+                throw new SerializationException("Malformed JSON vehicle created event", e);
+            }
+        }
+        throw new SerializationException("Unknown vehicle created event format (first byte " + data[0] + ")");
+    }
+}
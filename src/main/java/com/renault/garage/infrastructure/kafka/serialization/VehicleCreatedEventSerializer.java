@@ -0,0 +1,20 @@
+package com.renault.garage.infrastructure.kafka.serialization;
+
+import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Serializer Kafka binaire compact pour {@link VehicleCreatedEvent}.
+ * 
+ * Voir {@link VehicleCreatedEventBinaryFormat} pour le détail du format.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public class VehicleCreatedEventSerializer implements Serializer<VehicleCreatedEvent> {
+
+    @Override
+    public byte[] serialize(String topic, VehicleCreatedEvent event) {
+        return event == null ? null : VehicleCreatedEventBinaryFormat.write(event);
+    }
+}
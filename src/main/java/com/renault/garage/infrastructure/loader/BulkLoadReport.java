@@ -0,0 +1,67 @@
+package com.renault.garage.infrastructure.loader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rapport d'un chargement massif : lignes traitées et débit par étape.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public class BulkLoadReport {
+
+    private final List<Step> steps = new ArrayList<>();
+    private final long startNanos = System.nanoTime();
+    private long totalNanos;
+
+    void record(String name, long rows, long nanos) {
+        steps.add(new Step(name, rows, nanos, false));
+    }
+
+    void recordInsert(String table, long rows, long nanos) {
+        steps.add(new Step(table, rows, nanos, true));
+    }
+
+    void finish() {
+        totalNanos = System.nanoTime() - startNanos;
+    }
+
+    public List<Step> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    public long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+    }
+
+    /**
+     * Lignes écrites dans les tables cibles (hors staging et recalculs).
+     */
+    public long getTotalRows() {
+        return steps.stream()
+            .filter(Step::insert)
+            .mapToLong(Step::rows)
+            .sum();
+    }
+
+    public long getRowsPerSecond() {
+        return totalNanos == 0 ? 0 : Math.round(getTotalRows() / (totalNanos / 1_000_000_000.0));
+    }
+
+    /**
+     * Étape du chargement.
+     */
+    public record Step(String name, long rows, long nanos, boolean insert) {
+
+        public long millis() {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
+
+        public long rowsPerSecond() {
+            return nanos == 0 ? rows : Math.round(rows / (nanos / 1_000_000_000.0));
+        }
+    }
+}
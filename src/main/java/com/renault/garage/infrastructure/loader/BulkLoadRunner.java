@@ -0,0 +1,75 @@
+package com.renault.garage.infrastructure.loader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+
+/**
+ * Mode ligne de commande du chargeur massif.
+ * 
+ * Activé par le profil "loader" :
+ * <pre>
+ * java -jar garage-management.jar --spring.profiles.active=loader \
+ *     --loader.garages=garages.ndjson --loader.vehicles=vehicles.ndjson \
+ *     --loader.accessories=accessories.ndjson
+ * </pre>
+ * L'application s'arrête à la fin du chargement (code retour 1 en cas d'échec).
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "loader.enabled", havingValue = "true")
+public class BulkLoadRunner implements ApplicationRunner {
+
+    private final FleetBulkLoader fleetBulkLoader;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${loader.garages:}")
+    private String garagesFile;
+
+    @Value("${loader.vehicles:}")
+    private String vehiclesFile;
+
+    @Value("${loader.accessories:}")
+    private String accessoriesFile;
+
+    @Value("${loader.exit-on-completion:true}")
+    private boolean exitOnCompletion;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            BulkLoadReport report = fleetBulkLoader.load(toPath(garagesFile), toPath(vehiclesFile), toPath(accessoriesFile));
+            for (BulkLoadReport.Step step : report.getSteps()) {
+                log.info("{}: {} rows in {} ms ({} rows/s)", step.name(), step.rows(), step.millis(), step.rowsPerSecond());
+            }
+            log.info("Bulk load committed: {} rows in {} ms ({} rows/s)",
+                report.getTotalRows(), report.getTotalMillis(), report.getRowsPerSecond());
+        } catch (Exception e) {
+            log.error("Bulk load failed: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+
+        if (exitOnCompletion) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+
+    private static Path toPath(String file) {
+        return StringUtils.hasText(file) ? Path.of(file) : null;
+    }
+}
@@ -0,0 +1,97 @@
+package com.renault.garage.infrastructure.loader;
+
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * Écriture de lignes au format texte de COPY (séparateur tabulation, \N pour NULL).
+ * 
+ * Les lignes sont accumulées dans un tampon de taille fixe puis envoyées au
+ * serveur par blocs : la mémoire utilisée ne dépend pas du nombre de lignes.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+    private boolean firstField = true;
+    private boolean completed;
+
+    CopyWriter(CopyIn copyIn) {
+        this.copyIn = copyIn;
+    }
+
+    CopyWriter field(long value) {
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    CopyWriter field(String value) {
+        separator();
+        if (value == null) {
+            buffer.append("\\N");
+        } else {
+            appendEscaped(buffer, value);
+        }
+        return this;
+    }
+
+    void endRow() throws SQLException {
+        buffer.append('\n');
+        firstField = true;
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    /**
+     * Termine le COPY et retourne le nombre de lignes chargées.
+     */
+    long finish() throws SQLException {
+        flush();
+        completed = true;
+        return copyIn.endCopy();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!completed && copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    static void appendEscaped(StringBuilder target, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> target.append("\\\\");
+                case '\t' -> target.append("\\t");
+                case '\n' -> target.append("\\n");
+                case '\r' -> target.append("\\r");
+                default -> target.append(c);
+            }
+        }
+    }
+
+    private void separator() {
+        if (!firstField) {
+            buffer.append('\t');
+        }
+        firstField = false;
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.length() > 0) {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+}
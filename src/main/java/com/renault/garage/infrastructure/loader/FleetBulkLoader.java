@@ -0,0 +1,340 @@
+package com.renault.garage.infrastructure.loader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renault.garage.domain.model.Garage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Chargement massif de la flotte (garages, véhicules, accessoires) depuis des
+ * fichiers NDJSON via le protocole COPY de PostgreSQL.
+ *
+ * Chaque ligne des fichiers reprend le format des requêtes REST
+ * (garage.json / vehicle.json) ; les véhicules référencent leur garage par
+ * {@code garageEmail} et les accessoires leur véhicule par {@code vehicleVin}.
+ *
+ * Déroulement, dans une seule transaction :
+ * 1. lecture en streaming (Jackson) et COPY vers des tables temporaires ;
+ * 2. INSERT ... SELECT ensemblistes vers les tables cibles, avec des
+ *    identifiants réservés par blocs sur les séquences (compatibles avec
+ *    l'optimiseur pooled d'Hibernate) ;
+ * 3. recalcul de vehicle_count et contrôle du quota de 50 véhicules :
+ *    tout dépassement annule le chargement ;
+ * 4. recalcul des totaux d'accessoires des véhicules concernés.
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FleetBulkLoader {
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Charge les fichiers fournis (chacun peut être null).
+     *
+     * @return le rapport de chargement
+     */
+    public BulkLoadReport load(Path garagesFile, Path vehiclesFile, Path accessoriesFile)
+            throws IOException, SQLException {
+        BulkLoadReport report = new BulkLoadReport();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+                for (StagingFile staging : Arrays.asList(StagingFile.GARAGES, StagingFile.VEHICLES, StagingFile.ACCESSORIES)) {
+                    execute(connection, staging.createTableSql());
+                }
+
+                if (garagesFile != null) {
+                    stage(connection, copyManager, StagingFile.GARAGES, garagesFile, report);
+                    insertGarages(connection, report);
+                }
+                if (vehiclesFile != null) {
+                    stage(connection, copyManager, StagingFile.VEHICLES, vehiclesFile, report);
+                    insertVehicles(connection, report);
+                    recomputeVehicleCounts(connection, report);
+                }
+                if (accessoriesFile != null) {
+                    stage(connection, copyManager, StagingFile.ACCESSORIES, accessoriesFile, report);
+                    insertAccessories(connection, report);
+                    recomputeAccessoryTotals(connection, report);
+                }
+
+                connection.commit();
+            } catch (IOException | SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+
+        report.finish();
+        return report;
+    }
+
+    /**
+     * Lit le fichier NDJSON en streaming et l'envoie par COPY dans la table de staging.
+     */
+    private void stage(Connection connection, CopyManager copyManager, StagingFile staging, Path file,
+                       BulkLoadReport report) throws IOException, SQLException {
+        log.info("Staging {} from {}", staging.entity(), file);
+        long start = System.nanoTime();
+        String[] values = new String[staging.jsonFields().size()];
+        long lineNo = 0;
+
+        try (InputStream in = Files.newInputStream(file);
+             JsonParser parser = objectMapper.createParser(in);
+             CopyWriter writer = new CopyWriter(copyManager.copyIn(staging.copySql()))) {
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IllegalStateException("Expected a JSON object in " + file
+                        + " at line " + parser.currentLocation().getLineNr());
+                }
+                Arrays.fill(values, null);
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    int index = staging.indexOf(parser.currentName());
+                    JsonToken valueToken = parser.nextToken();
+                    if (index < 0) {
+                        parser.skipChildren();
+                    } else if (valueToken == JsonToken.START_OBJECT || valueToken == JsonToken.START_ARRAY) {
+                        values[index] = parser.readValueAsTree().toString();
+                    } else if (valueToken != JsonToken.VALUE_NULL) {
+                        values[index] = parser.getText();
+                    }
+                }
+
+                writer.field(lineNo++);
+                for (String value : values) {
+                    writer.field(value);
+                }
+                writer.endRow();
+            }
+
+            long rows = writer.finish();
+            report.record("staging " + staging.entity(), rows, System.nanoTime() - start);
+        }
+
+        execute(connection, "ANALYZE " + staging.table());
+    }
+
+    private void insertGarages(Connection connection, BulkLoadReport report) throws SQLException {
+        long start = System.nanoTime();
+        long rows = countRows(connection, StagingFile.GARAGES.table());
+        long increment = sequenceIncrement(connection, "garages_seq");
+
+        long inserted = executeUpdate(connection, String.format("""
+            WITH %2$s
+            INSERT INTO garages (id, name, address, telephone, email, vehicle_count, created_at, updated_at)
+            SELECT b.hi - %1$d + 1 + s.line_no %% %1$d, s.name, s.address, s.telephone, s.email, 0,
+                   LOCALTIMESTAMP, LOCALTIMESTAMP
+            FROM stg_garages s
+            JOIN blocks b ON b.block = s.line_no / %1$d
+            """, increment, idBlocks("garages_seq", increment, rows)));
+        report.recordInsert("garages", inserted, System.nanoTime() - start);
+
+        start = System.nanoTime();
+        long hours = executeUpdate(connection, """
+            INSERT INTO garage_opening_hours (garage_id, day_of_week, hours)
+            SELECT g.id, h.key, h.value
+            FROM stg_garages s
+            JOIN garages g ON g.email = s.email
+            CROSS JOIN LATERAL jsonb_each_text(s.opening_hours) h
+            WHERE s.opening_hours IS NOT NULL
+            """);
+        report.recordInsert("garage_opening_hours", hours, System.nanoTime() - start);
+    }
+
+    private void insertVehicles(Connection connection, BulkLoadReport report) throws SQLException {
+        requireResolved(connection, """
+            SELECT count(*), min(s.line_no) FROM stg_vehicles s
+            LEFT JOIN garages g ON g.email = s.garage_email
+            WHERE g.id IS NULL
+            """, "vehicles", "garageEmail");
+
+        long start = System.nanoTime();
+        long rows = countRows(connection, StagingFile.VEHICLES.table());
+        long increment = sequenceIncrement(connection, "vehicles_seq");
+
+        long inserted = executeUpdate(connection, String.format("""
+            WITH %2$s
+            INSERT INTO vehicles (id, brand, model, year_of_manufacture, fuel_type, vin, color, mileage,
+                                  garage_id, created_at, updated_at)
+            SELECT b.hi - %1$d + 1 + s.line_no %% %1$d, s.brand, s.model, s.year_of_manufacture, s.fuel_type,
+                   s.vin, s.color, s.mileage, g.id, LOCALTIMESTAMP, LOCALTIMESTAMP
+            FROM stg_vehicles s
+            JOIN blocks b ON b.block = s.line_no / %1$d
+            JOIN garages g ON g.email = s.garage_email
+            """, increment, idBlocks("vehicles_seq", increment, rows)));
+        report.recordInsert("vehicles", inserted, System.nanoTime() - start);
+    }
+
+    private void insertAccessories(Connection connection, BulkLoadReport report) throws SQLException {
+        requireResolved(connection, """
+            SELECT count(*), min(s.line_no) FROM stg_accessories s
+            LEFT JOIN vehicles v ON v.vin = s.vehicle_vin
+            WHERE v.id IS NULL
+            """, "accessories", "vehicleVin");
+
+        long start = System.nanoTime();
+        long rows = countRows(connection, StagingFile.ACCESSORIES.table());
+        long increment = sequenceIncrement(connection, "accessories_seq");
+
+        long inserted = executeUpdate(connection, String.format("""
+            WITH %2$s
+            INSERT INTO accessories (id, name, description, price, type, vehicle_id, created_at, updated_at)
+            SELECT b.hi - %1$d + 1 + s.line_no %% %1$d, s.name, s.description, s.price, s.type, v.id,
+                   LOCALTIMESTAMP, LOCALTIMESTAMP
+            FROM stg_accessories s
+            JOIN blocks b ON b.block = s.line_no / %1$d
+            JOIN vehicles v ON v.vin = s.vehicle_vin
+            """, increment, idBlocks("accessories_seq", increment, rows)));
+        report.recordInsert("accessories", inserted, System.nanoTime() - start);
+    }
+
+    /**
+     * Recalcule vehicle_count pour les garages concernés et vérifie le quota.
+     * Un seul garage au-delà de la limite suffit à annuler tout le chargement.
+     */
+    private void recomputeVehicleCounts(Connection connection, BulkLoadReport report) throws SQLException {
+        long start = System.nanoTime();
+        String sql = """
+            WITH counts AS (
+                SELECT v.garage_id, count(*) AS cnt
+                FROM vehicles v
+                WHERE v.garage_id IN (SELECT g.id FROM garages g JOIN stg_vehicles s ON s.garage_email = g.email)
+                GROUP BY v.garage_id
+            ), updated AS (
+                UPDATE garages g SET vehicle_count = c.cnt
+                FROM counts c
+                WHERE g.id = c.garage_id
+                RETURNING g.email, g.vehicle_count
+            )
+            SELECT count(*),
+                   count(*) FILTER (WHERE vehicle_count > ?),
+                   array_to_string((array_agg(email || '=' || vehicle_count) FILTER (WHERE vehicle_count > ?))[1:10], ', ')
+            FROM updated
+            """;
+
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setInt(1, Garage.MAX_VEHICLES_PER_GARAGE);
+            ps.setInt(2, Garage.MAX_VEHICLES_PER_GARAGE);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                long overQuota = rs.getLong(2);
+                if (overQuota > 0) {
+                    throw new IllegalStateException(String.format(
+                        "%d garage(s) would exceed the quota of %d vehicles (e.g. %s), load rolled back",
+                        overQuota, Garage.MAX_VEHICLES_PER_GARAGE, rs.getString(3)));
+                }
+                report.record("vehicle_count recompute", rs.getLong(1), System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Recalcule accessory_count et accessories_total pour les véhicules concernés.
+     */
+    private void recomputeAccessoryTotals(Connection connection, BulkLoadReport report) throws SQLException {
+        long start = System.nanoTime();
+        long updated = executeUpdate(connection, """
+            UPDATE vehicles v SET accessory_count = t.cnt, accessories_total = t.total
+            FROM (
+                SELECT a.vehicle_id, count(*) AS cnt, sum(a.price) AS total
+                FROM accessories a
+                WHERE a.vehicle_id IN (SELECT v2.id FROM vehicles v2 JOIN stg_accessories s ON s.vehicle_vin = v2.vin)
+                GROUP BY a.vehicle_id
+            ) t
+            WHERE v.id = t.vehicle_id
+            """);
+        report.record("accessory totals recompute", updated, System.nanoTime() - start);
+    }
+
+    private void requireResolved(Connection connection, String sql, String entity, String reference)
+            throws SQLException {
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            rs.next();
+            long unresolved = rs.getLong(1);
+            if (unresolved > 0) {
+                throw new IllegalStateException(String.format(
+                    "%d %s reference an unknown %s (first at record %d), load rolled back",
+                    unresolved, entity, reference, rs.getLong(2) + 1));
+            }
+        }
+    }
+
+    private long sequenceIncrement(Connection connection, String sequence) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT increment_by FROM pg_sequences WHERE schemaname = current_schema() AND sequencename = ?")) {
+            ps.setString(1, sequence);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IllegalStateException("Sequence not found: " + sequence);
+                }
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private long countRows(Connection connection, String table) throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT count(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * CTE "blocks" réservant des blocs d'identifiants sur la séquence, avec la
+     * même convention que l'optimiseur pooled : la valeur v couvre [v - increment + 1, v].
+     * La valeur initiale d'une séquence neuve (inférieure à l'incrément) ne couvre
+     * aucun identifiant valide, d'où le bloc supplémentaire et le filtre.
+     */
+    private static String idBlocks(String sequence, long increment, long rows) {
+        long blockCount = (rows + increment - 1) / increment;
+        return """
+            raw_blocks AS MATERIALIZED (
+                SELECT nextval('%1$s') AS hi FROM generate_series(0, %3$d)
+            ), blocks AS (
+                SELECT row_number() OVER (ORDER BY hi) - 1 AS block, hi FROM raw_blocks WHERE hi >= %2$d
+            )""".formatted(sequence, increment, blockCount);
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute(sql);
+        }
+    }
+
+    private static long executeUpdate(Connection connection, String sql) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            return st.executeLargeUpdate(sql);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.renault.garage.infrastructure.loader;
+
+import java.util.List;
+
+/**
+ * Description d'un fichier NDJSON et de sa table de staging.
+ * 
+ * Chaque champ JSON listé est copié dans la colonne de même position ;
+ * la colonne line_no (numéro d'enregistrement, base 0) est ajoutée en tête.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+record StagingFile(String entity, String table, List<String> jsonFields, List<String> columnDefinitions) {
+
+    static final StagingFile GARAGES = new StagingFile("garages", "stg_garages",
+        List.of("name", "address", "telephone", "email", "openingHours"),
+        List.of("name TEXT", "address TEXT", "telephone TEXT", "email TEXT", "opening_hours JSONB"));
+
+    static final StagingFile VEHICLES = new StagingFile("vehicles", "stg_vehicles",
+        List.of("brand", "model", "yearOfManufacture", "fuelType", "vin", "color", "mileage", "garageEmail"),
+        List.of("brand TEXT", "model TEXT", "year_of_manufacture INTEGER", "fuel_type TEXT", "vin TEXT",
+            "color TEXT", "mileage INTEGER", "garage_email TEXT"));
+
+    static final StagingFile ACCESSORIES = new StagingFile("accessories", "stg_accessories",
+        List.of("name", "description", "price", "type", "vehicleVin"),
+        List.of("name TEXT", "description TEXT", "price NUMERIC(12,2)", "type TEXT", "vehicle_vin TEXT"));
+
+    String createTableSql() {
+        return "CREATE TEMP TABLE " + table + " (line_no BIGINT NOT NULL, "
+            + String.join(", ", columnDefinitions) + ") ON COMMIT DROP";
+    }
+
+    String copySql() {
+        StringBuilder columns = new StringBuilder("line_no");
+        for (String definition : columnDefinitions) {
+            columns.append(", ").append(definition, 0, definition.indexOf(' '));
+        }
+        return "COPY " + table + " (" + columns + ") FROM STDIN";
+    }
+
+    int indexOf(String jsonField) {
+        return jsonFields.indexOf(jsonField);
+    }
+}
@@ -0,0 +1,74 @@
+package com.renault.garage.infrastructure.outbox;
+
+import com.renault.garage.infrastructure.persistence.PooledSequenceGenerator;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.time.LocalDateTime;
+
+/**
+ * Événement en attente de publication (table outbox).
+ * 
+ * Écrit dans la même transaction que la modification métier, puis publié
+ * sur Kafka par {@link OutboxRelay} après le commit.
+ * 
+ * Pattern utilisé: Transactional Outbox
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "outbox", indexes = {
+    @Index(name = "idx_outbox_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "payload")
+@EqualsAndHashCode(of = "id")
+public class OutboxEvent {
+
+    public static final String VEHICLE_CREATED = "VehicleCreated";
+
+    @Id
+    @GeneratedValue(generator = "outbox_seq")
+    @GenericGenerator(name = "outbox_seq", type = PooledSequenceGenerator.class, parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "outbox_seq"),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50")
+    })
+    private Long id;
+
+    /**
+     * Type de l'agrégat concerné (ex: Vehicle)
+     */
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    /**
+     * Identifiant de l'agrégat, utilisé comme clé du message Kafka
+     */
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    /**
+     * Type d'événement, détermine la désérialisation du payload
+     */
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    /**
+     * Événement sérialisé en JSON
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,42 @@
+package com.renault.garage.infrastructure.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository pour la table outbox.
+ * 
+ * Pattern utilisé: Repository Pattern
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Verrouille le prochain lot d'événements à publier.
+     * 
+     * SKIP LOCKED : les lignes déjà prises par un autre nœud sont ignorées,
+     * plusieurs relais peuvent donc tourner en parallèle sans doublon.
+     * Doit être appelée dans une transaction.
+     * 
+     * @param limit taille maximale du lot
+     * @return les événements verrouillés, par ordre d'insertion
+     */
+    @Query(value = "SELECT * FROM outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    /**
+     * Date de création du plus ancien événement en attente.
+     * 
+     * @return la date, ou null si l'outbox est vide
+     */
+    @Query("SELECT MIN(o.createdAt) FROM OutboxEvent o")
+    LocalDateTime findOldestCreatedAt();
+}
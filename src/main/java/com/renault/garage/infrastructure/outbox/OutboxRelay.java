@@ -0,0 +1,174 @@
+package com.renault.garage.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
+import com.renault.garage.infrastructure.kafka.producer.VehicleEventProducer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relais de l'outbox vers Kafka.
+ *
+ * À chaque passage, verrouille un lot d'événements (FOR UPDATE SKIP LOCKED),
+ * les publie via {@link VehicleEventProducer}, attend les acquittements du
+ * broker puis supprime les lignes dans la même transaction. En cas d'échec
+ * la transaction est annulée et le lot sera retenté au passage suivant
+ * (livraison au moins une fois : les consommateurs dédupliquent sur eventId).
+ *
+ * Peut tourner sur plusieurs nœuds en parallèle.
+ *
+ * Métriques exposées :
+ * - outbox.pending : nombre d'événements en attente
+ * - outbox.lag : âge du plus ancien événement en attente (secondes)
+ * - outbox.relayed / outbox.relay.failures / outbox.discarded : compteurs
+ * - outbox.relay.batch : durée de publication d'un lot
+ *
+ * Pattern utilisé: Transactional Outbox
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final VehicleEventProducer vehicleEventProducer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final Duration sendTimeout;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter relayedCounter;
+    private final Counter failureCounter;
+    private final Counter discardedCounter;
+    private final Timer batchTimer;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       VehicleEventProducer vehicleEventProducer,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.send-timeout-ms:30000}") long sendTimeoutMs) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.vehicleEventProducer = vehicleEventProducer;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeout = Duration.ofMillis(sendTimeoutMs);
+
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+            .description("Events waiting in the outbox")
+            .register(meterRegistry);
+        Gauge.builder("outbox.lag", lagSeconds, AtomicLong::get)
+            .description("Age of the oldest event waiting in the outbox")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.relayedCounter = Counter.builder("outbox.relayed")
+            .description("Events published from the outbox")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("outbox.relay.failures")
+            .description("Outbox batches that failed and will be retried")
+            .register(meterRegistry);
+        this.discardedCounter = Counter.builder("outbox.discarded")
+            .description("Outbox events dropped because they cannot be decoded")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+            .description("Time to publish and delete one outbox batch")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Vide l'outbox : enchaîne les lots tant qu'ils sont pleins.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("Outbox relay failed, batch will be retried: {}", e.getMessage());
+        } finally {
+            refreshLag();
+        }
+    }
+
+    /**
+     * Publie un lot dans la transaction courante.
+     *
+     * @return nombre d'événements traités
+     */
+    int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<VehicleCreatedEvent> events = new ArrayList<>(batch.size());
+        for (OutboxEvent outboxEvent : batch) {
+            VehicleCreatedEvent event = decode(outboxEvent);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+
+        batchTimer.record(() -> vehicleEventProducer.publishVehicleCreatedEvents(events, sendTimeout));
+        outboxEventRepository.deleteAllInBatch(batch);
+        relayedCounter.increment(events.size());
+
+        log.debug("Relayed {} outbox events", events.size());
+        return batch.size();
+    }
+
+    private VehicleCreatedEvent decode(OutboxEvent outboxEvent) {
+        if (!OutboxEvent.VEHICLE_CREATED.equals(outboxEvent.getEventType())) {
+            discard(outboxEvent, "unknown event type " + outboxEvent.getEventType());
+            return null;
+        }
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), VehicleCreatedEvent.class);
+        } catch (JsonProcessingException e) {
+            discard(outboxEvent, e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    private void discard(OutboxEvent outboxEvent, String reason) {
+        log.error("Discarding outbox event {} ({} {}): {}", outboxEvent.getId(),
+            outboxEvent.getAggregateType(), outboxEvent.getAggregateId(), reason);
+        discardedCounter.increment();
+    }
+
+    private void refreshLag() {
+        try {
+            pending.set(outboxEventRepository.count());
+            LocalDateTime oldest = outboxEventRepository.findOldestCreatedAt();
+            lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+        } catch (RuntimeException e) {
+            log.debug("Cannot refresh outbox lag: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.renault.garage.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Enregistre les événements véhicule dans l'outbox.
+ * 
+ * Doit être appelé dans la transaction qui crée le véhicule : l'événement
+ * n'existe que si le véhicule est effectivement commité.
+ * 
+ * Pattern utilisé: Transactional Outbox
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class VehicleEventOutbox {
+
+    private static final String AGGREGATE_TYPE = "Vehicle";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Enregistre un événement de création de véhicule.
+     * 
+     * @param event l'événement
+     */
+    public void vehicleCreated(VehicleCreatedEvent event) {
+        outboxEventRepository.save(toOutboxEvent(event));
+    }
+
+    /**
+     * Enregistre un lot d'événements de création de véhicules.
+     * 
+     * @param events les événements
+     */
+    public void vehiclesCreated(List<VehicleCreatedEvent> events) {
+        outboxEventRepository.saveAll(events.stream().map(this::toOutboxEvent).toList());
+    }
+
+    private OutboxEvent toOutboxEvent(VehicleCreatedEvent event) {
+        try {
+            return OutboxEvent.builder()
+                .aggregateType(AGGREGATE_TYPE)
+                .aggregateId(event.getVehicleId())
+                .eventType(OutboxEvent.VEHICLE_CREATED)
+                .payload(objectMapper.writeValueAsString(event))
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize vehicle created event " + event.getEventId(), e);
+        }
+    }
+}
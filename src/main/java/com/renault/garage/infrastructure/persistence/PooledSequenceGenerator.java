@@ -0,0 +1,49 @@
+package com.renault.garage.infrastructure.persistence;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Générateur d'identifiants basé sur une séquence avec optimiseur "pooled".
+ * 
+ * Contrairement à GenerationType.IDENTITY, les identifiants sont connus avant
+ * l'INSERT, ce qui permet à Hibernate de regrouper les insertions en lots JDBC
+ * (hibernate.jdbc.batch_size). Chaque appel à la séquence réserve un bloc de
+ * {@code increment_size} identifiants.
+ * 
+ * La taille d'allocation déclarée sur l'entité peut être surchargée par
+ * séquence via la propriété {@code id.allocation-size.<nom_sequence>}
+ * (ex: spring.jpa.properties.id.allocation-size.garages_seq=100). La séquence
+ * en base doit avoir le même INCREMENT BY, sinon Hibernate refuse de démarrer.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    /**
+     * Préfixe des propriétés de surcharge de la taille d'allocation
+     */
+    public static final String ALLOCATION_SIZE_PREFIX = "id.allocation-size.";
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        String sequenceName = parameters.getProperty(SEQUENCE_PARAM);
+        Object allocationSize = serviceRegistry.requireService(ConfigurationService.class)
+            .getSettings()
+            .get(ALLOCATION_SIZE_PREFIX + sequenceName);
+        
+        if (allocationSize != null) {
+            parameters.setProperty(INCREMENT_PARAM, allocationSize.toString().trim());
+        }
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+        
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
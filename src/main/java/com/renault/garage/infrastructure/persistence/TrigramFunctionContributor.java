@@ -0,0 +1,38 @@
+package com.renault.garage.infrastructure.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Enregistre les opérateurs pg_trgm utilisés par les spécifications.
+ *
+ * Le classement par distance doit être écrit sous forme d'opérateur
+ * ({@code col <->> terme}) et non d'appel de fonction
+ * ({@code word_similarity(terme, col)}) : seul l'opérateur est servi par un
+ * parcours KNN de l'index GiST, qui renvoie les N plus proches sans trier
+ * toutes les correspondances.
+ *
+ * Chargé par Hibernate via ServiceLoader
+ * (META-INF/services/org.hibernate.boot.model.FunctionContributor).
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public class TrigramFunctionContributor implements FunctionContributor {
+
+    /**
+     * trgm_word_distance(texte, terme) : 1 - word_similarity(terme, texte)
+     */
+    public static final String WORD_DISTANCE = "trgm_word_distance";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.DOUBLE);
+        functionContributions.getFunctionRegistry()
+            .registerPattern(WORD_DISTANCE, "(?1 <->> ?2)", doubleType);
+    }
+}
@@ -0,0 +1,102 @@
+package com.renault.garage.infrastructure.reconciliation;
+
+import com.renault.garage.domain.repository.VehicleRepository;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Réconciliation des totaux d'accessoires dénormalisés sur les véhicules
+ * (accessory_count, accessories_total).
+ *
+ * Les totaux sont tenus à jour dans la transaction de chaque écriture
+ * d'accessoire ; un écart ne peut venir que d'une écriture hors application
+ * (SQL manuel, outil tiers). La table vehicles est parcourue par plages
+ * d'IDs : les écarts sont d'abord détectés sans verrou, puis seuls les
+ * véhicules concernés sont verrouillés et recalculés, ce qui écarte les
+ * faux écarts dus à une écriture en cours.
+ *
+ * Métriques : vehicle.accessory.totals.drift (écarts détectés),
+ * vehicle.accessory.totals.repaired (véhicules corrigés).
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "accessory-totals.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessoryTotalsReconciler {
+
+    private final VehicleRepository vehicleRepository;
+    private final ResponseCaches responseCaches;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter driftCounter;
+    private final Counter repairedCounter;
+
+    public AccessoryTotalsReconciler(VehicleRepository vehicleRepository,
+                                     ResponseCaches responseCaches,
+                                     TransactionTemplate transactionTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${accessory-totals.reconcile.batch-size:10000}") int batchSize) {
+        this.vehicleRepository = vehicleRepository;
+        this.responseCaches = responseCaches;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+
+        this.driftCounter = Counter.builder("vehicle.accessory.totals.drift")
+            .description("Vehicles whose accessory totals differed from the accessories table")
+            .register(meterRegistry);
+        this.repairedCounter = Counter.builder("vehicle.accessory.totals.repaired")
+            .description("Vehicles whose accessory totals were recomputed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Parcourt tous les véhicules et corrige les totaux en écart.
+     *
+     * @return le nombre de véhicules corrigés
+     */
+    @Scheduled(initialDelayString = "${accessory-totals.reconcile.interval-ms:3600000}",
+               fixedDelayString = "${accessory-totals.reconcile.interval-ms:3600000}")
+    public int reconcile() {
+        long start = System.nanoTime();
+        long maxId = vehicleRepository.findMaxId();
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            repaired += reconcileRange(fromId, Math.min(maxId, fromId + batchSize - 1));
+        }
+        if (repaired > 0) {
+            log.warn("Accessory totals repaired on {} vehicles", repaired);
+        }
+        log.info("Accessory totals reconciled up to vehicle ID {} in {} ms",
+            maxId, (System.nanoTime() - start) / 1_000_000);
+        return repaired;
+    }
+
+    private int reconcileRange(long fromId, long toId) {
+        List<Long> drifted = vehicleRepository.findAccessoryTotalDrift(fromId, toId);
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+        driftCounter.increment(drifted.size());
+        int repaired = transactionTemplate.execute(status -> {
+            List<Long> locked = vehicleRepository.lockByIds(drifted);
+            int count = locked.isEmpty() ? 0 : vehicleRepository.repairAccessoryTotals(locked);
+            locked.forEach(responseCaches::evictVehicle);
+            return count;
+        });
+        repairedCounter.increment(repaired);
+        log.debug("Vehicles {}-{}: {} drifted, {} repaired", fromId, toId, drifted.size(), repaired);
+        return repaired;
+    }
+}
@@ -0,0 +1,359 @@
+package com.renault.garage.infrastructure.schedule;
+
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.model.valueobject.OpeningWindow;
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.projection.GarageOpeningSchedule;
+import com.renault.garage.infrastructure.capacity.LongIntHashMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Index en mémoire des horaires compilés des garages, pour les recherches
+ * "ouvert maintenant" ou "ouvert samedi après 17:00".
+ * 
+ * Comme GarageCapacityIndex, les garages sont rangés par seaux : un seau
+ * par horaires distincts (les garages aux horaires identiques partagent le
+ * même WeeklySchedule). Une recherche teste la plage sur chaque horaire
+ * distinct (quelques dizaines de bitmaps), puis ne parcourt que les seaux
+ * concernés, sans analyser de texte ni requête SQL. Les garages sont
+ * retournés par ID croissant : la position d'un garage dans l'index est
+ * réutilisée après une suppression et change à chaque reconstruction, elle
+ * ne peut pas servir d'ordre de pagination.
+ * 
+ * L'index est reconstruit au démarrage puis périodiquement à partir de la
+ * colonne opening_schedule (un garage dont les horaires ne sont pas encore
+ * compilés est fermé jusqu'à la reconstruction qui suit leur calcul), et
+ * tenu à jour entre-temps après chaque commit qui écrit un garage. Les
+ * moments ("maintenant") sont évalués dans le fuseau opening-hours.time-zone.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class GarageScheduleIndex {
+
+    private final GarageRepository garageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Clock clock;
+
+    private volatile Schedules schedules;
+
+    @Autowired
+    public GarageScheduleIndex(GarageRepository garageRepository,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${schedule-index.enabled:true}") boolean enabled,
+                               @Value("${opening-hours.time-zone:Europe/Paris}") String timeZone) {
+        this(garageRepository, transactionTemplate, meterRegistry, enabled, Clock.system(ZoneId.of(timeZone)));
+    }
+
+    GarageScheduleIndex(GarageRepository garageRepository,
+                        TransactionTemplate transactionTemplate,
+                        MeterRegistry meterRegistry,
+                        boolean enabled,
+                        Clock clock) {
+        this.garageRepository = garageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.clock = clock;
+
+        Gauge.builder("garage.schedule.index.garages", this, index -> index.isReady() ? index.schedules.size() : 0)
+            .description("Garages in the opening schedule index")
+            .register(meterRegistry);
+        Gauge.builder("garage.schedule.index.schedules", this,
+                index -> index.isReady() ? index.schedules.distinctSchedules() : 0)
+            .description("Distinct weekly schedules in the opening schedule index")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reconstruit l'index à partir de la base, au démarrage puis périodiquement.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${schedule-index.refresh-interval-ms:900000}",
+               fixedDelayString = "${schedule-index.refresh-interval-ms:900000}")
+    public void rebuild() {
+        if (enabled) {
+            load();
+        }
+    }
+
+    /**
+     * @return true une fois l'index chargé
+     */
+    public boolean isReady() {
+        return schedules != null;
+    }
+
+    /**
+     * @return la minute courante de la semaine, dans le fuseau des horaires
+     */
+    public OpeningWindow now() {
+        return OpeningWindow.at(LocalDateTime.now(clock));
+    }
+
+    /**
+     * Compte les garages ouverts au moins une minute de la plage.
+     * 
+     * @param window la plage de la semaine
+     * @return le nombre de garages
+     */
+    public long countOpenDuring(OpeningWindow window) {
+        if (!isReady()) {
+            loadIfMissing();
+        }
+        synchronized (this) {
+            return schedules.count(window);
+        }
+    }
+
+    /**
+     * Pagine les garages ouverts au moins une minute de la plage, par ID
+     * croissant.
+     * 
+     * @param window la plage de la semaine
+     * @param offset nombre de garages à sauter
+     * @param limit nombre maximum de garages retournés
+     * @return les IDs des garages
+     */
+    public List<Long> findOpenDuring(OpeningWindow window, long offset, int limit) {
+        if (!isReady()) {
+            loadIfMissing();
+        }
+        synchronized (this) {
+            return schedules.find(window, offset, limit);
+        }
+    }
+
+    /**
+     * Enregistre un garage créé ou modifié, après le commit de la
+     * transaction courante. Le garage est lu au commit : ses horaires
+     * compilés (Garage#applyOpeningSchedule, au flush) sont alors à jour.
+     * 
+     * @param garage le garage enregistré
+     */
+    public void garageSaved(Garage garage) {
+        afterCommit(index -> index.put(garage.getId(),
+            Objects.requireNonNullElseGet(garage.getOpeningSchedule(),
+                () -> WeeklySchedule.parse(garage.getOpeningHours()))));
+    }
+
+    /**
+     * Retire un garage supprimé, après le commit de la transaction courante.
+     * 
+     * @param garageId l'ID du garage
+     */
+    public void garageRemoved(Long garageId) {
+        afterCommit(index -> index.remove(garageId));
+    }
+
+    private synchronized void loadIfMissing() {
+        if (!isReady()) {
+            load();
+        }
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        Schedules rebuilt = transactionTemplate.execute(status -> {
+            Schedules loading = new Schedules((int) garageRepository.count());
+            try (Stream<GarageOpeningSchedule> rows = garageRepository.streamOpeningSchedules()) {
+                rows.forEach(row -> loading.put(row.garageId(),
+                    Objects.requireNonNullElse(row.openingSchedule(), WeeklySchedule.CLOSED)));
+            }
+            return loading;
+        });
+        synchronized (this) {
+            this.schedules = rebuilt;
+        }
+        log.info("Garage schedule index rebuilt: {} garages, {} distinct schedules in {} ms",
+            rebuilt.size(), rebuilt.distinctSchedules(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void afterCommit(Consumer<Schedules> update) {
+        if (!isReady()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(update);
+                }
+            });
+        } else {
+            apply(update);
+        }
+    }
+
+    private synchronized void apply(Consumer<Schedules> update) {
+        update.accept(schedules);
+    }
+
+    /**
+     * Garages rangés par seaux d'horaires identiques. Non thread-safe.
+     * 
+     * Chaque garage occupe une position (int) ; un seau est un BitSet de
+     * positions. Un horaire distinct garde son seau (vide) jusqu'à la
+     * reconstruction suivante.
+     */
+    static final class Schedules {
+
+        private static final int MISSING = -1;
+
+        private final LongIntHashMap positionsById;
+        private final Map<WeeklySchedule, Integer> bucketsBySchedule = new HashMap<>();
+        private final List<WeeklySchedule> bucketSchedules = new ArrayList<>();
+        private final List<BitSet> buckets = new ArrayList<>();
+        private int[] bucketSizes = new int[16];
+        private long[] garageIds;
+        private int[] bucketOfPosition;
+        private int[] freePositions = new int[16];
+        private int freePositionCount;
+        private int nextPosition;
+
+        Schedules(int expectedGarages) {
+            int capacity = Math.max(16, expectedGarages);
+            this.positionsById = new LongIntHashMap(capacity);
+            this.garageIds = new long[capacity];
+            this.bucketOfPosition = new int[capacity];
+        }
+
+        int size() {
+            return positionsById.size();
+        }
+
+        int distinctSchedules() {
+            return bucketSchedules.size();
+        }
+
+        void put(long garageId, WeeklySchedule schedule) {
+            int position = positionsById.get(garageId, MISSING);
+            if (position == MISSING) {
+                position = allocatePosition();
+                positionsById.put(garageId, position);
+                garageIds[position] = garageId;
+            } else {
+                unlink(position);
+            }
+            bucketOfPosition[position] = bucketOf(schedule);
+            link(position);
+        }
+
+        void remove(long garageId) {
+            int position = positionsById.remove(garageId, MISSING);
+            if (position == MISSING) {
+                return;
+            }
+            unlink(position);
+            if (freePositionCount == freePositions.length) {
+                freePositions = Arrays.copyOf(freePositions, freePositionCount * 2);
+            }
+            freePositions[freePositionCount++] = position;
+        }
+
+        long count(OpeningWindow window) {
+            long count = 0;
+            for (int bucket = 0; bucket < buckets.size(); bucket++) {
+                if (bucketSizes[bucket] > 0 && bucketSchedules.get(bucket).isOpenDuring(window)) {
+                    count += bucketSizes[bucket];
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Les IDs des garages ouverts sont triés avant d'appliquer offset
+         * et limit : l'ordre des positions n'est pas stable.
+         */
+        List<Long> find(OpeningWindow window, long offset, int limit) {
+            BitSet open = new BitSet(nextPosition);
+            int openCount = 0;
+            for (int bucket = 0; bucket < buckets.size(); bucket++) {
+                if (bucketSizes[bucket] > 0 && bucketSchedules.get(bucket).isOpenDuring(window)) {
+                    open.or(buckets.get(bucket));
+                    openCount += bucketSizes[bucket];
+                }
+            }
+            if (offset >= openCount) {
+                return List.of();
+            }
+            long[] ids = new long[openCount];
+            int count = 0;
+            for (int position = open.nextSetBit(0); position >= 0; position = open.nextSetBit(position + 1)) {
+                ids[count++] = garageIds[position];
+            }
+            Arrays.sort(ids);
+            int end = (int) Math.min(openCount, offset + limit);
+            List<Long> result = new ArrayList<>(end - (int) offset);
+            for (int i = (int) offset; i < end; i++) {
+                result.add(ids[i]);
+            }
+            return result;
+        }
+
+        private int bucketOf(WeeklySchedule schedule) {
+            Integer bucket = bucketsBySchedule.get(schedule);
+            if (bucket == null) {
+                bucket = bucketSchedules.size();
+                bucketsBySchedule.put(schedule, bucket);
+                bucketSchedules.add(schedule);
+                buckets.add(new BitSet());
+                if (bucket == bucketSizes.length) {
+                    bucketSizes = Arrays.copyOf(bucketSizes, bucket * 2);
+                }
+            }
+            return bucket;
+        }
+
+        private int allocatePosition() {
+            if (freePositionCount > 0) {
+                return freePositions[--freePositionCount];
+            }
+            if (nextPosition == garageIds.length) {
+                garageIds = Arrays.copyOf(garageIds, nextPosition * 2);
+                bucketOfPosition = Arrays.copyOf(bucketOfPosition, nextPosition * 2);
+            }
+            return nextPosition++;
+        }
+
+        private void link(int position) {
+            int bucket = bucketOfPosition[position];
+            buckets.get(bucket).set(position);
+            bucketSizes[bucket]++;
+        }
+
+        private void unlink(int position) {
+            int bucket = bucketOfPosition[position];
+            buckets.get(bucket).clear(position);
+            bucketSizes[bucket]--;
+        }
+    }
+}
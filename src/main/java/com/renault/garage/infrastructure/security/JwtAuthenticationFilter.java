@@ -0,0 +1,50 @@
+package com.renault.garage.infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtre d'authentification par en-tête "Authorization: Bearer &lt;token&gt;".
+ * 
+ * Le contexte de sécurité n'est jamais stocké en session : chaque requête
+ * porte son token. Une requête sans token ou avec un token invalide reste
+ * anonyme et reçoit un 401 sur les endpoints protégés.
+ * 
+ * Déclaré dans SecurityConfig et non comme bean, pour ne pas être aussi
+ * enregistré comme filtre de servlet.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = JwtService.TOKEN_TYPE + " ";
+
+    private final JwtService jwtService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            Authentication authentication = jwtService.authenticate(header.substring(BEARER_PREFIX.length()).trim());
+            if (authentication != null) {
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
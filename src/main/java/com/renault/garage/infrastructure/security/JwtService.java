@@ -0,0 +1,160 @@
+package com.renault.garage.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Émission et vérification des tokens JWT (HMAC, clé jwt.secret).
+ * 
+ * Un token vérifié est conservé dans un petit cache local jusqu'à son
+ * expiration : les requêtes suivantes portant le même token ne refont ni le
+ * décodage ni le calcul HMAC, seulement une recherche par clé. Les échecs
+ * ne sont pas mis en cache, un token invalide ne peut donc pas occuper le
+ * cache. Une taille maximale nulle désactive le cache.
+ * 
+ * Métriques du cache : cache.gets (tag cache=jwt.tokens, result hit/miss),
+ * cache.size, cache.evictions.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class JwtService {
+
+    public static final String TOKEN_TYPE = "Bearer";
+    private static final String ROLES_CLAIM = "roles";
+
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final Duration expiration;
+    private final Clock clock;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtService(String secret, Duration expiration, long cacheMaximumSize,
+                      MeterRegistry meterRegistry, Clock clock) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).clock(() -> Date.from(clock.instant())).build();
+        this.expiration = expiration;
+        this.clock = clock;
+        this.verifiedTokens = cacheMaximumSize > 0 ? Caffeine.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .expireAfter(new UntilTokenExpiry(clock))
+            .recordStats()
+            .<String, VerifiedToken>build() : null;
+        if (verifiedTokens != null && meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.tokens");
+        }
+    }
+
+    /**
+     * Émet un token pour un utilisateur authentifié.
+     *
+     * @param authentication l'authentification (identifiant et rôles)
+     * @return le token signé
+     */
+    public String issue(Authentication authentication) {
+        Instant now = clock.instant();
+        return Jwts.builder()
+            .subject(authentication.getName())
+            .claim(ROLES_CLAIM, authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList())
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plus(expiration)))
+            .signWith(key)
+            .compact();
+    }
+
+    /**
+     * @return la durée de validité des tokens émis
+     */
+    public Duration getExpiration() {
+        return expiration;
+    }
+
+    /**
+     * Authentifie une requête à partir de son token.
+     *
+     * @param token le token (sans le préfixe Bearer)
+     * @return l'authentification, ou null si le token est invalide ou expiré
+     */
+    public Authentication authenticate(String token) {
+        if (verifiedTokens == null) {
+            VerifiedToken verified = verify(token);
+            return verified == null ? null : verified.authentication();
+        }
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached.authentication();
+        }
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            return null;
+        }
+        verifiedTokens.put(token, verified);
+        return verified.authentication();
+    }
+
+    private VerifiedToken verify(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            List<?> roles = claims.get(ROLES_CLAIM, List.class);
+            List<SimpleGrantedAuthority> authorities = roles == null ? List.of() : roles.stream()
+                .map(role -> new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
+            Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                claims.getSubject(), null, authorities);
+            return new VerifiedToken(authentication, claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.debug("Rejected JWT: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private record VerifiedToken(Authentication authentication, Instant expiresAt) {
+    }
+
+    /**
+     * Une entrée vit jusqu'à l'expiration du token, quels que soient les accès.
+     */
+    private record UntilTokenExpiry(Clock clock) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), verified.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(token, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.renault.garage.presentation.controller;
 import com.renault.garage.application.dto.request.AccessoryRequest;
 import com.renault.garage.application.dto.response.AccessoryResponse;
 import com.renault.garage.domain.model.enums.AccessoryType;
+import com.renault.garage.domain.repository.projection.EntityRevision;
 import com.renault.garage.domain.service.AccessoryService;
+import com.renault.garage.presentation.http.EntityTags;
+import com.renault.garage.presentation.http.EntityTags.Resource;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -11,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -38,36 +42,50 @@ public class AccessoryController {
             @PathVariable Long vehicleId,
             @Valid @RequestBody AccessoryRequest request) {
         AccessoryResponse response = accessoryService.addAccessoryToVehicle(vehicleId, request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(EntityTags.of(response)).body(response);
     }
 
     @Operation(summary = "Récupérer un accessoire par son ID")
     @GetMapping("/{id}")
-    public ResponseEntity<AccessoryResponse> getAccessoryById(@PathVariable Long id) {
+    public ResponseEntity<AccessoryResponse> getAccessoryById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String currentTag = EntityTags.of(Resource.ACCESSORY, id, accessoryService.getAccessoryRevision(id));
+            if (EntityTags.matches(ifNoneMatch, currentTag)) {
+                return EntityTags.notModified(currentTag);
+            }
+        }
         AccessoryResponse response = accessoryService.getAccessoryById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(EntityTags.of(response)).body(response);
     }
 
     @Operation(summary = "Récupérer tous les accessoires d'un véhicule")
     @GetMapping("/vehicle/{vehicleId}")
-    public ResponseEntity<List<AccessoryResponse>> getAccessoriesByVehicle(@PathVariable Long vehicleId) {
+    public ResponseEntity<List<AccessoryResponse>> getAccessoriesByVehicle(
+            @PathVariable Long vehicleId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         List<AccessoryResponse> response = accessoryService.getAccessoriesByVehicle(vehicleId);
-        return ResponseEntity.ok(response);
+        return EntityTags.conditional(response, EntityTags.ofList(response, EntityTags::of), ifNoneMatch);
     }
 
     @Operation(summary = "Mettre à jour un accessoire")
     @PutMapping("/{id}")
     public ResponseEntity<AccessoryResponse> updateAccessory(
             @PathVariable Long id,
-            @Valid @RequestBody AccessoryRequest request) {
-        AccessoryResponse response = accessoryService.updateAccessory(id, request);
-        return ResponseEntity.ok(response);
+            @Valid @RequestBody AccessoryRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EntityRevision expectedRevision = EntityTags.expectedRevision(ifMatch, Resource.ACCESSORY, id);
+        AccessoryResponse response = accessoryService.updateAccessory(id, request, expectedRevision);
+        return ResponseEntity.ok().eTag(EntityTags.of(response)).body(response);
     }
 
     @Operation(summary = "Supprimer un accessoire")
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteAccessory(@PathVariable Long id) {
-        accessoryService.deleteAccessory(id);
+    public ResponseEntity<Void> deleteAccessory(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        accessoryService.deleteAccessory(id, EntityTags.expectedRevision(ifMatch, Resource.ACCESSORY, id));
         return ResponseEntity.noContent().build();
     }
 
@@ -75,9 +93,10 @@ public class AccessoryController {
     @GetMapping("/search/by-type")
     public ResponseEntity<Page<AccessoryResponse>> findByType(
             @RequestParam AccessoryType type,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Page<AccessoryResponse> response = accessoryService.findAccessoriesByType(type, pageable);
-        return ResponseEntity.ok(response);
+        return EntityTags.conditional(response, EntityTags.ofPage(response, EntityTags::of), ifNoneMatch);
     }
 
     @Operation(summary = "Calculer le prix total des accessoires d'un véhicule")
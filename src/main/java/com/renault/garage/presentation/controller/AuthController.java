@@ -0,0 +1,51 @@
+package com.renault.garage.presentation.controller;
+
+import com.renault.garage.application.dto.request.LoginRequest;
+import com.renault.garage.application.dto.response.TokenResponse;
+import com.renault.garage.infrastructure.security.JwtService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller REST d'émission des tokens JWT.
+ * 
+ * Le mot de passe n'est vérifié qu'ici ; les autres requêtes sont
+ * authentifiées par leur token.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/auth")
+@RequiredArgsConstructor
+@Tag(name = "Authentification", description = "Émission des tokens JWT")
+public class AuthController {
+
+    private final AuthenticationManager authenticationManager;
+    private final JwtService jwtService;
+
+    @Operation(summary = "Obtenir un token JWT")
+    @PostMapping("/login")
+    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest request) {
+        Authentication authentication = authenticationManager.authenticate(
+            UsernamePasswordAuthenticationToken.unauthenticated(request.getUsername(), request.getPassword()));
+        log.info("Token issued for user: {}", authentication.getName());
+        return ResponseEntity.ok(TokenResponse.builder()
+            .accessToken(jwtService.issue(authentication))
+            .tokenType(JwtService.TOKEN_TYPE)
+            .expiresIn(jwtService.getExpiration().toSeconds())
+            .build());
+    }
+}
@@ -1,10 +1,18 @@
 package com.renault.garage.presentation.controller;
 
 import com.renault.garage.application.dto.request.GarageRequest;
+import com.renault.garage.application.dto.request.NearestGarageRequest;
+import com.renault.garage.application.dto.response.CursorPage;
 import com.renault.garage.application.dto.response.GarageResponse;
+import com.renault.garage.application.dto.response.PagedResponse;
 import com.renault.garage.domain.model.enums.AccessoryType;
+import com.renault.garage.domain.model.enums.CitySearchMode;
+import com.renault.garage.domain.model.enums.CountStrategy;
 import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.repository.projection.EntityRevision;
 import com.renault.garage.domain.service.GarageService;
+import com.renault.garage.presentation.http.EntityTags;
+import com.renault.garage.presentation.http.EntityTags.Resource;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,14 +20,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
 /**
  * Controller REST pour la gestion des garages.
  * 
@@ -44,94 +58,174 @@ public class GarageController {
     @PostMapping
     public ResponseEntity<GarageResponse> createGarage(@Valid @RequestBody GarageRequest request) {
         GarageResponse response = garageService.createGarage(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(EntityTags.of(response)).body(response);
     }
 
     @Operation(summary = "Récupérer un garage par son ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Garage trouvé"),
+        @ApiResponse(responseCode = "304", description = "Garage inchangé (If-None-Match)"),
         @ApiResponse(responseCode = "404", description = "Garage non trouvé")
     })
     @GetMapping("/{id}")
     public ResponseEntity<GarageResponse> getGarageById(
-            @Parameter(description = "ID du garage") @PathVariable Long id) {
+            @Parameter(description = "ID du garage") @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String currentTag = EntityTags.of(Resource.GARAGE, id, garageService.getGarageRevision(id));
+            if (EntityTags.matches(ifNoneMatch, currentTag)) {
+                return EntityTags.notModified(currentTag);
+            }
+        }
         GarageResponse response = garageService.getGarageById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(EntityTags.of(response)).body(response);
     }
 
     @Operation(summary = "Récupérer tous les garages (paginé)")
     @GetMapping
-    public ResponseEntity<Page<GarageResponse>> getAllGarages(
-            @PageableDefault(size = 20, sort = "name", direction = Sort.Direction.ASC) Pageable pageable) {
-        Page<GarageResponse> response = garageService.getAllGarages(pageable);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<PagedResponse<GarageResponse>> getAllGarages(
+            @PageableDefault(size = 20, sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            @Parameter(description = "Calcul du total : EXACT, CACHED, APPROXIMATE ou NONE")
+            @RequestParam(name = "count", defaultValue = "EXACT") CountStrategy countStrategy,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PagedResponse<GarageResponse> response = garageService.getAllGarages(pageable, countStrategy);
+        return EntityTags.conditional(response, EntityTags.ofPage(response, EntityTags::of), ifNoneMatch);
+    }
+
+    @Operation(summary = "Récupérer tous les garages par curseur (sans OFFSET ni count)")
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPage<GarageResponse>> scrollAllGarages(
+            @Parameter(description = "Curseur nextCursor de la page précédente, vide pour la première page")
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Sort sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CursorPage<GarageResponse> response = garageService.scrollAllGarages(cursor, sort, size);
+        return EntityTags.conditional(response, EntityTags.ofList(response.getContent(), EntityTags::of), ifNoneMatch);
     }
 
     @Operation(summary = "Mettre à jour un garage")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Garage mis à jour"),
-        @ApiResponse(responseCode = "404", description = "Garage non trouvé")
+        @ApiResponse(responseCode = "404", description = "Garage non trouvé"),
+        @ApiResponse(responseCode = "412", description = "Garage modifié depuis l'ETag fourni (If-Match)")
     })
     @PutMapping("/{id}")
     public ResponseEntity<GarageResponse> updateGarage(
             @PathVariable Long id,
-            @Valid @RequestBody GarageRequest request) {
-        GarageResponse response = garageService.updateGarage(id, request);
-        return ResponseEntity.ok(response);
+            @Valid @RequestBody GarageRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EntityRevision expectedRevision = EntityTags.expectedRevision(ifMatch, Resource.GARAGE, id);
+        GarageResponse response = garageService.updateGarage(id, request, expectedRevision);
+        return ResponseEntity.ok().eTag(EntityTags.of(response)).body(response);
     }
 
     @Operation(summary = "Supprimer un garage")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Garage supprimé"),
-        @ApiResponse(responseCode = "404", description = "Garage non trouvé")
+        @ApiResponse(responseCode = "404", description = "Garage non trouvé"),
+        @ApiResponse(responseCode = "412", description = "Garage modifié depuis l'ETag fourni (If-Match)")
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteGarage(@PathVariable Long id) {
-        garageService.deleteGarage(id);
+    public ResponseEntity<Void> deleteGarage(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        garageService.deleteGarage(id, EntityTags.expectedRevision(ifMatch, Resource.GARAGE, id));
         return ResponseEntity.noContent().build();
     }
 
     @Operation(summary = "Rechercher des garages par nom")
     @GetMapping("/search/by-name")
-    public ResponseEntity<Page<GarageResponse>> searchByName(
+    public ResponseEntity<PagedResponse<GarageResponse>> searchByName(
             @RequestParam String name,
-            @PageableDefault(size = 20) Pageable pageable) {
-        Page<GarageResponse> response = garageService.searchGaragesByName(name, pageable);
-        return ResponseEntity.ok(response);
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "Calcul du total : EXACT, CACHED, APPROXIMATE ou NONE")
+            @RequestParam(name = "count", defaultValue = "EXACT") CountStrategy countStrategy,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PagedResponse<GarageResponse> response = garageService.searchGaragesByName(name, pageable, countStrategy);
+        return EntityTags.conditional(response, EntityTags.ofPage(response, EntityTags::of), ifNoneMatch);
     }
 
-    @Operation(summary = "Rechercher des garages par ville")
+    @Operation(summary = "Rechercher des garages par ville ou code postal",
+               description = "match=EXACT (défaut) ou PREFIX : ville ou code postal indexés ; "
+                   + "match=ADDRESS : sous-chaîne de l'adresse libre (ancien comportement)")
     @GetMapping("/search/by-city")
-    public ResponseEntity<Page<GarageResponse>> searchByCity(
+    public ResponseEntity<PagedResponse<GarageResponse>> searchByCity(
             @RequestParam String city,
-            @PageableDefault(size = 20) Pageable pageable) {
-        Page<GarageResponse> response = garageService.searchGaragesByCity(city, pageable);
-        return ResponseEntity.ok(response);
+            @RequestParam(defaultValue = "EXACT") CitySearchMode match,
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "Calcul du total : EXACT, CACHED, APPROXIMATE ou NONE")
+            @RequestParam(name = "count", defaultValue = "EXACT") CountStrategy countStrategy,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PagedResponse<GarageResponse> response = garageService.searchGaragesByCity(city, match, pageable, countStrategy);
+        return EntityTags.conditional(response, EntityTags.ofPage(response, EntityTags::of), ifNoneMatch);
     }
 
     @Operation(summary = "Rechercher des garages par type de carburant")
     @GetMapping("/search/by-fuel-type")
-    public ResponseEntity<Page<GarageResponse>> searchByFuelType(
+    public ResponseEntity<PagedResponse<GarageResponse>> searchByFuelType(
             @RequestParam FuelType fuelType,
-            @PageableDefault(size = 20) Pageable pageable) {
-        Page<GarageResponse> response = garageService.searchGaragesByFuelType(fuelType, pageable);
-        return ResponseEntity.ok(response);
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "Calcul du total : EXACT, CACHED, APPROXIMATE ou NONE")
+            @RequestParam(name = "count", defaultValue = "CACHED") CountStrategy countStrategy,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PagedResponse<GarageResponse> response = garageService.searchGaragesByFuelType(fuelType, pageable, countStrategy);
+        return EntityTags.conditional(response, EntityTags.ofPage(response, EntityTags::of), ifNoneMatch);
     }
 
     @Operation(summary = "Rechercher des garages par type d'accessoire")
     @GetMapping("/search/by-accessory-type")
-    public ResponseEntity<Page<GarageResponse>> searchByAccessoryType(
+    public ResponseEntity<PagedResponse<GarageResponse>> searchByAccessoryType(
             @RequestParam AccessoryType accessoryType,
-            @PageableDefault(size = 20) Pageable pageable) {
-        Page<GarageResponse> response = garageService.searchGaragesByAccessoryType(accessoryType, pageable);
-        return ResponseEntity.ok(response);
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "Calcul du total : EXACT, CACHED, APPROXIMATE ou NONE")
+            @RequestParam(name = "count", defaultValue = "CACHED") CountStrategy countStrategy,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PagedResponse<GarageResponse> response = garageService.searchGaragesByAccessoryType(accessoryType, pageable, countStrategy);
+        return EntityTags.conditional(response, EntityTags.ofPage(response, EntityTags::withVehicles), ifNoneMatch);
     }
 
     @Operation(summary = "Récupérer les garages avec capacité disponible")
     @GetMapping("/available-capacity")
-    public ResponseEntity<Page<GarageResponse>> getGaragesWithAvailableCapacity(
-            @PageableDefault(size = 20) Pageable pageable) {
-        Page<GarageResponse> response = garageService.getGaragesWithAvailableCapacity(pageable);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<PagedResponse<GarageResponse>> getGaragesWithAvailableCapacity(
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = "Calcul du total : EXACT, CACHED, APPROXIMATE ou NONE")
+            @RequestParam(name = "count", defaultValue = "EXACT") CountStrategy countStrategy,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PagedResponse<GarageResponse> response = garageService.getGaragesWithAvailableCapacity(pageable, countStrategy);
+        return EntityTags.conditional(response, EntityTags.ofPage(response, EntityTags::of), ifNoneMatch);
+    }
+
+    @Operation(summary = "Rechercher les garages les plus proches d'un point",
+               description = "Index géographique en mémoire ; filtres facultatifs : places libres, carburant, "
+                   + "ouvert maintenant (openNow) ou le jour openDay entre openFrom et openTo")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Garages triés par distance croissante"),
+        @ApiResponse(responseCode = "400", description = "Coordonnées, nombre de garages ou plage horaire invalides")
+    })
+    @GetMapping("/nearest")
+    public ResponseEntity<List<GarageResponse>> findNearestGarages(@Valid @ParameterObject NearestGarageRequest request) {
+        return ResponseEntity.ok(garageService.findNearestGarages(request));
+    }
+
+    @Operation(summary = "Récupérer les garages ouverts",
+               description = "Ouverts maintenant, ou au moins une minute du jour day entre from et to "
+                   + "(ex. day=SATURDAY&from=17:00). Index des horaires compilés en mémoire, par ID croissant")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Garages ouverts"),
+        @ApiResponse(responseCode = "400", description = "Plage horaire invalide ou heure sans jour")
+    })
+    @GetMapping("/open")
+    public ResponseEntity<PagedResponse<GarageResponse>> findOpenGarages(
+            @Parameter(description = "Jour de la semaine (défaut : maintenant)")
+            @RequestParam(required = false) DayOfWeek day,
+            @Parameter(description = "Début de la plage (HH:mm, défaut : 00:00)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime from,
+            @Parameter(description = "Fin de la plage, exclue (HH:mm, défaut : fin de journée)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime to,
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PagedResponse<GarageResponse> response = garageService.findOpenGarages(day, from, to, pageable);
+        return EntityTags.conditional(response, EntityTags.ofPage(response, EntityTags::of), ifNoneMatch);
     }
 }
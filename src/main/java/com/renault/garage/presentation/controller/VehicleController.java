@@ -1,17 +1,27 @@
 package com.renault.garage.presentation.controller;
 
+import com.renault.garage.application.dto.request.VehicleBatchRequest;
 import com.renault.garage.application.dto.request.VehicleRequest;
+import com.renault.garage.application.dto.request.VehicleSearchRequest;
+import com.renault.garage.application.dto.response.CursorPage;
+import com.renault.garage.application.dto.response.PagedResponse;
+import com.renault.garage.application.dto.response.VehicleBatchResponse;
 import com.renault.garage.application.dto.response.VehicleResponse;
+import com.renault.garage.domain.model.enums.CountStrategy;
 import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.repository.projection.EntityRevision;
 import com.renault.garage.domain.service.VehicleService;
+import com.renault.garage.presentation.http.EntityTags;
+import com.renault.garage.presentation.http.EntityTags.Resource;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -38,62 +48,140 @@ public class VehicleController {
             @PathVariable Long garageId,
             @Valid @RequestBody VehicleRequest request) {
         VehicleResponse response = vehicleService.addVehicleToGarage(garageId, request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(EntityTags.of(response)).body(response);
+    }
+
+    @Operation(summary = "Ajouter un lot de véhicules à un garage")
+    @PostMapping("/garage/{garageId}/batch")
+    public ResponseEntity<VehicleBatchResponse> addVehiclesToGarage(
+            @PathVariable Long garageId,
+            @Valid @RequestBody VehicleBatchRequest request) {
+        VehicleBatchResponse response = vehicleService.addVehiclesToGarage(garageId, request);
+        HttpStatus status = response.getCreatedCount() > 0 ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(response);
     }
 
     @Operation(summary = "Récupérer un véhicule par son ID")
     @GetMapping("/{id}")
-    public ResponseEntity<VehicleResponse> getVehicleById(@PathVariable Long id) {
+    public ResponseEntity<VehicleResponse> getVehicleById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String currentTag = EntityTags.of(Resource.VEHICLE, id, vehicleService.getVehicleRevision(id));
+            if (EntityTags.matches(ifNoneMatch, currentTag)) {
+                return EntityTags.notModified(currentTag);
+            }
+        }
         VehicleResponse response = vehicleService.getVehicleById(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(EntityTags.of(response)).body(response);
     }
 
     @Operation(summary = "Récupérer tous les véhicules d'un garage")
     @GetMapping("/garage/{garageId}")
-    public ResponseEntity<Page<VehicleResponse>> getVehiclesByGarage(
+    public ResponseEntity<PagedResponse<VehicleResponse>> getVehiclesByGarage(
             @PathVariable Long garageId,
-            @PageableDefault(size = 20, sort = "brand", direction = Sort.Direction.ASC) Pageable pageable) {
-        Page<VehicleResponse> response = vehicleService.getVehiclesByGarage(garageId, pageable);
-        return ResponseEntity.ok(response);
+            @PageableDefault(size = 20, sort = "brand", direction = Sort.Direction.ASC) Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "EXACT") CountStrategy countStrategy,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PagedResponse<VehicleResponse> response = vehicleService.getVehiclesByGarage(garageId, pageable, countStrategy);
+        return EntityTags.conditional(response, EntityTags.ofPage(response, EntityTags::of), ifNoneMatch);
+    }
+
+    @Operation(summary = "Récupérer les véhicules d'un garage par curseur (sans OFFSET)")
+    @GetMapping(value = "/garage/{garageId}", params = "cursor")
+    public ResponseEntity<CursorPage<VehicleResponse>> scrollVehiclesByGarage(
+            @PathVariable Long garageId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Sort sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CursorPage<VehicleResponse> response = vehicleService.scrollVehiclesByGarage(garageId, cursor, sort, size);
+        return EntityTags.conditional(response, EntityTags.ofList(response.getContent(), EntityTags::of), ifNoneMatch);
     }
 
     @Operation(summary = "Mettre à jour un véhicule")
     @PutMapping("/{id}")
     public ResponseEntity<VehicleResponse> updateVehicle(
             @PathVariable Long id,
-            @Valid @RequestBody VehicleRequest request) {
-        VehicleResponse response = vehicleService.updateVehicle(id, request);
-        return ResponseEntity.ok(response);
+            @Valid @RequestBody VehicleRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EntityRevision expectedRevision = EntityTags.expectedRevision(ifMatch, Resource.VEHICLE, id);
+        VehicleResponse response = vehicleService.updateVehicle(id, request, expectedRevision);
+        return ResponseEntity.ok().eTag(EntityTags.of(response)).body(response);
     }
 
     @Operation(summary = "Supprimer un véhicule")
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteVehicle(@PathVariable Long id) {
-        vehicleService.deleteVehicle(id);
+    public ResponseEntity<Void> deleteVehicle(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        vehicleService.deleteVehicle(id, EntityTags.expectedRevision(ifMatch, Resource.VEHICLE, id));
         return ResponseEntity.noContent().build();
     }
 
     @Operation(summary = "Rechercher des véhicules par modèle")
     @GetMapping("/search/by-model")
-    public ResponseEntity<List<VehicleResponse>> findByModel(@RequestParam String model) {
+    public ResponseEntity<List<VehicleResponse>> findByModel(
+            @RequestParam String model,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         List<VehicleResponse> response = vehicleService.findVehiclesByModel(model);
-        return ResponseEntity.ok(response);
+        return EntityTags.conditional(response, EntityTags.ofList(response, EntityTags::of), ifNoneMatch);
+    }
+
+    @Operation(summary = "Rechercher des véhicules par combinaison de critères",
+               description = "Marque, modèle, couleur (sans casse), carburant, véhicules écologiques, garage, "
+                   + "année exacte ou plage d'années, plage de kilométrage ; tous facultatifs, combinés par ET")
+    @GetMapping("/search")
+    public ResponseEntity<PagedResponse<VehicleResponse>> search(
+            @Valid @ParameterObject VehicleSearchRequest criteria,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "EXACT") CountStrategy countStrategy,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PagedResponse<VehicleResponse> response = vehicleService.searchVehicles(criteria, pageable, countStrategy);
+        return EntityTags.conditional(response, EntityTags.ofPage(response, EntityTags::of), ifNoneMatch);
     }
 
     @Operation(summary = "Rechercher des véhicules par type de carburant")
     @GetMapping("/search/by-fuel-type")
-    public ResponseEntity<Page<VehicleResponse>> findByFuelType(
+    public ResponseEntity<PagedResponse<VehicleResponse>> findByFuelType(
+            @RequestParam FuelType fuelType,
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "EXACT") CountStrategy countStrategy,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PagedResponse<VehicleResponse> response = vehicleService.findVehiclesByFuelType(fuelType, pageable, countStrategy);
+        return EntityTags.conditional(response, EntityTags.ofPage(response, EntityTags::of), ifNoneMatch);
+    }
+
+    @Operation(summary = "Rechercher des véhicules par type de carburant par curseur (sans OFFSET)")
+    @GetMapping(value = "/search/by-fuel-type", params = "cursor")
+    public ResponseEntity<CursorPage<VehicleResponse>> scrollByFuelType(
             @RequestParam FuelType fuelType,
-            @PageableDefault(size = 20) Pageable pageable) {
-        Page<VehicleResponse> response = vehicleService.findVehiclesByFuelType(fuelType, pageable);
-        return ResponseEntity.ok(response);
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Sort sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CursorPage<VehicleResponse> response = vehicleService.scrollVehiclesByFuelType(fuelType, cursor, sort, size);
+        return EntityTags.conditional(response, EntityTags.ofList(response.getContent(), EntityTags::of), ifNoneMatch);
     }
 
     @Operation(summary = "Récupérer les véhicules écologiques")
     @GetMapping("/eco-friendly")
-    public ResponseEntity<Page<VehicleResponse>> getEcoFriendlyVehicles(
-            @PageableDefault(size = 20) Pageable pageable) {
-        Page<VehicleResponse> response = vehicleService.getEcoFriendlyVehicles(pageable);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<PagedResponse<VehicleResponse>> getEcoFriendlyVehicles(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(name = "count", defaultValue = "EXACT") CountStrategy countStrategy,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PagedResponse<VehicleResponse> response = vehicleService.getEcoFriendlyVehicles(pageable, countStrategy);
+        return EntityTags.conditional(response, EntityTags.ofPage(response, EntityTags::of), ifNoneMatch);
+    }
+
+    @Operation(summary = "Récupérer les véhicules écologiques par curseur (sans OFFSET)")
+    @GetMapping(value = "/eco-friendly", params = "cursor")
+    public ResponseEntity<CursorPage<VehicleResponse>> scrollEcoFriendlyVehicles(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Sort sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        CursorPage<VehicleResponse> response = vehicleService.scrollEcoFriendlyVehicles(cursor, sort, size);
+        return EntityTags.conditional(response, EntityTags.ofList(response.getContent(), EntityTags::of), ifNoneMatch);
     }
 }
@@ -1,12 +1,18 @@
 package com.renault.garage.presentation.exception;
 
 import com.renault.garage.domain.exception.BusinessException;
+import com.renault.garage.domain.exception.DuplicateVinException;
 import com.renault.garage.domain.exception.ResourceNotFoundException;
+import com.renault.garage.domain.exception.StaleRevisionException;
 import com.renault.garage.domain.exception.VehicleQuotaExceededException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -30,6 +36,8 @@ import java.util.List;
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private static final String VIN_UNIQUE_CONSTRAINT = "vehicles_vin_key";
+
     /**
      * Gère les exceptions de ressource non trouvée.
      */
@@ -72,6 +80,121 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    /**
+     * Gère les VIN déjà attribués.
+     */
+    @ExceptionHandler(DuplicateVinException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateVinException(
+            DuplicateVinException ex,
+            HttpServletRequest request) {
+        
+        log.error("Duplicate VIN: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error(HttpStatus.CONFLICT.getReasonPhrase())
+            .message(ex.getMessage())
+            .path(request.getRequestURI())
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * Gère les violations de contraintes d'intégrité en base.
+     * 
+     * La contrainte unique sur vehicles.vin reste le garde-fou final du
+     * pré-contrôle des VIN (écritures concurrentes, autres instances).
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex,
+            HttpServletRequest request) {
+        
+        log.error("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        
+        String constraint = ex.getCause() instanceof ConstraintViolationException violation
+            ? violation.getConstraintName()
+            : null;
+        
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error(HttpStatus.CONFLICT.getReasonPhrase())
+            .message(VIN_UNIQUE_CONSTRAINT.equals(constraint)
+                ? DuplicateVinException.MESSAGE
+                : "La donnée entre en conflit avec une donnée existante")
+            .path(request.getRequestURI())
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * Gère les écritures conditionnelles (If-Match) sur une révision périmée.
+     */
+    @ExceptionHandler(StaleRevisionException.class)
+    public ResponseEntity<ErrorResponse> handleStaleRevisionException(
+            StaleRevisionException ex,
+            HttpServletRequest request) {
+        
+        log.warn("Precondition failed: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.PRECONDITION_FAILED.value())
+            .error(HttpStatus.PRECONDITION_FAILED.getReasonPhrase())
+            .message(ex.getMessage())
+            .path(request.getRequestURI())
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
+    /**
+     * Gère les conflits de version entre écritures concurrentes non
+     * conditionnelles.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+        
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.CONFLICT.value())
+            .error(HttpStatus.CONFLICT.getReasonPhrase())
+            .message("La ressource a été modifiée par une autre requête, veuillez réessayer")
+            .path(request.getRequestURI())
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * Gère les échecs d'authentification à l'émission d'un token.
+     */
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ErrorResponse> handleAuthenticationException(
+            AuthenticationException ex,
+            HttpServletRequest request) {
+        
+        log.warn("Authentication failed: {}", ex.getMessage());
+        
+        ErrorResponse error = ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.UNAUTHORIZED.value())
+            .error(HttpStatus.UNAUTHORIZED.getReasonPhrase())
+            .message("Identifiant ou mot de passe incorrect")
+            .path(request.getRequestURI())
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+    }
+
     /**
      * Gère les exceptions métier génériques.
      */
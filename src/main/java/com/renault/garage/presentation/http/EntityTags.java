@@ -0,0 +1,254 @@
+package com.renault.garage.presentation.http;
+
+import com.renault.garage.application.dto.response.AccessoryResponse;
+import com.renault.garage.application.dto.response.GarageResponse;
+import com.renault.garage.application.dto.response.PagedResponse;
+import com.renault.garage.application.dto.response.VehicleResponse;
+import com.renault.garage.domain.exception.StaleRevisionException;
+import com.renault.garage.domain.model.enums.CountStrategy;
+import com.renault.garage.domain.repository.projection.EntityRevision;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * ETags HTTP des ressources et requêtes conditionnelles.
+ *
+ * Une ressource porte un ETag fort "type-id-version-enfants", construit à
+ * partir de sa révision ({@link EntityRevision}) : il peut donc être
+ * recalculé par une requête scalaire, sans charger l'entité, pour répondre
+ * 304 à un If-None-Match, et relu depuis un If-Match pour conditionner une
+ * écriture.
+ *
+ * Une collection porte un ETag faible : empreinte de la pagination et des
+ * ETags de ses éléments. Les versions sont préférées à updatedAt, qui ne
+ * change ni sur la suppression d'un élément ni sur le compteur de véhicules.
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+public final class EntityTags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * Ressources exposant un ETag.
+     */
+    public enum Resource {
+        GARAGE("garage", "Garage"),
+        VEHICLE("vehicle", "Véhicule"),
+        ACCESSORY("accessory", "Accessoire");
+
+        private final String tagPrefix;
+        private final String label;
+
+        Resource(String tagPrefix, String label) {
+            this.tagPrefix = tagPrefix;
+            this.label = label;
+        }
+    }
+
+    private EntityTags() {
+    }
+
+    /**
+     * @param resource le type de ressource
+     * @param id l'ID de la ressource
+     * @param revision sa révision
+     * @return l'ETag fort, entre guillemets
+     */
+    public static String of(Resource resource, Long id, EntityRevision revision) {
+        return "\"" + resource.tagPrefix + "-" + id + "-" + revision.version() + "-" + revision.childCount() + "\"";
+    }
+
+    public static String of(GarageResponse garage) {
+        return of(Resource.GARAGE, garage.getId(), revision(garage.getVersion(), garage.getVehicleCount()));
+    }
+
+    public static String of(VehicleResponse vehicle) {
+        return of(Resource.VEHICLE, vehicle.getId(), revision(vehicle.getVersion(), vehicle.getAccessoryCount()));
+    }
+
+    public static String of(AccessoryResponse accessory) {
+        return of(Resource.ACCESSORY, accessory.getId(), revision(accessory.getVersion(), 0));
+    }
+
+    /**
+     * ETag d'un garage et des véhicules qu'il embarque (recherche par type
+     * d'accessoire).
+     *
+     * @param garage le garage
+     * @return les ETags concaténés
+     */
+    public static String withVehicles(GarageResponse garage) {
+        if (garage.getVehicles() == null || garage.getVehicles().isEmpty()) {
+            return of(garage);
+        }
+        StringBuilder tags = new StringBuilder(of(garage));
+        garage.getVehicles().forEach(vehicle -> tags.append(',').append(of(vehicle)));
+        return tags.toString();
+    }
+
+    /**
+     * ETag faible d'une page.
+     *
+     * @param page la page
+     * @param tagger ETag d'un élément
+     * @return l'ETag faible
+     */
+    public static <T> String ofPage(Page<T> page, Function<T, String> tagger) {
+        String header = page.getNumber() + "/" + page.getSize() + "/" + page.getTotalElements();
+        return weak(header, page.getContent(), tagger);
+    }
+
+    /**
+     * ETag faible d'une page numérotée. Le total n'en fait partie que s'il
+     * est exact : une estimation qui varie ne doit pas invalider la page.
+     *
+     * @param page la page
+     * @param tagger ETag d'un élément
+     * @return l'ETag faible
+     */
+    public static <T> String ofPage(PagedResponse<T> page, Function<T, String> tagger) {
+        String total = page.getCountStrategy() == CountStrategy.EXACT
+            ? String.valueOf(page.getTotalElements())
+            : String.valueOf(page.isHasNext());
+        String header = page.getNumber() + "/" + page.getSize() + "/" + total;
+        return weak(header, page.getContent(), tagger);
+    }
+
+    /**
+     * ETag faible d'une liste non paginée.
+     *
+     * @param items les éléments
+     * @param tagger ETag d'un élément
+     * @return l'ETag faible
+     */
+    public static <T> String ofList(List<T> items, Function<T, String> tagger) {
+        return weak(String.valueOf(items.size()), items, tagger);
+    }
+
+    /**
+     * Indique si un en-tête If-None-Match désigne l'ETag courant
+     * (comparaison faible, RFC 9110 §13.1.2).
+     *
+     * @param ifNoneMatch l'en-tête (peut être null)
+     * @param etag l'ETag courant
+     * @return true si la ressource n'a pas changé
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String current = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (ANY.equals(tag) || current.equals(opaque(tag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lit la révision attendue par un en-tête If-Match.
+     *
+     * Sans en-tête ou avec « * », l'écriture est inconditionnelle. Un ETag
+     * faible, illisible ou désignant une autre ressource ne peut pas
+     * correspondre (comparaison forte) : la précondition échoue.
+     *
+     * @param ifMatch l'en-tête (peut être null)
+     * @param resource le type de ressource ciblé
+     * @param id l'ID de la ressource ciblée
+     * @return la révision attendue, null si l'écriture est inconditionnelle
+     * @throws StaleRevisionException si aucun ETag ne désigne la ressource
+     */
+    public static EntityRevision expectedRevision(String ifMatch, Resource resource, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+            return null;
+        }
+        String expectedPrefix = resource.tagPrefix + "-" + id + "-";
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+                continue;
+            }
+            String value = tag.substring(1, tag.length() - 1);
+            if (!value.startsWith(expectedPrefix)) {
+                continue;
+            }
+            String[] parts = value.substring(expectedPrefix.length()).split("-");
+            if (parts.length != 2) {
+                continue;
+            }
+            try {
+                return new EntityRevision(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+            } catch (NumberFormatException ex) {
+                // ETag illisible : essayer le suivant
+            }
+        }
+        throw new StaleRevisionException(resource.label, id);
+    }
+
+    /**
+     * Construit la réponse d'une lecture conditionnelle : 304 sans corps si
+     * le client détient déjà l'ETag courant, 200 sinon.
+     *
+     * @param body le corps de la réponse
+     * @param etag l'ETag courant
+     * @param ifNoneMatch l'en-tête If-None-Match (peut être null)
+     * @return la réponse
+     */
+    public static <T> ResponseEntity<T> conditional(T body, String etag, String ifNoneMatch) {
+        if (matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).body(body);
+    }
+
+    /**
+     * @param etag l'ETag courant
+     * @return une réponse 304 portant l'ETag
+     */
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    private static EntityRevision revision(Long version, Integer childCount) {
+        return new EntityRevision(Objects.requireNonNullElse(version, 0L), Objects.requireNonNullElse(childCount, 0));
+    }
+
+    private static <T> String weak(String header, Collection<T> items, Function<T, String> tagger) {
+        MessageDigest digest = sha256();
+        digest.update(header.getBytes(StandardCharsets.UTF_8));
+        for (T item : items) {
+            digest.update((byte) ',');
+            digest.update(tagger.apply(item).getBytes(StandardCharsets.UTF_8));
+        }
+        // 128 bits suffisent pour distinguer deux états d'une même collection
+        byte[] hash = digest.digest();
+        return WEAK_PREFIX + "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+-- Recherche multicritère de véhicules (GET /vehicles/search).
+-- Marque, modèle et couleur sont comparés par lower(col) = ? : un B-tree sur
+-- la colonne brute ne sert pas ces prédicats, l'expression indexée doit être
+-- identique à celle des requêtes (VehicleSpecifications).
+--
+--   modèle [+ marque] [+ années]             : idx_vehicle_model_year
+--   marque [+ années]                        : idx_vehicle_brand_year
+--   carburant / écologiques [+ années]       : idx_vehicle_fuel_type_year
+--   garage + autres critères                 : préfixe garage_id de idx_vehicle_garage_brand_id
+--                                              (50 véhicules au plus par garage)
+--
+-- Le modèle détermine la marque : "marque + modèle" est servi par l'index du
+-- modèle, plus sélectif, la marque étant vérifiée sur les lignes lues.
+-- Le kilométrage est inclus (INCLUDE) : une plage de kilométrage est filtrée
+-- dans l'index et le count de ces combinaisons se fait en parcours d'index seul.
+-- Les index mono-colonne sur brand et model bruts ne servaient aucune requête
+-- (toutes comparent lower() ou upper()) et sont supprimés.
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_model_year
+    ON vehicles (lower(model), year_of_manufacture) INCLUDE (mileage);
+DROP INDEX IF EXISTS idx_vehicle_model;
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_brand_year
+    ON vehicles (lower(brand), year_of_manufacture) INCLUDE (mileage);
+DROP INDEX IF EXISTS idx_vehicle_brand;
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_fuel_type_year
+    ON vehicles (fuel_type, year_of_manufacture) INCLUDE (mileage);
+
+-- Sans statistique étendue, le planificateur multiplie les sélectivités de la
+-- marque et du modèle et sous-estime "marque + modèle" d'un facteur égal au
+-- nombre de marques.
+CREATE STATISTICS IF NOT EXISTS stat_vehicle_brand_model (dependencies, ndistinct, mcv)
+    ON lower(brand), lower(model) FROM vehicles;
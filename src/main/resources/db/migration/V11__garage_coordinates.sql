@@ -0,0 +1,10 @@
+-- Coordonnées des garages (WGS 84, degrés décimaux), déduites du code postal
+-- à l'écriture (Garage#applyPostalAddress) : centre de l'arrondissement pour
+-- Paris, Lyon et Marseille, du département ailleurs. Les lignes existantes
+-- sont renseignées par GarageAddressBackfill après le démarrage.
+--
+-- Pas d'index : la recherche des garages les plus proches est servie par
+-- l'index en mémoire GarageGeoIndex, reconstruit au démarrage.
+
+ALTER TABLE garages ADD COLUMN latitude DOUBLE PRECISION;
+ALTER TABLE garages ADD COLUMN longitude DOUBLE PRECISION;
@@ -0,0 +1,10 @@
+-- Horaires d'ouverture compilés (WeeklySchedule#toBytes) : bitmap d'une
+-- semaine à la minute, 10 080 bits sur 1 264 octets, calculé à l'écriture
+-- à partir de garage_opening_hours (Garage#applyOpeningSchedule). Le texte
+-- reste la source ; NULL tant que GarageAddressBackfill n'a pas compilé les
+-- horaires des lignes existantes.
+--
+-- Pas d'index : les recherches "ouvert à tel moment" sont servies par les
+-- index en mémoire GarageScheduleIndex et GarageGeoIndex.
+
+ALTER TABLE garages ADD COLUMN opening_schedule BYTEA;
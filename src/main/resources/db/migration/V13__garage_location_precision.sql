@@ -0,0 +1,10 @@
+-- Précision de la position des garages : FALSE quand les coordonnées ont
+-- été fournies pour le garage, TRUE quand elles sont celles du code postal
+-- (geo/postal-code-locations.csv : arrondissement à Paris, Lyon et
+-- Marseille, préfecture du département ailleurs). Toutes les positions
+-- existantes viennent du code postal.
+--
+-- Valeur par défaut constante : la colonne est ajoutée sans réécrire la
+-- table.
+
+ALTER TABLE garages ADD COLUMN location_approximate BOOLEAN NOT NULL DEFAULT TRUE;
@@ -0,0 +1,21 @@
+-- Nom de la contrainte unique sur vehicles.vin : les bases créées par
+-- Hibernate (ddl-auto=update) avant la baseline V1 la nomment uk<hash>,
+-- celles créées par V1 vehicles_vin_key. Le gestionnaire d'erreurs
+-- reconnaît un VIN en double à ce nom (réponse 409 « VIN existant »).
+
+DO $$
+DECLARE
+    vin_constraint TEXT;
+BEGIN
+    SELECT c.conname INTO vin_constraint
+    FROM pg_constraint c
+    JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+    WHERE c.conrelid = 'vehicles'::regclass
+      AND c.contype = 'u'
+      AND array_length(c.conkey, 1) = 1
+      AND a.attname = 'vin';
+
+    IF vin_constraint IS NOT NULL AND vin_constraint <> 'vehicles_vin_key' THEN
+        EXECUTE format('ALTER TABLE vehicles RENAME CONSTRAINT %I TO vehicles_vin_key', vin_constraint);
+    END IF;
+END $$;
@@ -0,0 +1,56 @@
+-- Schéma initial, tel que généré jusqu'ici par Hibernate (ddl-auto=update).
+-- Les bases existantes sont marquées à cette version (baseline-on-migrate).
+
+CREATE TABLE IF NOT EXISTS garages (
+    id          BIGSERIAL    NOT NULL,
+    name        VARCHAR(100) NOT NULL,
+    address     VARCHAR(255) NOT NULL,
+    telephone   VARCHAR(20)  NOT NULL,
+    email       VARCHAR(100) NOT NULL UNIQUE,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS garage_opening_hours (
+    garage_id   BIGINT       NOT NULL REFERENCES garages,
+    day_of_week VARCHAR(255) NOT NULL CHECK (day_of_week IN ('MONDAY','TUESDAY','WEDNESDAY','THURSDAY','FRIDAY','SATURDAY','SUNDAY')),
+    hours       VARCHAR(500),
+    PRIMARY KEY (garage_id, day_of_week)
+);
+
+CREATE TABLE IF NOT EXISTS vehicles (
+    id                  BIGSERIAL    NOT NULL,
+    brand               VARCHAR(50)  NOT NULL,
+    model               VARCHAR(50)  NOT NULL,
+    year_of_manufacture INTEGER      NOT NULL,
+    fuel_type           VARCHAR(20)  NOT NULL CHECK (fuel_type IN ('ESSENCE','DIESEL','ELECTRIQUE','HYBRIDE','GPL')),
+    vin                 VARCHAR(17) UNIQUE,
+    color               VARCHAR(30),
+    mileage             INTEGER,
+    garage_id           BIGINT       NOT NULL REFERENCES garages,
+    created_at          TIMESTAMP(6) NOT NULL,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS accessories (
+    id          BIGSERIAL     NOT NULL,
+    name        VARCHAR(100)  NOT NULL,
+    description VARCHAR(500)  NOT NULL,
+    price       NUMERIC(12,2) NOT NULL,
+    type        VARCHAR(20)   NOT NULL CHECK (type IN ('INTERIEUR','EXTERIEUR','ELECTRONIQUE','SECURITE','CONFORT')),
+    vehicle_id  BIGINT        NOT NULL REFERENCES vehicles,
+    created_at  TIMESTAMP(6)  NOT NULL,
+    updated_at  TIMESTAMP(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_garage_name ON garages (name);
+CREATE INDEX IF NOT EXISTS idx_garage_email ON garages (email);
+CREATE INDEX IF NOT EXISTS idx_vehicle_brand ON vehicles (brand);
+CREATE INDEX IF NOT EXISTS idx_vehicle_model ON vehicles (model);
+CREATE INDEX IF NOT EXISTS idx_vehicle_fuel_type ON vehicles (fuel_type);
+CREATE INDEX IF NOT EXISTS idx_vehicle_garage ON vehicles (garage_id);
+CREATE INDEX IF NOT EXISTS idx_accessory_type ON accessories (type);
+CREATE INDEX IF NOT EXISTS idx_accessory_vehicle ON accessories (vehicle_id);
@@ -0,0 +1,11 @@
+-- Compteur de véhicules par garage, maintenu par une mise à jour conditionnelle
+-- atomique lors de l'admission d'un véhicule (quota de 50 véhicules).
+
+ALTER TABLE garages ADD COLUMN vehicle_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE garages g
+SET vehicle_count = counts.total
+FROM (SELECT garage_id, COUNT(*) AS total FROM vehicles GROUP BY garage_id) counts
+WHERE counts.garage_id = g.id;
+
+ALTER TABLE garages ADD CONSTRAINT chk_garage_vehicle_count CHECK (vehicle_count >= 0);
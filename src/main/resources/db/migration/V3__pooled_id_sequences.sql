@@ -0,0 +1,24 @@
+-- Passage des identifiants BIGSERIAL à des séquences dédiées utilisées avec
+-- l'optimiseur "pooled" d'Hibernate (INCREMENT BY = taille d'allocation).
+-- Avec IDENTITY, Hibernate désactive le batching des INSERT.
+--
+-- Chaque valeur v de la séquence réserve les identifiants [v - 49, v] : la
+-- séquence est repositionnée pour que le premier bloc commence après MAX(id).
+-- Si la taille d'allocation est modifiée (id.allocation-size.<séquence>),
+-- ajuster l'INCREMENT BY correspondant : ALTER SEQUENCE ... INCREMENT BY n.
+
+CREATE SEQUENCE IF NOT EXISTS garages_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS vehicles_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS accessories_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('garages_seq', MAX(id) + 50, false) FROM garages HAVING MAX(id) IS NOT NULL;
+SELECT setval('vehicles_seq', MAX(id) + 50, false) FROM vehicles HAVING MAX(id) IS NOT NULL;
+SELECT setval('accessories_seq', MAX(id) + 50, false) FROM accessories HAVING MAX(id) IS NOT NULL;
+
+ALTER TABLE garages ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE vehicles ALTER COLUMN id DROP DEFAULT;
+ALTER TABLE accessories ALTER COLUMN id DROP DEFAULT;
+
+DROP SEQUENCE IF EXISTS garages_id_seq;
+DROP SEQUENCE IF EXISTS vehicles_id_seq;
+DROP SEQUENCE IF EXISTS accessories_id_seq;
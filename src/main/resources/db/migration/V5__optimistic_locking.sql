@@ -0,0 +1,6 @@
+-- Version des lignes pour le verrouillage optimiste (@Version) et les ETags HTTP.
+-- Incrémentée par Hibernate à chaque mise à jour d'entité.
+
+ALTER TABLE garages ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE vehicles ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE accessories ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
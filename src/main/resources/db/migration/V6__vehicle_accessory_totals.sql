@@ -0,0 +1,13 @@
+-- Nombre et prix total des accessoires par véhicule, maintenus par des mises
+-- à jour atomiques à chaque ajout, modification ou suppression d'accessoire.
+
+ALTER TABLE vehicles ADD COLUMN accessory_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE vehicles ADD COLUMN accessories_total NUMERIC(14, 2) NOT NULL DEFAULT 0;
+
+UPDATE vehicles v
+SET accessory_count = totals.cnt,
+    accessories_total = totals.total
+FROM (SELECT vehicle_id, COUNT(*) AS cnt, SUM(price) AS total FROM accessories GROUP BY vehicle_id) totals
+WHERE totals.vehicle_id = v.id;
+
+ALTER TABLE vehicles ADD CONSTRAINT chk_vehicle_accessory_count CHECK (accessory_count >= 0);
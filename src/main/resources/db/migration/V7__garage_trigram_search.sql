@@ -0,0 +1,15 @@
+-- Recherche par sous-chaîne sur le nom et l'adresse des garages.
+-- Les index trigrammes servent les prédicats lower(col) LIKE '%x%' émis par
+-- GarageSpecifications (un B-tree ne sert que les préfixes) ; l'expression
+-- indexée doit rester identique à celle des requêtes.
+--   GIN  : filtre LIKE et comptage
+--   GiST : classement ORDER BY lower(col) <->> terme LIMIT n en parcours KNN,
+--          sans trier toutes les correspondances d'un terme fréquent
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_garage_name_trgm ON garages USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_garage_address_trgm ON garages USING gin (lower(address) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_garage_name_trgm_knn ON garages USING gist (lower(name) gist_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_garage_address_trgm_knn ON garages USING gist (lower(address) gist_trgm_ops);
@@ -0,0 +1,13 @@
+-- Ville et code postal structurés, extraits de l'adresse à l'écriture
+-- (Garage#applyPostalAddress). Les lignes existantes sont renseignées par
+-- GarageAddressBackfill, par lots, après le démarrage : la migration reste
+-- instantanée quelle que soit la taille de la table.
+--
+-- Les classes d'opérateurs *_pattern_ops servent à la fois l'égalité et le
+-- préfixe (LIKE 'x%') quelle que soit la collation de la base.
+
+ALTER TABLE garages ADD COLUMN city VARCHAR(100);
+ALTER TABLE garages ADD COLUMN postal_code VARCHAR(5);
+
+CREATE INDEX IF NOT EXISTS idx_garage_city ON garages (lower(city) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_garage_postal_code ON garages (postal_code varchar_pattern_ops);
@@ -0,0 +1,17 @@
+-- Index composites de la pagination par curseur : chaque liste est triée
+-- par (attribut, id) et reprend à (attribut, id) > (?, ?). Un index dont les
+-- colonnes suivent le filtre puis ce tri sert la page en un parcours borné,
+-- sans tri, quelle que soit sa profondeur.
+--
+-- Les index mono-colonne qu'ils prolongent deviennent redondants (le préfixe
+-- du composite sert les mêmes recherches, y compris la clé étrangère
+-- garage_id lors des suppressions).
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_garage_brand_id ON vehicles (garage_id, brand, id);
+DROP INDEX IF EXISTS idx_vehicle_garage;
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_fuel_type_id ON vehicles (fuel_type, id);
+DROP INDEX IF EXISTS idx_vehicle_fuel_type;
+
+CREATE INDEX IF NOT EXISTS idx_garage_name_id ON garages (name, id);
+DROP INDEX IF EXISTS idx_garage_name;
@@ -0,0 +1,213 @@
+package com.renault.garage.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Benchmark d'insertion : IDENTITY (un INSERT ... RETURNING par ligne) contre
+ * séquence "pooled" + INSERT batchés avec reWriteBatchedInserts.
+ * 
+ * Reproduit au niveau JDBC ce que fait Hibernate dans les deux configurations.
+ * Exclu du build par défaut, lancé via : mvn test -Pbenchmark
+ * 
+ * Base cible : Testcontainers (Docker requis) ou une base existante via
+ * -Dbenchmark.jdbc-url=... (-Dbenchmark.user, -Dbenchmark.password).
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Benchmark - Génération d'identifiants et insertions batchées")
+class IdGenerationInsertBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 50;
+    private static final int WARMUP_ROWS = 2_000;
+
+    private static PostgreSQLContainer<?> container;
+    private static String jdbcUrl;
+    private static String user;
+    private static String password;
+
+    @BeforeAll
+    static void startDatabase() {
+        jdbcUrl = System.getProperty("benchmark.jdbc-url");
+        if (jdbcUrl != null) {
+            user = System.getProperty("benchmark.user", "renault_user");
+            password = System.getProperty("benchmark.password", "renault_password");
+            return;
+        }
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(),
+            "Docker indisponible et benchmark.jdbc-url non renseigné");
+        container = new PostgreSQLContainer<>("postgres:16-alpine");
+        container.start();
+        jdbcUrl = container.getJdbcUrl();
+        user = container.getUsername();
+        password = container.getPassword();
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Compare le débit d'insertion IDENTITY vs séquence pooled batchée")
+    void compareInsertThroughput() throws SQLException {
+        try (Connection identity = connect(false); Connection pooled = connect(true)) {
+            createTables(identity);
+
+            insertWithIdentity(identity, WARMUP_ROWS);
+            insertWithPooledSequence(pooled, WARMUP_ROWS);
+            truncate(identity);
+
+            double identityRate = rate(ROWS, insertWithIdentity(identity, ROWS));
+            double pooledRate = rate(ROWS, insertWithPooledSequence(pooled, ROWS));
+
+            log.info("IDENTITY (row-by-row RETURNING): {} inserts/sec", Math.round(identityRate));
+            log.info("Pooled sequence + batch {} (reWriteBatchedInserts): {} inserts/sec",
+                BATCH_SIZE, Math.round(pooledRate));
+            log.info("Speed-up: x{}", String.format("%.1f", pooledRate / identityRate));
+
+            assertThat(count(identity, "bench_identity")).isEqualTo(ROWS);
+            assertThat(count(identity, "bench_pooled")).isEqualTo(ROWS);
+
+            dropTables(identity);
+        }
+    }
+
+    private static Connection connect(boolean rewriteBatchedInserts) throws SQLException {
+        Properties props = new Properties();
+        props.setProperty("user", user);
+        props.setProperty("password", password);
+        props.setProperty("reWriteBatchedInserts", String.valueOf(rewriteBatchedInserts));
+        Connection connection = DriverManager.getConnection(jdbcUrl, props);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private static void createTables(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            dropTables(connection);
+            st.execute("CREATE TABLE bench_identity (id BIGSERIAL PRIMARY KEY, vin VARCHAR(17) NOT NULL, "
+                + "brand VARCHAR(100) NOT NULL, model VARCHAR(100) NOT NULL, year_of_manufacture INT NOT NULL)");
+            st.execute("CREATE TABLE bench_pooled (id BIGINT PRIMARY KEY, vin VARCHAR(17) NOT NULL, "
+                + "brand VARCHAR(100) NOT NULL, model VARCHAR(100) NOT NULL, year_of_manufacture INT NOT NULL)");
+            st.execute("CREATE SEQUENCE bench_pooled_seq INCREMENT BY " + ALLOCATION_SIZE);
+        }
+        connection.commit();
+    }
+
+    private static void dropTables(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_identity");
+            st.execute("DROP TABLE IF EXISTS bench_pooled");
+            st.execute("DROP SEQUENCE IF EXISTS bench_pooled_seq");
+        }
+        connection.commit();
+    }
+
+    private static void truncate(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("TRUNCATE bench_identity, bench_pooled");
+        }
+        connection.commit();
+    }
+
+    /**
+     * Comportement IDENTITY : l'identifiant n'est connu qu'après l'INSERT,
+     * chaque ligne fait donc un aller-retour.
+     */
+    private static long insertWithIdentity(Connection connection, int rows) throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO bench_identity (vin, brand, model, year_of_manufacture) VALUES (?, ?, ?, ?)",
+                new String[] {"id"})) {
+            for (int i = 0; i < rows; i++) {
+                bind(ps, i);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+        connection.commit();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Comportement pooled : un nextval réserve ALLOCATION_SIZE identifiants,
+     * les INSERT sont envoyés par lots.
+     */
+    private static long insertWithPooledSequence(Connection connection, int rows) throws SQLException {
+        long start = System.nanoTime();
+        try (PreparedStatement seq = connection.prepareStatement("SELECT nextval('bench_pooled_seq')");
+             PreparedStatement ps = connection.prepareStatement(
+                 "INSERT INTO bench_pooled (id, vin, brand, model, year_of_manufacture) VALUES (?, ?, ?, ?, ?)")) {
+            long next = 0;
+            long hi = -1;
+            for (int i = 0; i < rows; i++) {
+                if (next > hi) {
+                    try (ResultSet rs = seq.executeQuery()) {
+                        rs.next();
+                        hi = rs.getLong(1);
+                    }
+                    next = hi - ALLOCATION_SIZE + 1;
+                }
+                ps.setLong(1, next++);
+                bind(ps, i, 2);
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+        return System.nanoTime() - start;
+    }
+
+    private static void bind(PreparedStatement ps, int i) throws SQLException {
+        bind(ps, i, 1);
+    }
+
+    private static void bind(PreparedStatement ps, int i, int firstIndex) throws SQLException {
+        ps.setString(firstIndex, String.format("VF1BENCH%09d", i));
+        ps.setString(firstIndex + 1, "Renault");
+        ps.setString(firstIndex + 2, "Clio");
+        ps.setInt(firstIndex + 3, 2015 + i % 10);
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static double rate(int rows, long nanos) {
+        return rows / (nanos / 1_000_000_000.0);
+    }
+}
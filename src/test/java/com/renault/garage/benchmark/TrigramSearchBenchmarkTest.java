@@ -0,0 +1,242 @@
+package com.renault.garage.benchmark;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Benchmark de la recherche de garages par sous-chaîne (nom, adresse) :
+ * LIKE '%x%' en parcours séquentiel contre index trigrammes pg_trgm (GIN
+ * pour le filtre et le count, GiST pour le classement par distance).
+ *
+ * Reproduit au niveau JDBC les requêtes de GarageSpecifications.hasName /
+ * hasCity (page de 20 + count) sur une table de benchmark.garages lignes
+ * (1 000 000 par défaut) et affiche p50 / p99 de chaque variante.
+ * Exclu du build par défaut, lancé via : mvn test -Pbenchmark
+ *
+ * Base cible : Testcontainers (Docker requis) ou une base existante via
+ * -Dbenchmark.jdbc-url=... (-Dbenchmark.user, -Dbenchmark.password).
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Tag("benchmark")
+@DisplayName("Benchmark - Recherche de garages par index trigrammes")
+class TrigramSearchBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.garages", 1_000_000);
+    private static final int QUERIES = Integer.getInteger("benchmark.queries", 100);
+    private static final int WARMUP_QUERIES = 10;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String[] CITIES = {
+        "Paris", "Lyon", "Marseille", "Toulouse", "Nice", "Nantes", "Strasbourg", "Montpellier",
+        "Bordeaux", "Lille", "Rennes", "Reims", "Le Havre", "Saint-Etienne", "Toulon", "Grenoble",
+        "Dijon", "Angers", "Nimes", "Villeurbanne", "Clermont-Ferrand", "Le Mans", "Aix-en-Provence",
+        "Brest", "Tours", "Amiens", "Limoges", "Annecy", "Perpignan", "Boulogne-Billancourt"
+    };
+    private static final String[] STREETS = {
+        "rue de la République", "avenue Jean Jaurès", "boulevard Victor Hugo", "rue Pasteur",
+        "avenue du Général Leclerc", "rue Gambetta", "place de la Gare", "rue Nationale",
+        "boulevard de la Liberté", "route de Lyon", "chemin des Vignes", "avenue de Verdun"
+    };
+
+    private static PostgreSQLContainer<?> container;
+    private static String jdbcUrl;
+    private static String user;
+    private static String password;
+
+    @BeforeAll
+    static void startDatabase() {
+        jdbcUrl = System.getProperty("benchmark.jdbc-url");
+        if (jdbcUrl != null) {
+            user = System.getProperty("benchmark.user", "renault_user");
+            password = System.getProperty("benchmark.password", "renault_password");
+            return;
+        }
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(),
+            "Docker indisponible et benchmark.jdbc-url non renseigné");
+        container = new PostgreSQLContainer<>("postgres:16-alpine");
+        container.start();
+        jdbcUrl = container.getJdbcUrl();
+        user = container.getUsername();
+        password = container.getPassword();
+    }
+
+    @AfterAll
+    static void stopDatabase() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Compare p50 / p99 de la recherche par sous-chaîne avant et après les index trigrammes")
+    void compareSearchLatency() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, user, password)) {
+            createTable(connection);
+            List<Search> searches = searches(new Random(42));
+
+            long[] sequential = run(connection, searches, false);
+            createTrigramIndexes(connection);
+            long[] trigram = run(connection, searches, true);
+
+            log.info("{} garages, {} searches (page of {} + count)", ROWS, QUERIES, PAGE_SIZE);
+            log.info("LIKE, sequential scan: p50={} ms, p99={} ms",
+                millis(percentile(sequential, 50)), millis(percentile(sequential, 99)));
+            log.info("pg_trgm GIN + GiST word-distance ranking: p50={} ms, p99={} ms",
+                millis(percentile(trigram, 50)), millis(percentile(trigram, 99)));
+            log.info("p99 speed-up: x{}",
+                String.format("%.1f", (double) percentile(sequential, 99) / percentile(trigram, 99)));
+
+            dropTable(connection);
+        }
+    }
+
+    private static void createTable(Connection connection) throws SQLException {
+        long start = System.nanoTime();
+        try (Statement st = connection.createStatement()) {
+            dropTable(connection);
+            st.execute("CREATE TABLE bench_garages (id BIGINT PRIMARY KEY, name VARCHAR(100) NOT NULL, "
+                + "address VARCHAR(255) NOT NULL)");
+            st.execute(String.format("""
+                INSERT INTO bench_garages (id, name, address)
+                SELECT i,
+                       'Garage Renault ' || (ARRAY[%1$s])[1 + i %% %2$d] || ' ' || i,
+                       (1 + i %% 200) || ' ' || (ARRAY[%3$s])[1 + (i / 7) %% %4$d] || ', '
+                           || lpad(((i * 37) %% 95000 + 1000)::text, 5, '0') || ' '
+                           || (ARRAY[%1$s])[1 + (i / 13) %% %2$d]
+                FROM generate_series(1, %5$d) AS i
+                """, sqlArray(CITIES), CITIES.length, sqlArray(STREETS), STREETS.length, ROWS));
+            st.execute("ANALYZE bench_garages");
+        }
+        log.info("Loaded {} garages in {} ms", ROWS, millis(System.nanoTime() - start));
+    }
+
+    private static void createTrigramIndexes(Connection connection) throws SQLException {
+        long start = System.nanoTime();
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            st.execute("CREATE INDEX bench_garages_name_trgm ON bench_garages USING gin (lower(name) gin_trgm_ops)");
+            st.execute("CREATE INDEX bench_garages_address_trgm ON bench_garages "
+                + "USING gin (lower(address) gin_trgm_ops)");
+            st.execute("CREATE INDEX bench_garages_name_knn ON bench_garages USING gist (lower(name) gist_trgm_ops)");
+            st.execute("CREATE INDEX bench_garages_address_knn ON bench_garages "
+                + "USING gist (lower(address) gist_trgm_ops)");
+            st.execute("ANALYZE bench_garages");
+        }
+        log.info("Built trigram indexes in {} ms", millis(System.nanoTime() - start));
+    }
+
+    private static void dropTable(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_garages");
+        }
+    }
+
+    /**
+     * Termes représentatifs : ville, rue ou code postal dans l'adresse,
+     * ville + numéro dans le nom.
+     */
+    private static List<Search> searches(Random random) {
+        List<Search> searches = new ArrayList<>();
+        for (int i = 0; i < QUERIES + WARMUP_QUERIES; i++) {
+            searches.add(switch (i % 4) {
+                case 0 -> new Search("address", CITIES[random.nextInt(CITIES.length)].toLowerCase());
+                case 1 -> new Search("address", STREETS[random.nextInt(STREETS.length)].toLowerCase());
+                case 2 -> new Search("address", String.format("%05d", 1000 + random.nextInt(95000)));
+                default -> new Search("name", (CITIES[random.nextInt(CITIES.length)] + " "
+                    + (1 + random.nextInt(ROWS))).toLowerCase());
+            });
+        }
+        return searches;
+    }
+
+    /**
+     * Exécute les recherches (page + count) et renvoie la latence de chacune,
+     * hors préchauffage.
+     */
+    private static long[] run(Connection connection, List<Search> searches, boolean ranked) throws SQLException {
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < searches.size(); i++) {
+            Search search = searches.get(i);
+            long start = System.nanoTime();
+            int rows = page(connection, search, ranked);
+            long total = count(connection, search);
+            long elapsed = System.nanoTime() - start;
+            assertThat(rows).isLessThanOrEqualTo((int) Math.min(total, PAGE_SIZE));
+            if (i >= WARMUP_QUERIES) {
+                latencies[i - WARMUP_QUERIES] = elapsed;
+            }
+        }
+        return latencies;
+    }
+
+    private static int page(Connection connection, Search search, boolean ranked) throws SQLException {
+        String sql = "SELECT id, name, address FROM bench_garages WHERE lower(" + search.column() + ") LIKE ? "
+            + (ranked ? "ORDER BY lower(" + search.column() + ") <->> ? " : "")
+            + "LIMIT " + PAGE_SIZE;
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, "%" + search.term() + "%");
+            if (ranked) {
+                ps.setString(2, search.term());
+            }
+            int rows = 0;
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rows++;
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static long count(Connection connection, Search search) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT count(id) FROM bench_garages WHERE lower(" + search.column() + ") LIKE ?")) {
+            ps.setString(1, "%" + search.term() + "%");
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private static long percentile(long[] latencies, int percentile) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f", nanos / 1_000_000.0);
+    }
+
+    private static String sqlArray(String[] values) {
+        return String.join(",", Arrays.stream(values).map(v -> "'" + v.replace("'", "''") + "'").toList());
+    }
+
+    private record Search(String column, String term) {
+    }
+}
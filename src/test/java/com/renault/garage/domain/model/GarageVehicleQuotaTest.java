@@ -119,4 +119,22 @@ class GarageVehicleQuotaTest {
         assertThat(garage.getVehicleCount()).isEqualTo(10);
         assertThat(garage.canAcceptVehicle()).isTrue();
     }
+
+    @Test
+    @DisplayName("Devrait s'appuyer sur le compteur persisté sans charger la collection")
+    void shouldRelyOnPersistedVehicleCount() {
+        // Given - Garage chargé depuis la base avec un compteur au maximum
+        Garage fullGarage = Garage.builder()
+            .id(2L)
+            .name("Full Garage")
+            .vehicleCount(Garage.MAX_VEHICLES_PER_GARAGE)
+            .build();
+
+        // Then
+        assertThat(fullGarage.getVehicles()).isEmpty();
+        assertThat(fullGarage.getVehicleCount()).isEqualTo(50);
+        assertThat(fullGarage.canAcceptVehicle()).isFalse();
+        assertThatThrownBy(() -> fullGarage.addVehicle(new Vehicle()))
+            .isInstanceOf(VehicleQuotaExceededException.class);
+    }
 }
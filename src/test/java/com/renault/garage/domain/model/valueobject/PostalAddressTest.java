@@ -0,0 +1,37 @@
+package com.renault.garage.domain.model.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires pour l'extraction de la ville et du code postal.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@DisplayName("Tests - Extraction ville / code postal")
+class PostalAddressTest {
+
+    @Test
+    @DisplayName("Devrait extraire la ville qui suit le dernier code postal, pas une ville citée dans la rue")
+    void shouldParseCityAfterLastPostalCode() {
+        // When / Then
+        assertThat(PostalAddress.parse("12 rue de Paris, 69001 Lyon"))
+            .contains(new PostalAddress("69001", "Lyon"));
+        assertThat(PostalAddress.parse("10001 route de Lyon 13008  Marseille "))
+            .contains(new PostalAddress("13008", "Marseille"));
+        assertThat(PostalAddress.parse("3 avenue Jean Jaurès, 42000 Saint-Étienne Cedex 1"))
+            .contains(new PostalAddress("42000", "Saint-Étienne"));
+    }
+
+    @Test
+    @DisplayName("Devrait rejeter une adresse qui ne se termine pas par code postal + ville")
+    void shouldRejectUnstructuredAddress() {
+        // When / Then
+        assertThat(PostalAddress.parse("Zone industrielle nord, Lyon")).isEmpty();
+        assertThat(PostalAddress.parse("12 rue de Paris, 69001")).isEmpty();
+        assertThat(PostalAddress.parse(null)).isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+package com.renault.garage.domain.model.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires pour l'analyse des horaires hebdomadaires.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@DisplayName("Tests - Horaires hebdomadaires")
+class WeeklyScheduleTest {
+
+    // Lundi 13 octobre 2025
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 10, 13, 0, 0);
+
+    @Test
+    @DisplayName("Devrait être ouvert pendant les plages du jour, fermé entre elles et hors jours renseignés")
+    void shouldBeOpenDuringRangesOnly() {
+        // Given
+        WeeklySchedule schedule = WeeklySchedule.parse(Map.of(
+            DayOfWeek.MONDAY, "08:00-12:00, 14:00-18:00",
+            DayOfWeek.SATURDAY, "09:00-12:00"));
+
+        // When / Then
+        assertThat(schedule.isOpenAt(MONDAY.withHour(8))).isTrue();
+        assertThat(schedule.isOpenAt(MONDAY.withHour(11).withMinute(59))).isTrue();
+        assertThat(schedule.isOpenAt(MONDAY.withHour(12))).isFalse();
+        assertThat(schedule.isOpenAt(MONDAY.withHour(15))).isTrue();
+        assertThat(schedule.isOpenAt(MONDAY.withHour(18))).isFalse();
+        assertThat(schedule.isOpenAt(MONDAY.plusDays(1).withHour(10))).isFalse();
+        assertThat(schedule.isOpenAt(MONDAY.plusDays(5).withHour(10))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Devrait prolonger sur le lendemain une plage qui passe minuit, du dimanche au lundi")
+    void shouldWrapRangesPastMidnight() {
+        // Given
+        WeeklySchedule schedule = WeeklySchedule.parse(Map.of(DayOfWeek.SUNDAY, "22:00-02:00"));
+
+        // When / Then
+        assertThat(schedule.isOpenAt(MONDAY.plusDays(6).withHour(23))).isTrue();
+        assertThat(schedule.isOpenAt(MONDAY.withHour(1))).isTrue();
+        assertThat(schedule.isOpenAt(MONDAY.withHour(2))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Devrait ignorer les plages illisibles et partager l'égalité entre horaires identiques")
+    void shouldIgnoreUnreadableRangesAndCompareByValue() {
+        // When
+        WeeklySchedule closed = WeeklySchedule.parse(Map.of(DayOfWeek.MONDAY, "Fermé", DayOfWeek.TUESDAY, "25:00-26:00"));
+        WeeklySchedule first = WeeklySchedule.parse(Map.of(DayOfWeek.MONDAY, "08:00-12:00,14:00-18:00"));
+        WeeklySchedule second = WeeklySchedule.parse(Map.of(DayOfWeek.MONDAY, "14:00-18:00 ; 08:00-12:00"));
+
+        // Then
+        assertThat(closed).isEqualTo(WeeklySchedule.CLOSED);
+        assertThat(first).isEqualTo(second).hasSameHashCodeAs(second);
+    }
+
+    @Test
+    @DisplayName("Devrait trouver une ouverture sur une plage et relire la forme binaire")
+    void shouldTestWindowsAndRoundTripBytes() {
+        // Given
+        WeeklySchedule schedule = WeeklySchedule.parse(Map.of(
+            DayOfWeek.SATURDAY, "09:00-12:00, 17:30-17:31",
+            DayOfWeek.SUNDAY, "23:00-24:00"));
+
+        // When
+        WeeklySchedule reloaded = WeeklySchedule.fromBytes(schedule.toBytes());
+
+        // Then
+        assertThat(reloaded).isEqualTo(schedule);
+        assertThat(schedule.toBytes()).hasSize(WeeklySchedule.BYTES);
+        assertThat(schedule.isOpenDuring(OpeningWindow.of(DayOfWeek.SATURDAY, LocalTime.of(17, 0), null))).isTrue();
+        assertThat(schedule.isOpenDuring(OpeningWindow.of(DayOfWeek.SATURDAY, LocalTime.of(17, 31), null))).isFalse();
+        assertThat(schedule.isOpenDuring(OpeningWindow.of(DayOfWeek.MONDAY, null, null))).isFalse();
+        assertThat(schedule.isOpenDuring(new OpeningWindow(0, WeeklySchedule.MINUTES_PER_WEEK))).isTrue();
+        assertThat(schedule.isOpenAt(WeeklySchedule.MINUTES_PER_WEEK - 1)).isTrue();
+        assertThat(WeeklySchedule.CLOSED.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Devrait refuser les horaires textuels illisibles")
+    void shouldValidateDayFormat() {
+        assertThat(WeeklySchedule.isWellFormed("08:00-12:00, 14:00-18:00")).isTrue();
+        assertThat(WeeklySchedule.isWellFormed("22:00-02:00; 08:00-09:00")).isTrue();
+        assertThat(WeeklySchedule.isWellFormed("Fermé")).isTrue();
+        assertThat(WeeklySchedule.isWellFormed("08:00-12:00, le matin")).isFalse();
+        assertThat(WeeklySchedule.isWellFormed("25:00-26:00")).isFalse();
+        assertThat(WeeklySchedule.isWellFormed("08:00-08:00")).isFalse();
+        assertThat(WeeklySchedule.isWellFormed(" ")).isFalse();
+    }
+}
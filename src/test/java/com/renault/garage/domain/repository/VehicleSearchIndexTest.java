@@ -0,0 +1,180 @@
+package com.renault.garage.domain.repository;
+
+import com.renault.garage.domain.model.Vehicle;
+import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.repository.specification.VehicleSpecifications;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vérifie, par EXPLAIN, que les combinaisons courantes de la recherche
+ * multicritère de véhicules sont servies par les index de la migration V10.
+ * 
+ * Les requêtes expliquées sont celles réellement émises par Hibernate
+ * (page et count), capturées par un StatementInspector ; les critères sont
+ * écrits en littéraux pour que le planificateur estime leur sélectivité
+ * réelle ; OFFSET et LIMIT, seuls paramètres restants, sont substitués.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.renault.garage.domain.repository.VehicleSearchIndexTest$SqlRecorder"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Tests d'index - Recherche multicritère de véhicules")
+class VehicleSearchIndexTest {
+
+    private static final int GARAGES = 2_000;
+    private static final int VEHICLES = 100_000;
+    private static final int PAGE_SIZE = 20;
+    // Sur les premières pages, parcourir la clé primaire jusqu'à 21 correspondances
+    // peut coûter moins que l'index : le plan est vérifié plus loin dans la liste
+    private static final int DEEP_PAGE = 100;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // 8 marques x 6 modèles, 5 carburants, 20 années, 50 véhicules par garage
+        entityManager.createNativeQuery("""
+            INSERT INTO garages (id, name, address, telephone, email, created_at, updated_at)
+            SELECT g, 'Garage ' || g, g || ' rue de Paris, 75011 Paris', '+33123456789',
+                   'garage' || g || '@renault.com', now(), now()
+            FROM generate_series(1, :garages) AS g
+            """).setParameter("garages", GARAGES).executeUpdate();
+        entityManager.createNativeQuery("""
+            INSERT INTO vehicles (id, brand, model, year_of_manufacture, fuel_type, color, mileage, garage_id,
+                                  created_at, updated_at)
+            SELECT i,
+                   (ARRAY['Renault','Dacia','Alpine','Nissan','Peugeot','Citroen','Toyota','Kia'])[1 + i % 8],
+                   'Modele ' || (i % 8) || '-' || ((i / 8) % 6),
+                   2005 + CAST(random() * 19 AS int),
+                   (ARRAY['ESSENCE','DIESEL','ELECTRIQUE','HYBRIDE','GPL'])[1 + (i / 48) % 5],
+                   (ARRAY['Blanc','Noir','Gris','Rouge','Bleu','Vert'])[1 + CAST(random() * 5 AS int)],
+                   CAST(random() * 200000 AS int),
+                   1 + i % :garages,
+                   now(), now()
+            FROM generate_series(1, :vehicles) AS i
+            """).setParameter("garages", GARAGES).setParameter("vehicles", VEHICLES).executeUpdate();
+        entityManager.createNativeQuery("ANALYZE garages, vehicles").executeUpdate();
+        SqlRecorder.STATEMENTS.clear();
+    }
+
+    static Stream<Arguments> searches() {
+        return Stream.of(
+            Arguments.of("marque + modèle",
+                VehicleSpecifications.hasBrand("renault").and(VehicleSpecifications.hasModel("modele 0-3")),
+                "idx_vehicle_model_year"),
+            Arguments.of("marque + modèle + années + kilométrage",
+                VehicleSpecifications.hasBrand("Renault")
+                    .and(VehicleSpecifications.hasModel("Modele 0-3"))
+                    .and(VehicleSpecifications.hasYearOfManufactureBetween(2015, 2018))
+                    .and(VehicleSpecifications.hasMileageBetween(null, 50_000)),
+                "idx_vehicle_model_year"),
+            Arguments.of("marque + années",
+                VehicleSpecifications.hasBrand("Alpine")
+                    .and(VehicleSpecifications.hasYearOfManufactureBetween(2022, 2024)),
+                "idx_vehicle_brand_year"),
+            Arguments.of("modèle + année",
+                VehicleSpecifications.hasModel("Modele 5-1").and(VehicleSpecifications.hasYearOfManufacture(2020)),
+                "idx_vehicle_model_year"),
+            Arguments.of("carburant + années",
+                VehicleSpecifications.hasFuelType(FuelType.DIESEL)
+                    .and(VehicleSpecifications.hasYearOfManufactureBetween(2019, 2020)),
+                "idx_vehicle_fuel_type_year"),
+            Arguments.of("écologiques + année",
+                VehicleSpecifications.isEcoFriendly().and(VehicleSpecifications.hasYearOfManufacture(2022)),
+                "idx_vehicle_fuel_type_year"),
+            Arguments.of("garage + marque",
+                VehicleSpecifications.belongsToGarage(42L).and(VehicleSpecifications.hasBrand("Dacia")),
+                "idx_vehicle_garage_brand_id")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("searches")
+    @DisplayName("Devrait servir la page et le count par l'index attendu")
+    void shouldUseIndex(String description, Specification<Vehicle> spec, String expectedIndex) {
+        // When
+        vehicleRepository.findSlice(spec, PageRequest.of(DEEP_PAGE, PAGE_SIZE, Sort.by("id")));
+        String pageSql = lastVehicleSelect();
+        vehicleRepository.count(spec);
+        String countSql = lastVehicleSelect();
+
+        // Then
+        assertThat(explain(pageSql, DEEP_PAGE * PAGE_SIZE, PAGE_SIZE + 1)).as("page : %s", pageSql).contains(expectedIndex);
+        assertThat(explain(countSql)).as("count : %s", countSql).contains(expectedIndex);
+    }
+
+    private static String lastVehicleSelect() {
+        List<String> selects = SqlRecorder.STATEMENTS.stream()
+            .filter(sql -> sql.startsWith("select") && sql.contains(" from vehicles "))
+            .toList();
+        assertThat(selects).isNotEmpty();
+        return selects.get(selects.size() - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private String explain(String sql, Object... parameters) {
+        String bound = sql;
+        for (Object parameter : parameters) {
+            bound = bound.replaceFirst("\\?", parameter.toString());
+        }
+        List<String> plan = entityManager.createNativeQuery("EXPLAIN " + bound).getResultList();
+        return String.join("\n", plan);
+    }
+
+    /**
+     * Enregistre le SQL émis par Hibernate.
+     */
+    public static class SqlRecorder implements StatementInspector {
+
+        static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.renault.garage.domain.repository.keyset;
+
+import com.renault.garage.domain.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitaires pour la pagination par curseur.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@DisplayName("Tests - Pagination par curseur")
+class KeysetPageRequestTest {
+
+    private static final Set<String> SORTABLE = Set.of("id", "brand");
+
+    @Test
+    @DisplayName("Devrait reprendre le tri et la position du curseur de la page précédente")
+    void shouldResumeFromCursor() {
+        // Given
+        KeysetPageRequest first = KeysetPageRequest.of("", Sort.by(Sort.Direction.DESC, "brand", "id"), 2,
+            "id", SORTABLE);
+        List<String> rows = List.of("Renault:7", "Renault:5", "Dacia:9");
+
+        // When
+        KeysetPage<String> page = KeysetQueries.page(rows, first,
+            row -> row.split(":")[0], row -> Long.parseLong(row.split(":")[1]));
+        KeysetPageRequest next = KeysetPageRequest.of(page.next().encode(), Sort.unsorted(), 2, "id", SORTABLE);
+
+        // Then
+        assertThat(page.content()).containsExactly("Renault:7", "Renault:5");
+        assertThat(next.property()).isEqualTo("brand");
+        assertThat(next.direction()).isEqualTo(Sort.Direction.DESC);
+        assertThat(next.after()).isEqualTo(new KeysetCursor("brand", Sort.Direction.DESC, "Renault", 5));
+        assertThat(KeysetQueries.page(rows.subList(2, 3), next, row -> row, row -> 9L).next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Devrait rejeter un curseur illisible, un tri non indexé ou différent de celui du curseur")
+    void shouldRejectInvalidCursorOrSort() {
+        // Given
+        String brandCursor = new KeysetCursor("brand", Sort.Direction.ASC, "Renault", 5).encode();
+
+        // When / Then
+        assertThatThrownBy(() -> KeysetPageRequest.of("not-a-cursor", Sort.unsorted(), 20, "id", SORTABLE))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetPageRequest.of("", Sort.by("model"), 20, "id", SORTABLE))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> KeysetPageRequest.of(brandCursor, Sort.by("id"), 20, "id", SORTABLE))
+            .isInstanceOf(InvalidCursorException.class);
+        assertThat(KeysetPageRequest.of(brandCursor, Sort.by("brand"), 500, "id", SORTABLE).size())
+            .isEqualTo(KeysetPageRequest.MAX_SIZE);
+    }
+}
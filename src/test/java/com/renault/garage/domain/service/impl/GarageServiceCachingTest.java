@@ -0,0 +1,133 @@
+package com.renault.garage.domain.service.impl;
+
+import com.renault.garage.application.dto.request.GarageRequest;
+import com.renault.garage.application.dto.response.GarageResponse;
+import com.renault.garage.application.dto.response.VehicleResponse;
+import com.renault.garage.application.mapper.GarageMapper;
+import com.renault.garage.application.mapper.VehicleMapper;
+import com.renault.garage.config.CacheConfig;
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.VehicleRepository;
+import com.renault.garage.domain.service.GarageService;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import com.renault.garage.infrastructure.capacity.GarageCapacityIndex;
+import com.renault.garage.infrastructure.count.PageCounter;
+import com.renault.garage.infrastructure.geo.GarageGeoIndex;
+import com.renault.garage.infrastructure.schedule.GarageScheduleIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests du cache des réponses garage.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@SpringJUnitConfig({CacheConfig.class, ResponseCaches.class, GarageServiceImpl.class})
+@DisplayName("Tests de cache - GarageService")
+class GarageServiceCachingTest {
+
+    @Autowired
+    private GarageService garageService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private GarageRepository garageRepository;
+
+    @MockBean
+    private VehicleRepository vehicleRepository;
+
+    @MockBean
+    private GarageMapper garageMapper;
+
+    @MockBean
+    private VehicleMapper vehicleMapper;
+
+    @MockBean
+    private GarageCapacityIndex garageCapacityIndex;
+
+    @MockBean
+    private GarageGeoIndex garageGeoIndex;
+
+    @MockBean
+    private GarageScheduleIndex garageScheduleIndex;
+
+    @MockBean
+    private PageCounter pageCounter;
+
+    private Garage garage;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(ResponseCaches.GARAGES).clear();
+        cacheManager.getCache(ResponseCaches.VEHICLES).clear();
+
+        garage = Garage.builder()
+            .id(1L)
+            .name("Garage Renault Paris")
+            .address("123 Rue de la République, 75001 Paris")
+            .telephone("+33123456789")
+            .email("paris@renault.com")
+            .build();
+        when(garageRepository.findById(1L)).thenReturn(Optional.of(garage));
+        when(garageRepository.save(garage)).thenReturn(garage);
+        when(garageMapper.toResponse(any(Garage.class))).thenAnswer(invocation -> GarageResponse.builder()
+            .id(1L)
+            .name(invocation.<Garage>getArgument(0).getName())
+            .build());
+    }
+
+    @Test
+    @DisplayName("Devrait servir les lectures répétées depuis le cache")
+    void shouldServeRepeatedReadsFromCache() {
+        // When
+        GarageResponse first = garageService.getGarageById(1L);
+        GarageResponse second = garageService.getGarageById(1L);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(garageRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Devrait invalider le garage et les véhicules lors d'un renommage")
+    void shouldEvictOnRename() {
+        // Given
+        garageService.getGarageById(1L);
+        cacheManager.getCache(ResponseCaches.VEHICLES).put(10L, VehicleResponse.builder().id(10L).build());
+        GarageRequest request = GarageRequest.builder()
+            .name("Garage Renault Lyon")
+            .email("paris@renault.com")
+            .build();
+        doAnswer(invocation -> {
+            garage.setName(invocation.<GarageRequest>getArgument(0).getName());
+            return null;
+        }).when(garageMapper).updateEntityFromRequest(any(), any());
+
+        // When
+        garageService.updateGarage(1L, request, null);
+        GarageResponse reloaded = garageService.getGarageById(1L);
+
+        // Then
+        assertThat(reloaded.getName()).isEqualTo("Garage Renault Lyon");
+        assertThat(cacheManager.getCache(ResponseCaches.VEHICLES).get(10L)).isNull();
+        verify(garageRepository, times(3)).findById(1L);
+    }
+}
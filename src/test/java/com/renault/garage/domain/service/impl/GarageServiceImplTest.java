@@ -6,6 +6,10 @@ import com.renault.garage.application.mapper.GarageMapper;
 import com.renault.garage.domain.exception.GarageNotFoundException;
 import com.renault.garage.domain.model.Garage;
 import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import com.renault.garage.infrastructure.capacity.GarageCapacityIndex;
+import com.renault.garage.infrastructure.geo.GarageGeoIndex;
+import com.renault.garage.infrastructure.schedule.GarageScheduleIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,6 +43,18 @@ class GarageServiceImplTest {
     @Mock
     private GarageMapper garageMapper;
 
+    @Mock
+    private ResponseCaches responseCaches;
+
+    @Mock
+    private GarageCapacityIndex garageCapacityIndex;
+
+    @Mock
+    private GarageGeoIndex garageGeoIndex;
+
+    @Mock
+    private GarageScheduleIndex garageScheduleIndex;
+
     @InjectMocks
     private GarageServiceImpl garageService;
 
@@ -96,6 +112,34 @@ class GarageServiceImplTest {
         verify(garageRepository).save(garage);
     }
 
+    @Test
+    @DisplayName("Devrait placer le garage aux coordonnées fournies, sinon au code postal")
+    void shouldLocateGarageFromRequestOrPostalCode() {
+        // Given
+        when(garageRepository.existsByEmail(any())).thenReturn(false);
+        when(garageMapper.toEntity(garageRequest)).thenReturn(garage);
+        when(garageRepository.save(garage)).thenReturn(garage);
+
+        // When
+        garageService.createGarage(garageRequest);
+
+        // Then
+        assertThat(garage.getLocation()).isNotNull();
+        assertThat(garage.isLocationApproximate()).isTrue();
+
+        // Given
+        garageRequest.setLatitude(48.3904);
+        garageRequest.setLongitude(-4.4861);
+
+        // When
+        garageService.createGarage(garageRequest);
+
+        // Then
+        assertThat(garage.getLatitude()).isEqualTo(48.3904);
+        assertThat(garage.getLongitude()).isEqualTo(-4.4861);
+        assertThat(garage.isLocationApproximate()).isFalse();
+    }
+
     @Test
     @DisplayName("Devrait lever une exception si l'email existe déjà")
     void shouldThrowExceptionWhenEmailExists() {
@@ -147,7 +191,7 @@ class GarageServiceImplTest {
         when(garageRepository.existsById(1L)).thenReturn(true);
 
         // When
-        garageService.deleteGarage(1L);
+        garageService.deleteGarage(1L, null);
 
         // Then
         verify(garageRepository).deleteById(1L);
@@ -160,7 +204,7 @@ class GarageServiceImplTest {
         when(garageRepository.existsById(999L)).thenReturn(false);
 
         // When & Then
-        assertThatThrownBy(() -> garageService.deleteGarage(999L))
+        assertThatThrownBy(() -> garageService.deleteGarage(999L, null))
             .isInstanceOf(GarageNotFoundException.class);
         
         verify(garageRepository, never()).deleteById(any());
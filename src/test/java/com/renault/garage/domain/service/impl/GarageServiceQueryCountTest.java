@@ -0,0 +1,192 @@
+package com.renault.garage.domain.service.impl;
+
+import com.renault.garage.application.dto.response.GarageResponse;
+import com.renault.garage.application.dto.response.PagedResponse;
+import com.renault.garage.application.mapper.GarageMapperImpl;
+import com.renault.garage.application.mapper.VehicleMapperImpl;
+import com.renault.garage.config.CacheConfig;
+import com.renault.garage.domain.model.Accessory;
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.model.Vehicle;
+import com.renault.garage.domain.model.enums.AccessoryType;
+import com.renault.garage.domain.model.enums.CountStrategy;
+import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import com.renault.garage.infrastructure.capacity.GarageCapacityIndex;
+import com.renault.garage.infrastructure.count.PageCounter;
+import com.renault.garage.infrastructure.geo.GarageGeoIndex;
+import com.renault.garage.infrastructure.schedule.GarageScheduleIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vérifie que les listes paginées de garages exécutent un nombre constant
+ * de requêtes SQL, quelle que soit la taille de la page.
+ * 
+ * Recherche par type d'accessoire : page d'IDs, count, garages avec
+ * horaires, véhicules avec accessoires.
+ * Listes en projection : page, count, horaires.
+ * (stratégie de comptage EXACT)
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({GarageServiceImpl.class, GarageMapperImpl.class, VehicleMapperImpl.class,
+         CacheConfig.class, ResponseCaches.class, PageCounter.class, SimpleMeterRegistry.class})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Tests de requêtes - Listes paginées de garages")
+class GarageServiceQueryCountTest {
+
+    private static final int GARAGES = 30;
+    private static final int VEHICLES_PER_GARAGE = 3;
+    private static final long EXPECTED_STATEMENTS = 4;
+    private static final long EXPECTED_PROJECTION_STATEMENTS = 3;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private GarageServiceImpl garageService;
+
+    @Autowired
+    private GarageRepository garageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private GarageCapacityIndex garageCapacityIndex;
+
+    @MockBean
+    private GarageGeoIndex garageGeoIndex;
+
+    @MockBean
+    private GarageScheduleIndex garageScheduleIndex;
+
+    @BeforeEach
+    void setUp() {
+        for (int g = 0; g < GARAGES; g++) {
+            Garage garage = Garage.builder()
+                .name("Garage Renault " + g)
+                .address(g + " avenue de la République, 75011 Paris")
+                .telephone("+33123456789")
+                .email("garage" + g + "@renault.com")
+                .build();
+            garage.getOpeningHours().put(DayOfWeek.MONDAY, "08:00-12:00, 14:00-18:00");
+            garage.getOpeningHours().put(DayOfWeek.TUESDAY, "08:00-18:00");
+
+            for (int v = 0; v < VEHICLES_PER_GARAGE; v++) {
+                Vehicle vehicle = Vehicle.builder()
+                    .brand("Renault")
+                    .model("Clio")
+                    .yearOfManufacture(2020)
+                    .fuelType(FuelType.ESSENCE)
+                    .vin(String.format("VF1KCNT%05d%05d", g, v))
+                    .color("Gris")
+                    .mileage(1000)
+                    .build();
+                // Seul le premier véhicule de chaque garage porte un accessoire électronique
+                vehicle.addAccessory(accessory(v == 0 ? AccessoryType.ELECTRONIQUE : AccessoryType.CONFORT));
+                vehicle.addAccessory(accessory(AccessoryType.SECURITE));
+                garage.addVehicle(vehicle);
+            }
+            garageRepository.save(garage);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest(name = "taille de page {0}")
+    @ValueSource(ints = {5, 20})
+    @DisplayName("Devrait exécuter un nombre constant de requêtes")
+    void shouldExecuteConstantNumberOfStatements(int pageSize) {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        PagedResponse<GarageResponse> result = garageService.searchGaragesByAccessoryType(
+            AccessoryType.ELECTRONIQUE, PageRequest.of(0, pageSize, Sort.by("name")), CountStrategy.EXACT);
+
+        // Then
+        assertThat(result.getContent()).hasSize(pageSize);
+        assertThat(result.getTotalElements()).isEqualTo(GARAGES);
+        assertThat(result.getContent()).allSatisfy(garage -> {
+            assertThat(garage.getOpeningHours()).hasSize(2);
+            assertThat(garage.getVehicles()).hasSize(1);
+            assertThat(garage.getVehicles().get(0).getAccessoryCount()).isEqualTo(2);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_STATEMENTS);
+    }
+
+    @ParameterizedTest(name = "taille de page {0}")
+    @ValueSource(ints = {5, 20})
+    @DisplayName("Devrait lister les garages en projection sans charger d'entité")
+    void shouldListGaragesWithoutLoadingEntities(int pageSize) {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        PagedResponse<GarageResponse> result = garageService.getAllGarages(
+            PageRequest.of(0, pageSize, Sort.by("name")), CountStrategy.EXACT);
+
+        // Then
+        assertThat(result.getContent()).hasSize(pageSize);
+        assertThat(result.getTotalElements()).isEqualTo(GARAGES);
+        assertThat(result.getContent()).allSatisfy(garage -> {
+            assertThat(garage.getOpeningHours()).hasSize(2);
+            assertThat(garage.getVehicleCount()).isEqualTo(VEHICLES_PER_GARAGE);
+            assertThat(garage.getAvailableCapacity()).isEqualTo(Garage.MAX_VEHICLES_PER_GARAGE - VEHICLES_PER_GARAGE);
+        });
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_PROJECTION_STATEMENTS);
+    }
+
+    private static Accessory accessory(AccessoryType type) {
+        return Accessory.builder()
+            .name("Accessoire " + type)
+            .description("Accessoire d'origine Renault")
+            .price(new BigDecimal("129.90"))
+            .type(type)
+            .build();
+    }
+}
@@ -0,0 +1,229 @@
+package com.renault.garage.domain.service.impl;
+
+import com.renault.garage.application.dto.request.VehicleBatchRequest;
+import com.renault.garage.application.dto.request.VehicleRequest;
+import com.renault.garage.application.dto.response.VehicleBatchItemResponse;
+import com.renault.garage.application.dto.response.VehicleBatchResponse;
+import com.renault.garage.application.dto.response.VehicleResponse;
+import com.renault.garage.application.mapper.VehicleMapper;
+import com.renault.garage.domain.exception.DuplicateVinException;
+import com.renault.garage.domain.exception.VehicleQuotaExceededException;
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.model.Vehicle;
+import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.repository.AccessoryRepository;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.VehicleRepository;
+import com.renault.garage.infrastructure.bloom.VinFilter;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import com.renault.garage.infrastructure.capacity.GarageCapacityIndex;
+import com.renault.garage.infrastructure.geo.GarageGeoIndex;
+import com.renault.garage.infrastructure.outbox.VehicleEventOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour VehicleServiceImpl.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - VehicleService")
+class VehicleServiceImplTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private AccessoryRepository accessoryRepository;
+
+    @Mock
+    private GarageRepository garageRepository;
+
+    @Mock
+    private VehicleMapper vehicleMapper;
+
+    @Mock
+    private VehicleEventOutbox vehicleEventOutbox;
+
+    @Mock
+    private ResponseCaches responseCaches;
+
+    @Mock
+    private VinFilter vinFilter;
+
+    @Mock
+    private GarageCapacityIndex garageCapacityIndex;
+
+    @Mock
+    private GarageGeoIndex garageGeoIndex;
+
+    @InjectMocks
+    private VehicleServiceImpl vehicleService;
+
+    private Garage garage;
+
+    @BeforeEach
+    void setUp() {
+        garage = Garage.builder()
+            .id(1L)
+            .name("Garage Renault Paris")
+            .build();
+    }
+
+    @Test
+    @DisplayName("Devrait ajouter un lot en une seule réservation et rejeter les VIN en conflit")
+    void shouldAddBatchWithSingleReservation() {
+        // Given
+        VehicleBatchRequest request = VehicleBatchRequest.builder()
+            .vehicles(List.of(
+                vehicleRequest("VF1AAAAAAAAAAAAA1"),
+                vehicleRequest("VF1AAAAAAAAAAAAA2"),
+                vehicleRequest("VF1AAAAAAAAAAAAA1"),
+                vehicleRequest("VF1EXISTING000001")))
+            .build();
+        when(vehicleRepository.findExistingVins(any())).thenReturn(List.of("VF1EXISTING000001"));
+        when(vehicleMapper.toEntity(any(VehicleRequest.class)))
+            .thenAnswer(invocation -> toVehicle(invocation.getArgument(0)));
+        when(garageRepository.reserveVehicleSlots(1L, 2, Garage.MAX_VEHICLES_PER_GARAGE)).thenReturn(1);
+        when(garageRepository.getReferenceById(1L)).thenReturn(garage);
+        when(vehicleRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(vehicleMapper.toResponse(any(Vehicle.class))).thenReturn(new VehicleResponse());
+
+        // When
+        VehicleBatchResponse response = vehicleService.addVehiclesToGarage(1L, request);
+
+        // Then
+        assertThat(response.getCreatedCount()).isEqualTo(2);
+        assertThat(response.getRejectedCount()).isEqualTo(2);
+        assertThat(response.getResults())
+            .extracting(VehicleBatchItemResponse::getStatus)
+            .containsExactly(
+                VehicleBatchItemResponse.Status.CREATED,
+                VehicleBatchItemResponse.Status.CREATED,
+                VehicleBatchItemResponse.Status.REJECTED,
+                VehicleBatchItemResponse.Status.REJECTED);
+
+        verify(vehicleRepository, times(1)).findExistingVins(any());
+        verify(garageRepository, times(1)).reserveVehicleSlots(1L, 2, Garage.MAX_VEHICLES_PER_GARAGE);
+        verify(vehicleEventOutbox).vehiclesCreated(argThat(events -> events.size() == 2));
+    }
+
+    @Test
+    @DisplayName("Devrait vérifier en base les VIN du lot même absents du filtre")
+    void shouldCheckBatchVinsInDatabaseEvenWhenFilterRulesThemOut() {
+        // Given
+        VehicleBatchRequest request = VehicleBatchRequest.builder()
+            .vehicles(List.of(vehicleRequest("VF1AAAAAAAAAAAAA1"), vehicleRequest("VF1AAAAAAAAAAAAA2")))
+            .build();
+        lenient().when(vinFilter.mightContain(any())).thenReturn(false);
+        when(vehicleRepository.findExistingVins(any())).thenReturn(List.of("VF1AAAAAAAAAAAAA2"));
+        when(vehicleMapper.toEntity(any(VehicleRequest.class)))
+            .thenAnswer(invocation -> toVehicle(invocation.getArgument(0)));
+        when(garageRepository.reserveVehicleSlots(1L, 1, Garage.MAX_VEHICLES_PER_GARAGE)).thenReturn(1);
+        when(garageRepository.getReferenceById(1L)).thenReturn(garage);
+        when(vehicleRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(vehicleMapper.toResponse(any(Vehicle.class))).thenReturn(new VehicleResponse());
+
+        // When
+        VehicleBatchResponse response = vehicleService.addVehiclesToGarage(1L, request);
+
+        // Then
+        assertThat(response.getCreatedCount()).isEqualTo(1);
+        assertThat(response.getRejectedCount()).isEqualTo(1);
+        verify(vehicleRepository).findExistingVins(Set.of("VF1AAAAAAAAAAAAA1", "VF1AAAAAAAAAAAAA2"));
+        verify(vinFilter).put("VF1AAAAAAAAAAAAA1");
+        verify(vinFilter, never()).put("VF1AAAAAAAAAAAAA2");
+    }
+
+    @Test
+    @DisplayName("Devrait rejeter un VIN existant confirmé en base")
+    void shouldRejectDuplicateVinConfirmedByDatabase() {
+        // Given
+        VehicleRequest request = vehicleRequest("VF1EXISTING000001");
+        when(vinFilter.mightContain("VF1EXISTING000001")).thenReturn(true);
+        when(vehicleRepository.existsByVin("VF1EXISTING000001")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> vehicleService.addVehicleToGarage(1L, request))
+            .isInstanceOf(DuplicateVinException.class);
+
+        verify(garageRepository, never()).reserveVehicleSlot(anyLong(), anyInt());
+        verify(vehicleRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Devrait rejeter tout le lot si le quota serait dépassé")
+    void shouldRejectWholeBatchWhenQuotaWouldBeExceeded() {
+        // Given
+        VehicleBatchRequest request = VehicleBatchRequest.builder()
+            .vehicles(List.of(vehicleRequest(null), vehicleRequest(null)))
+            .build();
+        when(vehicleMapper.toEntity(any(VehicleRequest.class)))
+            .thenAnswer(invocation -> toVehicle(invocation.getArgument(0)));
+        when(garageRepository.reserveVehicleSlots(1L, 2, Garage.MAX_VEHICLES_PER_GARAGE)).thenReturn(0);
+        when(garageRepository.existsById(1L)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> vehicleService.addVehiclesToGarage(1L, request))
+            .isInstanceOf(VehicleQuotaExceededException.class);
+
+        verify(vehicleRepository, never()).findExistingVins(any());
+        verify(vehicleRepository, never()).saveAll(anyList());
+        verify(vehicleEventOutbox, never()).vehiclesCreated(anyList());
+    }
+
+    @Test
+    @DisplayName("Devrait réserver une place sans charger les véhicules du garage")
+    void shouldReserveSlotWhenAddingVehicle() {
+        // Given
+        VehicleRequest request = vehicleRequest(null);
+        when(garageRepository.reserveVehicleSlot(1L, Garage.MAX_VEHICLES_PER_GARAGE)).thenReturn(0);
+        when(garageRepository.existsById(1L)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> vehicleService.addVehicleToGarage(1L, request))
+            .isInstanceOf(VehicleQuotaExceededException.class);
+
+        verify(garageRepository, never()).findById(anyLong());
+        verify(garageRepository, never()).reserveVehicleSlots(anyLong(), anyInt(), anyInt());
+        verify(vehicleRepository, never()).save(any());
+    }
+
+    private VehicleRequest vehicleRequest(String vin) {
+        return VehicleRequest.builder()
+            .brand("Renault")
+            .model("Clio")
+            .yearOfManufacture(2023)
+            .fuelType(FuelType.ESSENCE)
+            .vin(vin)
+            .build();
+    }
+
+    private Vehicle toVehicle(VehicleRequest request) {
+        return Vehicle.builder()
+            .brand(request.getBrand())
+            .model(request.getModel())
+            .yearOfManufacture(request.getYearOfManufacture())
+            .fuelType(request.getFuelType())
+            .vin(request.getVin())
+            .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.renault.garage.infrastructure.backfill;
+
+import com.renault.garage.domain.model.valueobject.PostalAddress;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.projection.GarageAddress;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour le renseignement a posteriori des villes des garages.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - GarageAddressBackfill")
+class GarageAddressBackfillTest {
+
+    @Mock
+    private GarageRepository garageRepository;
+
+    @Mock
+    private ResponseCaches responseCaches;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GarageAddressBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        backfill = new GarageAddressBackfill(garageRepository, responseCaches,
+            new TransactionTemplate(transactionManager), meterRegistry, 100);
+    }
+
+    @Test
+    @DisplayName("Devrait renseigner les adresses analysables par plages et invalider les caches")
+    void shouldFillInParsableAddressesByRange() {
+        // Given
+        GarageAddress parsable = new GarageAddress(7L, "1 rue de Paris, 69001 Lyon");
+        GarageAddress unparsable = new GarageAddress(42L, "Zone industrielle");
+        when(garageRepository.findMaxId()).thenReturn(150L);
+        when(garageRepository.findAddressesWithoutPostalAddress(1L, 100L)).thenReturn(List.of(parsable, unparsable));
+        when(garageRepository.findAddressesWithoutPostalAddress(101L, 150L)).thenReturn(List.of());
+        when(garageRepository.updatePostalAddresses(Map.of(parsable, new PostalAddress("69001", "Lyon"))))
+            .thenReturn(1);
+
+        // When
+        int updated = backfill.backfill();
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        verify(responseCaches).evictGarages(List.of(7L));
+        assertThat(backfill.getLastScannedId()).isEqualTo(150L);
+        assertThat(meterRegistry.counter("garage.address.backfill.parsed").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("garage.address.backfill.unparsed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Ne devrait relire que les nouveaux IDs au passage suivant")
+    void shouldOnlyScanNewIdsOnNextRun() {
+        // Given
+        when(garageRepository.findMaxId()).thenReturn(50L, 120L);
+        when(garageRepository.findAddressesWithoutPostalAddress(anyLong(), anyLong())).thenReturn(List.of());
+
+        // When
+        backfill.backfill();
+        int updated = backfill.backfill();
+
+        // Then
+        assertThat(updated).isZero();
+        verify(garageRepository).findAddressesWithoutPostalAddress(1L, 50L);
+        verify(garageRepository).findAddressesWithoutPostalAddress(51L, 120L);
+        verify(responseCaches, never()).evictGarages(any());
+        verify(garageRepository, never()).updatePostalAddresses(anyMap());
+    }
+}
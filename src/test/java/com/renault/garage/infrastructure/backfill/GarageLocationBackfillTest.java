@@ -0,0 +1,103 @@
+package com.renault.garage.infrastructure.backfill;
+
+import com.renault.garage.domain.model.valueobject.GeoPoint;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.projection.GaragePostalCode;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import com.renault.garage.infrastructure.geo.GarageGeoIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour la localisation a posteriori des garages.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - GarageLocationBackfill")
+class GarageLocationBackfillTest {
+
+    @Mock
+    private GarageRepository garageRepository;
+
+    @Mock
+    private ResponseCaches responseCaches;
+
+    @Mock
+    private GarageGeoIndex garageGeoIndex;
+
+    @Mock
+    private ObjectProvider<GarageAddressBackfill> addressBackfillProvider;
+
+    @Mock
+    private GarageAddressBackfill addressBackfill;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GarageLocationBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        backfill = new GarageLocationBackfill(garageRepository, responseCaches, garageGeoIndex,
+            addressBackfillProvider, new TransactionTemplate(transactionManager), meterRegistry, 100);
+    }
+
+    @Test
+    @DisplayName("Devrait localiser les codes postaux connus, invalider le lot et recharger l'index géographique")
+    void shouldLocateKnownPostalCodes() {
+        // Given
+        GaragePostalCode lyon = new GaragePostalCode(7L, "69001");
+        GaragePostalCode unknown = new GaragePostalCode(8L, "99999");
+        when(garageRepository.findMaxId()).thenReturn(50L);
+        when(garageRepository.findPostalCodesWithoutLocation(1L, 50L)).thenReturn(List.of(lyon, unknown));
+        when(garageRepository.updateLocations(Map.of(lyon, new GeoPoint(45.7676, 4.8344)))).thenReturn(1);
+        when(garageGeoIndex.isReady()).thenReturn(true);
+
+        // When
+        int located = backfill.backfill();
+
+        // Then
+        assertThat(located).isEqualTo(1);
+        verify(responseCaches).evictGarages(List.of(7L));
+        verify(garageGeoIndex).rebuild();
+        assertThat(meterRegistry.counter("garage.location.backfill.located").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Ne devrait pas dépasser les garages dont le code postal a déjà été renseigné")
+    void shouldStayBehindAddressBackfill() {
+        // Given
+        when(addressBackfillProvider.getIfAvailable()).thenReturn(addressBackfill);
+        when(addressBackfill.getLastScannedId()).thenReturn(40L, 120L);
+        when(garageRepository.findMaxId()).thenReturn(120L);
+        when(garageRepository.findPostalCodesWithoutLocation(anyLong(), anyLong())).thenReturn(List.of());
+
+        // When
+        backfill.backfill();
+        backfill.backfill();
+
+        // Then
+        verify(garageRepository).findPostalCodesWithoutLocation(1L, 40L);
+        verify(garageRepository).findPostalCodesWithoutLocation(41L, 120L);
+        verifyNoInteractions(responseCaches, garageGeoIndex);
+    }
+}
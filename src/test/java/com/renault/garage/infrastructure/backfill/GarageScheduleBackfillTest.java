@@ -0,0 +1,88 @@
+package com.renault.garage.infrastructure.backfill;
+
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.projection.GarageOpeningHours;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import com.renault.garage.infrastructure.geo.GarageGeoIndex;
+import com.renault.garage.infrastructure.schedule.GarageScheduleIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour la compilation a posteriori des horaires des garages.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - GarageScheduleBackfill")
+class GarageScheduleBackfillTest {
+
+    @Mock
+    private GarageRepository garageRepository;
+
+    @Mock
+    private ResponseCaches responseCaches;
+
+    @Mock
+    private GarageGeoIndex garageGeoIndex;
+
+    @Mock
+    private GarageScheduleIndex garageScheduleIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GarageScheduleBackfill backfill;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        backfill = new GarageScheduleBackfill(garageRepository, responseCaches, garageGeoIndex, garageScheduleIndex,
+            new TransactionTemplate(transactionManager), meterRegistry, 100);
+    }
+
+    @Test
+    @DisplayName("Devrait compiler les horaires, fermé sans horaires, évincer le lot du cache et recharger les index")
+    void shouldCompileOpeningSchedules() {
+        // Given
+        when(garageRepository.findMaxId()).thenReturn(50L);
+        when(garageRepository.findOpeningHoursWithoutSchedule(1L, 50L)).thenReturn(List.of(
+            new GarageOpeningHours(7L, DayOfWeek.MONDAY, "08:00-12:00"),
+            new GarageOpeningHours(7L, DayOfWeek.SATURDAY, "09:00-18:00"),
+            new GarageOpeningHours(8L, null, null)));
+        Map<Long, WeeklySchedule> expected = Map.of(
+            7L, WeeklySchedule.parse(Map.of(DayOfWeek.MONDAY, "08:00-12:00", DayOfWeek.SATURDAY, "09:00-18:00")),
+            8L, WeeklySchedule.CLOSED);
+        when(garageRepository.updateOpeningSchedules(expected)).thenReturn(2);
+        when(garageGeoIndex.isReady()).thenReturn(true);
+        when(garageScheduleIndex.isReady()).thenReturn(true);
+
+        // When
+        int compiled = backfill.backfill();
+
+        // Then
+        assertThat(compiled).isEqualTo(2);
+        verify(responseCaches).evictGarages(Set.of(7L, 8L));
+        verify(garageGeoIndex).rebuild();
+        verify(garageScheduleIndex).rebuild();
+        assertThat(meterRegistry.counter("garage.schedule.backfill.compiled").count()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,66 @@
+package com.renault.garage.infrastructure.bloom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires pour le filtre de Bloom à compteurs des VIN.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@DisplayName("Tests - CountingBloomFilter")
+class CountingBloomFilterTest {
+
+    private static final int ELEMENTS = 20_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("Devrait retrouver chaque VIN ajouté et l'oublier une fois retiré")
+    void shouldContainAddedVinsUntilRemoved() {
+        // Given
+        CountingBloomFilter filter = new CountingBloomFilter(ELEMENTS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < ELEMENTS; i++) {
+            filter.put(vin(i));
+        }
+
+        // When
+        filter.remove(vin(0));
+
+        // Then
+        for (int i = 1; i < ELEMENTS; i++) {
+            assertThat(filter.mightContain(vin(i))).isTrue();
+        }
+        assertThat(filter.mightContain(vin(0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Devrait respecter le taux de faux positifs visé à pleine capacité")
+    void shouldStayWithinTargetFalsePositiveRate() {
+        // Given
+        CountingBloomFilter filter = new CountingBloomFilter(ELEMENTS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < ELEMENTS; i++) {
+            filter.put(vin(i));
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = ELEMENTS; i < 2 * ELEMENTS; i++) {
+            if (filter.mightContain(vin(i))) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        double observed = (double) falsePositives / ELEMENTS;
+        assertThat(observed).isLessThan(2 * FALSE_POSITIVE_RATE);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(2 * FALSE_POSITIVE_RATE);
+        assertThat(filter.memoryBytes() * 2).isGreaterThanOrEqualTo(filter.counterCount());
+    }
+
+    private static String vin(int i) {
+        return String.format("VF1RFB%011d", i);
+    }
+}
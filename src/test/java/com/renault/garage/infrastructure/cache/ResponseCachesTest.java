@@ -0,0 +1,93 @@
+package com.renault.garage.infrastructure.cache;
+
+import com.renault.garage.config.HibernateCacheConfig;
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.infrastructure.kafka.event.CacheInvalidationEvent;
+import com.renault.garage.infrastructure.kafka.event.CacheInvalidationEvent.EntityType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour l'éviction du cache de second niveau des garages.
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - ResponseCaches")
+class ResponseCachesTest {
+
+    private static final String OPENING_HOURS_ROLE = Garage.class.getName() + ".openingHours";
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    private ResponseCaches responseCaches;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactoryProvider.getIfAvailable()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        CacheManager cacheManager = new ConcurrentMapCacheManager(ResponseCaches.GARAGES, ResponseCaches.VEHICLES);
+        responseCaches = new ResponseCaches(cacheManager, eventPublisher, entityManagerFactoryProvider);
+    }
+
+    @Test
+    @DisplayName("Devrait évincer le garage et ses horaires du cache de second niveau et diffuser l'invalidation")
+    void shouldEvictGarageEntityAndPublish() {
+        // When
+        responseCaches.evictGarage(7L);
+
+        // Then
+        verify(secondLevelCache).evictEntityData(Garage.class, 7L);
+        verify(secondLevelCache).evictCollectionData(OPENING_HOURS_ROLE, 7L);
+        verify(secondLevelCache, never()).evictQueryRegion(anyString());
+        verify(eventPublisher).publishEvent(any(CacheInvalidationEvent.class));
+    }
+
+    @Test
+    @DisplayName("Devrait vider aussi le cache de requêtes sur invalidation reçue d'un autre nœud")
+    void shouldEvictQueryRegionOnRemoteInvalidation() {
+        // When
+        responseCaches.evictLocally(EntityType.GARAGE, List.of(1L, 2L));
+
+        // Then
+        verify(secondLevelCache).evictEntityData(Garage.class, 1L);
+        verify(secondLevelCache).evictEntityData(Garage.class, 2L);
+        verify(secondLevelCache).evictCollectionData(OPENING_HOURS_ROLE, 2L);
+        verify(secondLevelCache).evictQueryRegion(HibernateCacheConfig.GARAGE_QUERY_REGION);
+        verify(eventPublisher, never()).publishEvent(any(CacheInvalidationEvent.class));
+    }
+}
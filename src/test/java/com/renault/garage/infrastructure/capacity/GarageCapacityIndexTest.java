@@ -0,0 +1,149 @@
+package com.renault.garage.infrastructure.capacity;
+
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.projection.GarageOccupancy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour l'index en mémoire des places libres.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests - GarageCapacityIndex")
+class GarageCapacityIndexTest {
+
+    @Mock
+    private GarageRepository garageRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private GarageCapacityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        index = new GarageCapacityIndex(garageRepository, transactionTemplate, new SimpleMeterRegistry(), true);
+    }
+
+    @Test
+    @DisplayName("Devrait paginer les garages du plus libre au moins libre en ignorant les garages pleins")
+    void shouldPageGaragesByFreeSlots() {
+        // Given
+        load(new GarageOccupancy(1L, 50),
+             new GarageOccupancy(2L, 10),
+             new GarageOccupancy(3L, 0),
+             new GarageOccupancy(4L, 10),
+             new GarageOccupancy(5L, 49));
+
+        // When & Then
+        assertThat(index.countWithFreeSlots(1)).isEqualTo(4);
+        assertThat(index.findWithFreeSlots(1, 0, 10)).containsExactly(3L, 2L, 4L, 5L);
+        assertThat(index.findWithFreeSlots(1, 1, 2)).containsExactly(2L, 4L);
+        assertThat(index.findWithFreeSlots(40, 0, 10)).containsExactly(3L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("Devrait déplacer un garage de seau à chaque ajout ou retrait de véhicules")
+    void shouldMoveGarageBetweenBuckets() {
+        // Given
+        load(new GarageOccupancy(1L, 49), new GarageOccupancy(2L, 20));
+
+        // When
+        index.vehiclesChanged(1L, 1);
+        index.vehiclesChanged(2L, -20);
+        index.garageAdded(3L, 0);
+        index.garageRemoved(2L);
+
+        // Then
+        assertThat(index.countWithFreeSlots(0)).isEqualTo(2);
+        assertThat(index.countWithFreeSlots(1)).isEqualTo(1);
+        assertThat(index.findWithFreeSlots(1, 0, 10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Devrait ordonner chaque seau par ID même quand une position est réutilisée")
+    void shouldOrderBucketByIdAfterPositionReuse() {
+        // Given
+        load(new GarageOccupancy(2L, 10), new GarageOccupancy(3L, 10), new GarageOccupancy(5L, 10));
+
+        // When
+        index.garageRemoved(2L);
+        index.garageAdded(7L, 10);
+
+        // Then
+        assertThat(index.findWithFreeSlots(1, 0, 10)).containsExactly(3L, 5L, 7L);
+        assertThat(index.findWithFreeSlots(1, 1, 1)).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("Devrait relire les garages modifiés pendant une reconstruction")
+    void shouldReloadGaragesTouchedDuringRebuild() {
+        // Given
+        load(new GarageOccupancy(1L, 10), new GarageOccupancy(2L, 10));
+        when(garageRepository.streamOccupancies()).thenReturn(Stream.of(
+                new GarageOccupancy(1L, 10), new GarageOccupancy(2L, 10))
+            // Véhicule ajouté au garage 1 pendant le parcours, commit déjà lu ou non
+            .peek(row -> {
+                if (row.garageId() == 2L) {
+                    index.vehiclesChanged(1L, 1);
+                }
+            }));
+        when(garageRepository.findOccupancies(Set.of(1L))).thenReturn(List.of(new GarageOccupancy(1L, 11)));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.findWithFreeSlots(40, 0, 10)).containsExactly(2L);
+        assertThat(index.findWithFreeSlots(39, 0, 10)).containsExactly(2L, 1L);
+        verify(garageRepository).findOccupancies(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("Devrait tenir un grand nombre de garages avec des IDs épars")
+    void shouldHandleManySparseIds() {
+        // Given
+        int garages = 20_000;
+        when(garageRepository.count()).thenReturn((long) garages);
+        when(garageRepository.streamOccupancies()).thenReturn(LongStream.range(0, garages)
+            .mapToObj(i -> new GarageOccupancy(1 + i * 50, (int) (i % 51))));
+        index.rebuild();
+
+        // When
+        for (long i = 0; i < garages; i += 2) {
+            index.garageRemoved(1 + i * 50);
+        }
+
+        // Then
+        assertThat(index.countWithFreeSlots(0)).isEqualTo(garages / 2);
+        assertThat(index.findWithFreeSlots(50, 0, 3)).containsExactly(1 + 51 * 50L, 1 + 153 * 50L, 1 + 255 * 50L);
+    }
+
+    private void load(GarageOccupancy... occupancies) {
+        when(garageRepository.count()).thenReturn((long) occupancies.length);
+        when(garageRepository.streamOccupancies()).thenReturn(Stream.of(occupancies));
+        index.rebuild();
+    }
+}
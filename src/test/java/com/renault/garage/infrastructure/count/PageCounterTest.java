@@ -0,0 +1,77 @@
+package com.renault.garage.infrastructure.count;
+
+import com.renault.garage.domain.model.enums.CountStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires pour les stratégies de comptage des listes paginées.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@DisplayName("Tests - Stratégies de comptage des pages")
+class PageCounterTest {
+
+    private PageCounter pageCounter;
+    private AtomicInteger counts;
+    private LongSupplier count;
+
+    @BeforeEach
+    void setUp() {
+        pageCounter = new PageCounter(new SimpleMeterRegistry(), 30, 100);
+        counts = new AtomicInteger();
+        count = () -> {
+            counts.incrementAndGet();
+            return 1000;
+        };
+    }
+
+    @Test
+    @DisplayName("Devrait compter une seule fois par liste en CACHED, quelle que soit la page")
+    void shouldMemoizeCountAcrossPages() {
+        // When
+        CountedSlice<Integer> first = pageCounter.complete(slice(0, true), CountStrategy.CACHED, "vehicles", count, null);
+        CountedSlice<Integer> deep = pageCounter.complete(slice(40, true), CountStrategy.CACHED, "vehicles", count, null);
+
+        // Then
+        assertThat(counts).hasValue(1);
+        assertThat(first.strategy()).isEqualTo(CountStrategy.CACHED);
+        assertThat(((Page<Integer>) deep.slice()).getTotalElements()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("Devrait estimer sans COUNT, et ne compter ni en NONE ni sur la dernière page")
+    void shouldAvoidCountQuery() {
+        // When
+        CountedSlice<Integer> approximate = pageCounter.complete(slice(2, true), CountStrategy.APPROXIMATE,
+            "vehicles", count, () -> 30);
+        CountedSlice<Integer> none = pageCounter.complete(slice(0, true), CountStrategy.NONE, "vehicles", count, null);
+        CountedSlice<Integer> last = pageCounter.complete(slice(3, false), CountStrategy.EXACT, "vehicles", count, null);
+
+        // Then
+        assertThat(counts).hasValue(0);
+        // Estimation relevée aux lignes déjà vues (3 pages de 10) + une page suivante
+        assertThat(((Page<Integer>) approximate.slice()).getTotalElements()).isEqualTo(31);
+        assertThat(approximate.slice().hasNext()).isTrue();
+        assertThat(none.slice()).isNotInstanceOf(Page.class);
+        assertThat(none.strategy()).isEqualTo(CountStrategy.NONE);
+        assertThat(((Page<Integer>) last.slice()).getTotalElements()).isEqualTo(40);
+    }
+
+    private static Slice<Integer> slice(int page, boolean hasNext) {
+        return new SliceImpl<>(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), PageRequest.of(page, 10), hasNext);
+    }
+}
@@ -0,0 +1,217 @@
+package com.renault.garage.infrastructure.geo;
+
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.domain.model.valueobject.GeoPoint;
+import com.renault.garage.domain.model.valueobject.OpeningWindow;
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.VehicleRepository;
+import com.renault.garage.domain.repository.projection.GarageFuelTypeCount;
+import com.renault.garage.domain.repository.projection.GarageLocation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour l'index géographique en mémoire des garages.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests - GarageGeoIndex")
+class GarageGeoIndexTest {
+
+    private static final GeoPoint PARIS = new GeoPoint(48.8566, 2.3522);
+    private static final GeoPoint VERSAILLES = new GeoPoint(48.8049, 2.1204);
+    private static final GeoPoint ORLEANS = new GeoPoint(47.9030, 1.9093);
+    private static final GeoPoint LYON = new GeoPoint(45.7640, 4.8357);
+
+    // Mardi 17:30
+    private static final OpeningWindow TUESDAY_EVENING =
+        OpeningWindow.of(DayOfWeek.TUESDAY, LocalTime.of(17, 30), LocalTime.of(17, 31));
+
+    @Mock
+    private GarageRepository garageRepository;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private GarageGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        index = new GarageGeoIndex(garageRepository, vehicleRepository, transactionTemplate,
+            new SimpleMeterRegistry(), true, 0.1);
+    }
+
+    @Test
+    @DisplayName("Devrait retourner les garages du plus proche au plus éloigné")
+    void shouldReturnNearestGaragesByDistance() {
+        // Given
+        load(List.of(location(1L, LYON, 0), location(2L, ORLEANS, 0), location(3L, VERSAILLES, 0),
+                     location(4L, PARIS, 0)),
+             List.of());
+
+        // When
+        List<GarageDistance> nearest = index.findNearest(48.86, 2.35, 3, false, null, null);
+
+        // Then
+        assertThat(nearest).extracting(GarageDistance::garageId).containsExactly(4L, 3L, 2L);
+        assertThat(nearest.get(0).distanceKm()).isLessThan(1);
+        assertThat(nearest.get(2).distanceKm()).isBetween(100.0, 120.0);
+    }
+
+    @Test
+    @DisplayName("Devrait filtrer par places libres, carburant et ouverture")
+    void shouldFilterByCapacityFuelTypeAndOpeningHours() {
+        // Given
+        load(List.of(location(1L, PARIS, Garage.MAX_VEHICLES_PER_GARAGE, null),
+                     location(2L, VERSAILLES, 3, schedule(DayOfWeek.TUESDAY, "08:00-12:00, 14:00-17:00")),
+                     location(3L, ORLEANS, 1, schedule(DayOfWeek.TUESDAY, "08:00-19:00")),
+                     location(4L, LYON, 0, schedule(DayOfWeek.TUESDAY, "08:00-19:00"))),
+             List.of(new GarageFuelTypeCount(2L, FuelType.DIESEL, 3),
+                     new GarageFuelTypeCount(3L, FuelType.ELECTRIQUE, 1)));
+
+        // When & Then
+        assertThat(index.findNearest(48.86, 2.35, 2, true, null, null))
+            .extracting(GarageDistance::garageId).containsExactly(2L, 3L);
+        assertThat(index.findNearest(48.86, 2.35, 10, false, FuelType.ELECTRIQUE, null))
+            .extracting(GarageDistance::garageId).containsExactly(3L);
+        assertThat(index.findNearest(48.86, 2.35, 10, false, null, TUESDAY_EVENING))
+            .extracting(GarageDistance::garageId).containsExactly(3L, 4L);
+        assertThat(index.findNearest(48.86, 2.35, 10, false, null, OpeningWindow.of(DayOfWeek.TUESDAY, LocalTime.NOON, null)))
+            .extracting(GarageDistance::garageId).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Devrait suivre les garages et véhicules écrits après le chargement")
+    void shouldFollowGarageAndVehicleChanges() {
+        // Given
+        load(List.of(location(1L, PARIS, 0), location(2L, LYON, 0)), List.of());
+
+        // When
+        index.garageSaved(Garage.builder().id(3L).latitude(VERSAILLES.latitude())
+            .longitude(VERSAILLES.longitude()).openingHours(Map.of(DayOfWeek.TUESDAY, "17:00-18:00")).build());
+        index.garageSaved(Garage.builder().id(2L).latitude(ORLEANS.latitude()).longitude(ORLEANS.longitude()).build());
+        index.garageRemoved(1L);
+        index.vehiclesChanged(3L, FuelType.HYBRIDE, 2);
+        index.vehiclesChanged(2L, FuelType.HYBRIDE, 1);
+        index.vehiclesChanged(2L, FuelType.HYBRIDE, -1);
+
+        // Then
+        assertThat(index.findNearest(48.86, 2.35, 10, false, null, null))
+            .extracting(GarageDistance::garageId).containsExactly(3L, 2L);
+        assertThat(index.findNearest(48.86, 2.35, 10, false, FuelType.HYBRIDE, null))
+            .extracting(GarageDistance::garageId).containsExactly(3L);
+        assertThat(index.findNearest(48.86, 2.35, 10, false, null, TUESDAY_EVENING))
+            .extracting(GarageDistance::garageId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Devrait relire les garages modifiés pendant une reconstruction")
+    void shouldReloadGaragesTouchedDuringRebuild() {
+        // Given
+        load(List.of(location(1L, PARIS, 0), location(2L, LYON, 0)), List.of());
+        when(garageRepository.streamLocations()).thenReturn(Stream.of(location(1L, PARIS, 0), location(2L, LYON, 0))
+            // Véhicule électrique ajouté au garage 1 pendant le parcours, commit déjà lu ou non
+            .peek(row -> {
+                if (row.garageId() == 2L) {
+                    index.vehiclesChanged(1L, FuelType.ELECTRIQUE, 1);
+                }
+            }));
+        when(vehicleRepository.streamFuelTypeCounts()).thenReturn(Stream.of());
+        when(garageRepository.findLocations(Set.of(1L))).thenReturn(List.of(location(1L, PARIS, 1)));
+        when(vehicleRepository.findFuelTypeCounts(Set.of(1L)))
+            .thenReturn(List.of(new GarageFuelTypeCount(1L, FuelType.ELECTRIQUE, 1)));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.findNearest(48.86, 2.35, 10, false, FuelType.ELECTRIQUE, null))
+            .extracting(GarageDistance::garageId).containsExactly(1L);
+        assertThat(index.findNearest(48.86, 2.35, 10, false, null, null))
+            .extracting(GarageDistance::garageId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Devrait trouver les mêmes garages qu'un parcours exhaustif")
+    void shouldMatchExhaustiveSearch() {
+        // Given : 100 000 garages en France métropolitaine, un sur dix avec une place libre
+        Random random = new Random(42);
+        List<GarageLocation> locations = new ArrayList<>();
+        for (long id = 1; id <= 100_000; id++) {
+            locations.add(new GarageLocation(id, 42.3 + random.nextDouble() * 8.8, -4.8 + random.nextDouble() * 13,
+                id % 10 == 0 ? 0 : Garage.MAX_VEHICLES_PER_GARAGE, null));
+        }
+        load(locations, List.of());
+
+        for (int query = 0; query < 20; query++) {
+            double latitude = 41 + random.nextDouble() * 11;
+            double longitude = -6 + random.nextDouble() * 15;
+            boolean availableOnly = query % 2 == 0;
+
+            // When
+            List<GarageDistance> nearest = index.findNearest(latitude, longitude, 10, availableOnly, null, null);
+
+            // Then
+            List<Long> expected = locations.stream()
+                .filter(location -> !availableOnly || location.vehicleCount() < Garage.MAX_VEHICLES_PER_GARAGE)
+                .map(location -> new GarageDistance(location.garageId(),
+                    GeoPoint.distanceKm(latitude, longitude, location.latitude(), location.longitude())))
+                .sorted(Comparator.comparingDouble(GarageDistance::distanceKm)
+                    .thenComparingLong(GarageDistance::garageId))
+                .limit(10)
+                .map(GarageDistance::garageId)
+                .toList();
+            assertThat(nearest).extracting(GarageDistance::garageId).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private void load(List<GarageLocation> locations, List<GarageFuelTypeCount> fuelTypeCounts) {
+        when(garageRepository.count()).thenReturn((long) locations.size());
+        when(garageRepository.streamLocations()).thenReturn(locations.stream());
+        when(vehicleRepository.streamFuelTypeCounts()).thenReturn(fuelTypeCounts.stream());
+        index.rebuild();
+    }
+
+    private static GarageLocation location(long garageId, GeoPoint point, int vehicleCount) {
+        return location(garageId, point, vehicleCount, null);
+    }
+
+    private static GarageLocation location(long garageId, GeoPoint point, int vehicleCount,
+                                           WeeklySchedule openingSchedule) {
+        return new GarageLocation(garageId, point.latitude(), point.longitude(), vehicleCount, openingSchedule);
+    }
+
+    private static WeeklySchedule schedule(DayOfWeek day, String hours) {
+        return WeeklySchedule.parse(Map.of(day, hours));
+    }
+}
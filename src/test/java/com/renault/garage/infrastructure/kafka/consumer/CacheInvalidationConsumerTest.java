@@ -0,0 +1,96 @@
+package com.renault.garage.infrastructure.kafka.consumer;
+
+import com.renault.garage.infrastructure.cache.CacheNode;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import com.renault.garage.infrastructure.kafka.event.CacheInvalidationEvent;
+import com.renault.garage.infrastructure.kafka.event.CacheInvalidationEvent.EntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Tests unitaires pour le consumer des invalidations de cache.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - CacheInvalidationConsumer")
+class CacheInvalidationConsumerTest {
+
+    private static final String LOCAL_NODE = "node-a";
+    private static final String REMOTE_NODE = "node-b";
+
+    @Mock
+    private ResponseCaches responseCaches;
+
+    private CacheNode cacheNode;
+
+    private CacheInvalidationConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        cacheNode = new CacheNode(LOCAL_NODE);
+        consumer = new CacheInvalidationConsumer(responseCaches, cacheNode, 3);
+    }
+
+    @Test
+    @DisplayName("Devrait regrouper les clés d'un lot et n'ignorer que les événements de ce processus")
+    void shouldCollapseKeysAndSkipOwnEvents() {
+        // Given
+        List<CacheInvalidationEvent> events = List.of(
+            event(EntityType.GARAGE, 1L, REMOTE_NODE),
+            event(EntityType.GARAGE, 1L, REMOTE_NODE),
+            event(EntityType.GARAGE, 2L, REMOTE_NODE),
+            // Autre processus configuré avec le même node-id
+            event(EntityType.GARAGE, 3L, new CacheNode(LOCAL_NODE).getInstanceId()),
+            event(EntityType.VEHICLE, 10L, cacheNode.getInstanceId()));
+
+        // When
+        consumer.consumeCacheInvalidations(events);
+
+        // Then
+        verify(responseCaches).evictLocally(EntityType.GARAGE, Set.of(1L, 2L, 3L));
+        verifyNoMoreInteractions(responseCaches);
+    }
+
+    @Test
+    @DisplayName("Devrait vider le cache au-delà du seuil de clés par lot")
+    void shouldClearCacheAboveThreshold() {
+        // Given
+        List<CacheInvalidationEvent> events = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            events.add(event(EntityType.VEHICLE, id, REMOTE_NODE));
+        }
+        events.add(event(EntityType.GARAGE, null, REMOTE_NODE));
+
+        // When
+        consumer.consumeCacheInvalidations(events);
+
+        // Then
+        verify(responseCaches).clearLocally(EntityType.VEHICLE);
+        verify(responseCaches).clearLocally(EntityType.GARAGE);
+        verify(responseCaches, never()).evictLocally(eq(EntityType.VEHICLE), any());
+    }
+
+    private CacheInvalidationEvent event(EntityType entityType, Long entityId, String sourceNode) {
+        return CacheInvalidationEvent.builder()
+            .entityType(entityType)
+            .entityId(entityId)
+            .sourceNode(sourceNode)
+            .build();
+    }
+}
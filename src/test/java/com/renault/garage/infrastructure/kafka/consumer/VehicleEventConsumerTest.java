@@ -0,0 +1,50 @@
+package com.renault.garage.infrastructure.kafka.consumer;
+
+import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires pour le consumer des événements véhicule.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@DisplayName("Tests unitaires - VehicleEventConsumer")
+class VehicleEventConsumerTest {
+
+    @Test
+    @DisplayName("Devrait enregistrer la taille et la durée de chaque lot")
+    void shouldRecordBatchMetrics() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VehicleEventConsumer consumer = new VehicleEventConsumer(meterRegistry);
+        List<ConsumerRecord<String, VehicleCreatedEvent>> records = List.of(
+            record(0, "event-1", 1L),
+            record(1, "event-2", 1L),
+            record(2, "event-2", 1L),
+            record(3, "event-3", 2L));
+
+        // When
+        consumer.consumeVehicleCreatedEvents(records);
+
+        // Then
+        assertThat(meterRegistry.summary("kafka.consumer.vehicle-created.batch.size").totalAmount()).isEqualTo(4.0);
+        assertThat(meterRegistry.timer("kafka.consumer.vehicle-created.batch.duration").count()).isEqualTo(1L);
+    }
+
+    private ConsumerRecord<String, VehicleCreatedEvent> record(long offset, String eventId, Long garageId) {
+        VehicleCreatedEvent event = VehicleCreatedEvent.builder()
+            .vehicleId(offset)
+            .garageId(garageId)
+            .eventId(eventId)
+            .build();
+        return new ConsumerRecord<>("vehicle-created-events", 0, offset, String.valueOf(offset), event);
+    }
+}
@@ -0,0 +1,108 @@
+package com.renault.garage.infrastructure.kafka.serialization;
+
+import com.renault.garage.domain.model.enums.FuelType;
+import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitaires pour la sérialisation binaire de VehicleCreatedEvent.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@DisplayName("Tests - Sérialisation binaire VehicleCreatedEvent")
+class VehicleCreatedEventSerializerTest {
+
+    private static final String TOPIC = "vehicle-created-events";
+
+    private final VehicleCreatedEventSerializer serializer = new VehicleCreatedEventSerializer();
+    private final VehicleCreatedEventDeserializer deserializer = new VehicleCreatedEventDeserializer();
+
+    @Test
+    @DisplayName("Devrait relire à l'identique un événement complet, plus compact que le JSON")
+    void shouldRoundTripFullEvent() {
+        // Given
+        VehicleCreatedEvent event = fullEvent();
+
+        // When
+        byte[] binary = serializer.serialize(TOPIC, event);
+        VehicleCreatedEvent result = deserializer.deserialize(TOPIC, binary);
+
+        // Then
+        assertThat(result).isEqualTo(event);
+        try (JsonSerializer<VehicleCreatedEvent> jsonSerializer = new JsonSerializer<>()) {
+            assertThat(binary.length).isLessThan(jsonSerializer.serialize(TOPIC, event).length / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("Devrait conserver les champs absents et un eventId non UUID")
+    void shouldRoundTripPartialEvent() {
+        // Given
+        VehicleCreatedEvent event = VehicleCreatedEvent.builder()
+            .vehicleId(-5L)
+            .brand("Renault")
+            .eventId("legacy-event-1")
+            .build();
+
+        // When
+        VehicleCreatedEvent result = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, event));
+
+        // Then
+        assertThat(result).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Devrait lire les anciens messages JSON pendant la migration")
+    void shouldReadLegacyJsonMessages() {
+        // Given
+        VehicleCreatedEvent event = fullEvent();
+        byte[] json;
+        try (JsonSerializer<VehicleCreatedEvent> jsonSerializer = new JsonSerializer<>()) {
+            json = jsonSerializer.serialize(TOPIC, event);
+        }
+
+        // When
+        VehicleCreatedEvent result = deserializer.deserialize(TOPIC, json);
+
+        // Then
+        assertThat(result).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Devrait rejeter un message binaire tronqué")
+    void shouldRejectTruncatedMessage() {
+        // Given
+        byte[] binary = serializer.serialize(TOPIC, fullEvent());
+        byte[] truncated = Arrays.copyOf(binary, binary.length - 3);
+
+        // When & Then
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, truncated))
+            .isInstanceOf(SerializationException.class);
+    }
+
+    private VehicleCreatedEvent fullEvent() {
+        return VehicleCreatedEvent.builder()
+            .vehicleId(123456L)
+            .brand("Renault")
+            .model("Mégane E-Tech")
+            .yearOfManufacture(2024)
+            .fuelType(FuelType.ELECTRIQUE)
+            .vin("VF1KAFKA000000001")
+            .garageId(42L)
+            .garageName("Garage Renault Paris")
+            .createdAt(LocalDateTime.of(2024, 5, 17, 10, 30, 15, 123_000_000))
+            .eventId(UUID.randomUUID().toString())
+            .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.renault.garage.infrastructure.loader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour l'encodage des lignes COPY du chargeur massif.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@DisplayName("Tests - CopyWriter")
+class CopyWriterTest {
+
+    @Test
+    @DisplayName("Devrait échapper les caractères spéciaux du format texte COPY")
+    void shouldEscapeCopyTextSpecialCharacters() {
+        // Given
+        StringBuilder target = new StringBuilder();
+
+        // When
+        CopyWriter.appendEscaped(target, "a\\b\tc\nd\re");
+
+        // Then
+        assertThat(target).hasToString("a\\\\b\\tc\\nd\\re");
+    }
+
+    @Test
+    @DisplayName("Devrait écrire les valeurs nulles en \\N et séparer les colonnes par des tabulations")
+    void shouldWriteRowsWithNullMarker() throws Exception {
+        // Given
+        CopyIn copyIn = mock(CopyIn.class);
+        when(copyIn.endCopy()).thenReturn(1L);
+        StringBuilder sent = new StringBuilder();
+        doAnswer(invocation -> {
+            byte[] bytes = invocation.getArgument(0);
+            sent.append(new String(bytes, 0, invocation.getArgument(2), StandardCharsets.UTF_8));
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), eq(0), anyInt());
+
+        // When
+        long rows;
+        try (CopyWriter writer = new CopyWriter(copyIn)) {
+            writer.field(0L).field("Garage Renault Lyon").field((String) null);
+            writer.endRow();
+            rows = writer.finish();
+        }
+
+        // Then
+        assertThat(rows).isEqualTo(1L);
+        assertThat(sent).hasToString("0\tGarage Renault Lyon\t\\N\n");
+        verify(copyIn).endCopy();
+    }
+}
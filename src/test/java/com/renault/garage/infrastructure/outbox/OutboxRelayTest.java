@@ -0,0 +1,108 @@
+package com.renault.garage.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.renault.garage.infrastructure.kafka.event.VehicleCreatedEvent;
+import com.renault.garage.infrastructure.kafka.producer.VehicleEventProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour le relais de l'outbox.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - OutboxRelay")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private VehicleEventProducer vehicleEventProducer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxEventRepository, vehicleEventProducer, objectMapper,
+            new TransactionTemplate(transactionManager), meterRegistry, 500, 1000);
+    }
+
+    @Test
+    @DisplayName("Devrait publier le lot puis supprimer les lignes de l'outbox")
+    void shouldPublishBatchThenDeleteRows() throws Exception {
+        // Given
+        List<OutboxEvent> batch = List.of(outboxEvent(1L, 10L), outboxEvent(2L, 11L));
+        when(outboxEventRepository.lockNextBatch(500)).thenReturn(batch);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(vehicleEventProducer).publishVehicleCreatedEvents(
+            argThat(events -> events.size() == 2 && events.get(0).getVehicleId() == 10L),
+            eq(Duration.ofMillis(1000)));
+        verify(outboxEventRepository).deleteAllInBatch(batch);
+        assertThat(meterRegistry.counter("outbox.relayed").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Devrait conserver les lignes quand la publication échoue")
+    void shouldKeepRowsWhenPublishFails() throws Exception {
+        // Given
+        when(outboxEventRepository.lockNextBatch(anyInt())).thenReturn(List.of(outboxEvent(1L, 10L)));
+        doThrow(new KafkaException("broker unavailable"))
+            .when(vehicleEventProducer).publishVehicleCreatedEvents(anyList(), any());
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        verify(outboxEventRepository, never()).deleteAllInBatch(any());
+        verify(transactionManager).rollback(any());
+        assertThat(meterRegistry.counter("outbox.relay.failures").count()).isEqualTo(1.0);
+    }
+
+    private OutboxEvent outboxEvent(Long id, Long vehicleId) throws Exception {
+        VehicleCreatedEvent event = VehicleCreatedEvent.builder()
+            .vehicleId(vehicleId)
+            .brand("Renault")
+            .model("Clio")
+            .eventId("event-" + vehicleId)
+            .build();
+        return OutboxEvent.builder()
+            .id(id)
+            .aggregateType("Vehicle")
+            .aggregateId(vehicleId)
+            .eventType(OutboxEvent.VEHICLE_CREATED)
+            .payload(objectMapper.writeValueAsString(event))
+            .build();
+    }
+}
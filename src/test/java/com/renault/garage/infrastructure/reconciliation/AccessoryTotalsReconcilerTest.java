@@ -0,0 +1,89 @@
+package com.renault.garage.infrastructure.reconciliation;
+
+import com.renault.garage.domain.repository.VehicleRepository;
+import com.renault.garage.infrastructure.cache.ResponseCaches;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour la réconciliation des totaux d'accessoires.
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests unitaires - AccessoryTotalsReconciler")
+class AccessoryTotalsReconcilerTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private ResponseCaches responseCaches;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccessoryTotalsReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new AccessoryTotalsReconciler(vehicleRepository, responseCaches,
+            new TransactionTemplate(transactionManager), meterRegistry, 100);
+    }
+
+    @Test
+    @DisplayName("Devrait parcourir la table par plages sans verrou quand il n'y a pas d'écart")
+    void shouldScanRangesWithoutLockingWhenNoDrift() {
+        // Given
+        when(vehicleRepository.findMaxId()).thenReturn(250L);
+        when(vehicleRepository.findAccessoryTotalDrift(anyLong(), anyLong())).thenReturn(List.of());
+
+        // When
+        int repaired = reconciler.reconcile();
+
+        // Then
+        assertThat(repaired).isZero();
+        verify(vehicleRepository).findAccessoryTotalDrift(1L, 100L);
+        verify(vehicleRepository).findAccessoryTotalDrift(101L, 200L);
+        verify(vehicleRepository).findAccessoryTotalDrift(201L, 250L);
+        verify(vehicleRepository, never()).lockByIds(anyCollection());
+        verify(vehicleRepository, never()).repairAccessoryTotals(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Devrait verrouiller, recalculer et invalider les véhicules en écart")
+    void shouldRepairDriftedVehicles() {
+        // Given
+        when(vehicleRepository.findMaxId()).thenReturn(50L);
+        when(vehicleRepository.findAccessoryTotalDrift(1L, 50L)).thenReturn(List.of(7L, 42L));
+        when(vehicleRepository.lockByIds(List.of(7L, 42L))).thenReturn(List.of(7L, 42L));
+        when(vehicleRepository.repairAccessoryTotals(List.of(7L, 42L))).thenReturn(2);
+
+        // When
+        int repaired = reconciler.reconcile();
+
+        // Then
+        assertThat(repaired).isEqualTo(2);
+        verify(responseCaches).evictVehicle(7L);
+        verify(responseCaches).evictVehicle(42L);
+        assertThat(meterRegistry.counter("vehicle.accessory.totals.drift").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("vehicle.accessory.totals.repaired").count()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,129 @@
+package com.renault.garage.infrastructure.schedule;
+
+import com.renault.garage.domain.model.Garage;
+import com.renault.garage.domain.model.valueobject.OpeningWindow;
+import com.renault.garage.domain.model.valueobject.WeeklySchedule;
+import com.renault.garage.domain.repository.GarageRepository;
+import com.renault.garage.domain.repository.projection.GarageOpeningSchedule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests unitaires pour l'index en mémoire des horaires compilés.
+ * 
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Tests - GarageScheduleIndex")
+class GarageScheduleIndexTest {
+
+    // Samedi 17 octobre 2026, 18:30 à Paris
+    private static final Clock SATURDAY_EVENING =
+        Clock.fixed(Instant.parse("2026-10-17T16:30:00Z"), ZoneId.of("Europe/Paris"));
+
+    private static final WeeklySchedule WEEKDAYS = WeeklySchedule.parse(Map.of(
+        DayOfWeek.MONDAY, "08:00-12:00, 14:00-18:00",
+        DayOfWeek.FRIDAY, "08:00-12:00, 14:00-18:00"));
+    private static final WeeklySchedule SATURDAY_MORNING = WeeklySchedule.parse(Map.of(
+        DayOfWeek.SATURDAY, "09:00-12:00"));
+    private static final WeeklySchedule SATURDAY_LATE = WeeklySchedule.parse(Map.of(
+        DayOfWeek.SATURDAY, "14:00-19:00"));
+
+    @Mock
+    private GarageRepository garageRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private GarageScheduleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        index = new GarageScheduleIndex(garageRepository, transactionTemplate, new SimpleMeterRegistry(), true,
+            SATURDAY_EVENING);
+    }
+
+    @Test
+    @DisplayName("Devrait trouver les garages ouverts maintenant ou sur une plage, en partageant les horaires identiques")
+    void shouldFindGaragesOpenNowOrDuringWindow() {
+        // Given
+        load(new GarageOpeningSchedule(1L, WEEKDAYS),
+             new GarageOpeningSchedule(2L, SATURDAY_LATE),
+             new GarageOpeningSchedule(3L, SATURDAY_MORNING),
+             new GarageOpeningSchedule(4L, WeeklySchedule.parse(Map.of(DayOfWeek.SATURDAY, "14:00-19:00"))),
+             new GarageOpeningSchedule(5L, null));
+        OpeningWindow saturdayAfterFive = OpeningWindow.of(DayOfWeek.SATURDAY, LocalTime.of(17, 0), null);
+
+        // When & Then
+        assertThat(index.findOpenDuring(index.now(), 0, 10)).containsExactly(2L, 4L);
+        assertThat(index.countOpenDuring(saturdayAfterFive)).isEqualTo(2);
+        assertThat(index.findOpenDuring(OpeningWindow.of(DayOfWeek.SATURDAY, null, null), 1, 10))
+            .containsExactly(3L, 4L);
+        assertThat(index.countOpenDuring(OpeningWindow.of(DayOfWeek.SUNDAY, null, null))).isZero();
+    }
+
+    @Test
+    @DisplayName("Devrait suivre les garages écrits après le chargement")
+    void shouldFollowGarageChanges() {
+        // Given
+        load(new GarageOpeningSchedule(1L, WEEKDAYS), new GarageOpeningSchedule(2L, SATURDAY_LATE));
+
+        // When
+        index.garageSaved(Garage.builder().id(1L).openingSchedule(SATURDAY_LATE).build());
+        index.garageSaved(Garage.builder().id(3L).openingHours(Map.of(DayOfWeek.SATURDAY, "18:00-20:00")).build());
+        index.garageRemoved(2L);
+
+        // Then
+        assertThat(index.findOpenDuring(index.now(), 0, 10)).containsExactly(1L, 3L);
+        assertThat(index.countOpenDuring(OpeningWindow.of(DayOfWeek.MONDAY, null, null))).isZero();
+    }
+
+    @Test
+    @DisplayName("Devrait paginer par ID croissant quand la place d'un garage supprimé est réutilisée")
+    void shouldPageByIdAfterRemovalAndCreation() {
+        // Given
+        load(new GarageOpeningSchedule(1L, SATURDAY_LATE),
+             new GarageOpeningSchedule(2L, SATURDAY_LATE),
+             new GarageOpeningSchedule(3L, SATURDAY_LATE),
+             new GarageOpeningSchedule(4L, SATURDAY_LATE));
+
+        // When
+        index.garageRemoved(2L);
+        index.garageSaved(Garage.builder().id(5L).openingSchedule(SATURDAY_LATE).build());
+        index.garageSaved(Garage.builder().id(2L).openingSchedule(SATURDAY_LATE).build());
+
+        // Then
+        assertThat(index.findOpenDuring(index.now(), 0, 2)).containsExactly(1L, 2L);
+        assertThat(index.findOpenDuring(index.now(), 2, 2)).containsExactly(3L, 4L);
+        assertThat(index.findOpenDuring(index.now(), 4, 2)).containsExactly(5L);
+        assertThat(index.findOpenDuring(index.now(), 6, 2)).isEmpty();
+    }
+
+    private void load(GarageOpeningSchedule... schedules) {
+        when(garageRepository.count()).thenReturn((long) schedules.length);
+        when(garageRepository.streamOpeningSchedules()).thenReturn(Stream.of(schedules));
+        index.rebuild();
+    }
+}
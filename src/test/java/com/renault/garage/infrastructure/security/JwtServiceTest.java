@@ -0,0 +1,85 @@
+package com.renault.garage.infrastructure.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires pour l'émission et la vérification des tokens JWT.
+ *
+ * @author Renault Team
+ * @version 1.0.0
+ */
+@DisplayName("Tests unitaires - JwtService")
+class JwtServiceTest {
+
+    private static final String SECRET = "RenaultGarageSecretKeyForJWTTokenGenerationAndValidation2024";
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+
+    private JwtService jwtService;
+    private Authentication admin;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = service(Clock.fixed(NOW, ZoneOffset.UTC));
+        admin = UsernamePasswordAuthenticationToken.authenticated("admin", null,
+            AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN"));
+    }
+
+    @Test
+    @DisplayName("Devrait authentifier le porteur d'un token émis avec ses rôles")
+    void shouldAuthenticateIssuedToken() {
+        // Given
+        String token = jwtService.issue(admin);
+
+        // When
+        Authentication authentication = jwtService.authenticate(token);
+
+        // Then
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication.getName()).isEqualTo("admin");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        assertThat(jwtService.authenticate(token)).isSameAs(authentication);
+    }
+
+    @Test
+    @DisplayName("Devrait rejeter un token dont la signature a été altérée")
+    void shouldRejectTamperedToken() {
+        // Given
+        String token = jwtService.issue(admin);
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+
+        // When & Then
+        assertThat(jwtService.authenticate(tampered)).isNull();
+        assertThat(jwtService.authenticate("not-a-token")).isNull();
+    }
+
+    @Test
+    @DisplayName("Devrait rejeter un token expiré")
+    void shouldRejectExpiredToken() {
+        // Given
+        String token = jwtService.issue(admin);
+        JwtService later = service(Clock.fixed(NOW.plus(Duration.ofHours(2)), ZoneOffset.UTC));
+
+        // When & Then
+        assertThat(later.authenticate(token)).isNull();
+    }
+
+    private static JwtService service(Clock clock) {
+        return new JwtService(SECRET, Duration.ofHours(1), 100, null, clock);
+    }
+}
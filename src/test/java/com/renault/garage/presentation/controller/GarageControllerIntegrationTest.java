@@ -3,8 +3,12 @@ package com.renault.garage.presentation.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.renault.garage.application.dto.request.GarageRequest;
 import com.renault.garage.application.dto.response.GarageResponse;
+import com.renault.garage.application.dto.response.PagedResponse;
 import com.renault.garage.config.SecurityConfig;
+import com.renault.garage.domain.exception.StaleRevisionException;
+import com.renault.garage.domain.repository.projection.EntityRevision;
 import com.renault.garage.domain.service.GarageService;
+import com.renault.garage.infrastructure.security.JwtService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,7 +20,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -24,9 +31,13 @@ import java.time.DayOfWeek;
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -48,6 +59,9 @@ class GarageControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JwtService jwtService;
+
     @MockBean
     private GarageService garageService;
 
@@ -79,6 +93,7 @@ class GarageControllerIntegrationTest {
             .vehicleCount(0)
             .availableCapacity(50)
             .isFull(false)
+            .version(3L)
             .build();
     }
 
@@ -119,7 +134,7 @@ class GarageControllerIntegrationTest {
     void shouldGetAllGarages() throws Exception {
         // Given
         Page<GarageResponse> page = new PageImpl<>(List.of(garageResponse), PageRequest.of(0, 20), 1);
-        when(garageService.getAllGarages(any())).thenReturn(page);
+        when(garageService.getAllGarages(any(), any())).thenReturn(PagedResponse.of(page));
 
         // When & Then
         mockMvc.perform(get("/garages"))
@@ -128,6 +143,119 @@ class GarageControllerIntegrationTest {
             .andExpect(jsonPath("$.content[0].name").value("Garage Renault Paris"));
     }
 
+    @Test
+    @DisplayName("GET /garages/{id} - Devrait répondre 401 sans token et sans créer de session")
+    void shouldRejectRequestWithoutToken() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/garages/1").with(httpBasic("admin", "password")))
+            .andExpect(status().isUnauthorized())
+            .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer"))
+            .andExpect(request().sessionAttributeDoesNotExist("SPRING_SECURITY_CONTEXT"));
+        verify(garageService, never()).getGarageById(any());
+    }
+
+    @Test
+    @DisplayName("GET /garages/{id} - Devrait authentifier la requête par son token JWT")
+    void shouldAuthenticateWithBearerToken() throws Exception {
+        // Given
+        when(garageService.getGarageById(1L)).thenReturn(garageResponse);
+        String token = jwtService.issue(UsernamePasswordAuthenticationToken.authenticated("admin", null,
+            AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+
+        // When & Then
+        mockMvc.perform(get("/garages/1").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /garages/{id} - Devrait répondre 401 si la signature du token est invalide")
+    void shouldRejectTokenWithInvalidSignature() throws Exception {
+        // Given
+        String token = jwtService.issue(UsernamePasswordAuthenticationToken.authenticated("admin", null,
+            AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+        String forged = token.substring(0, token.lastIndexOf('.') + 1) + "c2lnbmF0dXJl";
+
+        // When & Then
+        mockMvc.perform(get("/garages/1").header(HttpHeaders.AUTHORIZATION, "Bearer " + forged))
+            .andExpect(status().isUnauthorized());
+        verify(garageService, never()).getGarageById(any());
+    }
+
+    @Test
+    @DisplayName("GET /garages/{id} - Devrait répondre 304 si l'ETag est inchangé")
+    @WithMockUser
+    void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        // Given
+        when(garageService.getGarageRevision(1L)).thenReturn(new EntityRevision(3L, 0));
+
+        // When & Then
+        mockMvc.perform(get("/garages/1").header(HttpHeaders.IF_NONE_MATCH, "\"garage-1-3-0\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"garage-1-3-0\""))
+            .andExpect(content().string(""));
+        verify(garageService, never()).getGarageById(any());
+    }
+
+    @Test
+    @DisplayName("GET /garages/{id} - Devrait renvoyer le garage et son ETag s'il a changé")
+    @WithMockUser
+    void shouldReturnBodyWhenETagIsStale() throws Exception {
+        // Given
+        when(garageService.getGarageRevision(1L)).thenReturn(new EntityRevision(3L, 0));
+        when(garageService.getGarageById(1L)).thenReturn(garageResponse);
+
+        // When & Then
+        mockMvc.perform(get("/garages/1").header(HttpHeaders.IF_NONE_MATCH, "\"garage-1-2-0\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"garage-1-3-0\""))
+            .andExpect(jsonPath("$.version").value(3));
+    }
+
+    @Test
+    @DisplayName("GET /garages - Devrait répondre 304 si l'ETag faible de la page est inchangé")
+    @WithMockUser
+    void shouldReturnNotModifiedForUnchangedPage() throws Exception {
+        // Given
+        Page<GarageResponse> page = new PageImpl<>(List.of(garageResponse), PageRequest.of(0, 20), 1);
+        when(garageService.getAllGarages(any(), any())).thenReturn(PagedResponse.of(page));
+        String etag = mockMvc.perform(get("/garages"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        assertThat(etag).startsWith("W/");
+        mockMvc.perform(get("/garages").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("PUT /garages/{id} - Devrait répondre 412 si la révision If-Match est périmée")
+    @WithMockUser
+    void shouldRejectUpdateWithStaleIfMatch() throws Exception {
+        // Given
+        EntityRevision expected = new EntityRevision(2L, 0);
+        when(garageService.updateGarage(eq(1L), any(GarageRequest.class), eq(expected)))
+            .thenThrow(new StaleRevisionException("Garage", 1L));
+
+        // When & Then
+        mockMvc.perform(put("/garages/1")
+                .header(HttpHeaders.IF_MATCH, "\"garage-1-2-0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(garageRequest)))
+            .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("DELETE /garages/{id} - Devrait répondre 412 si l'If-Match désigne une autre ressource")
+    @WithMockUser
+    void shouldRejectDeleteWithForeignIfMatch() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/garages/1").header(HttpHeaders.IF_MATCH, "\"vehicle-1-3-0\""))
+            .andExpect(status().isPreconditionFailed());
+        verify(garageService, never()).deleteGarage(any(), any());
+    }
+
     @Test
     @DisplayName("DELETE /garages/{id} - Devrait supprimer un garage")
     @WithMockUser // Simule un utilisateur par défaut